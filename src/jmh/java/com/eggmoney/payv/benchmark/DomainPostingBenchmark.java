@@ -0,0 +1,92 @@
+package com.eggmoney.payv.benchmark;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.AccountType;
+import com.eggmoney.payv.domain.model.entity.Budget;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.vo.AccountId;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
+
+/**
+ * 도메인 게시 경로: Transaction.post/unpost(Account), Budget.registerExpense/releaseExpense.
+ * - 한 번의 호출 = 거래 size 건을 게시 후 취소.(상태가 원래대로 돌아오므로 반복 측정 가능)
+ * - 입력은 고정 시드로 생성. 할당량은 -prof gc 로 확인.
+ * 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="DomainPostingBenchmark -prof gc"
+ * @author 정의탁
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainPostingBenchmark {
+
+	@Param({ "100" })
+	int size;
+
+	private Account account;
+	private Budget budget;
+	private List<Transaction> transactions;
+	private List<Money> amounts;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		LedgerId ledgerId = LedgerId.of("bench-ledger");
+		AccountId accountId = AccountId.of("bench-account");
+		CategoryId categoryId = CategoryId.of("bench-category");
+
+		account = Account.reconstruct(accountId, ledgerId, AccountType.BANK, "통장",
+				Money.won(10_000_000_000L), false, false, null, 0L);
+		budget = Budget.create(ledgerId, categoryId, YearMonth.of(2025, 1), Money.won(100_000_000L));
+
+		transactions = new ArrayList<>(size);
+		amounts = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Money amount = Money.won(random.nextLong(1_000L, 500_001L));
+			TransactionType type = random.nextInt(10) < 2 ? TransactionType.INCOME : TransactionType.EXPENSE;
+			transactions.add(Transaction.create(ledgerId, accountId, type,
+					LocalDate.of(2025, 1, 1 + i % 28), amount, categoryId, "bench"));
+			amounts.add(amount);
+		}
+	}
+
+	@Benchmark
+	public long postThenUnpost() {
+		for (Transaction t : transactions) t.post(account);
+		for (Transaction t : transactions) t.unpost(account);
+		return account.getCurrentBalance().toLong();
+	}
+
+	@Benchmark
+	public long registerThenReleaseExpense() {
+		for (Money amount : amounts) budget.registerExpense(amount);
+		boolean exceeded = budget.isExceeded();
+		for (Money amount : amounts) budget.releaseExpense(amount);
+		return budget.getSpent().toLong() + (exceeded ? 1 : 0);
+	}
+}
@@ -0,0 +1,51 @@
+package com.eggmoney.payv.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 비교 기준용: BigDecimal 기반이던 이전 Money 구현.(MoneyBenchmark 에서만 사용)
+ * - 연산마다 BigDecimal 생성 + setScale, 비교/집계는 toBigDecimal()/longValueExact() 경유.
+ * @author 정의탁
+ */
+final class LegacyMoney implements Comparable<LegacyMoney> {
+
+	private static final int SCALE = 0;
+
+	private final BigDecimal amount;
+
+	private LegacyMoney(BigDecimal normalized) {
+		this.amount = normalized;
+	}
+
+	static LegacyMoney zero() {
+		return new LegacyMoney(BigDecimal.ZERO.setScale(SCALE));
+	}
+
+	static LegacyMoney won(long v) {
+		return new LegacyMoney(BigDecimal.valueOf(v).setScale(SCALE));
+	}
+
+	static LegacyMoney of(BigDecimal v) {
+		return new LegacyMoney(v.setScale(SCALE, RoundingMode.UNNECESSARY));
+	}
+
+	boolean isPositive() { return amount.signum() > 0; }
+	boolean isNegative() { return amount.signum() < 0; }
+
+	LegacyMoney plus(LegacyMoney other) {
+		return new LegacyMoney(this.amount.add(other.amount).setScale(SCALE));
+	}
+
+	LegacyMoney minus(LegacyMoney other) {
+		return new LegacyMoney(this.amount.subtract(other.amount).setScale(SCALE));
+	}
+
+	BigDecimal toBigDecimal() { return amount; }
+	long toLong() { return amount.longValueExact(); }
+
+	@Override
+	public int compareTo(LegacyMoney o) {
+		return this.amount.compareTo(o.amount);
+	}
+}
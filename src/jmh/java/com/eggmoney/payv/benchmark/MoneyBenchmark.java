@@ -0,0 +1,140 @@
+package com.eggmoney.payv.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eggmoney.payv.domain.model.vo.Money;
+
+/**
+ * Money: BigDecimal 기반(legacy*) vs long 기반(money*) 비교.
+ * - posting: 거래 n 건 게시/취소 시 잔액 증감 + 음수 검사 + 예산 소진액 증감/비교(Budget.lt/gt 와 같은 경로).
+ * - aggregate: 거래 n 건 금액 합계(toLong() 누적, 집계 루프와 같은 경로).
+ * - 금액은 고정 시드로 생성(1,000 ~ 500,000원)하므로 실행마다 같은 입력.
+ * - 할당량 비교는 -prof gc 의 gc.alloc.rate.norm 으로 확인.
+ * 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="MoneyBenchmark -prof gc"
+ * @author 정의탁
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+	@Param({ "1000" })
+	int size;
+
+	private List<Money> amounts;
+	private List<LegacyMoney> legacyAmounts;
+	private Money openingBalance;
+	private LegacyMoney legacyOpeningBalance;
+	private Money limit;
+	private LegacyMoney legacyLimit;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		amounts = new ArrayList<>(size);
+		legacyAmounts = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			long won = random.nextLong(1_000L, 500_001L);
+			amounts.add(Money.won(won));
+			legacyAmounts.add(LegacyMoney.won(won));
+		}
+		openingBalance = Money.won(1_000_000_000L);
+		legacyOpeningBalance = LegacyMoney.won(1_000_000_000L);
+		limit = Money.won(100_000_000L);
+		legacyLimit = LegacyMoney.won(100_000_000L);
+	}
+
+	// ---- 게시/취소 경로 ----
+
+	@Benchmark
+	public long moneyPosting() {
+		Money balance = openingBalance;
+		Money spent = Money.zero();
+		int exceeded = 0;
+		for (Money amount : amounts) {
+			// 게시: 출금 + 예산 소진
+			Money next = balance.minus(amount);
+			if (next.isNegative()) throw new IllegalStateException();
+			balance = next;
+			spent = spent.plus(amount);
+			if (limit.isLessThan(spent)) exceeded++;
+			// 취소: 입금 + 예산 소진 취소
+			if (amount.isGreaterThan(spent)) throw new IllegalStateException();
+			balance = balance.plus(amount);
+			spent = spent.minus(amount);
+			// 다시 게시(최종 상태)
+			balance = balance.minus(amount);
+			spent = spent.plus(amount);
+		}
+		return balance.toLong() + spent.toLong() + exceeded;
+	}
+
+	@Benchmark
+	public long legacyPosting() {
+		LegacyMoney balance = legacyOpeningBalance;
+		LegacyMoney spent = LegacyMoney.zero();
+		int exceeded = 0;
+		for (LegacyMoney amount : legacyAmounts) {
+			LegacyMoney next = balance.minus(amount);
+			if (next.isNegative()) throw new IllegalStateException();
+			balance = next;
+			spent = spent.plus(amount);
+			if (legacyLimit.toBigDecimal().compareTo(spent.toBigDecimal()) < 0) exceeded++;
+			if (amount.toBigDecimal().compareTo(spent.toBigDecimal()) > 0) throw new IllegalStateException();
+			balance = balance.plus(amount);
+			spent = spent.minus(amount);
+			balance = balance.minus(amount);
+			spent = spent.plus(amount);
+		}
+		return balance.toLong() + spent.toLong() + exceeded;
+	}
+
+	// ---- 집계 경로 ----
+
+	@Benchmark
+	public long moneyAggregate() {
+		long total = 0;
+		for (Money amount : amounts) total += amount.toLong();
+		return total;
+	}
+
+	@Benchmark
+	public long legacyAggregate() {
+		long total = 0;
+		for (LegacyMoney amount : legacyAmounts) total += amount.toLong();
+		return total;
+	}
+
+	// 누적을 Money 로 하는 경우.(plus 체인)
+	@Benchmark
+	public long moneySum() {
+		Money total = Money.zero();
+		for (Money amount : amounts) total = total.plus(amount);
+		return total.toLong();
+	}
+
+	@Benchmark
+	public long legacySum() {
+		LegacyMoney total = LegacyMoney.zero();
+		for (LegacyMoney amount : legacyAmounts) total = total.plus(amount);
+		return total.toLong();
+	}
+}
@@ -0,0 +1,153 @@
+package com.eggmoney.payv.infrastructure.mybatis.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.Budget;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.infrastructure.mybatis.record.AccountRecord;
+import com.eggmoney.payv.infrastructure.mybatis.record.BudgetRecord;
+import com.eggmoney.payv.infrastructure.mybatis.record.CategoryRecord;
+import com.eggmoney.payv.infrastructure.mybatis.record.TransactionRecord;
+
+/**
+ * 레코드 ↔ 도메인 변환: MyBatis*Repository 의 toDomain / toRecord.(조회 결과 한 행당 비용)
+ * - 변환 메서드는 package-private 이라 같은 패키지에 둠. 매퍼/작업 단위는 쓰지 않으므로 null 로 생성.
+ * 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="RecordMappingBenchmark -prof gc"
+ * @author 정의탁
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordMappingBenchmark {
+
+	private MyBatisTransactionRepository transactionRepository;
+	private MyBatisAccountRepository accountRepository;
+	private MyBatisBudgetRepository budgetRepository;
+	private MyBatisCategoryRepository categoryRepository;
+
+	private TransactionRecord transactionRecord;
+	private AccountRecord accountRecord;
+	private BudgetRecord budgetRecord;
+	private CategoryRecord categoryRecord;
+
+	private Transaction transaction;
+	private Account account;
+	private Budget budget;
+	private Category category;
+
+	@Setup
+	public void setUp() {
+		transactionRepository = new MyBatisTransactionRepository(null, null, null, null);
+		accountRepository = new MyBatisAccountRepository(null, null);
+		budgetRepository = new MyBatisBudgetRepository(null, null);
+		categoryRepository = new MyBatisCategoryRepository(null, null);
+
+		LocalDateTime now = LocalDateTime.of(2025, 1, 15, 12, 0);
+		transactionRecord = TransactionRecord.builder()
+				.transactionId("01943f6e-8a00-7000-8000-000000000001")
+				.ledgerId("01943f6e-8a00-7000-8000-000000000002")
+				.accountId("01943f6e-8a00-7000-8000-000000000003")
+				.date(LocalDate.of(2025, 1, 15))
+				.type("EXPENSE")
+				.amount(12_500L)
+				.categoryId("01943f6e-8a00-7000-8000-000000000004")
+				.memo("점심")
+				.posted("Y")
+				.postedAt(now)
+				.createdAt(now)
+				.version(3L)
+				.build();
+		accountRecord = AccountRecord.builder()
+				.accountId("01943f6e-8a00-7000-8000-000000000003")
+				.ledgerId("01943f6e-8a00-7000-8000-000000000002")
+				.type("BANK")
+				.name("통장")
+				.currentBalance(1_250_000L)
+				.archived("N")
+				.isDeleted("N")
+				.createdAt(now)
+				.version(7L)
+				.build();
+		budgetRecord = BudgetRecord.builder()
+				.budgetId("01943f6e-8a00-7000-8000-000000000005")
+				.ledgerId("01943f6e-8a00-7000-8000-000000000002")
+				.categoryId("01943f6e-8a00-7000-8000-000000000004")
+				.yearMonth("2025-01")
+				.limitAmount(300_000L)
+				.spentAmount(120_000L)
+				.createdAt(java.sql.Timestamp.valueOf(now))
+				.version(2L)
+				.build();
+		categoryRecord = CategoryRecord.builder()
+				.categoryId("01943f6e-8a00-7000-8000-000000000004")
+				.ledgerId("01943f6e-8a00-7000-8000-000000000002")
+				.name("식비")
+				.isSystemCategory("Y")
+				.sortOrder(1)
+				.isDeleted("N")
+				.build();
+
+		transaction = transactionRepository.toDomain(transactionRecord);
+		account = accountRepository.toDomain(accountRecord);
+		budget = budgetRepository.toDomain(budgetRecord);
+		category = categoryRepository.toDomain(categoryRecord);
+	}
+
+	@Benchmark
+	public Transaction transactionToDomain() {
+		return transactionRepository.toDomain(transactionRecord);
+	}
+
+	@Benchmark
+	public TransactionRecord transactionToRecord() {
+		return transactionRepository.toRecord(transaction);
+	}
+
+	@Benchmark
+	public Account accountToDomain() {
+		return accountRepository.toDomain(accountRecord);
+	}
+
+	@Benchmark
+	public AccountRecord accountToRecord() {
+		return accountRepository.toRecord(account);
+	}
+
+	@Benchmark
+	public Budget budgetToDomain() {
+		return budgetRepository.toDomain(budgetRecord);
+	}
+
+	@Benchmark
+	public BudgetRecord budgetToRecord() {
+		return budgetRepository.toRecord(budget);
+	}
+
+	@Benchmark
+	public Category categoryToDomain() {
+		return categoryRepository.toDomain(categoryRecord);
+	}
+
+	@Benchmark
+	public CategoryRecord categoryToRecord() {
+		return categoryRepository.toRecord(category);
+	}
+}
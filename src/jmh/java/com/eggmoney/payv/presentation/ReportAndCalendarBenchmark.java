@@ -0,0 +1,117 @@
+package com.eggmoney.payv.presentation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.vo.AccountId;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
+import com.eggmoney.payv.presentation.dto.TransactionCalendarWeekDto;
+
+/**
+ * 화면 조립 경로(DB 제외)
+ * - report: TransactionAnalyticsController 의 루트 카테고리별 지출 + 월별 수입/지출 집계.
+ * - calendar: TransactionController 의 달력 그리드 구성.(하루 최대 5건 + 일자 합계)
+ * - 카테고리는 루트 10개 x 자식 5개, 입력은 고정 시드로 생성.
+ * 실행: mvn -Pjmh test-compile exec:exec -Djmh.args="ReportAndCalendarBenchmark -prof gc"
+ * @author 정의탁
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportAndCalendarBenchmark {
+
+	// 연간 월별 집계 행 수.(월 x 카테고리 x 유형)
+	@Param({ "1200" })
+	int totals;
+
+	private CategoryTree categories;
+	private List<MonthlyCategoryTotal> yearTotals;
+
+	private YearMonth month;
+	private Map<LocalDate, List<Transaction>> byDate;
+	private Map<LocalDate, long[]> totalsByDate;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		LedgerId ledgerId = LedgerId.of("bench-ledger");
+
+		List<Category> list = new ArrayList<>();
+		for (int r = 0; r < 10; r++) {
+			Category root = Category.createRoot(ledgerId, "루트" + r, false, r);
+			list.add(root);
+			for (int c = 0; c < 5; c++) {
+				list.add(Category.createChild(ledgerId, root.getId(), "자식" + r + "-" + c, false, c));
+			}
+		}
+		categories = CategoryTree.of(list);
+
+		yearTotals = new ArrayList<>(totals);
+		for (int i = 0; i < totals; i++) {
+			Category c = list.get(random.nextInt(list.size()));
+			TransactionType type = random.nextInt(10) < 2 ? TransactionType.INCOME : TransactionType.EXPENSE;
+			yearTotals.add(new MonthlyCategoryTotal(YearMonth.of(2025, 1 + i % 12), c.getId(), type,
+					random.nextLong(1_000L, 5_000_000L), 1 + random.nextInt(30)));
+		}
+
+		month = YearMonth.of(2025, 1);
+		AccountId accountId = AccountId.of("bench-account");
+		List<Transaction> top = new ArrayList<>();
+		totalsByDate = new HashMap<>();
+		for (int day = 1; day <= month.lengthOfMonth(); day++) {
+			LocalDate date = month.atDay(day);
+			int count = random.nextInt(12);
+			long[] sums = new long[3];
+			for (int i = 0; i < count; i++) {
+				Category c = list.get(random.nextInt(list.size()));
+				TransactionType type = random.nextInt(10) < 2 ? TransactionType.INCOME : TransactionType.EXPENSE;
+				long won = random.nextLong(1_000L, 500_000L);
+				if (i < 5) top.add(Transaction.create(ledgerId, accountId, type, date, Money.won(won), c.getId(), "bench"));
+				sums[type == TransactionType.INCOME ? 0 : 1] += won;
+				sums[2]++;
+			}
+			if (count > 0) totalsByDate.put(date, sums);
+		}
+		byDate = top.stream().collect(Collectors.groupingBy(Transaction::getDate, HashMap::new, Collectors.toList()));
+	}
+
+	@Benchmark
+	public Object reportAggregation() {
+		Map<String, Long> expenseByRoot = TransactionAnalyticsController.sumExpenseByRoot(categories, yearTotals);
+		long[][] inOut = TransactionAnalyticsController.sumIncomeExpenseByMonth(yearTotals);
+		return expenseByRoot.size() + inOut[0][0] + inOut[1][11];
+	}
+
+	@Benchmark
+	public List<TransactionCalendarWeekDto> calendarGrid() {
+		return TransactionController.buildCalendarWeeks(month, byDate, totalsByDate, categories.nameMap());
+	}
+}
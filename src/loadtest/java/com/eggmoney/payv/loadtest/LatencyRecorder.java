@@ -0,0 +1,132 @@
+package com.eggmoney.payv.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드별 응답 시간 기록기.
+ * - 측정값(ns)을 전부 보관했다가 보고 시점에 정렬해서 백분위(nearest-rank)를 계산.
+ *   (부하 테스트 규모 = 메서드당 수십만 건 수준이면 메모리 문제 없음, 근사 히스토그램보다 정확)
+ * - 키는 "클래스.메서드". 기록은 키별로만 동기화하므로 스레드 간 경합이 적음.
+ * @author 정의탁
+ */
+public class LatencyRecorder {
+
+	private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+	public void record(String key, long elapsedNanos, boolean failed) {
+		samples.computeIfAbsent(key, k -> new Samples()).add(elapsedNanos, failed);
+	}
+
+	// 예열/데이터 생성 구간 측정값 버림.
+	public void reset() {
+		samples.clear();
+	}
+
+	public List<Stat> snapshot() {
+		List<Stat> stats = new ArrayList<>();
+		for (Map.Entry<String, Samples> e : samples.entrySet()) {
+			stats.add(e.getValue().toStat(e.getKey()));
+		}
+		// 느린 메서드(p99)부터
+		stats.sort(Comparator.comparingLong((Stat s) -> s.p99).reversed());
+		return stats;
+	}
+
+	// 보고서 출력. notes 는 표 아래에 한 줄씩(커넥션 풀/데이터 요약 등) — 출력은 모두 여기로 모음.
+	public void print(PrintStream out, String title, double elapsedSeconds, String... notes) {
+		List<Stat> stats = snapshot();
+		long total = 0;
+		double busyNanos = 0;
+		for (Stat s : stats) {
+			total += s.count;
+			busyNanos += (double) s.meanNanos * s.count;
+		}
+
+		out.println();
+		out.printf("== %s: %d calls in %.1fs (%.1f calls/s)%n", title, total, elapsedSeconds,
+				elapsedSeconds > 0 ? total / elapsedSeconds : 0.0);
+		out.printf("%-52s %9s %6s %9s %9s %9s %9s %9s%n",
+				"method", "count", "err", "mean", "p50", "p95", "p99", "max");
+		for (Stat s : stats) {
+			out.printf("%-52s %9d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+					s.key, s.count, s.errors, ms(s.meanNanos), ms(s.p50), ms(s.p95), ms(s.p99), ms(s.max));
+		}
+		out.println("(단위: ms, 중첩 호출된 서비스 메서드는 각각 따로 집계)");
+		// Little 의 법칙: 평균 동시 실행 수 = 처리량 × 평균 응답 시간 (중첩 호출만큼 과대 추정)
+		if (elapsedSeconds > 0) {
+			out.printf("서비스 계층 평균 동시 실행 수(Little) ≈ %.1f%n", busyNanos / 1_000_000_000d / elapsedSeconds);
+		}
+		for (String note : notes) {
+			out.println(note);
+		}
+	}
+
+	private static double ms(long nanos) {
+		return nanos / 1_000_000d;
+	}
+
+	// 키 하나의 측정값 모음.
+	private static final class Samples {
+		private long[] values = new long[1024];
+		private int size;
+		private long errors;
+
+		synchronized void add(long nanos, boolean failed) {
+			if (size == values.length) values = Arrays.copyOf(values, size * 2);
+			values[size++] = nanos;
+			if (failed) errors++;
+		}
+
+		Stat toStat(String key) {
+			long[] sorted;
+			long errorCount;
+			synchronized (this) {
+				sorted = Arrays.copyOf(values, size);
+				errorCount = errors;
+			}
+			Arrays.sort(sorted);
+
+			long sum = 0;
+			for (long v : sorted) sum += v;
+			int n = sorted.length;
+			return new Stat(key, n, errorCount, n == 0 ? 0 : sum / n,
+					percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+					n == 0 ? 0 : sorted[n - 1]);
+		}
+
+		private static long percentile(long[] sorted, double p) {
+			if (sorted.length == 0) return 0;
+			int rank = (int) Math.ceil(p / 100d * sorted.length);
+			return sorted[Math.max(0, rank - 1)];
+		}
+	}
+
+	// 보고용 통계(ns).
+	public static final class Stat {
+		public final String key;
+		public final long count;
+		public final long errors;
+		public final long meanNanos;
+		public final long p50;
+		public final long p95;
+		public final long p99;
+		public final long max;
+
+		Stat(String key, long count, long errors, long meanNanos, long p50, long p95, long p99, long max) {
+			this.key = key;
+			this.count = count;
+			this.errors = errors;
+			this.meanNanos = meanNanos;
+			this.p50 = p50;
+			this.p95 = p95;
+			this.p99 = p99;
+			this.max = max;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.eggmoney.payv.loadtest;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.eggmoney.payv.domain.model.vo.AccountId;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.UserId;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 생성된 가계부 하나와 부하 시나리오가 쓰는 식별자들.
+ * @author 정의탁
+ */
+@Getter
+@RequiredArgsConstructor
+public final class LedgerFixture {
+
+	private final UserId ownerId;
+	private final LedgerId ledgerId;
+	private final List<AccountId> accountIds;
+	private final List<CategoryId> expenseRootIds;		// 예산 대상
+	private final List<CategoryId> expenseCategoryIds;	// 루트 + 자식
+	private final List<CategoryId> incomeCategoryIds;
+	private final YearMonth firstMonth;
+	private final YearMonth lastMonth;
+}
@@ -0,0 +1,228 @@
+package com.eggmoney.payv.loadtest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import com.eggmoney.payv.application.service.AccountAppService;
+import com.eggmoney.payv.application.service.BudgetAppService;
+import com.eggmoney.payv.application.service.CategoryAppService;
+import com.eggmoney.payv.application.service.TransactionAppService;
+import com.eggmoney.payv.application.service.TransactionRollupAppService;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.presentation.dto.PageRequestDto;
+import com.eggmoney.payv.presentation.dto.PageResultDto;
+import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 발생기: 화면 요청과 같은 조합으로 서비스 메서드를 여러 스레드에서 반복 호출.
+ * - 작업 비율(weight)은 조회 위주(거래 목록/달력/보고서/예산) + 쓰기(거래 등록·게시) 약 10%.
+ * - 매 작업마다 임의의 가계부/월을 골라서 캐시만 두드리지 않도록 함.
+ * - 응답 시간은 ServiceLatencyAspect 가 메서드별로 기록. 여기서는 커넥션 풀 상태만 표본 추출.
+ * @author 정의탁
+ */
+@Slf4j
+public class LoadDriver {
+
+	private final TransactionAppService transactionAppService;
+	private final TransactionRollupAppService transactionRollupAppService;
+	private final BudgetAppService budgetAppService;
+	private final CategoryAppService categoryAppService;
+	private final AccountAppService accountAppService;
+	private final HikariDataSource dataSource;
+
+	private final List<Operation> operations = new ArrayList<>();
+	private int totalWeight;
+
+	public LoadDriver(TransactionAppService transactionAppService,
+					  TransactionRollupAppService transactionRollupAppService,
+					  BudgetAppService budgetAppService,
+					  CategoryAppService categoryAppService,
+					  AccountAppService accountAppService,
+					  HikariDataSource dataSource) {
+		this.transactionAppService = transactionAppService;
+		this.transactionRollupAppService = transactionRollupAppService;
+		this.budgetAppService = budgetAppService;
+		this.categoryAppService = categoryAppService;
+		this.accountAppService = accountAppService;
+		this.dataSource = dataSource;
+		registerOperations();
+	}
+
+	private void registerOperations() {
+		// 거래 내역 화면: 번호 페이지 / 커서(무한 스크롤) 2페이지
+		add("search.page", 12, (f, r) -> transactionAppService.search(f.getLedgerId(), monthCondition(f, r), new PageRequestDto(1 + r.nextInt(3), 20, null)));
+		add("search.cursor", 8, (f, r) -> {
+			TransactionSearchCondition cond = monthCondition(f, r);
+			PageResultDto<Transaction> first = transactionAppService.search(f.getLedgerId(), cond, new PageRequestDto(1, 20, ""));
+			if (first.getNextCursor() != null) {
+				transactionAppService.search(f.getLedgerId(), cond, new PageRequestDto(1, 20, first.getNextCursor()));
+			}
+		});
+		add("calendar", 12, (f, r) -> {
+			YearMonth month = month(f, r);
+			transactionAppService.summarizeByDay(f.getLedgerId(), month);
+			transactionAppService.listTopByDay(f.getLedgerId(), month, 3);
+		});
+		add("listByMonth", 8, (f, r) -> transactionAppService.listByMonth(f.getLedgerId(), month(f, r), 50, 0));
+		add("report", 10, (f, r) -> {
+			YearMonth to = month(f, r);
+			transactionRollupAppService.listMonthlyTotals(f.getLedgerId(), to.minusMonths(11), to);
+		});
+		add("budget.month", 10, (f, r) -> budgetAppService.listByLedgerAndMonth(f.getLedgerId(), month(f, r)));
+		add("budget.series", 5, (f, r) -> budgetAppService.listMonthlySeries(f.getLedgerId(),
+				SyntheticDataGenerator.pick(f.getExpenseRootIds(), r), f.getFirstMonth(), f.getLastMonth()));
+		add("categoryTree", 8, (f, r) -> categoryAppService.tree(f.getLedgerId()));
+		add("accounts", 7, (f, r) -> accountAppService.listByLedger(f.getLedgerId()));
+		// 쓰기: 지출 등록 → 게시 (잔액/예산/월별 집계 갱신)
+		add("createAndPost", 10, (f, r) -> {
+			Transaction tx = transactionAppService.create(f.getLedgerId(),
+					SyntheticDataGenerator.pick(f.getAccountIds(), r), TransactionType.EXPENSE,
+					LocalDate.now(), Money.won((10 + r.nextInt(300)) * 100L),
+					SyntheticDataGenerator.pick(f.getExpenseCategoryIds(), r), "load");
+			transactionAppService.post(tx.getId());
+		});
+	}
+
+	private void add(String name, int weight, BiConsumer<LedgerFixture, Random> action) {
+		operations.add(new Operation(name, weight, action));
+		totalWeight += weight;
+	}
+
+	/**
+	 * threads 개 스레드로 seconds 초 동안 실행. 예외는 기록만 하고 계속.(에러 수는 보고서의 err 열)
+	 * @return 실제 경과 시간(초)
+	 */
+	public double run(List<LedgerFixture> fixtures, int threads, int seconds, long seed) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		CountDownLatch done = new CountDownLatch(threads);
+		AtomicLong failures = new AtomicLong();
+
+		long start = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			Random random = new Random(seed * 31 + t);
+			Thread worker = new Thread(() -> {
+				try {
+					while (System.nanoTime() < deadline) {
+						LedgerFixture fixture = SyntheticDataGenerator.pick(fixtures, random);
+						Operation op = nextOperation(random);
+						try {
+							op.action.accept(fixture, random);
+						} catch (RuntimeException e) {
+							if (failures.incrementAndGet() <= 5) {
+								log.warn("[loadtest] {} failed: {}", op.name, e.toString());
+							}
+						}
+					}
+				} finally {
+					done.countDown();
+				}
+			}, "load-" + t);
+			worker.setDaemon(true);
+			worker.start();
+		}
+		done.await();
+		return (System.nanoTime() - start) / 1_000_000_000d;
+	}
+
+	/**
+	 * 측정 구간 동안 커넥션 풀 상태 표본(100ms 간격).
+	 * 대기 스레드가 자주 보이면 풀이 병목, 활성 커넥션이 풀 크기보다 늘 작으면 풀이 과함.
+	 */
+	public PoolSampler startPoolSampler() {
+		return new PoolSampler(dataSource);
+	}
+
+	private Operation nextOperation(Random random) {
+		int n = random.nextInt(totalWeight);
+		for (Operation op : operations) {
+			n -= op.weight;
+			if (n < 0) return op;
+		}
+		return operations.get(operations.size() - 1);
+	}
+
+	private static YearMonth month(LedgerFixture f, Random r) {
+		int months = (int) f.getFirstMonth().until(f.getLastMonth(), ChronoUnit.MONTHS) + 1;
+		return f.getFirstMonth().plusMonths(r.nextInt(months));
+	}
+
+	private static TransactionSearchCondition monthCondition(LedgerFixture f, Random r) {
+		YearMonth month = month(f, r);
+		TransactionSearchCondition cond = new TransactionSearchCondition();
+		cond.setStart(month.atDay(1));
+		cond.setEnd(month.atEndOfMonth());
+		return cond;
+	}
+
+	private static final class Operation {
+		final String name;
+		final int weight;
+		final BiConsumer<LedgerFixture, Random> action;
+
+		Operation(String name, int weight, BiConsumer<LedgerFixture, Random> action) {
+			this.name = name;
+			this.weight = weight;
+			this.action = action;
+		}
+	}
+
+	// 커넥션 풀 표본 추출기.
+	public static final class PoolSampler implements AutoCloseable {
+		private final HikariDataSource dataSource;
+		private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "pool-sampler");
+			t.setDaemon(true);
+			return t;
+		});
+		private long samples;
+		private long activeSum;
+		private int maxActive;
+		private long waitingSamples;
+		private int maxWaiting;
+
+		PoolSampler(HikariDataSource dataSource) {
+			this.dataSource = dataSource;
+			scheduler.scheduleAtFixedRate(this::sample, 0, 100, TimeUnit.MILLISECONDS);
+		}
+
+		private synchronized void sample() {
+			HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+			if (pool == null) return;
+			int active = pool.getActiveConnections();
+			int waiting = pool.getThreadsAwaitingConnection();
+			samples++;
+			activeSum += active;
+			maxActive = Math.max(maxActive, active);
+			if (waiting > 0) waitingSamples++;
+			maxWaiting = Math.max(maxWaiting, waiting);
+		}
+
+		@Override
+		public void close() {
+			scheduler.shutdownNow();
+		}
+
+		public synchronized String summary() {
+			if (samples == 0) return "no samples";
+			return String.format("pool=%d, active avg=%.1f max=%d, waiting max=%d (%.0f%% of samples)",
+					dataSource.getMaximumPoolSize(), (double) activeSum / samples, maxActive, maxWaiting,
+					100d * waitingSamples / samples);
+		}
+	}
+}
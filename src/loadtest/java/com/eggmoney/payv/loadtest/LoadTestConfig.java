@@ -0,0 +1,83 @@
+package com.eggmoney.payv.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 부하 테스트 설정. 실행 인자 key=value 로 지정, 없으면 기본값.
+ * - 데이터 규모: users × ledgersPerUser × accountsPerLedger, years 년치 거래(월 txPerMonth 건)
+ * - 부하: threads 개 스레드가 warmupSeconds 동안 예열 후 durationSeconds 동안 측정
+ * - pool: 커넥션 풀 크기(hikari.maximumPoolSize). 풀 크기별로 돌려 보고 비교.
+ * - replica: true 면 readOnly 트랜잭션을 복제본 풀(같은 메모리 DB)로 분리(replica.enabled).
+ * @author 정의탁
+ */
+@Getter
+public final class LoadTestConfig {
+
+	private final int users;
+	private final int ledgersPerUser;
+	private final int accountsPerLedger;
+	private final int years;
+	private final int txPerMonth;
+
+	private final int threads;
+	private final int warmupSeconds;
+	private final int durationSeconds;
+	private final int pool;
+	private final boolean replica;
+	private final long seed;
+
+	private LoadTestConfig(Map<String, String> args) {
+		this.users = intArg(args, "users", 20);
+		this.ledgersPerUser = intArg(args, "ledgersPerUser", 1);
+		this.accountsPerLedger = intArg(args, "accountsPerLedger", 3);
+		this.years = intArg(args, "years", 2);
+		this.txPerMonth = intArg(args, "txPerMonth", 60);
+		this.threads = intArg(args, "threads", 8);
+		this.warmupSeconds = intArg(args, "warmup", 10);
+		this.durationSeconds = intArg(args, "duration", 60);
+		this.pool = intArg(args, "pool", 10);
+		this.replica = Boolean.parseBoolean(args.getOrDefault("replica", "false"));
+		this.seed = Long.parseLong(args.getOrDefault("seed", "42"));
+
+		if (users <= 0 || ledgersPerUser <= 0 || accountsPerLedger <= 0 || years <= 0 || txPerMonth < 0) {
+			throw new IllegalArgumentException("data size arguments must be positive");
+		}
+		if (threads <= 0 || durationSeconds <= 0 || pool <= 0 || warmupSeconds < 0) {
+			throw new IllegalArgumentException("threads/duration/pool must be positive");
+		}
+	}
+
+	public static LoadTestConfig parse(String[] args) {
+		Map<String, String> map = new LinkedHashMap<>();
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (eq <= 0) throw new IllegalArgumentException("expected key=value: " + arg);
+			map.put(arg.substring(0, eq).trim(), arg.substring(eq + 1).trim());
+		}
+		return new LoadTestConfig(map);
+	}
+
+	public int ledgerCount() {
+		return users * ledgersPerUser;
+	}
+
+	public long transactionCount() {
+		return (long) ledgerCount() * years * 12 * txPerMonth;
+	}
+
+	private static int intArg(Map<String, String> args, String key, int defaultValue) {
+		String v = args.get(key);
+		return v == null ? defaultValue : Integer.parseInt(v);
+	}
+
+	@Override
+	public String toString() {
+		return "users=" + users + ", ledgersPerUser=" + ledgersPerUser + ", accountsPerLedger=" + accountsPerLedger
+				+ ", years=" + years + ", txPerMonth=" + txPerMonth + " (≈" + transactionCount() + " tx)"
+				+ ", threads=" + threads + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s"
+				+ ", pool=" + pool + ", replica=" + replica + ", seed=" + seed;
+	}
+}
@@ -0,0 +1,68 @@
+package com.eggmoney.payv.loadtest;
+
+import java.util.List;
+
+import org.springframework.context.support.GenericXmlApplicationContext;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 부하 테스트 진입점.
+ * - 'embedded' 프로필(H2, Oracle 호환 모드)로 root-context.xml 을 그대로 띄움 → 실제 서비스/리포지토리/매퍼 경로.
+ * - 순서: 합성 데이터 생성 → 예열 → 측정 → 메서드별 p50/p95/p99 + 커넥션 풀 상태 출력.
+ * - 실행: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="users=50 years=3 threads=16 pool=10"
+ *   (인자는 LoadTestConfig 참고)
+ * - H2 수치는 Oracle 과 절대값이 다름. 풀 크기/스레드 수를 바꿔 가며 상대 비교, 데이터 규모에 따라
+ *   느려지는 메서드(O(n)) 찾기 용도.
+ * @author 정의탁
+ */
+@Slf4j
+public class LoadTestMain {
+
+	public static void main(String[] args) throws Exception {
+		LoadTestConfig config = LoadTestConfig.parse(args);
+		log.info("[loadtest] {}", config);
+
+		// 풀 크기는 root-context.xml 의 ${hikari.maximumPoolSize} 로 전달.(시스템 속성이 jdbc.properties 보다 우선)
+		System.setProperty("hikari.maximumPoolSize", String.valueOf(config.getPool()));
+		System.setProperty("hikari.minimumIdle", String.valueOf(config.getPool()));
+		System.setProperty("replica.enabled", String.valueOf(config.isReplica()));
+
+		try (GenericXmlApplicationContext ctx = new GenericXmlApplicationContext()) {
+			ctx.getEnvironment().setActiveProfiles("embedded");
+			ctx.load("classpath:spring/loadtest-context.xml");
+			ctx.refresh();
+
+			LatencyRecorder recorder = ctx.getBean(LatencyRecorder.class);
+			LoadDriver driver = ctx.getBean(LoadDriver.class);
+
+			// 1) 데이터 생성 (생성 구간의 서비스 응답 시간도 따로 출력)
+			long start = System.nanoTime();
+			List<LedgerFixture> fixtures = ctx.getBean(SyntheticDataGenerator.class).generate(config);
+			recorder.print(System.out, "data generation", (System.nanoTime() - start) / 1_000_000_000d);
+			recorder.reset();
+
+			// 2) 예열 (JIT/캐시/커넥션) → 측정값 버림
+			if (config.getWarmupSeconds() > 0) {
+				log.info("[loadtest] warmup {}s", config.getWarmupSeconds());
+				driver.run(fixtures, config.getThreads(), config.getWarmupSeconds(), config.getSeed() + 1);
+				recorder.reset();
+			}
+
+			// 3) 측정
+			log.info("[loadtest] measuring {}s with {} threads", config.getDurationSeconds(), config.getThreads());
+			double elapsed;
+			String pool;
+			try (LoadDriver.PoolSampler sampler = driver.startPoolSampler()) {
+				elapsed = driver.run(fixtures, config.getThreads(), config.getDurationSeconds(), config.getSeed());
+				pool = sampler.summary();
+			}
+			recorder.print(System.out, "load (threads=" + config.getThreads() + ")", elapsed,
+					"커넥션 풀: " + pool,
+					"데이터: " + config.ledgerCount() + " ledgers, "
+							+ ctx.getBean("primaryDataSource", HikariDataSource.class).getJdbcUrl());
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.eggmoney.payv.loadtest;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 애플리케이션 서비스(*AppService) public 메서드 응답 시간 측정.
+ * - 가장 바깥(최상위 우선순위)에서 실행 → 재시도(@RetryOnConflict), 트랜잭션 시작/커밋까지 포함.
+ * - loadtest-context.xml 에서만 빈으로 등록.(운영 컨텍스트에는 없음)
+ * @author 정의탁
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceLatencyAspect {
+
+	private final LatencyRecorder recorder;
+
+	public ServiceLatencyAspect(LatencyRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@Around("execution(public * com.eggmoney.payv.application.service..*AppService.*(..))")
+	public Object measure(ProceedingJoinPoint pjp) throws Throwable {
+		String key = pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName();
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			Object result = pjp.proceed();
+			failed = false;
+			return result;
+		} finally {
+			recorder.record(key, System.nanoTime() - start, failed);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package com.eggmoney.payv.loadtest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.eggmoney.payv.application.service.AccountAppService;
+import com.eggmoney.payv.application.service.BudgetAppService;
+import com.eggmoney.payv.application.service.CategoryAppService;
+import com.eggmoney.payv.application.service.LedgerAppService;
+import com.eggmoney.payv.application.service.TransactionImportAppService;
+import com.eggmoney.payv.application.service.UserAppService;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.AccountType;
+import com.eggmoney.payv.domain.model.entity.Budget;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Ledger;
+import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.repository.BudgetRepository;
+import com.eggmoney.payv.domain.model.vo.AccountId;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.presentation.dto.TransactionImportResultDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 데이터 생성기: 사용자 × 가계부 × 자산 × N년치 거래.
+ * - 운영과 같은 경로(애플리케이션 서비스)로 생성 → 잔액/예산 소진액/월별 집계가 실제와 같은 상태가 됨.
+ * - 사용자/가계부/자산/예산은 서비스 메서드 호출, 거래는 CSV 가져오기(TransactionImportAppService)로 일괄 등록.
+ *   (지난 달 예산은 서비스가 막으므로 리포지토리로 직접 저장. 거래보다 먼저 만들어 두므로 소진액은 가져오기가 반영)
+ * - 같은 seed 면 같은 데이터.(금액/날짜/카테고리 분포 재현 가능)
+ * @author 정의탁
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+	private static final String PASSWORD = "loadtest-password";
+	private static final long OPENING_BALANCE = 1_000_000_000L;	// 현금/계좌 잔액 부족으로 거래가 막히지 않도록
+	// db/h2/category_templates.sql 의 수입 루트 카테고리
+	private static final List<String> INCOME_ROOTS = Arrays.asList("급여", "부수입");
+	private static final AccountType[] ACCOUNT_TYPES = { AccountType.BANK, AccountType.CARD, AccountType.CASH };
+	// BudgetAppService 와 같은 기준으로 '이번 달' 판단
+	private static final ZoneId TIME_ZONE = ZoneId.of("Asia/Seoul");
+
+	private final UserAppService userAppService;
+	private final LedgerAppService ledgerAppService;
+	private final AccountAppService accountAppService;
+	private final CategoryAppService categoryAppService;
+	private final BudgetAppService budgetAppService;
+	private final BudgetRepository budgetRepository;
+	private final TransactionImportAppService transactionImportAppService;
+
+	public List<LedgerFixture> generate(LoadTestConfig config) {
+		Random random = new Random(config.getSeed());
+		YearMonth lastMonth = YearMonth.now(TIME_ZONE);
+		YearMonth firstMonth = lastMonth.minusYears(config.getYears()).plusMonths(1);
+
+		List<LedgerFixture> fixtures = new ArrayList<>(config.ledgerCount());
+		for (int u = 0; u < config.getUsers(); u++) {
+			User user = userAppService.register("load" + u + "-" + config.getSeed() + "@payv.local", "부하사용자" + u, PASSWORD);
+
+			for (int l = 0; l < config.getLedgersPerUser(); l++) {
+				Ledger ledger = ledgerAppService.createLedger(user.getId(), "가계부" + l);
+				LedgerFixture fixture = fixtureOf(user, ledger, config.getAccountsPerLedger(), firstMonth, lastMonth);
+
+				createBudgets(fixture, random);
+				importTransactions(fixture, config.getTxPerMonth(), random);
+				fixtures.add(fixture);
+			}
+			log.info("[loadtest] generated user {}/{}", u + 1, config.getUsers());
+		}
+		return fixtures;
+	}
+
+	private LedgerFixture fixtureOf(User user, Ledger ledger, int accounts, YearMonth firstMonth, YearMonth lastMonth) {
+		List<AccountId> accountIds = new ArrayList<>(accounts);
+		for (int a = 0; a < accounts; a++) {
+			AccountType type = ACCOUNT_TYPES[a % ACCOUNT_TYPES.length];
+			Money opening = type == AccountType.CARD ? Money.zero() : Money.won(OPENING_BALANCE);
+			Account account = accountAppService.createAccount(ledger.getId(), type, "자산" + a, opening);
+			accountIds.add(account.getId());
+		}
+
+		// 가계부 생성 시 복사된 시스템 카테고리로 수입/지출 구분
+		CategoryTree tree = categoryAppService.tree(ledger.getId());
+		List<CategoryId> expenseRoots = new ArrayList<>();
+		List<CategoryId> expense = new ArrayList<>();
+		List<CategoryId> income = new ArrayList<>();
+		for (Category root : tree.roots()) {
+			boolean isIncome = INCOME_ROOTS.contains(root.getName());
+			if (!isIncome) expenseRoots.add(root.getId());
+			(isIncome ? income : expense).addAll(tree.selfAndChildren(root.getId()));
+		}
+		if (expense.isEmpty() || income.isEmpty()) {
+			throw new IllegalStateException("system category templates are missing (db/h2/category_templates.sql)");
+		}
+		return new LedgerFixture(user.getId(), ledger.getId(), accountIds, expenseRoots, expense, income,
+				firstMonth, lastMonth);
+	}
+
+	// 지출 루트 × 전체 기간 월별 예산. 이번 달은 서비스로, 지난 달은 리포지토리로.
+	private void createBudgets(LedgerFixture fixture, Random random) {
+		for (CategoryId root : fixture.getExpenseRootIds()) {
+			for (YearMonth m = fixture.getFirstMonth(); !m.isAfter(fixture.getLastMonth()); m = m.plusMonths(1)) {
+				Money limit = Money.won((200 + random.nextInt(800)) * 1_000L);
+				if (m.isBefore(fixture.getLastMonth())) {
+					budgetRepository.save(Budget.create(fixture.getLedgerId(), root, m, limit));
+				} else {
+					budgetAppService.createBudget(fixture.getLedgerId(), root, m, limit);
+				}
+			}
+		}
+	}
+
+	// CSV(date,type,account,category,amount,memo,posted)로 만들어 가져오기. 월 급여 1건 + 나머지 지출.
+	private void importTransactions(LedgerFixture fixture, int txPerMonth, Random random) {
+		if (txPerMonth == 0) return;
+		LocalDate today = LocalDate.now(TIME_ZONE);
+		StringBuilder csv = new StringBuilder(txPerMonth * 80 * 12);
+		csv.append("date,type,account,category,amount,memo,posted\n");
+
+		long seq = 0;
+		for (YearMonth m = fixture.getFirstMonth(); !m.isAfter(fixture.getLastMonth()); m = m.plusMonths(1)) {
+			int lastDay = m.equals(YearMonth.from(today)) ? today.getDayOfMonth() : m.lengthOfMonth();
+			for (int i = 0; i < txPerMonth; i++) {
+				boolean income = i == 0;
+				LocalDate date = income ? m.atDay(Math.min(25, lastDay)) : m.atDay(1 + random.nextInt(lastDay));
+				CategoryId category = pick(income ? fixture.getIncomeCategoryIds() : fixture.getExpenseCategoryIds(), random);
+				long amount = income ? 3_000_000L : (10 + random.nextInt(800)) * 100L;
+				boolean posted = random.nextInt(10) != 0;	// 90% 게시
+
+				csv.append(date).append(',')
+						.append(income ? "INCOME" : "EXPENSE").append(',')
+						.append(pick(fixture.getAccountIds(), random).value()).append(',')
+						.append(category.value()).append(',')
+						.append(amount).append(',')
+						.append("load-").append(seq++).append(',')
+						.append(posted ? 'Y' : 'N').append('\n');
+			}
+		}
+
+		try {
+			TransactionImportResultDto result = transactionImportAppService.importCsv(fixture.getLedgerId(),
+					new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+			if (result.getFailedRows() > 0) {
+				log.warn("[loadtest] ledger {}: {} rows failed, first error: {}", fixture.getLedgerId(),
+						result.getFailedRows(), result.getErrors().isEmpty() ? "-" : result.getErrors().get(0).getMessage());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static <T> T pick(List<T> list, Random random) {
+		return list.get(random.nextInt(list.size()));
+	}
+}
@@ -0,0 +1,25 @@
+-- =====================================================================
+-- 내장 DB(H2) 시스템 카테고리 템플릿 — 부하 테스트 전용(loadtest-context.xml 이 적재)
+-- - LEDGER_ID = 'SYSTEM'. 가계부 생성 시 CategoryAppService.seedForLedger 가 복사.
+-- - 통합 테스트는 템플릿 없는 빈 DB 를 가정(가계부마다 같은 이름의 카테고리를 직접 만듦)하므로 main 에 두지 않음.
+-- - 같은 LEDGER_ID 안에서 이름은 유일(UQ_CATEGORY_LEDGER_NAME).
+-- =====================================================================
+
+-- 지출 루트
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-FOOD',      'SYSTEM', '식비',     'Y', NULL, 10, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-TRANSPORT', 'SYSTEM', '교통',     'Y', NULL, 20, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-HOUSING',   'SYSTEM', '주거/통신', 'Y', NULL, 30, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-SHOPPING',  'SYSTEM', '쇼핑',     'Y', NULL, 40, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-LEISURE',   'SYSTEM', '문화/여가', 'Y', NULL, 50, 'N');
+-- 수입 루트
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-SALARY',    'SYSTEM', '급여',     'Y', NULL, 90, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-EXTRA',     'SYSTEM', '부수입',   'Y', NULL, 91, 'N');
+
+-- 자식
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-FOOD-OUT',  'SYSTEM', '외식',     'Y', 'SYS-FOOD', 11, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-FOOD-MART', 'SYSTEM', '장보기',   'Y', 'SYS-FOOD', 12, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-FOOD-CAFE', 'SYSTEM', '카페',     'Y', 'SYS-FOOD', 13, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-TR-PUBLIC', 'SYSTEM', '대중교통', 'Y', 'SYS-TRANSPORT', 21, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-TR-TAXI',   'SYSTEM', '택시',     'Y', 'SYS-TRANSPORT', 22, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-HS-RENT',   'SYSTEM', '월세/관리비', 'Y', 'SYS-HOUSING', 31, 'N');
+INSERT INTO CATEGORY (CATEGORY_ID, LEDGER_ID, NAME, IS_SYSTEM_CATEGORY, PARENT_ID, SORT_ORDER, IS_DELETED) VALUES ('SYS-HS-PHONE',  'SYSTEM', '통신비',   'Y', 'SYS-HOUSING', 32, 'N');
@@ -0,0 +1,24 @@
+package com.eggmoney.payv.application.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+
+/**
+ * 서비스 메서드(또는 클래스 전체)의 작업 종류 지정 → 해당 커넥션 풀/동시 실행 한도/문장 타임아웃 사용.
+ * - 지정하지 않은 서비스 메서드는 OLTP.
+ * - 한도(실행 + 대기)를 넘으면 기다리지 않고 BulkheadFullException.
+ * - 다른 서비스 메서드 안에서 호출되면 바깥 작업 종류를 그대로 따름.
+ * @author 정의탁
+ */
+@Documented
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+	Workload value();
+}
@@ -0,0 +1,54 @@
+package com.eggmoney.payv.application.bulkhead;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.infrastructure.datasource.BulkheadRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서비스 호출 입장 제한 + 작업 종류 지정.
+ * - 대상: application.service 의 public 메서드 전부. @Bulkhead(메서드 > 클래스) 가 없으면 OLTP.
+ * - 트랜잭션 어드바이스보다 바깥에서 실행 → 커넥션을 받기 전에 거절하고, 트랜잭션 전체가 같은 풀을 사용.
+ * - @RetryOnConflict 보다는 안쪽 → 재시도마다 다시 입장.
+ * @author 정의탁
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class BulkheadAspect {
+
+	private final BulkheadRegistry bulkheadRegistry;
+
+	@Around("execution(public * com.eggmoney.payv.application.service..*(..))")
+	public Object guard(ProceedingJoinPoint pjp) throws Throwable {
+		if (bulkheadRegistry.isBound()) return pjp.proceed();
+
+		bulkheadRegistry.enter(workloadOf(pjp));
+		try {
+			return pjp.proceed();
+		} finally {
+			bulkheadRegistry.exit();
+		}
+	}
+
+	private static Workload workloadOf(ProceedingJoinPoint pjp) {
+		Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+		Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+		if (bulkhead == null) {
+			bulkhead = AnnotatedElementUtils.findMergedAnnotation(pjp.getTarget().getClass(), Bulkhead.class);
+		}
+		return bulkhead != null ? bulkhead.value() : Workload.OLTP;
+	}
+}
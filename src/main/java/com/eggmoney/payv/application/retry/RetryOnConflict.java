@@ -0,0 +1,25 @@
+package com.eggmoney.payv.application.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌(ConcurrencyConflictException) 시 메서드를 새 트랜잭션으로 다시 실행.
+ * - @Transactional 과 함께 사용. 재시도는 트랜잭션 바깥에서 일어나므로 매번 최신 상태를 다시 읽음.
+ * - 호출 시점에 이미 바깥 트랜잭션이 있으면 재시도하지 않고 그대로 전파.(롤백 전용 트랜잭션 재사용 방지)
+ * @author 정의탁
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+	// 최초 실행 포함 최대 시도 횟수.
+	int maxAttempts() default 3;
+
+	// 재시도 대기(ms) 기준값. n 번째 재시도는 기준값 × n + 무작위 지연.
+	long backoffMillis() default 20;
+}
@@ -0,0 +1,59 @@
+package com.eggmoney.payv.application.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eggmoney.payv.domain.shared.error.ConcurrencyConflictException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @RetryOnConflict 처리.
+ * - 트랜잭션 어드바이스보다 바깥(높은 우선순위)에서 실행 → 충돌로 롤백된 뒤 새 트랜잭션으로 재실행.
+ * - 최상위 우선순위는 비워 둠.(응답 시간 측정 aspect 가 재시도까지 포함해 잴 수 있도록)
+ * @author 정의탁
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RetryOnConflictAspect {
+
+	@Around("@annotation(retry)")
+	public Object retryOnConflict(ProceedingJoinPoint pjp, RetryOnConflict retry) throws Throwable {
+		// 바깥 트랜잭션 안에서 호출되면 재시도해도 같은(롤백 전용) 트랜잭션이므로 호출자에게 맡김.
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+
+		int attempt = 1;
+		while (true) {
+			try {
+				return pjp.proceed();
+			} catch (ConcurrencyConflictException e) {
+				if (attempt >= retry.maxAttempts()) {
+					log.warn("[retry] {} gave up after {} attempts: {}", pjp.getSignature().toShortString(),
+							attempt, e.getMessage());
+					throw e;
+				}
+				log.debug("[retry] {} conflict on attempt {}: {}", pjp.getSignature().toShortString(),
+						attempt, e.getMessage());
+				backoff(retry.backoffMillis() * attempt);
+				attempt++;
+			}
+		}
+	}
+
+	// 같은 행을 두고 다시 동시에 부딪히지 않도록 무작위 지연을 더함.
+	private static void backoff(long baseMillis) throws InterruptedException {
+		if (baseMillis <= 0) return;
+		Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis));
+	}
+}
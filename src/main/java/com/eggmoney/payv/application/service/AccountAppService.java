@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eggmoney.payv.application.retry.RetryOnConflict;
 import com.eggmoney.payv.domain.model.entity.Account;
 import com.eggmoney.payv.domain.model.entity.AccountType;
 import com.eggmoney.payv.domain.model.repository.AccountRepository;
@@ -41,6 +42,7 @@ public class AccountAppService {
 
     // 자산 display name 변경.
     @Transactional
+    @RetryOnConflict
     public void rename(AccountId accountId, LedgerId ledgerId, String newName) {
     	ensureUniqueName(ledgerId, newName);
         Account account = loadAndCheckLedger(accountId, ledgerId);
@@ -50,6 +52,7 @@ public class AccountAppService {
 
     // 자산 잠금.
     @Transactional
+    @RetryOnConflict
     public void archive(AccountId accountId, LedgerId ledgerId) {
         Account account = loadAndCheckLedger(accountId, ledgerId);
         account.archive();
@@ -58,6 +61,7 @@ public class AccountAppService {
 
     // 자산 잠금 해제.
     @Transactional
+    @RetryOnConflict
     public void reopen(AccountId accountId, LedgerId ledgerId) {
         Account account = loadAndCheckLedger(accountId, ledgerId);
         account.reopen();
@@ -82,16 +86,16 @@ public class AccountAppService {
     @Transactional
     public void deposit(AccountId accountId, LedgerId ledgerId, Money amount) {
         Account account = loadAndCheckLedger(accountId, ledgerId);
-        account.deposit(amount);
-        accountRepository.save(account);
+        account.deposit(amount);		// 규칙 검증
+        applyBalanceDelta(accountId, amount);
     }
 
     // 출금/소비/결제
     @Transactional
     public void withdraw(AccountId accountId, LedgerId ledgerId, Money amount) {
         Account account = loadAndCheckLedger(accountId, ledgerId);
-        account.withdraw(amount);
-        accountRepository.save(account);
+        account.withdraw(amount);		// 규칙 검증
+        applyBalanceDelta(accountId, Money.zero().minus(amount));
     }
 
     /**
@@ -101,8 +105,16 @@ public class AccountAppService {
     @Transactional
     public void adjust(AccountId accountId, LedgerId ledgerId, Money delta) {
         Account account = loadAndCheckLedger(accountId, ledgerId);
-        account.adjust(delta);
-        accountRepository.save(account);
+        account.adjust(delta);			// 규칙 검증
+        applyBalanceDelta(accountId, delta);
+    }
+
+    // 잔액은 읽은 값을 덮어쓰지 않고 SQL 증감으로 반영.(동시 게시/입출금 반영분 보존)
+    private void applyBalanceDelta(AccountId accountId, Money delta) {
+    	if (delta.isZero()) return;
+    	if (!accountRepository.applyBalanceDelta(accountId, delta)) {
+    		throw new DomainException("잔액이 부족하거나 잠긴 자산입니다.");
+    	}
     }
 
     // ---- 조회 ----
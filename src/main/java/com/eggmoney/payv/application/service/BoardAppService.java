@@ -1,17 +1,23 @@
 package com.eggmoney.payv.application.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
 import com.eggmoney.payv.domain.model.entity.Board;
 import com.eggmoney.payv.domain.model.entity.User;
 import com.eggmoney.payv.domain.model.repository.BoardRepository;
+import com.eggmoney.payv.domain.model.repository.BoardSearchIndex;
 import com.eggmoney.payv.domain.model.repository.UserRepository;
 import com.eggmoney.payv.domain.model.vo.BoardId;
+import com.eggmoney.payv.domain.model.vo.BoardSearchField;
+import com.eggmoney.payv.domain.model.vo.BoardSearchResult;
 import com.eggmoney.payv.domain.model.vo.UserId;
 import com.eggmoney.payv.domain.shared.error.DomainException;
-import com.eggmoney.payv.presentation.dto.BoardItemDto;
+import com.eggmoney.payv.infrastructure.cache.BoardViewCounter;
+import com.eggmoney.payv.presentation.dto.BoardListItemDto;
+import com.eggmoney.payv.presentation.dto.PageResultDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +29,8 @@ import lombok.RequiredArgsConstructor;
  * - 도메인 엔티티(Board, User)와 Repository를 조합하여 업무 흐름 처리
  * - 게시글 생성, 수정, 삭제, 조회, 검색 등의 기능 제공
  * - 트랜잭션 경계로 동작할 수 있으며 도메인 규칙을 위반하지 않도록 검증
+ * - 검색은 BoardSearchIndex(제목/내용/작성자 색인) 사용, 색인을 쓸 수 없으면 DB LIKE 검색
+ * - 조회수는 BoardViewCounter 에 모았다가 주기적으로 반영, 조회 결과에는 미반영분을 더해서 반환
  * 
  * Layer: Application
  * 
@@ -34,15 +42,18 @@ public class BoardAppService {
 
 	private final UserRepository userRepository;
 	private final BoardRepository boardRepository;
+	private final BoardSearchIndex boardSearchIndex;
+	private final BoardViewCounter boardViewCounter;
 
 	// 게시글 생성
 	public Board createBoard(User author, String title, String content) {
 		// 작성자 존재 유무 확인
-		userRepository.findById(author.getId())
+		User writer = userRepository.findById(author.getId())
 			.orElseThrow(() -> new DomainException("Author not found"));
 
 		Board board = Board.create(author.getId(), title, content);
 		boardRepository.save(board);
+		boardSearchIndex.index(board, writer.getEmail());
 		return board;
 	}
 	
@@ -65,6 +76,7 @@ public class BoardAppService {
 
 		board.update(newTitle, newContent);
 		boardRepository.save(board);
+		reindex(board);
 
 		return board;
 	}
@@ -75,6 +87,7 @@ public class BoardAppService {
 	            .orElseThrow(() -> new DomainException("Board not found"));
 	    board.update(newTitle, newContent);
 	    boardRepository.save(board);
+	    reindex(board);
 	    return board;
 	}
 
@@ -83,12 +96,23 @@ public class BoardAppService {
 	    boardRepository.findById(boardId)
 	            .orElseThrow(() -> new DomainException("Board not found"));
 	    boardRepository.delete(boardId);
+	    boardSearchIndex.remove(boardId);
 	}
 
 	// 단건 조회
 	public Board getBoard(BoardId id) {
-		return boardRepository.findById(id)
+		Board board = boardRepository.findById(id)
 				.orElseThrow(() -> new DomainException("board not found"));
+		board.addPendingViews(boardViewCounter.pending(id));
+		return board;
+	}
+
+	// 상세 화면 조회: 조회수 1 증가(지연 반영) 후 반환
+	public Board viewBoard(BoardId id) {
+		Board board = getBoard(id);
+		boardViewCounter.record(id);
+		board.addPendingViews(1);
+		return board;
 	}
 
 	// 전체 조회
@@ -101,20 +125,22 @@ public class BoardAppService {
 	    return boardRepository.count();
 	}
 
-	// 패이징 조회 (엔티티 반환)
-	public List<Board> getBoardsByPage(int offset, int limit) {
-	    return boardRepository.findByPage(offset, limit);
+	// 패이징 조회 (목록 화면용, 내용 제외. 내용은 getBoard 로 상세 화면에서만)
+	public List<BoardListItemDto> getBoardsByPage(int offset, int limit) {
+	    return withPendingViews(boardRepository.findListPage(offset, limit));
 	}
 	
-	//  검색 
-    public List<BoardItemDto> getBoardsBySearch(String keyword, String searchType, int offset, int limit) {
-        return boardRepository.findBySearch(keyword, searchType, offset, limit);
-    }
-
-
-    // 검색된 게시글 수
-    public int getBoardsCountBySearch(String keyword, String searchType) {
-        return boardRepository.countBySearch(keyword, searchType);
+	// 검색: 순위 순 목록 + 전체 건수를 한 번에. (색인을 쓸 수 없으면 LIKE 목록/건수 조회)
+    public PageResultDto<BoardListItemDto> searchBoards(String keyword, String searchType, int offset, int limit) {
+        int page = limit > 0 ? offset / limit + 1 : 1;
+        Optional<BoardSearchResult> indexed = boardSearchIndex.search(keyword, BoardSearchField.from(searchType), offset, limit);
+        if (indexed.isPresent()) {
+            BoardSearchResult r = indexed.get();
+            return new PageResultDto<>(r.getTotal(), page, limit,
+                    withPendingViews(boardRepository.findListItemsByIds(r.getBoardIds())));
+        }
+        return new PageResultDto<>(boardRepository.countBySearch(keyword, searchType), page, limit,
+                withPendingViews(boardRepository.findBySearch(keyword, searchType, offset, limit)));
     }
 
 
@@ -122,4 +148,18 @@ public class BoardAppService {
 	public List<Board> getBoardsByUser(UserId userId) {
 		return boardRepository.findByUser(userId);
 	}
+
+	// 목록 조회수에 미반영분 더하기
+	private List<BoardListItemDto> withPendingViews(List<BoardListItemDto> items) {
+		for (BoardListItemDto item : items) {
+			item.setViewCount(item.getViewCount() + boardViewCounter.pending(BoardId.of(item.getId())));
+		}
+		return items;
+	}
+
+	// 수정된 게시글 재색인 (작성자 email 포함)
+	private void reindex(Board board) {
+		String email = userRepository.findById(board.getUserId()).map(User::getEmail).orElse(null);
+		boardSearchIndex.index(board, email);
+	}
 }
\ No newline at end of file
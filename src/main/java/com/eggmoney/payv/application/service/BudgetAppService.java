@@ -3,7 +3,6 @@ package com.eggmoney.payv.application.service;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -12,9 +11,10 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eggmoney.payv.application.bulkhead.Bulkhead;
+import com.eggmoney.payv.application.retry.RetryOnConflict;
 import com.eggmoney.payv.domain.model.entity.Budget;
 import com.eggmoney.payv.domain.model.entity.Category;
-import com.eggmoney.payv.domain.model.entity.Transaction;
 import com.eggmoney.payv.domain.model.entity.TransactionType;
 import com.eggmoney.payv.domain.model.repository.BudgetRepository;
 import com.eggmoney.payv.domain.model.repository.CategoryRepository;
@@ -23,6 +23,7 @@ import com.eggmoney.payv.domain.model.vo.BudgetId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,7 @@ public class BudgetAppService {
 	private final BudgetRepository budgetRepository;
 	private final CategoryRepository categoryRepository;
 	private final TransactionRepository transactionRepository;
+	private final CategoryAppService categoryAppService;
 
 	// 예산 등록.
 	@Transactional
@@ -77,6 +79,7 @@ public class BudgetAppService {
 
 	// 한도 변경.
 	@Transactional
+	@RetryOnConflict
 	public void changeLimit(BudgetId budgetId, Money newLimit) {
 		Objects.requireNonNull(budgetId, "budgetId");
 		Objects.requireNonNull(newLimit, "newLimit");
@@ -117,9 +120,8 @@ public class BudgetAppService {
      */
     @Transactional(readOnly = true)
     public List<Budget> listByLedgerAndMonth(LedgerId ledgerId, YearMonth month) {
-        // 활성 카테고리(소프트 삭제 제외)만 가져와 ID 목록 구성
-        List<CategoryId> categoryIds = categoryRepository.findListByLedger(ledgerId).stream()
-                .filter(c -> !c.isDeleted())
+        // 활성 카테고리(소프트 삭제 제외)만 가져와 ID 목록 구성 (캐시된 트리)
+        List<CategoryId> categoryIds = categoryAppService.tree(ledgerId).all().stream()
                 .map(Category::getId)
                 .collect(Collectors.toList());
 
@@ -134,6 +136,7 @@ public class BudgetAppService {
     /**
      * 월별 시리즈: 특정 카테고리에 대해 from ~ to(포함x) 범위의 예산을 시간순으로 반환.
      */
+    @Bulkhead(Workload.REPORTING)
     @Transactional(readOnly = true)
     public List<Budget> listMonthlySeries(LedgerId ledgerId, CategoryId categoryId,
                                           YearMonth from, YearMonth to) {
@@ -146,15 +149,8 @@ public class BudgetAppService {
             }
         });
 
-        List<Budget> result = new ArrayList<>();
-        YearMonth cur = from;
-        while (!cur.isAfter(to)) {
-            budgetRepository.findOne(ledgerId, categoryId, cur).ifPresent(result::add);
-            cur = cur.plusMonths(1);
-        }
-        // 시간순 정렬 보장.(루프 순서상 이미 보장되지만, 안전하게 한 번 더)
-        result.sort(Comparator.comparing(Budget::getMonth));
-        return result;
+        // 기간 전체를 한 번에 조회.(월마다 조회하지 않음, 월 오름차순)
+        return budgetRepository.findSeries(ledgerId, categoryId, from, to);
     }
 	
     
@@ -193,36 +189,19 @@ public class BudgetAppService {
 		// 루트면 루트+자식, 자식이면 본인만 조회.
 		List<CategoryId> categoryIds = resolveCategoryIdsForBudget(ledgerId, categoryId);
 
-		// 존재하는 거래를 기간 조회로 불러와 서비스에서 필터링.(게시/지출/카테고리)
-		List<Transaction> transactionList = transactionRepository.findByLedgerAndDateRange(ledgerId, from, to, Integer.MAX_VALUE, 0);
-
-		long sum = transactionList.stream()
-				.filter(Transaction::isPosted)
-				.filter(t -> t.getType() == TransactionType.EXPENSE)
-				.filter(t -> categoryIds.contains(t.getCategoryId()))
-				.map(t -> t.getAmount().toLong())
-				.reduce(0L, Long::sum);
+		// 게시/지출/카테고리 조건으로 DB에서 합산.
+		long sum = transactionRepository.sumAmount(ledgerId, categoryIds, TransactionType.EXPENSE, from, to, true);
 
 		return Money.won(sum);
 	}
 
 	// 루트 카테고리면 루트+활성 자식, 자식 카테고리면 본인 id만 담은 식별자 목록 제공.
 	private List<CategoryId> resolveCategoryIdsForBudget(LedgerId ledgerId, CategoryId categoryId) {
-		Category category = categoryRepository.findById(categoryId)
-				.orElseThrow(() -> new DomainException("category not found"));
-
-		if (!category.isRoot()) {
-			List<CategoryId> ids = new ArrayList<>(1);
-			ids.add(category.getId());
-			return ids;
+		// 캐시된 트리에서 조회. (소프트 삭제된 카테고리는 트리에 없음)
+		List<CategoryId> ids = categoryAppService.tree(ledgerId).selfAndChildren(categoryId);
+		if (ids.isEmpty()) {
+			throw new DomainException("category not found");
 		}
-		
-		// 루트: 활성 카테고리 목록에서 parentId == rootId 인 것만
-		return categoryRepository.findListByLedger(ledgerId).stream()
-				.filter(cat -> !cat.isDeleted()) // 소프트 삭제 제외(정책)
-				.filter(cat -> cat.getId().equals(categoryId) || 
-						(cat.getParentId() != null && cat.getParentId().equals(categoryId))) // 직계 자식
-				.map(Category::getId)
-				.collect(Collectors.toList());
+		return ids;
 	}
 }
@@ -11,8 +11,10 @@ import org.springframework.transaction.annotation.Transactional;
 import com.eggmoney.payv.domain.model.entity.Category;
 import com.eggmoney.payv.domain.model.repository.CategoryRepository;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.shared.error.DomainException;
+import com.eggmoney.payv.infrastructure.cache.CategoryTreeCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,12 +27,14 @@ import lombok.RequiredArgsConstructor;
 public class CategoryAppService {
 
 	private final CategoryRepository categoryRepository;
+	private final CategoryTreeCache categoryTreeCache;
 	
 	// 루트 생성(depth=1)
     public Category createRoot(LedgerId ledgerId, String name, boolean isSystem, int sortOrder) {
         ensureUniqueName(ledgerId, name);
         Category category = Category.createRoot(ledgerId, name, isSystem, sortOrder);
         categoryRepository.save(category);
+        categoryTreeCache.invalidate(ledgerId.value());
         return category;
     }
     
@@ -56,6 +60,7 @@ public class CategoryAppService {
         ensureUniqueName(ledgerId, name);
         Category category = Category.createChild(ledgerId, parentId, name, system, sortOrder);
         categoryRepository.save(category);
+        categoryTreeCache.invalidate(ledgerId.value());
         return category;
     }
     
@@ -74,7 +79,8 @@ public class CategoryAppService {
         }
         
         category.rename(newName);
-        categoryRepository.save(category);        
+        categoryRepository.save(category);
+        categoryTreeCache.invalidate(ledgerId.value());
     }
     
     // 카테고리 소프트 삭제(root 카테고리 삭제 시, 하위 카테고리 모두 삭제).
@@ -88,6 +94,7 @@ public class CategoryAppService {
     	}
     	
     	categoryRepository.delete(ledgerId, categoryId);
+    	categoryTreeCache.invalidate(ledgerId.value());
     }
     
     // 카테고리 상세 조회.
@@ -97,22 +104,32 @@ public class CategoryAppService {
                 .orElseThrow(() -> new DomainException("category not found"));
     }
     
+    /**
+     * 가계부의 카테고리 트리 스냅샷(캐시).
+     * 목록/이름/루트-자식 조회는 모두 여기서 처리하므로, 캐시가 살아 있는 동안 카테고리 쿼리 없음.
+     */
+    @Transactional(readOnly = true)
+    public CategoryTree tree(LedgerId ledgerId) {
+    	return categoryTreeCache.get(ledgerId.value(), 
+    			() -> CategoryTree.of(categoryRepository.findListByLedger(ledgerId)));
+    }
+    
     // 특정 가계부 내의 모든 카테고리 목록 조회.
     @Transactional(readOnly = true)
     public List<Category> listByLedger(LedgerId ledgerId) {
-    	return categoryRepository.findListByLedger(ledgerId);
+    	return tree(ledgerId).all();
     }
     
     // 특정 가계부 내의 루트 카테고리 목록 조회.
     @Transactional(readOnly = true)
     public List<Category> rootCategoryListByLedger(LedgerId ledgerId) {
-    	return categoryRepository.findRootCategoryListByLedger(ledgerId);
+    	return tree(ledgerId).roots();
     }
     
     // 특정 카테고리의 하위 카테고리 목록 조회.
     @Transactional(readOnly = true)
     public List<Category> subCategoryListByLedgerAndParentCategory(LedgerId ledgerId, CategoryId parentId) {
-    	return categoryRepository.findSubCategoryListByLedgerAndParentCategory(ledgerId, parentId);
+    	return tree(ledgerId).children(parentId);
     }
     
     /**
@@ -125,6 +142,7 @@ public class CategoryAppService {
     	
         List<Category> templates = categoryRepository.findSystemTemplatesOrdered();
         if (templates.isEmpty()) return;
+        categoryTreeCache.invalidate(ledgerId.value());
         
         Map<CategoryId, CategoryId> idMap = new HashMap<>();
 
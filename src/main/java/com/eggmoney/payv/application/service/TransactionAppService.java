@@ -3,13 +3,20 @@ package com.eggmoney.payv.application.service;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.eggmoney.payv.application.retry.RetryOnConflict;
 import com.eggmoney.payv.domain.model.entity.Account;
 import com.eggmoney.payv.domain.model.entity.Budget;
 import com.eggmoney.payv.domain.model.entity.Category;
@@ -19,11 +26,15 @@ import com.eggmoney.payv.domain.model.repository.AccountRepository;
 import com.eggmoney.payv.domain.model.repository.BudgetRepository;
 import com.eggmoney.payv.domain.model.repository.CategoryRepository;
 import com.eggmoney.payv.domain.model.repository.TransactionRepository;
+import com.eggmoney.payv.domain.model.repository.TransactionRollupRepository;
 import com.eggmoney.payv.domain.model.vo.AccountId;
+import com.eggmoney.payv.domain.model.vo.BudgetId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
 import com.eggmoney.payv.domain.model.vo.TransactionId;
+import com.eggmoney.payv.domain.model.vo.TransactionTotal;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 import com.eggmoney.payv.presentation.dto.PageRequestDto;
 import com.eggmoney.payv.presentation.dto.PageResultDto;
@@ -35,10 +46,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TransactionAppService {
 
+	// 하루치 목록 조회 상한.(비정상적으로 많은 경우 응답 크기 보호)
+	private static final int MAX_DAY_ROWS = 1_000;
+
 	private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
     private final BudgetRepository budgetRepository;
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final CategoryAppService categoryAppService;
     
     // 생성.
     @Transactional
@@ -62,11 +78,13 @@ public class TransactionAppService {
 
         Transaction transaction = Transaction.create(ledgerId, accountId, type, date, amount, categoryId, memo);
         transactionRepository.save(transaction);
+        applyRollup(transaction, 1);	// 월별 집계는 초안 포함.
         return transaction;
     }
 
     // transaction(거래 내역) 게시.
     @Transactional
+    @RetryOnConflict
     public void post(TransactionId transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId)
         		.orElseThrow(() -> new DomainException("transaction not found"));
@@ -76,14 +94,14 @@ public class TransactionAppService {
         
         // 도메인 규칙에 따라 자산/가계부 일치 여부는 Transaction.post() 내부에서 재검증.
         transaction.post(account);
-        applyBudgetOnPost(transaction);
-        
         transactionRepository.save(transaction);
-        accountRepository.save(account); // 잔액 SSOT 반영
+        applyBudgetOnPost(transaction);
+        applyBalance(transaction, 1); // 잔액 SSOT 반영(SQL 증감, 행 잠금은 마지막에 짧게)
     }
     
     // transaction(거래 내역) 취소.
     @Transactional
+    @RetryOnConflict
     public void unpost(TransactionId transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId)
         		.orElseThrow(() -> new DomainException("transaction not found"));
@@ -92,14 +110,29 @@ public class TransactionAppService {
                 .orElseThrow(() -> new DomainException("account not found"));
         
         transaction.unpost(account);
-        applyBudgetOnUnpost(transaction);
-        
         transactionRepository.save(transaction);
-        accountRepository.save(account);
+        applyBudgetOnUnpost(transaction);
+        applyBalance(transaction, -1);
+    }
+    
+    // 일괄 게시: 월말 '초안 전체 확정' 등. 하나라도 실패하면 전체 롤백.
+    // - 이미 게시된 거래는 건너뜀(멱등). 반환값 = 실제로 게시된 건수.
+    @Transactional
+    @RetryOnConflict
+    public int postAll(LedgerId ledgerId, List<TransactionId> transactionIds) {
+    	return changePostedAll(ledgerId, transactionIds, true);
+    }
+
+    // 일괄 게시 취소: 게시되지 않은 거래는 건너뜀(멱등). 반환값 = 실제로 취소된 건수.
+    @Transactional
+    @RetryOnConflict
+    public int unpostAll(LedgerId ledgerId, List<TransactionId> transactionIds) {
+    	return changePostedAll(ledgerId, transactionIds, false);
     }
     
     // 편집 (게시 전만)
     @Transactional
+    @RetryOnConflict
     public void updateDetails(TransactionId transactionId, AccountId newAccountId, TransactionType newType,
                               LocalDate newDate, Money newAmount, CategoryId newCategoryId, String newMemo) {
 
@@ -109,6 +142,12 @@ public class TransactionAppService {
         if (transaction.isPosted()) {
             throw new DomainException("게시된 거래 내역을 수정할 수 없습니다. 게시 취소를 먼저 해주세요.");
         }
+
+        // 변경 전 집계 키/금액.(월별 집계 이동용)
+        YearMonth oldMonth = YearMonth.from(transaction.getDate());
+        CategoryId oldCategoryId = transaction.getCategoryId();
+        TransactionType oldType = transaction.getType();
+        long oldAmount = transaction.getAmount().toLong();
         
         // 자산 이동 시, 가계부(Ledger) 일치 검증.
         if (newAccountId != null && !newAccountId.equals(transaction.getAccountId())) {
@@ -148,6 +187,12 @@ public class TransactionAppService {
         }
 
         transactionRepository.save(transaction);
+
+        if (!oldMonth.equals(YearMonth.from(transaction.getDate())) || !oldCategoryId.equals(transaction.getCategoryId())
+        		|| oldType != transaction.getType() || oldAmount != transaction.getAmount().toLong()) {
+        	applyRollup(transaction.getLedgerId(), oldMonth, oldCategoryId, oldType, oldAmount, -1);
+        	applyRollup(transaction, 1);
+        }
     }
     
     // 삭제 (게시되지 않은 경우에만)
@@ -160,7 +205,8 @@ public class TransactionAppService {
             throw new DomainException("게시된 거래 내역을 삭제할 수 없습니다. 게시 취소를 먼저 해주세요.");
         }
         
-        transactionRepository.delete(transactionId);
+        transactionRepository.delete(transaction.getLedgerId(), transactionId);
+        applyRollup(transaction, -1);
     }
     
     // 원클릭 게시: 거래 내역 생성과 게시까지 한 트랜잭션에서 처리.
@@ -187,15 +233,17 @@ public class TransactionAppService {
 
  		// Account 잔액 반영 (지출이면 withdraw, 수입이면 deposit).
  		transaction.post(account);
- 		applyBudgetOnPost(transaction);	// 예산 반영.
  		transactionRepository.save(transaction); // 게시 상태로 저장.
- 		accountRepository.save(account); // 변경된 잔액 저장.
+ 		applyBudgetOnPost(transaction);	// 예산 반영.
+ 		applyRollup(transaction, 1);	// 월별 집계 반영.
+ 		applyBalance(transaction, 1);	// 변경된 잔액 반영.
  		
  		return transaction;
  	}
     
  	// 원클릭 수정: (게시되어 있으면) unpost → 변경 적용 → post 까지 한 트랜잭션에서 처리.
  	@Transactional
+ 	@RetryOnConflict
  	public Transaction oneClickUpdate(TransactionId transactionId, AccountId newAccountId,
  	                                   TransactionType newType, LocalDate newDate, Money newAmount, 
  	                                   CategoryId newCategoryId, String newMemo) {
@@ -241,8 +289,9 @@ public class TransactionAppService {
  	    if (transaction.isPosted()) {
  	    	transaction.unpost(oldAccount);		// 기존 자산 잔액 되돌림.
  	    	applyBudgetOnUnpost(transaction);	// 기존 예산 잔액 되돌림.
- 	        accountRepository.save(oldAccount);	// SSOT 저장.
+ 	    	applyBalance(transaction, -1);		// SSOT 반영.(변경 전 금액/유형 기준)
  	    }
+ 	    applyRollup(transaction, -1);		// 기존 월별 집계 되돌림.(초안도 집계에 포함)
 
  	    // 수정.(Transaction은 '미게시일 때만' 변경 허용)
 		transaction.changeAccount(newAccountId, ledgerId);
@@ -254,15 +303,17 @@ public class TransactionAppService {
 
  	    // 재게시(repost).
         transaction.post(targetAccount);
-        applyBudgetOnPost(transaction);
-        accountRepository.save(targetAccount);
         transactionRepository.save(transaction);
+        applyBudgetOnPost(transaction);
+        applyRollup(transaction, 1);
+        applyBalance(transaction, 1);
  	    
         return transaction;
  	}
 
  	// 원클릭 삭제: (게시되어 있으면) unpost → delete 를 한 트랜잭션에서 처리.
 	@Transactional
+	@RetryOnConflict
 	public void oneClickDelete(TransactionId transactionId) {
 		Transaction transaction = transactionRepository.findById(transactionId)
 				.orElseThrow(() -> new DomainException("transaction not found"));
@@ -273,11 +324,13 @@ public class TransactionAppService {
 		// 게시되어 있었다면 먼저 원복.( 멱등 )
 		if (transaction.isPosted()) {
 			transaction.unpost(account); 		// 기존 자산 잔액 되돌림.
+			transactionRepository.save(transaction);	// 버전 확인: 그 사이 수정/취소됐으면 충돌 → 재시도.
 			applyBudgetOnUnpost(transaction);	// 기존 예산 잔액 되돌림.
-			accountRepository.save(account);
+			applyBalance(transaction, -1);
 		}
 		
-		transactionRepository.delete(transactionId);
+		transactionRepository.delete(transaction.getLedgerId(), transactionId);
+		applyRollup(transaction, -1);		// 월별 집계에서 제외.(초안도 집계에 포함)
 	}
 	
 	/**
@@ -292,8 +345,7 @@ public class TransactionAppService {
         YearMonth ym = YearMonth.from(transaction.getDate());
         Budget budget = resolveBudgetFor(transaction.getLedgerId(), transaction.getCategoryId(), ym);
         if (budget != null) {
-            budget.registerExpense(transaction.getAmount());
-            budgetRepository.save(budget);
+            applySpentDelta(budget.getId(), transaction.getAmount().toLong());
         }
     }
 
@@ -303,11 +355,148 @@ public class TransactionAppService {
         YearMonth ym = YearMonth.from(transaction.getDate());
         Budget budget = resolveBudgetFor(transaction.getLedgerId(), transaction.getCategoryId(), ym);
         if (budget != null) {
-            budget.releaseExpense(transaction.getAmount());
-            budgetRepository.save(budget);
+            applySpentDelta(budget.getId(), -transaction.getAmount().toLong());
+        }
+    }
+
+    // 소진액 증감(SQL). 0행 = 게시된 지출보다 많이 되돌리려는 경우.
+    private void applySpentDelta(BudgetId budgetId, long delta) {
+        if (delta == 0) return;
+        if (!budgetRepository.applySpentDelta(budgetId, Money.won(delta))) {
+            throw new DomainException("cannot release more than spent");
+        }
+    }
+
+    /**
+     * <잔액 연동 유틸>
+     * - 규칙(잠금/잔액 부족)은 도메인(Transaction.post/unpost → Account)이 먼저 검증하고,
+     * - 저장은 읽은 잔액을 덮어쓰지 않고 SQL 증감으로 반영해서 같은 자산에 대한 동시 게시가 서로의 반영분을 잃지 않도록 함.
+     * - 그 사이 다른 요청이 잔액을 바꿔 조건(음수 불가)이 깨지면 0행 → 도메인 예외(전체 롤백).
+     */
+    private void applyBalance(Transaction transaction, int sign) {
+        long won = transaction.getAmount().toLong();
+        applyBalanceDelta(transaction.getAccountId(),
+                sign * (transaction.getType() == TransactionType.INCOME ? won : -won));
+    }
+
+    private void applyBalanceDelta(AccountId accountId, long delta) {
+        if (delta == 0) return;
+        if (!accountRepository.applyBalanceDelta(accountId, Money.won(delta))) {
+            throw new DomainException("잔액이 부족하거나 잠긴 자산입니다.");
         }
     }
 
+    /**
+     * <월별 집계 연동 유틸>
+     * - 생성(sign = 1) / 삭제(sign = -1) 시, 월 × 카테고리 × 유형 집계에 증분 반영. 수정은 변경 전 -1, 변경 후 +1.
+     * - 보고서는 이 집계만 읽고 초안도 합산하므로(게시 여부와 무관), 게시/취소는 집계를 바꾸지 않음.
+     * - 거래의 월/카테고리/유형/금액이 바뀌는 모든 경로에서 호출되어야 함.
+     */
+    private void applyRollup(Transaction transaction, int sign) {
+        applyRollup(transaction.getLedgerId(), YearMonth.from(transaction.getDate()), transaction.getCategoryId(),
+                transaction.getType(), transaction.getAmount().toLong(), sign);
+    }
+
+    private void applyRollup(LedgerId ledgerId, YearMonth month, CategoryId categoryId, TransactionType type,
+    		long amount, int sign) {
+        transactionRollupRepository.apply(ledgerId, month, categoryId, type, sign * amount, sign);
+    }
+
+    /**
+     * <일괄 게시/취소>
+     * - 거래/자산/예산을 집합 단위로 한 번씩 조회하고, 게시/취소는 메모리에서 도메인 규칙대로 적용.
+     * - 쓰기는 거래 게시 상태 IN 목록 UPDATE + 자산/예산당 합산 증감 UPDATE 한 번.(월별 집계는 게시 여부와 무관)
+     */
+    private int changePostedAll(LedgerId ledgerId, List<TransactionId> transactionIds, boolean post) {
+    	if (transactionIds == null || transactionIds.isEmpty()) return 0;
+
+    	// 1) 거래 일괄 조회 + 가계부 검증. 이미 목표 상태인 거래는 제외.
+    	Map<TransactionId, Transaction> found = transactionRepository.findAllByIds(transactionIds);
+
+    	List<Transaction> targets = new ArrayList<>();
+    	for (TransactionId id : new LinkedHashSet<>(transactionIds)) {
+    		Transaction transaction = found.get(id);
+    		if (transaction == null) {
+    			throw new DomainException("transaction not found: " + id.value());
+    		}
+    		if (!transaction.getLedgerId().equals(ledgerId)) {
+    			throw new DomainException("해당 가계부에 포함된 거래 내역이 아닙니다: " + id.value());
+    		}
+    		if (transaction.isPosted() != post) targets.add(transaction);
+    	}
+    	if (targets.isEmpty()) return 0;
+
+    	// 2) 자산 일괄 조회.
+    	Set<AccountId> accountIds = targets.stream().map(Transaction::getAccountId).collect(Collectors.toSet());
+    	Map<AccountId, Account> accounts = accountRepository.findAllByIds(accountIds);
+
+    	// 3) 메모리에서 게시/취소 + 게시 상태 일괄 반영. 변경과 반영을 저장소가 한 번에 하므로 앞뒤 조회 순서와 무관.
+    	//    (잔액 부족 등 도메인 예외 → 어떤 거래에서 실패했는지 포함해서 전파)
+    	transactionRepository.changePostedState(targets, transaction -> {
+    		Account account = accounts.get(transaction.getAccountId());
+    		if (account == null) {
+    			throw new DomainException("account not found: " + transaction.getAccountId().value());
+    		}
+    		try {
+    			if (post) transaction.post(account);
+    			else transaction.unpost(account);
+    		} catch (DomainException e) {
+    			throw new DomainException(e.getCode(),
+    					"거래 내역(" + transaction.getId().value() + ") " + (post ? "게시" : "게시 취소") + " 실패: " + e.getMessage(), e);
+    		}
+    	});
+
+    	// 4) 예산: 대상 월의 예산을 한 번에 조회 후 예산별 소진액 증감 합산.
+    	int sign = post ? 1 : -1;
+    	Map<BudgetId, Long> spentDeltas = sumSpentDeltas(ledgerId, targets, sign);
+
+    	// 5) 쓰기. 자산/예산은 합산한 증감으로 행당 UPDATE 한 번.(자산 행 잠금은 마지막에)
+    	spentDeltas.forEach(this::applySpentDelta);
+
+    	Map<AccountId, Long> balanceDeltas = new LinkedHashMap<>();
+    	for (Transaction transaction : targets) {
+    		long won = transaction.getAmount().toLong();
+    		balanceDeltas.merge(transaction.getAccountId(),
+    				sign * (transaction.getType() == TransactionType.INCOME ? won : -won), Long::sum);
+    	}
+    	balanceDeltas.forEach(this::applyBalanceDelta);
+
+    	return targets.size();
+    }
+
+    // 일괄 게시/취소의 예산 반영: 예산별 소진액 증감 합계 반환. (정확히 일치 → 부모(루트) 순서로 찾는 규칙은 resolveBudgetFor 와 동일)
+    private Map<BudgetId, Long> sumSpentDeltas(LedgerId ledgerId, List<Transaction> transactions, int sign) {
+    	List<Transaction> expenses = transactions.stream()
+    			.filter(t -> t.getType() == TransactionType.EXPENSE)
+    			.collect(Collectors.toList());
+    	if (expenses.isEmpty()) return Collections.emptyMap();
+
+    	Set<YearMonth> months = expenses.stream().map(t -> YearMonth.from(t.getDate())).collect(Collectors.toSet());
+    	Map<String, Budget> budgets = new HashMap<>();		// "YYYY-MM|categoryId" → 예산
+    	for (Budget budget : budgetRepository.findByLedgerAndMonths(ledgerId, months)) {
+    		budgets.put(budget.getMonth() + "|" + budget.getCategoryId().value(), budget);
+    	}
+    	if (budgets.isEmpty()) return Collections.emptyMap();
+
+    	// 부모 카테고리는 필요할 때 한 번만 조회. (캐시된 트리)
+    	CategoryTree categories = null;
+    	Map<BudgetId, Long> deltas = new LinkedHashMap<>();
+    	for (Transaction transaction : expenses) {
+    		YearMonth ym = YearMonth.from(transaction.getDate());
+    		Budget budget = budgets.get(ym + "|" + transaction.getCategoryId().value());
+    		if (budget == null) {
+    			if (categories == null) categories = categoryAppService.tree(ledgerId);
+    			Category category = categories.find(transaction.getCategoryId());
+    			if (category == null || category.isRoot()) continue;
+    			budget = budgets.get(ym + "|" + category.getParentId().value());
+    			if (budget == null) continue;
+    		}
+
+    		deltas.merge(budget.getId(), sign * transaction.getAmount().toLong(), Long::sum);
+    	}
+    	return deltas;
+    }
+
     /**
      * 해당 거래의 월/카테고리에 대응하는 예산을 찾습니다.
      * - 정확히 일치하는 카테고리 예산 우선 찾음.
@@ -325,10 +514,11 @@ public class TransactionAppService {
     }
 
     // ---- 조회 ----
+    // 기간 [from, to] (to 포함). 리포지토리는 [from, to) 이므로 하루 더해서 넘김.
     @Transactional(readOnly = true)
     public List<Transaction> listByLedgerAndPeriod(LedgerId ledgerId, LocalDate from, LocalDate to,
                                                    int limit, int offset) {
-        return transactionRepository.findByLedgerAndDateRange(ledgerId, from, to, limit, offset);
+        return transactionRepository.findByLedgerAndDateRange(ledgerId, from, to.plusDays(1), limit, offset);
     }
     
     
@@ -340,6 +530,30 @@ public class TransactionAppService {
     
     
 
+    // 필터링 조건 전체의 유형별 합계(목록 화면 수입/지출 합계).
+    @Transactional(readOnly = true)
+    public List<TransactionTotal> summarizeBySearch(LedgerId ledgerId, TransactionSearchCondition cond) {
+    	return transactionRepository.sumByType(ledgerId, cond);
+    }
+
+    // 월의 일별 × 유형 합계(달력 화면). 화면 정책상 미게시 거래도 포함.
+    @Transactional(readOnly = true)
+    public List<TransactionTotal> summarizeByDay(LedgerId ledgerId, YearMonth month) {
+    	return transactionRepository.sumByDay(ledgerId, month.atDay(1), month.plusMonths(1).atDay(1), false);
+    }
+
+    // 월의 일자별 상위 perDay 건(달력 셀). 나머지는 listByDay 로 펼쳐서 조회.
+    @Transactional(readOnly = true)
+    public List<Transaction> listTopByDay(LedgerId ledgerId, YearMonth month, int perDay) {
+    	return transactionRepository.findTopByDay(ledgerId, month.atDay(1), month.plusMonths(1).atDay(1), perDay);
+    }
+
+    // 하루치 전체 목록(달력 셀 펼치기). 최신순, 최대 MAX_DAY_ROWS 건.
+    @Transactional(readOnly = true)
+    public List<Transaction> listByDay(LedgerId ledgerId, LocalDate date) {
+    	return transactionRepository.findByLedgerAndDateRange(ledgerId, date, date.plusDays(1), MAX_DAY_ROWS, 0);
+    }
+
     @Transactional(readOnly = true)
     public Transaction getDetails(TransactionId transactionId) {
         return transactionRepository.findById(transactionId)
@@ -381,10 +595,7 @@ public class TransactionAppService {
 
 		if (includeChildren && category.isRoot()) {
 			// 활성 카테고리만 포함(정책).
-			ids.addAll(categoryRepository.findListByLedger(ledgerId).stream()
-					.filter(c -> c.getParentId() != null && c.getParentId().equals(categoryId))
-					.map(Category::getId)
-					.collect(Collectors.toList()));
+			categoryAppService.tree(ledgerId).children(categoryId).forEach(c -> ids.add(c.getId()));
 		}
 
 		return transactionRepository.findByLedgerAndCategoryIds(ledgerId, ids, limit, offset);
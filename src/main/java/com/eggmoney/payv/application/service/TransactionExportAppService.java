@@ -0,0 +1,177 @@
+package com.eggmoney.payv.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eggmoney.payv.application.bulkhead.Bulkhead;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.repository.AccountRepository;
+import com.eggmoney.payv.domain.model.repository.CategoryRepository;
+import com.eggmoney.payv.domain.model.repository.TransactionRepository;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래 내역 내보내기 애플리케이션 서비스
+ * - MyBatis Cursor 로 한 행씩 읽어 곧바로 출력 스트림에 씀(목록으로 모으지 않음).
+ * - 자산/카테고리 이름은 가계부 단위로 한 번만 조회해서 맵으로 해석.
+ * - 커서는 트랜잭션(SqlSession)이 열려 있는 동안만 유효하므로, 쓰기까지 이 메서드 안에서 끝냄.
+ * - 오래 걸리는 작업이므로 batch 풀/벌크헤드 사용.
+ * @author 정의탁
+ */
+@Slf4j
+@Service
+@Bulkhead(Workload.BATCH)
+@RequiredArgsConstructor
+public class TransactionExportAppService {
+
+	public enum Format { CSV, JSON }
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final TransactionRepository transactionRepository;
+	private final AccountRepository accountRepository;
+	private final CategoryRepository categoryRepository;
+
+	// 내보내기: 기간 [from, to), null 이면 제한 없음. 반환값은 내보낸 건수.
+	@Transactional(readOnly = true)
+	public long export(LedgerId ledgerId, LocalDate from, LocalDate to, Format format, OutputStream out) throws IOException {
+		Objects.requireNonNull(ledgerId, "ledgerId");
+		Objects.requireNonNull(format, "format");
+
+		Map<String, String> accountNames = new HashMap<>();
+		for (Account a : accountRepository.findListByLedger(ledgerId)) {
+			accountNames.put(a.getId().value(), a.getName());
+		}
+		Map<String, String> categoryNames = new HashMap<>();
+		for (Category c : categoryRepository.findListByLedger(ledgerId)) {
+			categoryNames.put(c.getId().value(), c.getName());
+		}
+
+		long start = System.currentTimeMillis();
+		long rows;
+		try {
+			rows = (format == Format.CSV)
+					? writeCsv(ledgerId, from, to, accountNames, categoryNames, out)
+					: writeJson(ledgerId, from, to, accountNames, categoryNames, out);
+		} catch (UncheckedIOException e) {
+			throw e.getCause(); // 클라이언트 연결 끊김 등
+		}
+		log.info("[export] ledger={} format={} rows={} elapsed={}ms", ledgerId, format, rows,
+				System.currentTimeMillis() - start);
+		return rows;
+	}
+
+	private long writeCsv(LedgerId ledgerId, LocalDate from, LocalDate to,
+			Map<String, String> accountNames, Map<String, String> categoryNames, OutputStream out) throws IOException {
+
+		Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+		w.write('\uFEFF'); // 엑셀 한글 깨짐 방지(BOM)
+		w.write("date,type,account,category,amount,memo,posted\r\n");
+
+		long[] count = new long[1];
+		transactionRepository.forEachByLedgerAndDateRange(ledgerId, from, to, t -> {
+			try {
+				w.write(t.getDate().toString());
+				w.write(',');
+				w.write(t.getType().name());
+				w.write(',');
+				w.write(csv(accountNames.getOrDefault(t.getAccountId().value(), t.getAccountId().value())));
+				w.write(',');
+				w.write(csv(categoryNames.getOrDefault(t.getCategoryId().value(), t.getCategoryId().value())));
+				w.write(',');
+				w.write(Long.toString(t.getAmount().toLong()));
+				w.write(',');
+				w.write(csv(t.getMemo()));
+				w.write(',');
+				w.write(t.isPosted() ? "Y" : "N");
+				w.write("\r\n");
+				count[0]++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		w.flush();
+		return count[0];
+	}
+
+	private long writeJson(LedgerId ledgerId, LocalDate from, LocalDate to,
+			Map<String, String> accountNames, Map<String, String> categoryNames, OutputStream out) throws IOException {
+
+		JsonGenerator g = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+		g.writeStartArray();
+
+		long[] count = new long[1];
+		transactionRepository.forEachByLedgerAndDateRange(ledgerId, from, to, t -> {
+			try {
+				g.writeStartObject();
+				g.writeStringField("id", t.getId().value());
+				g.writeStringField("date", t.getDate().toString());
+				g.writeStringField("type", t.getType().name());
+				g.writeStringField("account", accountNames.getOrDefault(t.getAccountId().value(), t.getAccountId().value()));
+				g.writeStringField("category", categoryNames.getOrDefault(t.getCategoryId().value(), t.getCategoryId().value()));
+				g.writeNumberField("amount", t.getAmount().toLong());
+				g.writeStringField("memo", t.getMemo());
+				g.writeBooleanField("posted", t.isPosted());
+				g.writeEndObject();
+				count[0]++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		g.writeEndArray();
+		g.flush();
+		return count[0];
+	}
+
+	// CSV 필드 이스케이프: 구분자/따옴표/개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번.
+	// 수식 주입 방지: = + - @ 탭 CR 로 시작하면 엑셀이 수식으로 실행하므로 ' 를 앞에 붙이고 따옴표로 감쌈.
+	// 가져오기는 따옴표 필드의 ' + 수식 문자에서 ' 하나를 떼므로, 원래 ' + 수식 문자로 시작하는 값도 ' 를 붙여 왕복 보장.
+	private static String csv(String s) {
+		if (s == null || s.isEmpty()) return "";
+		if (needsFormulaGuard(s)) {
+			return "\"'" + s.replace("\"", "\"\"") + '"';
+		}
+		boolean quote = false;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == ',' || c == '"' || c == '\n' || c == '\r') { quote = true; break; }
+		}
+		if (!quote) return s;
+		return '"' + s.replace("\"", "\"\"") + '"';
+	}
+
+	// 수식 방지 ' 를 붙일 값인지. (가져오기의 ' 제거와 같은 기준)
+	static boolean needsFormulaGuard(String s) {
+		if (s.isEmpty()) return false;
+		char c = s.charAt(0);
+		if (c == '\'') return s.length() > 1 && isFormulaStart(s.charAt(1));
+		return isFormulaStart(c);
+	}
+
+	// 스프레드시트가 수식으로 해석하는 첫 글자.
+	private static boolean isFormulaStart(char c) {
+		return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+	}
+}
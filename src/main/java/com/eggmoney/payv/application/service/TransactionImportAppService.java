@@ -0,0 +1,435 @@
+package com.eggmoney.payv.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eggmoney.payv.application.bulkhead.Bulkhead;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.Budget;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.repository.AccountRepository;
+import com.eggmoney.payv.domain.model.repository.BudgetRepository;
+import com.eggmoney.payv.domain.model.repository.CategoryRepository;
+import com.eggmoney.payv.domain.model.repository.TransactionRepository;
+import com.eggmoney.payv.domain.model.repository.TransactionRollupRepository;
+import com.eggmoney.payv.domain.model.vo.AccountId;
+import com.eggmoney.payv.domain.model.vo.BudgetId;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.domain.shared.error.DomainException;
+import com.eggmoney.payv.presentation.dto.TransactionImportResultDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래 내역 일괄 등록(가져오기) 애플리케이션 서비스
+ * 
+ * CSV 형식(내보내기와 동일): date,type,account,category,amount[,memo,posted]
+ *  - type: INCOME/EXPENSE (또는 수입/지출), account/category: 이름 또는 ID, 
+ *  - category 는 "상위>하위" 경로도 허용, posted: Y/N (생략 시 Y)
+ *  - 따옴표 필드 안의 개행 허용. 내보내기의 수식 방지 ' (따옴표 필드의 ' + 수식 문자)는 떼고 저장.
+ * 
+ * 처리 방식:
+ *  - CHUNK_SIZE 행 단위로 트랜잭션을 나눠 처리. (한 청크의 DB 오류가 전체를 중단시키지 않음)
+ *  - 파싱/자산·카테고리 검증은 청크 트랜잭션 전에 행 단위로. 실패한 행은 사유와 함께 오류로 기록하고 건너뜀.
+ *  - 청크 트랜잭션이 롤백되면(DB 오류, 동시 변경으로 잔액 반영 실패) 행 오류가 아닌 청크 오류로 원인과 함께 기록.
+ *  - 거래는 JDBC 배치로 insert, 자산 잔액/예산 소진액/월별 집계는 청크 안에서 합산 후 한 번씩만 반영.
+ *  - batch 풀/벌크헤드에서 실행.(화면 요청용 oltp 풀을 점유하지 않음)
+ * @author 정의탁
+ */
+@Slf4j
+@Service
+@Bulkhead(Workload.BATCH)
+@RequiredArgsConstructor
+public class TransactionImportAppService {
+
+	static final int CHUNK_SIZE = 500;
+
+	private final TransactionRepository transactionRepository;
+	private final AccountRepository accountRepository;
+	private final CategoryRepository categoryRepository;
+	private final BudgetRepository budgetRepository;
+	private final TransactionRollupRepository transactionRollupRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	// CSV 가져오기. (청크마다 별도 트랜잭션이므로 이 메서드 자체는 트랜잭션 없이 실행)
+	public TransactionImportResultDto importCsv(LedgerId ledgerId, InputStream in) throws IOException {
+		Objects.requireNonNull(ledgerId, "ledgerId");
+		Objects.requireNonNull(in, "in");
+
+		long start = System.currentTimeMillis();
+		TransactionImportResultDto result = new TransactionImportResultDto();
+		TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+		CategoryLookup categories = new CategoryLookup(categoryRepository.findListByLedger(ledgerId));
+		AccountLookup accounts = new AccountLookup(accountRepository.findListByLedger(ledgerId));
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+		String line;
+		long[] lastLine = { 0 };
+		while (true) {
+			long lineNo = lastLine[0] + 1;	// 오류 보고는 레코드 시작 줄 기준
+			if ((line = readRecord(reader, lastLine)) == null) break;
+			if (lineNo == 1) {
+				if (line.startsWith("\uFEFF")) line = line.substring(1); // BOM 제거
+				if (isHeader(line)) continue;
+			}
+			if (line.trim().isEmpty()) continue;
+
+			result.setTotalRows(result.getTotalRows() + 1);
+			try {
+				chunk.add(parseRow(lineNo, line, accounts, categories));
+			} catch (DomainException | IllegalArgumentException | DateTimeParseException e) {
+				result.addError(lineNo, e.getMessage());
+				continue;
+			}
+			if (chunk.size() == CHUNK_SIZE) {
+				processChunk(txTemplate, ledgerId, chunk, result);
+				chunk = new ArrayList<>(CHUNK_SIZE);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			processChunk(txTemplate, ledgerId, chunk, result);
+		}
+
+		result.setElapsedMillis(System.currentTimeMillis() - start);
+		log.info("[import] ledger={} total={} imported={} failed={} elapsed={}ms ({} rows/s)",
+				ledgerId, result.getTotalRows(), result.getImportedRows(), result.getFailedRows(),
+				result.getElapsedMillis(), result.getRowsPerSecond());
+		return result;
+	}
+
+	// 한 행 파싱/검증. (트랜잭션 밖, DB 접근 없음)
+	private static ImportRow parseRow(long lineNo, String line, AccountLookup accounts, CategoryLookup categories) {
+		String[] f = parseCsvLine(line);
+		if (f.length < 5) {
+			throw new DomainException("열 개수가 부족합니다. (date,type,account,category,amount[,memo,posted])");
+		}
+		return new ImportRow(lineNo,
+				LocalDate.parse(f[0].trim()),
+				parseType(f[1]),
+				accounts.resolve(f[2]),
+				categories.resolve(f[3]),
+				Money.won(parseAmount(f[4])),
+				f.length > 5 ? f[5] : "",
+				f.length <= 6 || !"N".equalsIgnoreCase(f[6].trim()));
+	}
+
+	// 검증된 행 묶음을 한 트랜잭션으로 처리. 롤백되면 청크 오류 하나로 기록.(행마다 같은 사유를 붙이지 않음)
+	private void processChunk(TransactionTemplate txTemplate, LedgerId ledgerId, List<ImportRow> chunk,
+			TransactionImportResultDto result) {
+		List<TransactionImportResultDto.RowError> rowErrors = new ArrayList<>();
+		long fromLine = chunk.get(0).lineNo;
+		long toLine = chunk.get(chunk.size() - 1).lineNo;
+		try {
+			Integer imported = txTemplate.execute(status -> applyChunk(ledgerId, chunk, rowErrors));
+			result.setImportedRows(result.getImportedRows() + (imported == null ? 0 : imported));
+			for (TransactionImportResultDto.RowError e : rowErrors) {
+				result.addError(e.getLineNo(), e.getMessage());
+			}
+		} catch (DomainException e) {
+			log.warn("[import] chunk rolled back: ledger={} lines={}~{} reason={}", ledgerId, fromLine, toLine, e.getMessage());
+			result.addChunkError(fromLine, toLine, chunk.size(), e.getMessage());
+		} catch (RuntimeException e) {
+			log.error("[import] chunk rolled back: ledger={} lines={}~{}", ledgerId, fromLine, toLine, e);
+			result.addChunkError(fromLine, toLine, chunk.size(), "저장 중 오류가 발생했습니다: " + rootCause(e));
+		}
+	}
+
+	private int applyChunk(LedgerId ledgerId, List<ImportRow> chunk,
+			List<TransactionImportResultDto.RowError> rowErrors) {
+
+		// 청크마다 최신 잔액으로 다시 로딩.(이전 청크 반영분 포함)
+		Map<AccountId, Account> accounts = new HashMap<>();
+		for (Account a : accountRepository.findListByLedger(ledgerId)) {
+			if (!a.isDeleted()) accounts.put(a.getId(), a);
+		}
+
+		List<Transaction> toInsert = new ArrayList<>(chunk.size());
+		Map<AccountId, Long> balanceDeltas = new LinkedHashMap<>();		// 자산 → 잔액 증감 합계
+		Map<String, Long> expenseByCategoryMonth = new LinkedHashMap<>();	// "categoryId|YYYY-MM" → 합계
+		Map<String, long[]> rollupDeltas = new LinkedHashMap<>();			// "YYYY-MM|categoryId|TYPE" → [합계, 건수]
+		Map<String, Category> categoriesById = new HashMap<>();
+
+		for (ImportRow row : chunk) {
+			try {
+				Account account = accounts.get(row.accountId);
+				if (account == null) throw new DomainException("자산을 찾을 수 없습니다: " + row.accountId.value());
+
+				Transaction transaction = Transaction.create(ledgerId, account.getId(), row.type, row.date, row.amount,
+						row.category.getId(), row.memo);
+				long amount = row.amount.toLong();
+				String categoryId = row.category.getId().value();
+				String month = YearMonth.from(row.date).toString();
+
+				if (row.posted) {
+					// 메모리상의 Account 에 반영(행 단위로 잔액 규칙 검증), 저장은 청크 끝에서 자산별 증감 한 번.
+					transaction.post(account);
+					balanceDeltas.merge(account.getId(), row.type == TransactionType.INCOME ? amount : -amount, Long::sum);
+
+					categoriesById.putIfAbsent(categoryId, row.category);
+					if (row.type == TransactionType.EXPENSE) {
+						expenseByCategoryMonth.merge(categoryId + "|" + month, amount, Long::sum);
+					}
+				}
+				toInsert.add(transaction);
+
+				// 월별 집계는 미게시 거래도 포함.
+				long[] delta = rollupDeltas.computeIfAbsent(month + "|" + categoryId + "|" + row.type.name(),
+						k -> new long[2]);
+				delta[0] += amount;
+				delta[1]++;
+
+			} catch (DomainException | IllegalArgumentException e) {
+				rowErrors.add(new TransactionImportResultDto.RowError(row.lineNo, e.getMessage()));
+			}
+		}
+
+		// 1) 거래: 배치 insert
+		transactionRepository.insertAll(toInsert);
+
+		// 2) 예산: (카테고리, 월) 합계를 예산별로 모아 소진액 증감 1회
+		Map<BudgetId, Long> spentDeltas = new LinkedHashMap<>();
+		for (Map.Entry<String, Long> e : expenseByCategoryMonth.entrySet()) {
+			String[] key = e.getKey().split("\\|");
+			Budget budget = resolveBudgetFor(ledgerId, categoriesById.get(key[0]), YearMonth.parse(key[1]));
+			if (budget != null) {
+				spentDeltas.merge(budget.getId(), e.getValue(), Long::sum);
+			}
+		}
+		// 반영 실패(그 사이 예산이 삭제/변경됨)는 청크 전체 롤백.(소진액 없이 거래만 들어가지 않게)
+		for (Map.Entry<BudgetId, Long> e : spentDeltas.entrySet()) {
+			if (e.getValue() != 0 && !budgetRepository.applySpentDelta(e.getKey(), Money.won(e.getValue()))) {
+				throw new DomainException("예산 소진액을 반영할 수 없습니다: " + e.getKey().value());
+			}
+		}
+
+		// 3) 월별 집계: 키별 1회 반영
+		for (Map.Entry<String, long[]> e : rollupDeltas.entrySet()) {
+			String[] key = e.getKey().split("\\|");
+			transactionRollupRepository.apply(ledgerId, YearMonth.parse(key[0]), CategoryId.of(key[1]),
+					TransactionType.valueOf(key[2]), e.getValue()[0], (int) e.getValue()[1]);
+		}
+
+		// 4) 자산: 자산별 잔액 증감 1회.(음수 불가 조건이 깨지면 청크 전체 롤백)
+		for (Map.Entry<AccountId, Long> e : balanceDeltas.entrySet()) {
+			if (e.getValue() != 0 && !accountRepository.applyBalanceDelta(e.getKey(), Money.won(e.getValue()))) {
+				throw new DomainException("잔액이 부족하거나 잠긴 자산입니다: " + e.getKey().value());
+			}
+		}
+
+		return toInsert.size();
+	}
+
+	/**
+	 * 예산 찾기(TransactionAppService 와 동일 규칙): 정확히 일치하는 카테고리 예산 → 없으면 부모(루트) 예산.
+	 * - 같은 예산이 여러 키로 해석되어도 증감은 예산 ID 기준으로 합산.
+	 */
+	private Budget resolveBudgetFor(LedgerId ledgerId, Category category, YearMonth ym) {
+		return budgetRepository.findOne(ledgerId, category.getId(), ym)
+				.orElseGet(() -> category.isRoot() ? null
+						: budgetRepository.findOne(ledgerId, category.getParentId(), ym).orElse(null));
+	}
+
+	private static String rootCause(Throwable e) {
+		Throwable t = e;
+		while (t.getCause() != null && t.getCause() != t) t = t.getCause();
+		return t.getClass().getSimpleName() + (t.getMessage() == null ? "" : ": " + t.getMessage());
+	}
+
+	private static TransactionType parseType(String raw) {
+		String v = raw.trim();
+		if ("수입".equals(v)) return TransactionType.INCOME;
+		if ("지출".equals(v)) return TransactionType.EXPENSE;
+		try {
+			return TransactionType.valueOf(v.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new DomainException("거래 유형이 올바르지 않습니다: " + v);
+		}
+	}
+
+	private static long parseAmount(String raw) {
+		String v = raw.replace(",", "").replace("원", "").trim();
+		long won;
+		try {
+			won = Long.parseLong(v);
+		} catch (NumberFormatException e) {
+			throw new DomainException("금액이 올바르지 않습니다: " + raw);
+		}
+		if (won <= 0) throw new DomainException("금액은 0보다 커야 합니다: " + raw);
+		return won;
+	}
+
+	private static boolean isHeader(String line) {
+		String v = line.trim().toLowerCase();
+		return v.startsWith("date,") || v.startsWith("일자,");
+	}
+
+	// CSV 레코드 하나 읽기: 따옴표가 열린 채 줄이 끝나면 개행을 값으로 보고 다음 줄을 이어 붙임.(입력 끝이면 null)
+	private static String readRecord(BufferedReader reader, long[] lastLine) throws IOException {
+		String line = reader.readLine();
+		if (line == null) return null;
+		lastLine[0]++;
+		StringBuilder record = new StringBuilder(line);
+		int quotes = countQuotes(line);
+		while (quotes % 2 != 0) {
+			String next = reader.readLine();
+			if (next == null) break;	// 닫히지 않은 따옴표는 파싱에서 행 오류로
+			lastLine[0]++;
+			record.append('\n').append(next);
+			quotes += countQuotes(next);
+		}
+		return record.toString();
+	}
+
+	private static int countQuotes(String s) {
+		int n = 0;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) == '"') n++;
+		}
+		return n;
+	}
+
+	// CSV 레코드 파싱: 따옴표로 감싼 필드(구분자/개행 포함, "" 이스케이프) 지원.
+	static String[] parseCsvLine(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder cur = new StringBuilder();
+		boolean quoted = false;
+		boolean wasQuoted = false;	// 현재 필드가 따옴표로 시작했는지
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						cur.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					cur.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+				if (cur.length() == 0) wasQuoted = true;
+			} else if (c == ',') {
+				fields.add(unguard(cur, wasQuoted));
+				cur.setLength(0);
+				wasQuoted = false;
+			} else {
+				cur.append(c);
+			}
+		}
+		if (quoted) throw new DomainException("따옴표가 닫히지 않았습니다.");
+		fields.add(unguard(cur, wasQuoted));
+		return fields.toArray(new String[0]);
+	}
+
+	// 내보내기가 붙인 수식 방지 ' 제거. (따옴표 필드이고, ' 를 뗀 값이 내보내기에서 ' 를 붙이는 값일 때만)
+	private static String unguard(StringBuilder field, boolean wasQuoted) {
+		String value = field.toString();
+		if (wasQuoted && value.startsWith("'") && TransactionExportAppService.needsFormulaGuard(value.substring(1))) {
+			return value.substring(1);
+		}
+		return value;
+	}
+
+	// 검증을 통과한 행. 잔액 규칙은 청크 트랜잭션 안에서 최신 잔액으로 검사.
+	private static final class ImportRow {
+		final long lineNo;
+		final LocalDate date;
+		final TransactionType type;
+		final AccountId accountId;
+		final Category category;
+		final Money amount;
+		final String memo;
+		final boolean posted;
+
+		ImportRow(long lineNo, LocalDate date, TransactionType type, AccountId accountId, Category category,
+				Money amount, String memo, boolean posted) {
+			this.lineNo = lineNo;
+			this.date = date;
+			this.type = type;
+			this.accountId = accountId;
+			this.category = category;
+			this.amount = amount;
+			this.memo = memo;
+			this.posted = posted;
+		}
+	}
+
+	// 자산 조회용 메모리 맵: ID / 이름(같은 이름이면 먼저 나온 자산).
+	private static final class AccountLookup {
+		private final Map<String, AccountId> byId = new HashMap<>();
+		private final Map<String, AccountId> byName = new HashMap<>();
+
+		AccountLookup(List<Account> accounts) {
+			for (Account a : accounts) {
+				if (a.isDeleted()) continue;
+				byId.put(a.getId().value(), a.getId());
+				byName.putIfAbsent(a.getName(), a.getId());
+			}
+		}
+
+		AccountId resolve(String raw) {
+			String v = raw.trim();
+			AccountId id = byId.containsKey(v) ? byId.get(v) : byName.get(v);
+			if (id == null) throw new DomainException("자산을 찾을 수 없습니다: " + v);
+			return id;
+		}
+	}
+
+	// 카테고리 조회용 메모리 맵: ID / "상위>하위" 경로 / 이름(유일할 때만).
+	private static final class CategoryLookup {
+		private final Map<String, Category> byId = new HashMap<>();
+		private final Map<String, Category> byPath = new HashMap<>();
+		private final Map<String, List<Category>> byName = new HashMap<>();
+
+		CategoryLookup(List<Category> categories) {
+			for (Category c : categories) {
+				if (c.isDeleted()) continue;
+				byId.put(c.getId().value(), c);
+				byName.computeIfAbsent(c.getName(), k -> new ArrayList<>()).add(c);
+			}
+			for (Category c : byId.values()) {
+				if (c.isRoot()) continue;
+				Category parent = byId.get(c.getParentId().value());
+				if (parent != null) byPath.put(parent.getName() + ">" + c.getName(), c);
+			}
+		}
+
+		Category resolve(String raw) {
+			String v = raw.trim();
+			Category c = byId.get(v);
+			if (c != null) return c;
+			c = byPath.get(v.replace(" > ", ">"));
+			if (c != null) return c;
+
+			List<Category> named = byName.get(v);
+			if (named == null || named.isEmpty()) throw new DomainException("카테고리를 찾을 수 없습니다: " + v);
+			if (named.size() > 1) throw new DomainException("같은 이름의 카테고리가 여러 개입니다. \"상위>하위\" 형식으로 입력해주세요: " + v);
+			return named.get(0);
+		}
+	}
+}
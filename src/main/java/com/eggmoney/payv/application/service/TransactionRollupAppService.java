@@ -0,0 +1,55 @@
+package com.eggmoney.payv.application.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eggmoney.payv.application.bulkhead.Bulkhead;
+import com.eggmoney.payv.domain.model.repository.TransactionRollupRepository;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 거래 집계(rollup) 애플리케이션 서비스
+ * - 조회: 보고서 화면은 거래 원장을 읽지 않고 집계 테이블만 읽음.
+ * - 재계산: 집계가 어긋난 경우(수동 데이터 보정, 최초 적재 등) TRANSACTION 으로부터 다시 구성.
+ * - 증분 반영은 TransactionAppService 가 거래 생성/수정/삭제 시 같은 트랜잭션에서 수행.(미게시 포함)
+ * @author 정의탁
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionRollupAppService {
+
+	private final TransactionRollupRepository transactionRollupRepository;
+
+	// 기간(from ~ to, 포함) 집계 조회.
+	@Bulkhead(Workload.REPORTING)
+	@Transactional(readOnly = true)
+	public List<MonthlyCategoryTotal> listMonthlyTotals(LedgerId ledgerId, YearMonth from, YearMonth to) {
+		Objects.requireNonNull(ledgerId, "ledgerId");
+		if (from.isAfter(to)) throw new IllegalArgumentException("조회기간을 올바르게 입력해주세요.");
+		return transactionRollupRepository.findByLedgerAndMonthRange(ledgerId, from, to);
+	}
+
+	// 특정 가계부의 기간 집계 재계산. (전체 가계부 최초 적재는 db/oracle/transaction_monthly_rollup.sql)
+	@Bulkhead(Workload.BATCH)
+	@Transactional
+	public int rebuild(LedgerId ledgerId, YearMonth from, YearMonth to) {
+		Objects.requireNonNull(ledgerId, "ledgerId");
+		Objects.requireNonNull(from, "from");
+		Objects.requireNonNull(to, "to");
+		if (from.isAfter(to)) throw new IllegalArgumentException("조회기간을 올바르게 입력해주세요.");
+
+		int rows = transactionRollupRepository.rebuild(ledgerId, from, to);
+		log.info("[rollup] rebuilt ledger={} range={}~{} rows={}", ledgerId, from, to, rows);
+		return rows;
+	}
+}
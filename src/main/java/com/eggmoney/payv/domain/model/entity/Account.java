@@ -32,6 +32,9 @@ public class Account {
     
     private boolean isDeleted;
     private final LocalDateTime createdAt;
+
+    // 낙관적 잠금 버전.(저장 시 읽은 값과 DB 값이 다르면 충돌, -1: 아직 저장 전)
+    private long version = -1;
     
 	private Account(AccountId id, LedgerId ledgerId, AccountType type, 
 			String name, Money currentBalance, boolean archived, boolean isDeleted,LocalDateTime createdAt) {
@@ -64,8 +67,21 @@ public class Account {
 	
 	// 인프라 복원용 (레코드 → 도메인)
     public static Account reconstruct(AccountId id, LedgerId ledgerId, AccountType type, String name,
-                                      Money currentBalance, boolean archived, boolean isDeleted, LocalDateTime createdAt) {
-        return new Account(id, ledgerId, type, name, currentBalance, archived, isDeleted, createdAt);
+                                      Money currentBalance, boolean archived, boolean isDeleted, LocalDateTime createdAt,
+                                      long version) {
+        Account account = new Account(id, ledgerId, type, name, currentBalance, archived, isDeleted, createdAt);
+        account.version = version;
+        return account;
+    }
+
+    // 인프라 전용: 저장(INSERT/UPDATE) 성공 후 버전 반영.
+    public void syncVersion(long version) {
+    	this.version = version;
+    }
+    
+    // 아직 한 번도 저장되지 않은 자산인지.(create() 직후)
+    public boolean isNew() {
+    	return version < 0;
     }
     
     /**
@@ -79,4 +79,10 @@ public class Board {
         this.content = newContent; // 내용은 비어있을 수 있다고 가정
         this.updatedAt = LocalDateTime.now();
     }
+
+    // 아직 DB 에 반영되지 않은 조회수를 더함 (조회수는 저장 시 쓰지 않음, BoardViewCounter 참고)
+    public void addPendingViews(long views) {
+        if (views < 0) throw new IllegalArgumentException("views must not be negative");
+        this.viewCount += views;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.eggmoney.payv.domain.model.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -36,6 +35,7 @@ public class Budget {
 	private Money limit; 	// 예산 한도 (>= 0)
 	private Money spent; 	// 소진 금액 (>= 0)
 	private final LocalDateTime createdAt;
+	private long version = -1;	// 낙관적 잠금 버전.(저장 시 읽은 값과 DB 값이 다르면 충돌, -1: 아직 저장 전)
 
 	// ---- 생성/복원 ----
 	private Budget(BudgetId id, LedgerId ledgerId, CategoryId categoryId, 
@@ -63,8 +63,20 @@ public class Budget {
 
 	// 인프라 복원용.(레코드 → 도메인)
 	public static Budget reconstruct(BudgetId id, LedgerId ledgerId, CategoryId categoryId, YearMonth month,
-			Money limit, Money spent, LocalDateTime createdAt) {
-		return new Budget(id, ledgerId, categoryId, month, limit, spent, createdAt);
+			Money limit, Money spent, LocalDateTime createdAt, long version) {
+		Budget budget = new Budget(id, ledgerId, categoryId, month, limit, spent, createdAt);
+		budget.version = version;
+		return budget;
+	}
+
+	// 인프라 전용: 저장(INSERT/UPDATE) 성공 후 버전 반영.
+	public void syncVersion(long version) {
+		this.version = version;
+	}
+
+	// 아직 한 번도 저장되지 않은 예산인지.(create() 직후)
+	public boolean isNew() {
+		return version < 0;
 	}
 
 	
@@ -104,8 +116,7 @@ public class Budget {
 
 	// 남은 예산( 음수면 초과 )
 	public Money remaining() {
-		BigDecimal rest = limit.toBigDecimal().subtract(spent.toBigDecimal());
-		return Money.of(rest);
+		return limit.minus(spent);
 	}
 
 	// 초과 여부.
@@ -116,7 +127,7 @@ public class Budget {
 	// ---- 내부 유틸(돈 비교/검증) ----
 	private static Money requireNonNegative(Money money, String what) {
 		if (money == null) throw new IllegalArgumentException(what + " is required");
-		if (money.toBigDecimal().compareTo(BigDecimal.ZERO) < 0) {
+		if (money.isNegative()) {
 			throw new IllegalArgumentException(what + " must be >= 0");
 		}
 		return money;
@@ -131,11 +142,11 @@ public class Budget {
 	}
 
 	private static boolean lt(Money a, Money b) {
-		return a.toBigDecimal().compareTo(b.toBigDecimal()) < 0;
+		return a.isLessThan(b);
 	}
 
 	private static boolean gt(Money a, Money b) {
-		return a.toBigDecimal().compareTo(b.toBigDecimal()) > 0;
+		return a.isGreaterThan(b);
 	}
 	
 	@Override
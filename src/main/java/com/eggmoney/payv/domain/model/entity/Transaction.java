@@ -46,6 +46,7 @@ public class Transaction {
 
     private boolean posted;            		// 게시 여부.
     private LocalDateTime postedAt;    		// 게시 시각.
+    private long version = -1;				// 낙관적 잠금 버전.(저장 시 읽은 값과 DB 값이 다르면 충돌, -1: 아직 저장 전)
 	
     private Transaction(TransactionId id, LedgerId ledgerId, AccountId accountId, 
     		TransactionType type, LocalDate date, Money amount, CategoryId categoryId, String memo,
@@ -83,10 +84,22 @@ public class Transaction {
     // 인프라 복원용(레코드 → 도메인).
     public static Transaction reconstruct(TransactionId id, LedgerId ledgerId, AccountId accountId, 
     		TransactionType type, LocalDate date, Money amount, CategoryId categoryId, String memo, 
-    		boolean posted, LocalDateTime postedAt, LocalDateTime createdAt) {
+    		boolean posted, LocalDateTime postedAt, LocalDateTime createdAt, long version) {
     	
-        return new Transaction(id, ledgerId, accountId, 
+        Transaction transaction = new Transaction(id, ledgerId, accountId, 
         		type, date, amount, categoryId, memo, posted, postedAt, createdAt);
+        transaction.version = version;
+        return transaction;
+    }
+
+    // 인프라 전용: 저장(INSERT/UPDATE) 성공 후 버전 반영.
+    public void syncVersion(long version) {
+    	this.version = version;
+    }
+    
+    // 아직 한 번도 저장되지 않은 거래인지.(create() 직후)
+    public boolean isNew() {
+    	return version < 0;
     }
     
     /**
@@ -1,6 +1,8 @@
 package com.eggmoney.payv.domain.model.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.eggmoney.payv.domain.model.entity.Account;
@@ -8,6 +10,7 @@ import com.eggmoney.payv.domain.model.entity.Category;
 import com.eggmoney.payv.domain.model.vo.AccountId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
 
 /**
  * 자산 레포지토리
@@ -16,6 +19,9 @@ import com.eggmoney.payv.domain.model.vo.LedgerId;
 public interface AccountRepository {
 
 	Optional<Account> findById(AccountId id);
+	
+	// 다건 조회.(id → 자산, 존재하는 자산만 담김. IN 목록 한 번(500건 단위)으로 조회)
+	Map<AccountId, Account> findAllByIds(Collection<AccountId> ids);
 	List<Account> findListByLedger(LedgerId ledgerId);
 	
 	// 한 가계부에 동일한 이름을 갖는 자산이 존재하는지 확인.
@@ -24,6 +30,10 @@ public interface AccountRepository {
 	// UPSERT = 새로 생성된 자산은 insert, 기존이면 update.
     void save(Account account);
     
+    // 잔액 증감을 SQL 에서 현재 값 기준으로 원자적 반영.(save 는 잔액을 쓰지 않음)
+    // - 잠긴 자산이거나, 음수 불가 유형(CARD/ETC 외)의 잔액이 음수가 되면 반영하지 않고 false.
+    boolean applyBalanceDelta(AccountId id, Money delta);
+    
     // 소프트 삭제.
     void delete(AccountId id);
 }
@@ -1,12 +1,14 @@
 package com.eggmoney.payv.domain.model.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import com.eggmoney.payv.domain.model.entity.Board;
 import com.eggmoney.payv.domain.model.vo.BoardId;
 import com.eggmoney.payv.domain.model.vo.UserId;
-import com.eggmoney.payv.presentation.dto.BoardItemDto;
+import com.eggmoney.payv.presentation.dto.BoardListItemDto;
 
 /**
  * Repository Interface: BoardRepository
@@ -36,15 +38,24 @@ public interface BoardRepository {
     // 전체 게시글 수 조회 
     int count();
 
-    // 페이징 조회
-    List<Board> findByPage(int offset, int limit);
+    // 페이징 조회 (목록 화면용, 내용 제외)
+    List<BoardListItemDto> findListPage(int offset, int limit);
     
-    // 🔹 검색은 DTO 직접 반환 (email join 지원)
-    List<BoardItemDto> findBySearch(String keyword, String searchType, int offset, int limit);
+    // ID 목록 조회: 주어진 순서 그대로 반환(없는 ID 는 제외). 검색 색인 결과 페이지용.
+    List<BoardListItemDto> findListItemsByIds(List<BoardId> ids);
+
+    // 전체 게시글을 작성자 email 과 함께 한 건씩 전달(목록으로 모으지 않음). 트랜잭션 안에서 호출.
+    void forEachWithAuthor(BiConsumer<Board, String> action);
+
+    // 🔹 검색은 DTO 직접 반환 (email join 지원, 내용 제외)
+    List<BoardListItemDto> findBySearch(String keyword, String searchType, int offset, int limit);
 
     // 제목, 내용, 작성자별 검색된 게시글 수
     int countBySearch(String keyword, String searchType);
     
     // 삭제
     void delete(BoardId id);
+
+    // 조회수 증가분 일괄 반영 (view_count = view_count + 증가분). 없는 게시글은 무시.
+    void addViewCounts(Map<BoardId, Long> deltas);
 }
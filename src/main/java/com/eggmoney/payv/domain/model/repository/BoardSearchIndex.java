@@ -0,0 +1,26 @@
+package com.eggmoney.payv.domain.model.repository;
+
+import java.util.Optional;
+
+import com.eggmoney.payv.domain.model.entity.Board;
+import com.eggmoney.payv.domain.model.vo.BoardId;
+import com.eggmoney.payv.domain.model.vo.BoardSearchField;
+import com.eggmoney.payv.domain.model.vo.BoardSearchResult;
+
+/**
+ * 게시글 검색 색인(포트)
+ * - 제목/내용/작성자 email 을 색인해서 LIKE '%키워드%' 전체 스캔 없이 검색.
+ * - 기본 구현은 프로세스 내 n-gram 색인(NGramBoardSearchIndex). DB 텍스트 색인 등으로 교체 가능.
+ * - 색인 갱신은 BoardAppService 가 게시글 생성/수정/삭제 시 호출. 트랜잭션 안이면 커밋 후 반영.
+ * @author 정의탁
+ */
+public interface BoardSearchIndex {
+
+	// 게시글 추가 또는 교체.
+	void index(Board board, String authorEmail);
+
+	void remove(BoardId boardId);
+
+	// 순위 순 검색. 색인을 쓸 수 없는 상태(비활성, 적재 실패)면 empty → 호출 측이 DB 검색으로 대체.
+	Optional<BoardSearchResult> search(String keyword, BoardSearchField field, int offset, int limit);
+}
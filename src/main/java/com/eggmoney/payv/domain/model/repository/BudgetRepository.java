@@ -1,6 +1,7 @@
 package com.eggmoney.payv.domain.model.repository;
 
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +9,7 @@ import com.eggmoney.payv.domain.model.entity.Budget;
 import com.eggmoney.payv.domain.model.vo.BudgetId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
 
 public interface BudgetRepository {
 
@@ -15,6 +17,12 @@ public interface BudgetRepository {
     Optional<Budget> findOne(LedgerId ledgerId, CategoryId categoryId, YearMonth month);
     List<Budget> findListByLedger(LedgerId ledgerId);
     
+    // 여러 달(월)의 예산 목록 조회.
+    List<Budget> findByLedgerAndMonths(LedgerId ledgerId, Collection<YearMonth> months);
+    
+    // 한 카테고리의 기간 [from, to] 월별 예산 목록 조회.(월 오름차순, 예산이 없는 달은 빠짐)
+    List<Budget> findSeries(LedgerId ledgerId, CategoryId categoryId, YearMonth from, YearMonth to);
+    
     // 해당 카테고리로 설정한 예산 존재 여부 확인.
     boolean existsFor(LedgerId ledgerId, CategoryId categoryId, YearMonth month);
     
@@ -22,6 +30,10 @@ public interface BudgetRepository {
     boolean existsForAnyChild(LedgerId ledgerId, CategoryId rootId, YearMonth month);
 
     void save(Budget budget);
+    
+    // 소진액 증감을 SQL 에서 현재 값 기준으로 원자적 반영.(save 는 기존 예산의 소진액을 쓰지 않음)
+    // - 소진액이 음수가 되면 반영하지 않고 false.
+    boolean applySpentDelta(BudgetId id, Money delta);
 
     // (읽기용) 루트/자식 집계에서 사용할 수 있는 API.
     List<Budget> findByCategoriesAndMonth(LedgerId ledgerId, List<CategoryId> categoryIds, YearMonth month);
@@ -1,6 +1,8 @@
 package com.eggmoney.payv.domain.model.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.eggmoney.payv.domain.model.entity.Category;
@@ -15,6 +17,9 @@ public interface CategoryRepository {
 
 	Optional<Category> findById(CategoryId id);
 	
+	// 다건 조회.(id → 카테고리, 존재하는 카테고리만 담김. IN 목록 한 번(500건 단위)으로 조회)
+	Map<CategoryId, Category> findAllByIds(Collection<CategoryId> ids);
+	
 	// 한 가계부에 동일한 이름을 갖는 카테고리가 존재하는지 확인.
 	Optional<Category> findByLedgerAndName(LedgerId ledgerId, String name);
 
@@ -2,14 +2,19 @@ package com.eggmoney.payv.domain.model.repository;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
 import com.eggmoney.payv.domain.model.vo.AccountId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.TransactionId;
+import com.eggmoney.payv.domain.model.vo.TransactionTotal;
 import com.eggmoney.payv.presentation.dto.PageRequestDto;
 import com.eggmoney.payv.presentation.dto.PageResultDto;
 import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
@@ -23,16 +28,36 @@ public interface TransactionRepository {
 
 	Optional<Transaction> findById(TransactionId id);
 
+	// 다건 조회.(id → 거래, 존재하는 거래만 담김. IN 목록 한 번(500건 단위)으로 조회)
+	Map<TransactionId, Transaction> findAllByIds(Collection<TransactionId> ids);
+
 	// UPSERT = 새로 생성된 거래는 insert, 기존이면 update
 	void save(Transaction tx);
 
-	// 게시되지 않은 거래만 삭제 가능(규칙은 서비스에서 검사)
-	void delete(TransactionId id);
+	// 대량 등록: 신규 거래만 대상(존재 확인 없이 insert), JDBC 배치로 한 번에 전송. 트랜잭션 안에서 호출해야 함.
+	int insertAll(List<Transaction> transactions);
+
+	// 게시 상태 일괄 변경: 거래마다 change(메모리상 게시/취소, SQL 없음)를 적용하고 POSTED, POSTED_AT 만 갱신.
+	// 변경 직후 작업 단위의 변경 감지에서 빼므로, 호출 도중/전후의 조회(자동 flush)가 건별 UPDATE 를 먼저 실행하지 않음.
+	// 변경 후 모두 같은 게시 상태여야 함.
+	int changePostedState(List<Transaction> transactions, Consumer<Transaction> change);
+
+	// 게시되지 않은 거래만 삭제 가능(규칙은 서비스에서 검사). ledgerId 는 삭제할 거래의 가계부.
+	void delete(LedgerId ledgerId, TransactionId id);
 
 	// 조회 유틸: 가계부/기간 기준
 	List<Transaction> findByLedgerAndDateRange(LedgerId ledgerId, LocalDate from, LocalDate to, int limit, int offset);
 	
+	// 조회 유틸: 가계부/기간 기준 일자별 상위 perDay 건(일자 오름차순, 일자 안에서는 최신순).
+	List<Transaction> findTopByDay(LedgerId ledgerId, LocalDate from, LocalDate to, int perDay);
+	
+	// 조회 유틸: 가계부/기간 기준 스트리밍(날짜 오름차순). 행을 목록에 모으지 않고 한 건씩 전달.
+	// - from/to 가 null 이면 해당 방향 제한 없음. 트랜잭션 안에서 호출해야 함.
+	void forEachByLedgerAndDateRange(LedgerId ledgerId, LocalDate from, LocalDate to, Consumer<Transaction> action);
+	
 	// 조회 유틸: 필터링 검색 + 페이징
+	// - 번호 페이지 모드: 총건수 + offset 페이지.
+	// - 커서 모드(page.isCursorMode()): (TRANSACTION_DATE, TRANSACTION_ID) keyset 탐색, 총건수 미계산.
 	PageResultDto<Transaction> search(LedgerId ledgerId, TransactionSearchCondition cond, PageRequestDto page);
 
 	// 조회 유틸: 월 단위 편의 조회.
@@ -47,4 +72,16 @@ public interface TransactionRepository {
 
 	// 조회 유틸: 카테고리 집합(상위 선택 시, 서비스에서 자식 포함 리스트 전달)별 조회.
 	List<Transaction> findByLedgerAndCategoryIds(LedgerId ledgerId, List<CategoryId> categoryIds, int limit, int offset);
+
+	// ---- 집계 유틸: DB에서 SUM/COUNT 후 그룹 단위로만 반환. 기간 [from, to), postedOnly = true 면 게시 거래만. ----
+
+	// 일 × 유형 (key = 'YYYY-MM-DD')
+	List<TransactionTotal> sumByDay(LedgerId ledgerId, LocalDate from, LocalDate to, boolean postedOnly);
+
+	// 필터링 조건 × 유형 (key = null): search() 와 같은 조건의 전체 합계.
+	List<TransactionTotal> sumByType(LedgerId ledgerId, TransactionSearchCondition cond);
+
+	// 카테고리 집합 × 유형 합계(원).
+	long sumAmount(LedgerId ledgerId, List<CategoryId> categoryIds, TransactionType type,
+			LocalDate from, LocalDate to, boolean postedOnly);
 }
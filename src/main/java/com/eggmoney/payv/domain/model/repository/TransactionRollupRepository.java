@@ -0,0 +1,29 @@
+package com.eggmoney.payv.domain.model.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
+
+/**
+ * 월별 거래 집계(rollup) 레포지토리
+ * - 가계부 × 월 × 카테고리 × 유형 단위로 거래(미게시 포함)의 합계/건수를 보관.
+ * - 거래 생성/수정/삭제와 같은 트랜잭션 안에서 증분(delta) 반영.
+ * @author 정의탁
+ */
+public interface TransactionRollupRepository {
+
+	// 증분 반영: 행이 없으면 생성, 있으면 합계/건수에 delta를 더함. (동시 최초 생성 충돌은 구현체가 재시도)
+	void apply(LedgerId ledgerId, YearMonth month, CategoryId categoryId, TransactionType type,
+			long amountDelta, int countDelta);
+
+	// 기간 조회: from ~ to (포함)
+	List<MonthlyCategoryTotal> findByLedgerAndMonthRange(LedgerId ledgerId, YearMonth from, YearMonth to);
+
+	// 재계산: 가계부의 기간(from ~ to, 포함) 집계를 TRANSACTION 으로부터 다시 구성.
+	// (전체 가계부 최초 적재는 db/oracle/transaction_monthly_rollup.sql)
+	int rebuild(LedgerId ledgerId, YearMonth from, YearMonth to);
+}
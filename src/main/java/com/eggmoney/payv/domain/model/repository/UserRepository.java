@@ -1,5 +1,7 @@
 package com.eggmoney.payv.domain.model.repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import com.eggmoney.payv.domain.model.entity.User;
@@ -11,6 +13,9 @@ import com.eggmoney.payv.domain.model.vo.UserId;
  */
 public interface UserRepository {
 	Optional<User> findById(UserId id);
+	
+	// 다건 조회.(id → 사용자, 존재하는 사용자만 담김. 목록/댓글 작성자 일괄 조회용)
+	Map<UserId, User> findAllByIds(Collection<UserId> ids);
     Optional<User> findByEmail(String email);
     
     // UPSERT = 새 UUID면 insert, 아니면 update
@@ -28,7 +28,7 @@ public final class AccountId implements StringId {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash();
+		return Objects.hash(value);
 	}
 
 	@Override
@@ -0,0 +1,21 @@
+package com.eggmoney.payv.domain.model.vo;
+
+import java.util.Locale;
+
+/**
+ * 게시글 검색 대상 항목: 제목 / 내용 / 작성자(email).
+ * - 화면의 searchType 값(title, content, author)과 대응. 알 수 없는 값은 제목 검색.
+ * @author 정의탁
+ */
+public enum BoardSearchField {
+	TITLE, CONTENT, AUTHOR;
+
+	public static BoardSearchField from(String searchType) {
+		if (searchType == null) return TITLE;
+		switch (searchType.toLowerCase(Locale.ROOT)) {
+			case "content": return CONTENT;
+			case "author":  return AUTHOR;
+			default:        return TITLE;
+		}
+	}
+}
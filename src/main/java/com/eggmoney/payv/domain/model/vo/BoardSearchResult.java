@@ -0,0 +1,24 @@
+package com.eggmoney.payv.domain.model.vo;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * Value Object: 게시글 검색 결과 한 페이지.
+ * - boardIds: 요청한 구간(offset, limit)의 게시글 ID, 순위 순.
+ * - total: 조건에 맞는 전체 건수.(별도 count 조회 없이 함께 계산)
+ * @author 정의탁
+ */
+@Getter
+public final class BoardSearchResult {
+
+	private final List<BoardId> boardIds;
+	private final int total;
+
+	public BoardSearchResult(List<BoardId> boardIds, int total) {
+		this.boardIds = Collections.unmodifiableList(boardIds);
+		this.total = total;
+	}
+}
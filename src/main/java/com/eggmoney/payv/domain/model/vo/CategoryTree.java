@@ -0,0 +1,131 @@
+package com.eggmoney.payv.domain.model.vo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.eggmoney.payv.domain.model.entity.Category;
+
+/**
+ * 가계부 한 개의 카테고리 계층 스냅샷(불변).
+ * - 한 번 만들어 두고 id → 카테고리, 루트 → 자식 목록, 자식 → 루트, id → 이름 조회를 O(1)로 제공.
+ * - 목록 순서는 원본 목록(SORT_ORDER, NAME 오름차순)을 그대로 유지.
+ * - 카테고리가 바뀌면 스냅샷을 고치지 않고 새로 만든다.(CategoryAppService 쓰기 시 캐시 무효화)
+ * @author 정의탁
+ */
+public final class CategoryTree {
+
+	private static final CategoryTree EMPTY = new CategoryTree(Collections.emptyList());
+
+	private final List<Category> all;
+	private final List<Category> roots;
+	private final Map<CategoryId, Category> byId;
+	private final Map<CategoryId, List<Category>> childrenByRoot;
+	private final Map<String, String> nameById;		// id 문자열 → 이름 (화면 매핑용)
+
+	private CategoryTree(List<Category> categories) {
+		Map<CategoryId, Category> byId = new HashMap<>(categories.size() * 2);
+		Map<String, String> nameById = new LinkedHashMap<>(categories.size() * 2);
+		for (Category c : categories) {
+			byId.put(c.getId(), c);
+			nameById.put(c.getId().value(), c.getName());
+		}
+
+		List<Category> roots = new ArrayList<>();
+		Map<CategoryId, List<Category>> children = new HashMap<>();
+		for (Category c : categories) {
+			if (c.isRoot()) {
+				roots.add(c);
+			} else if (byId.containsKey(c.getParentId())) {		// 부모가 삭제된 고아는 제외
+				children.computeIfAbsent(c.getParentId(), k -> new ArrayList<>()).add(c);
+			}
+		}
+
+		Map<CategoryId, List<Category>> childrenByRoot = new HashMap<>(children.size() * 2);
+		for (Map.Entry<CategoryId, List<Category>> e : children.entrySet()) {
+			childrenByRoot.put(e.getKey(), frozen(e.getValue()));
+		}
+
+		this.all = frozen(categories);
+		this.roots = frozen(roots);
+		this.byId = Collections.unmodifiableMap(byId);
+		this.childrenByRoot = Collections.unmodifiableMap(childrenByRoot);
+		this.nameById = Collections.unmodifiableMap(nameById);
+	}
+
+	public static CategoryTree of(List<Category> categories) {
+		if (categories == null || categories.isEmpty()) return EMPTY;
+		List<Category> active = new ArrayList<>(categories.size());
+		for (Category c : categories) {
+			if (!c.isDeleted()) active.add(c);
+		}
+		return new CategoryTree(active);
+	}
+
+	// 전체 목록(루트/자식 혼합, 원본 순서).
+	public List<Category> all() {
+		return all;
+	}
+
+	// 루트 카테고리 목록.
+	public List<Category> roots() {
+		return roots;
+	}
+
+	// 루트의 직계 자식 목록. 자식이 없거나 루트가 아니면 빈 목록.
+	public List<Category> children(CategoryId rootId) {
+		List<Category> list = childrenByRoot.get(rootId);
+		return list == null ? Collections.emptyList() : list;
+	}
+
+	// id 로 카테고리 조회. 없으면 null.
+	public Category find(CategoryId id) {
+		return id == null ? null : byId.get(id);
+	}
+
+	public boolean contains(CategoryId id) {
+		return find(id) != null;
+	}
+
+	// 자식이면 부모(루트) id, 루트(또는 부모가 없는 고아)면 자기 자신, 모르는 id 면 null.
+	public CategoryId rootOf(CategoryId id) {
+		Category c = find(id);
+		if (c == null) return null;
+		return c.isRoot() || !byId.containsKey(c.getParentId()) ? c.getId() : c.getParentId();
+	}
+
+	// 루트면 루트 + 직계 자식, 자식이면 본인만. 모르는 id 면 빈 목록.
+	public List<CategoryId> selfAndChildren(CategoryId id) {
+		Category c = find(id);
+		if (c == null) return Collections.emptyList();
+		if (!c.isRoot()) return Collections.singletonList(c.getId());
+
+		List<Category> children = children(c.getId());
+		List<CategoryId> ids = new ArrayList<>(children.size() + 1);
+		ids.add(c.getId());
+		for (Category child : children) ids.add(child.getId());
+		return ids;
+	}
+
+	// id → 이름. 모르는 id 면 null.
+	public String nameOf(CategoryId id) {
+		return id == null ? null : nameById.get(id.value());
+	}
+
+	// id 문자열 → 이름 (원본 순서).
+	public Map<String, String> nameMap() {
+		return nameById;
+	}
+
+	public int size() {
+		return all.size();
+	}
+
+	private static List<Category> frozen(List<Category> list) {
+		return Collections.unmodifiableList(Arrays.asList(list.toArray(new Category[0])));
+	}
+}
@@ -3,26 +3,45 @@ package com.eggmoney.payv.domain.model.vo;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
 /**
  * Value Object: KRW(원) 전용 금액.
+ * - 원화는 소수가 없으므로(scale=0) long 으로 보관. 연산마다 BigDecimal 을 만들지 않음.
+ * - 덧셈/뺄셈은 long 범위를 넘으면 ArithmeticException.(조용히 넘치지 않음)
+ * - 자주 쓰는 작은 금액(-128 ~ 1024원)은 미리 만들어 둔 인스턴스를 재사용.
  * @author 정의탁
  */
 public final class Money implements Comparable<Money>, Serializable {
 
+	private static final long serialVersionUID = 1L;
+
 	private static final int SCALE = 0;
 	private static final RoundingMode ROUND = RoundingMode.UNNECESSARY; // 소수 있으면 예외
 
-	private final BigDecimal amount;
+	private static final long CACHE_LOW = -128;
+	private static final long CACHE_HIGH = 1024;
+	private static final Money[] CACHE = new Money[(int) (CACHE_HIGH - CACHE_LOW + 1)];
+	static {
+		for (int i = 0; i < CACHE.length; i++) {
+			CACHE[i] = new Money(CACHE_LOW + i);
+		}
+	}
+	private static final Money ZERO = CACHE[(int) -CACHE_LOW];
+
+	private final long amount;
 
-	private Money(BigDecimal normalized) {
-		this.amount = normalized;
+	private Money(long amount) {
+		this.amount = amount;
+	}
+
+	private static Money valueOf(long v) {
+		if (v >= CACHE_LOW && v <= CACHE_HIGH) return CACHE[(int) (v - CACHE_LOW)];
+		return new Money(v);
 	}
 
 	// Money 생성 팩토리( 0원 )
 	public static Money zero() {
-		return new Money(BigDecimal.ZERO.setScale(SCALE));
+		return ZERO;
 	}
 
 	/**
@@ -32,7 +51,7 @@ public final class Money implements Comparable<Money>, Serializable {
 	 * - 가장 안전하고 읽기 쉬움. 소수 불가가 컴파일 타임에 드러남(정수형).
 	 */
 	public static Money won(long v) {
-		return new Money(BigDecimal.valueOf(v).setScale(SCALE));
+		return valueOf(v);
 	}
 
 	/**
@@ -46,9 +65,9 @@ public final class Money implements Comparable<Money>, Serializable {
 		if (v == null)
 			throw new IllegalArgumentException("amount is required");
 		try {
-			return new Money(v.setScale(SCALE, ROUND));
+			return valueOf(v.setScale(SCALE, ROUND).longValueExact());
 		} catch (ArithmeticException ex) {
-			throw new IllegalArgumentException("KRW does not allow decimals: " + v, ex);
+			throw new IllegalArgumentException("KRW does not allow decimals or out-of-range amounts: " + v, ex);
 		}
 	}
 	
@@ -62,42 +81,48 @@ public final class Money implements Comparable<Money>, Serializable {
 		return of(new BigDecimal(s));
 	}	
 	
-	public boolean isZero()     { return amount.signum() == 0; }
-    public boolean isPositive() { return amount.signum() > 0; }
-    public boolean isNegative() { return amount.signum() < 0; }
+	public boolean isZero()     { return amount == 0; }
+    public boolean isPositive() { return amount > 0; }
+    public boolean isNegative() { return amount < 0; }
 	
     // 금액 추가.
 	public Money plus(Money other) {
-		return new Money(this.amount.add(other.amount).setScale(SCALE));
+		if (other.amount == 0) return this;
+		return valueOf(Math.addExact(this.amount, other.amount));
 	}
 	
 	// 금액 감소.
 	public Money minus(Money other) {
-		return new Money(this.amount.subtract(other.amount).setScale(SCALE));
+		if (other.amount == 0) return this;
+		return valueOf(Math.subtractExact(this.amount, other.amount));
 	}
+	
+	// 비교 편의.(compareTo 와 같은 기준)
+	public boolean isGreaterThan(Money other) { return this.amount > other.amount; }
+	public boolean isLessThan(Money other)    { return this.amount < other.amount; }
 
 	// 인프라 표시 용도
-	public BigDecimal toBigDecimal() { return amount; }
-	public long toLong() { return amount.longValueExact(); }
+	public BigDecimal toBigDecimal() { return BigDecimal.valueOf(amount); }
+	public long toLong() { return amount; }
 
 	
 	@Override
 	public int compareTo(Money o) {
-		return this.amount.compareTo(o.amount);
+		return Long.compare(this.amount, o.amount);
 	}
 
 	@Override
 	public boolean equals(Object o) {
-		return (this == o) || (o instanceof Money && amount.equals(((Money) o).amount));
+		return (this == o) || (o instanceof Money && amount == ((Money) o).amount);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(amount);
+		return Long.hashCode(amount);
 	}
 
 	@Override
 	public String toString() {
-		return amount.toPlainString();
+		return Long.toString(amount);
 	}
 }
@@ -0,0 +1,41 @@
+package com.eggmoney.payv.domain.model.vo;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+
+import lombok.Getter;
+
+/**
+ * Value Object: 월 × 카테고리 × 유형 단위의 거래 합계(미게시 포함)(rollup 한 행).
+ * - amount: 합계(원), count: 건수.
+ * @author 정의탁
+ */
+@Getter
+public final class MonthlyCategoryTotal {
+
+	private final YearMonth month;
+	private final CategoryId categoryId;
+	private final TransactionType type;
+	private final long amount;
+	private final long count;
+
+	public MonthlyCategoryTotal(YearMonth month, CategoryId categoryId, TransactionType type, long amount, long count) {
+		this.month = Objects.requireNonNull(month, "month");
+		this.categoryId = Objects.requireNonNull(categoryId, "categoryId");
+		this.type = Objects.requireNonNull(type, "type");
+		this.amount = amount;
+		this.count = count;
+	}
+
+	public boolean isIncome() {
+		return type == TransactionType.INCOME;
+	}
+
+	@Override
+	public String toString() {
+		return "MonthlyCategoryTotal [month=" + month + ", categoryId=" + categoryId + ", type=" + type
+				+ ", amount=" + amount + ", count=" + count + "]";
+	}
+}
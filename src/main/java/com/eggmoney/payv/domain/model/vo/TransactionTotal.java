@@ -0,0 +1,50 @@
+package com.eggmoney.payv.domain.model.vo;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+
+import lombok.Getter;
+
+/**
+ * Value Object: 거래 집계 결과 한 행(그룹 키 × 유형 단위의 합계/건수).
+ * - key: 집계 기준에 따라 카테고리 ID / 루트 카테고리 ID / 'YYYY-MM-DD' / 'YYYY-MM'. (유형별 집계는 null)
+ * - amount: 합계(원), count: 건수.
+ * @author 정의탁
+ */
+@Getter
+public final class TransactionTotal {
+
+	private final String key;
+	private final TransactionType type;
+	private final long amount;
+	private final long count;
+
+	public TransactionTotal(String key, TransactionType type, long amount, long count) {
+		this.key = key;
+		this.type = Objects.requireNonNull(type, "type");
+		this.amount = amount;
+		this.count = count;
+	}
+
+	public boolean isIncome() {
+		return type == TransactionType.INCOME;
+	}
+
+	// 일별 집계의 키 해석.
+	public LocalDate keyAsDate() {
+		return LocalDate.parse(key);
+	}
+
+	// 월별 집계의 키 해석.
+	public YearMonth keyAsMonth() {
+		return YearMonth.parse(key);
+	}
+
+	@Override
+	public String toString() {
+		return "TransactionTotal [key=" + key + ", type=" + type + ", amount=" + amount + ", count=" + count + "]";
+	}
+}
@@ -0,0 +1,20 @@
+package com.eggmoney.payv.domain.shared.bulkhead;
+
+import java.util.Locale;
+
+/**
+ * 작업 종류(벌크헤드). 종류마다 커넥션 풀/동시 실행 한도/문장 타임아웃이 따로 있음.
+ * - OLTP      : 화면의 일반 조회/등록 (기본값)
+ * - REPORTING : 여러 달을 훑는 보고서/시계열 조회
+ * - BATCH     : 가져오기/내보내기/집계 재계산처럼 커넥션을 오래 쥐는 작업
+ * @author 정의탁
+ */
+public enum Workload {
+
+	OLTP, REPORTING, BATCH;
+
+	// 라우팅 키 / 설정 이름 (bulkhead.oltp.*)
+	public String key() {
+		return name().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,15 @@
+package com.eggmoney.payv.domain.shared.error;
+
+/**
+ * 작업 종류별 동시 실행 한도(실행 + 대기)를 넘음. 커넥션을 기다리지 않고 바로 거절.
+ * - 잠시 후 다시 시도하면 되는 일시적 과부하.
+ * @author 정의탁
+ */
+public class BulkheadFullException extends DomainException {
+
+	public static final String CODE = "BULKHEAD_FULL";
+
+	public BulkheadFullException(String message) {
+		super(CODE, message, null);
+	}
+}
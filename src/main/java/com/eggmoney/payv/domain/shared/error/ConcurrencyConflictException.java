@@ -0,0 +1,15 @@
+package com.eggmoney.payv.domain.shared.error;
+
+/**
+ * 낙관적 잠금 충돌: 읽은 뒤 다른 요청이 같은 행을 먼저 변경함.
+ * - @RetryOnConflict 가 붙은 서비스 메서드는 새 트랜잭션으로 다시 실행.
+ * @author 정의탁
+ */
+public class ConcurrencyConflictException extends DomainException {
+
+	public static final String CODE = "CONCURRENCY_CONFLICT";
+
+	public ConcurrencyConflictException(String message) {
+		super(CODE, message, null);
+	}
+}
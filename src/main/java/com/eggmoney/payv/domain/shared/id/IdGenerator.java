@@ -0,0 +1,17 @@
+package com.eggmoney.payv.domain.shared.id;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 문자열 식별자 생성기.(EntityIdentifier.generateUuid() 가 사용)
+ * - 기본은 시간 순서 UUID(TimeOrderedIdGenerator). 설정(id.generator)으로 교체 가능.
+ * @author 정의탁
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+	// 이전 방식: 무작위 UUID(v4).
+	IdGenerator RANDOM_UUID = () -> UUID.randomUUID().toString();
+
+	String nextId();
+}
@@ -0,0 +1,52 @@
+package com.eggmoney.payv.domain.shared.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID(v7) 생성기
+ * - 상위 48비트 = 밀리초 시각, 다음 12비트 = 같은 밀리초 안의 순번, 하위 62비트 = 난수.
+ * - 문자열(36자, 소문자 hex)도 생성 순서대로 정렬되므로, 기존 VARCHAR 컬럼 그대로 인덱스 오른쪽 끝에 추가되고
+ *   (TRANSACTION_DATE, TRANSACTION_ID) 정렬의 동률도 생성 순서로 풀림.
+ * - 단조 증가: 같은 밀리초에 4096개를 넘기거나 시계가 뒤로 가면 직전 값 + 1 을 사용.(시각 부분이 잠시 앞서 나감)
+ * - 난수는 ThreadLocalRandom (SecureRandom 처럼 엔트로피 대기/스레드 경합 없음). 식별자는 비밀값이 아님.
+ * @author 정의탁
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+	private static final int SEQ_BITS = 12;
+
+	// (밀리초 << 12) | 순번. CAS 로만 갱신.
+	private final AtomicLong last = new AtomicLong();
+
+	@Override
+	public String nextId() {
+		return nextUuid().toString();
+	}
+
+	public UUID nextUuid() {
+		long stamp = nextStamp(System.currentTimeMillis());
+		long millis = stamp >>> SEQ_BITS;
+		long seq = stamp & ((1L << SEQ_BITS) - 1);
+
+		long msb = (millis << 16) | (0x7L << 12) | seq;		// version 7
+		long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;	// variant 10
+		return new UUID(msb, lsb);
+	}
+
+	private long nextStamp(long now) {
+		long candidate = now << SEQ_BITS;
+		while (true) {
+			long prev = last.get();
+			long next = candidate > prev ? candidate : prev + 1;
+			if (last.compareAndSet(prev, next)) return next;
+		}
+	}
+
+	// UUID 문자열에서 생성 시각(밀리초) 추출. v7 이 아니면 -1.(마이그레이션/진단용)
+	public static long timestampOf(String id) {
+		UUID uuid = UUID.fromString(id);
+		return uuid.version() == 7 ? uuid.getMostSignificantBits() >>> 16 : -1;
+	}
+}
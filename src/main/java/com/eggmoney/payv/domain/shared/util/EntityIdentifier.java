@@ -1,14 +1,32 @@
 package com.eggmoney.payv.domain.shared.util;
 
-import java.util.UUID;
+import com.eggmoney.payv.domain.shared.id.IdGenerator;
+import com.eggmoney.payv.domain.shared.id.TimeOrderedIdGenerator;
 
-/** 엔티티 식별자 ID 생성 및 검증 유틸: 기본 UUID */
+/** 
+ * 엔티티 식별자 ID 생성 및 검증 유틸: 기본 시간 순서 UUID(v7)
+ * - 생성기는 IdGeneratorConfigurer 가 설정(id.generator)에 따라 교체하고, 컨텍스트 종료 시 기본값으로 되돌림.
+ */
 public class EntityIdentifier {
 
+	private static final IdGenerator DEFAULT_GENERATOR = new TimeOrderedIdGenerator();
+	private static volatile IdGenerator generator = DEFAULT_GENERATOR;
+
 	public static String generateUuid() {
-    	return UUID.randomUUID().toString();
+    	return generator.nextId();
     }
 	
+	// 생성기 교체.(애플리케이션 시작 시 한 번)
+	public static void use(IdGenerator idGenerator) {
+		if (idGenerator == null) throw new IllegalArgumentException("idGenerator is required");
+		generator = idGenerator;
+	}
+
+	// 기본 생성기로 되돌림.(컨텍스트 종료, 테스트)
+	public static void reset() {
+		generator = DEFAULT_GENERATOR;
+	}
+	
 	public static String nonBlank(String v, String name) {
         if (v == null || v.trim().isEmpty()) 
         	throw new IllegalArgumentException(name + " is blank");
@@ -0,0 +1,86 @@
+package com.eggmoney.payv.infrastructure.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eggmoney.payv.domain.model.repository.BoardRepository;
+import com.eggmoney.payv.domain.model.vo.BoardId;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 지연 기록(write-behind)
+ * - 조회는 게시글별 LongAdder 에만 더하고 DB 는 건드리지 않음.
+ * - board.viewCount.flushIntervalMs(기본 5초)마다, 그리고 종료 시 모인 증가분을
+ *   UPDATE ... SET view_count = view_count + ? 배치 한 번으로 반영.
+ * - 화면에 보이는 조회수 = DB 값 + pending().(반영 중 잠깐은 덜 보일 수 있음)
+ * - 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도. 프로세스가 비정상 종료되면 미반영분은 유실.
+ * @author 정의탁
+ */
+@Slf4j
+@Component
+public class BoardViewCounter {
+
+	private final BoardRepository boardRepository;
+	private final TransactionTemplate txTemplate;
+
+	// boardId -> 아직 DB 에 반영하지 않은 조회수
+	private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+	public BoardViewCounter(BoardRepository boardRepository, PlatformTransactionManager transactionManager) {
+		this.boardRepository = boardRepository;
+		this.txTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	public void record(BoardId boardId) {
+		String key = boardId.value();
+		while (true) {
+			LongAdder views = pending.computeIfAbsent(key, k -> new LongAdder());
+			views.increment();
+			// flush 가 (0 이던) 카운터를 막 제거했으면 새 카운터에 다시 기록.(제거된 카운터 값은 반영되지 않음)
+			if (pending.get(key) == views) return;
+		}
+	}
+
+	public long pending(BoardId boardId) {
+		LongAdder views = pending.get(boardId.value());
+		return views == null ? 0 : views.sum();
+	}
+
+	@Scheduled(fixedDelayString = "${board.viewCount.flushIntervalMs:5000}")
+	public void flush() {
+		Map<BoardId, Long> deltas = new HashMap<>();
+		pending.forEach((key, views) -> {
+			long delta = views.sum();
+			if (delta > 0) {
+				views.add(-delta);
+				deltas.put(BoardId.of(key), delta);
+			} else {
+				// 한 주기 동안 조회가 없던 게시글은 제거
+				pending.computeIfPresent(key, (k, cur) -> cur == views && cur.sum() == 0 ? null : cur);
+			}
+		});
+		if (deltas.isEmpty()) return;
+
+		try {
+			txTemplate.executeWithoutResult(status -> boardRepository.addViewCounts(deltas));
+		} catch (RuntimeException e) {
+			deltas.forEach((id, delta) -> pending.computeIfAbsent(id.value(), k -> new LongAdder()).add(delta));
+			log.warn("[board-views] flush failed, {} boards kept for retry: {}", deltas.size(), e.toString());
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+}
@@ -0,0 +1,89 @@
+package com.eggmoney.payv.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
+import com.eggmoney.payv.infrastructure.datasource.ReadWriteRoutingDataSource;
+
+/**
+ * 가계부별 카테고리 트리 캐시
+ * - 키: 가계부 ID. 값: 불변 CategoryTree 스냅샷.
+ * - 최근 사용 순(LRU)으로 최대 maxLedgers 개까지만 보관, 넘치면 가장 오래 안 쓴 가계부부터 제거.
+ * - 카테고리 쓰기 시 가계부 단위로 무효화. (쓰기 시점 + 트랜잭션 종료 직후 두 번 비움)
+ * - 무효화마다 세대 번호를 올려서, 무효화 이전에 읽기 시작한 옛 스냅샷이 뒤늦게 들어오는 경우를 막음.
+ *   (쓰기 트랜잭션 안에서 채워진 커밋 전 스냅샷도 종료 직후 무효화에서 함께 비워짐)
+ * - 복제본에서 읽은 트랜잭션(ReadWriteRoutingDataSource.isCurrentTransactionOnReplica())의 스냅샷은 보관하지 않음.
+ * - category.treeCache.enabled=false 로 끌 수 있음.
+ * @author 정의탁
+ */
+@Component
+public class CategoryTreeCache {
+
+	private final boolean enabled;
+
+	// 접근 순서 LinkedHashMap(LRU). 읽기도 순서를 바꾸므로 모든 접근은 동기화.
+	private final Map<String, CategoryTree> trees;
+	private long generation;
+
+	public CategoryTreeCache(@Value("${category.treeCache.enabled:true}") boolean enabled,
+							 @Value("${category.treeCache.maxLedgers:256}") int maxLedgers) {
+		this.enabled = enabled;
+		this.trees = new LinkedHashMap<String, CategoryTree>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CategoryTree> eldest) {
+				return size() > maxLedgers;
+			}
+		};
+	}
+
+	// 캐시에 있으면 그대로, 없으면 loader 로 만들어 보관 후 반환.
+	public CategoryTree get(String ledgerId, Supplier<CategoryTree> loader) {
+		if (!enabled) return loader.get();
+
+		long seen;
+		synchronized (this) {
+			CategoryTree cached = trees.get(ledgerId);
+			if (cached != null) return cached;
+			seen = generation;
+		}
+
+		// 조회는 잠금 밖에서. (같은 가계부를 동시에 두 번 읽을 수는 있지만 결과는 같음)
+		CategoryTree loaded = loader.get();
+
+		// 복제본에서 읽은 스냅샷은 지연된 값일 수 있으므로 반환만.
+		if (ReadWriteRoutingDataSource.isCurrentTransactionOnReplica()) return loaded;
+		synchronized (this) {
+			if (generation == seen) trees.put(ledgerId, loaded);
+		}
+		return loaded;
+	}
+
+	// 가계부 단위 무효화. 트랜잭션 안이면 종료(커밋/롤백) 후 한 번 더 비움.
+	public void invalidate(String ledgerId) {
+		if (!enabled || ledgerId == null) return;
+		evict(ledgerId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict(ledgerId);
+				}
+			});
+		}
+	}
+
+	private synchronized void evict(String ledgerId) {
+		trees.remove(ledgerId);
+		generation++;
+	}
+}
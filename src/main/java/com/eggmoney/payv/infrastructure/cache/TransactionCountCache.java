@@ -0,0 +1,95 @@
+package com.eggmoney.payv.infrastructure.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eggmoney.payv.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
+
+/**
+ * 거래 내역 검색 총건수 캐시
+ * - 키: 가계부 ID + 검색 조건. 같은 조건으로 페이지를 넘길 때 COUNT 를 생략.
+ * - 해당 가계부에 쓰기가 발생하면 가계부 단위로 전부 무효화. 
+ *   (쓰기 시점 + 트랜잭션 종료 직후 두 번 비워서, 커밋 전 옛 데이터로 다시 채워지는 경우를 막음)
+ * - 무효화마다 가계부의 세대(generation)가 바뀜. 조회 전에 받은 세대가 put 시점과 다르면 저장하지 않음.
+ *   (무효화 전에 COUNT 를 읽은 요청이 무효화 뒤에 옛 건수를 다시 채우는 경우를 막음)
+ * - 복제본에서 읽은 트랜잭션(ReadWriteRoutingDataSource.isCurrentTransactionOnReplica())의 건수는 저장하지 않음.
+ *   (지연된 건수가 다음 쓰기 전까지 남지 않도록)
+ * - 프로세스 내 캐시: 단일 인스턴스 전제. 여러 인스턴스로 띄우면 다른 인스턴스의 쓰기는 무효화되지 않으므로 끌 것.
+ * - transaction.countCache.enabled=false 로 끌 수 있음.
+ * @author 정의탁
+ */
+@Component
+public class TransactionCountCache {
+
+	private final boolean enabled;
+	private final int maxEntriesPerLedger;
+
+	// ledgerId -> 현재 세대의 (조건 키 -> 총건수)
+	private final Map<String, LedgerCounts> counts = new ConcurrentHashMap<>();
+	private final AtomicLong generations = new AtomicLong();
+
+	public TransactionCountCache(@Value("${transaction.countCache.enabled:true}") boolean enabled,
+								 @Value("${transaction.countCache.maxEntriesPerLedger:64}") int maxEntriesPerLedger) {
+		this.enabled = enabled;
+		this.maxEntriesPerLedger = maxEntriesPerLedger;
+	}
+
+	public Long get(String ledgerId, TransactionSearchCondition cond) {
+		if (!enabled) return null;
+		LedgerCounts current = counts.get(ledgerId);
+		return current == null ? null : current.byCond.get(keyOf(cond));
+	}
+
+	// COUNT 조회 전에 받아 두었다가 put 에 넘길 세대.
+	public long generation(String ledgerId) {
+		if (!enabled) return 0;
+		return counts.computeIfAbsent(ledgerId, k -> new LedgerCounts(generations.incrementAndGet())).generation;
+	}
+
+	// 받은 세대가 그대로일 때만 저장. (그 사이 무효화됐거나 복제본에서 읽었으면 버림)
+	public void put(String ledgerId, long generation, TransactionSearchCondition cond, long total) {
+		if (!enabled || ReadWriteRoutingDataSource.isCurrentTransactionOnReplica()) return;
+		LedgerCounts current = counts.get(ledgerId);
+		if (current == null || current.generation != generation) return;
+		// 조건 조합이 계속 늘어나는 경우를 대비한 단순 상한: 넘치면 해당 가계부만 비움.
+		if (current.byCond.size() >= maxEntriesPerLedger) current.byCond.clear();
+		// 확인 직후 무효화되어도 이 객체는 이미 맵에서 빠졌으므로 옛 건수가 조회되지 않음.
+		current.byCond.put(keyOf(cond), total);
+	}
+
+	// 가계부 단위 무효화. 트랜잭션 안이면 종료(커밋/롤백) 후 한 번 더 비움.
+	public void invalidate(String ledgerId) {
+		if (!enabled || ledgerId == null) return;
+		counts.remove(ledgerId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					counts.remove(ledgerId);
+				}
+			});
+		}
+	}
+
+	private static String keyOf(TransactionSearchCondition cond) {
+		return cond.getStart() + "|" + cond.getEnd() + "|" + cond.getAccountId() + "|" + cond.getResolvedCategoryIds();
+	}
+
+	// 한 세대의 건수 묶음. 무효화 시 맵에서 통째로 빠지고, 다음 조회가 새 세대로 다시 만듦.
+	private static final class LedgerCounts {
+		final long generation;
+		final Map<String, Long> byCond = new ConcurrentHashMap<>();
+
+		LedgerCounts(long generation) {
+			this.generation = generation;
+		}
+	}
+}
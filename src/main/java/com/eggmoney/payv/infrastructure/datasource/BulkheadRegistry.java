@@ -0,0 +1,67 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.domain.shared.error.BulkheadFullException;
+
+/**
+ * 작업 종류별 벌크헤드 모음 + 현재 스레드의 작업 종류.
+ * - enter/exit 는 @Bulkhead aspect 가 서비스 호출 바깥에서 짝으로 호출. 안쪽 중첩 호출은 바깥 종류를 그대로 사용.
+ * - 작업 종류가 지정되지 않은 스레드(서비스 밖, 스케줄러 등)는 OLTP.
+ * - ReadWriteRoutingDataSource(커넥션 풀 선택), BulkheadStatementTimeoutInterceptor(문장 타임아웃)가 current() 를 읽음.
+ * @author 정의탁
+ */
+@Component
+public class BulkheadRegistry {
+
+	private final Map<Workload, WorkloadBulkhead> bulkheads = new EnumMap<>(Workload.class);
+	private final ThreadLocal<Workload> current = new ThreadLocal<>();
+
+	public BulkheadRegistry(List<WorkloadBulkhead> bulkheads) {
+		for (WorkloadBulkhead b : bulkheads) this.bulkheads.put(b.getWorkload(), b);
+		for (Workload w : Workload.values()) {
+			if (!this.bulkheads.containsKey(w)) throw new IllegalStateException("bulkhead not configured: " + w.key());
+		}
+	}
+
+	public Workload current() {
+		Workload w = current.get();
+		return w != null ? w : Workload.OLTP;
+	}
+
+	// 이미 어떤 작업 종류 안에서 실행 중인지.(중첩 호출은 입장 검사 없이 통과)
+	public boolean isBound() {
+		return current.get() != null;
+	}
+
+	public void enter(Workload workload) {
+		WorkloadBulkhead bulkhead = bulkheads.get(workload);
+		if (!bulkhead.tryEnter()) {
+			throw new BulkheadFullException("요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해 주세요. ("
+					+ workload.key() + " 동시 처리 한도 " + bulkhead.limit() + "건 초과)");
+		}
+		current.set(workload);
+	}
+
+	public void exit() {
+		Workload workload = current.get();
+		if (workload == null) return;
+		current.remove();
+		bulkheads.get(workload).exit();
+	}
+
+	public WorkloadBulkhead get(Workload workload) {
+		return bulkheads.get(workload);
+	}
+
+	public Collection<WorkloadBulkhead> all() {
+		return new ArrayList<>(bulkheads.values());
+	}
+}
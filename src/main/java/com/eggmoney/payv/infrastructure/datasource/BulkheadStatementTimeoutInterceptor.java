@@ -0,0 +1,41 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작업 종류별 SQL 문장 타임아웃 (MyBatis 플러그인)
+ * - 현재 작업 종류(BulkheadRegistry)의 statementTimeoutSeconds 를 Statement.setQueryTimeout 으로 적용.
+ * - 매퍼에 timeout 이 있거나 트랜잭션 남은 시간이 더 짧으면 그쪽(짧은 값)을 유지.
+ * - root-context.xml 의 plugins 에 등록.
+ * @author 정의탁
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+	@Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class })
+})
+public class BulkheadStatementTimeoutInterceptor implements Interceptor {
+
+	private final BulkheadRegistry bulkheadRegistry;
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		Statement statement = (Statement) invocation.proceed();
+		int limit = bulkheadRegistry.get(bulkheadRegistry.current()).getStatementTimeoutSeconds();
+		if (limit > 0) {
+			int timeout = statement.getQueryTimeout();
+			if (timeout == 0 || timeout > limit) statement.setQueryTimeout(limit);
+		}
+		return statement;
+	}
+}
@@ -0,0 +1,111 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 분리 + 작업 종류별 풀 선택 DataSource.
+ * - @Transactional(readOnly = true) 안의 연결은 ReplicaRoutingPolicy 판단에 따라 복제본.
+ * - 나머지는 주 DB 의 작업 종류별 풀(BulkheadRegistry.current(): oltp / reporting / batch).
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 반드시 LazyConnectionDataSourceProxy 뒤에 둠.
+ *   (root-context.xml 의 dataSource → routingDataSource → primary/reporting/batchDataSource, replicaDataSource)
+ * - 복제본 연결 실패 시 이번 연결은 주 DB(작업 종류별 풀)로 받고, 다음 지연 측정 성공 전까지 주 DB 로 우회.
+ * - 쓰기 트랜잭션은 커밋 후 ReplicaRoutingPolicy 에 기록.(자기 쓰기 읽기)
+ * - 복제본에서 읽는 트랜잭션은 표시해 둠. 캐시는 isCurrentTransactionOnReplica() 면 채우지 않음.
+ *   (무효화 직후 첫 조회가 지연된 복제본 값으로 캐시를 다시 채우면 다음 쓰기 전까지 옛 값이 남음)
+ * @author 정의탁
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	// 작업 종류별 풀 키는 Workload.key()
+	public static final String REPLICA = "replica";
+
+	private static final Object WRITE_MARK = new Object();
+	private static final Object REPLICA_MARK = new Object();
+
+	private final ReplicaRoutingPolicy policy;
+	private final BulkheadRegistry bulkheadRegistry;
+
+	public ReadWriteRoutingDataSource(ReplicaRoutingPolicy policy, BulkheadRegistry bulkheadRegistry) {
+		this.policy = policy;
+		this.bulkheadRegistry = bulkheadRegistry;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (policy.useReplica()) {
+				registerReplicaMark();
+				return REPLICA;
+			}
+		} else {
+			registerWriteMark();
+		}
+		return bulkheadRegistry.current().key();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return connect(null, null);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return connect(username, password);
+	}
+
+	private Connection connect(String username, String password) throws SQLException {
+		DataSource target = determineTargetDataSource();
+		try {
+			return username == null ? target.getConnection() : target.getConnection(username, password);
+		} catch (SQLException e) {
+			DataSource primary = getResolvedDataSources().get(bulkheadRegistry.current().key());
+			if (target == primary) throw e;
+			policy.replicaFailed(e);
+			TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_MARK);
+			return username == null ? primary.getConnection() : primary.getConnection(username, password);
+		}
+	}
+
+	// 현재 트랜잭션이 복제본 연결을 사용 중인지.
+	public static boolean isCurrentTransactionOnReplica() {
+		return TransactionSynchronizationManager.hasResource(REPLICA_MARK);
+	}
+
+	// 복제본으로 보낸 읽기 트랜잭션당 한 번: 종료 시 표시 해제.
+	private void registerReplicaMark() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+		if (TransactionSynchronizationManager.hasResource(REPLICA_MARK)) return;
+		TransactionSynchronizationManager.bindResource(REPLICA_MARK, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_MARK);
+			}
+		});
+	}
+
+	// 쓰기 트랜잭션당 한 번: 커밋되면 자기 쓰기 읽기 창 시작.
+	private void registerWriteMark() {
+		if (!policy.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+		if (TransactionSynchronizationManager.hasResource(WRITE_MARK)) return;
+		TransactionSynchronizationManager.bindResource(WRITE_MARK, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				policy.recordWrite();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARK);
+			}
+		});
+	}
+}
@@ -0,0 +1,73 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제 지연 측정(heartbeat).
+ * - 주기마다 복제본의 REPLICA_HEARTBEAT 를 먼저 읽어 지연을 계산한 뒤, 주 DB 에 현재 시각(ms)을 씀.
+ *   복제본 값이 지난 주기에 쓴 값과 같거나 크면 0, 아니면 (지금 - 복제본 값).
+ *   (쓴 직후 바로 읽으면 복제가 아무리 빨라도 직전 값이 보여 지연이 항상 측정 주기 이상으로 잡힘)
+ * - 측정 해상도가 측정 주기이므로 replica.maxLagMs 는 replica.heartbeatIntervalMs 보다 커야 함(ReplicaRoutingPolicy 에서 검사).
+ *   (시각은 애플리케이션 시계 기준이라 DB 서버 간 시계 차이와 무관. 여러 인스턴스는 GREATEST 로 큰 값만 남김)
+ * - 결과는 ReplicaRoutingPolicy 로. 실패하면 복제본 사용 중지.
+ * - 주기: replica.heartbeatIntervalMs. replica.enabled=false 면 아무것도 안 함.
+ * - 테이블: db/oracle/replica_heartbeat.sql (내장 H2 는 db/h2/schema.sql)
+ * @author 정의탁
+ */
+@Component
+public class ReplicaLagMonitor {
+
+	private static final String WRITE_BEAT =
+			"UPDATE REPLICA_HEARTBEAT SET BEAT_MILLIS = GREATEST(BEAT_MILLIS, ?) WHERE ID = 1";
+	private static final String READ_BEAT =
+			"SELECT BEAT_MILLIS FROM REPLICA_HEARTBEAT WHERE ID = 1";
+
+	private final ReplicaRoutingPolicy policy;
+	private final JdbcTemplate primary;
+	private final JdbcTemplate replica;
+
+	private long lastBeat = -1;		// 지난 주기에 주 DB 에 쓴 값(-1: 아직 못 씀). 스케줄러 한 스레드에서만 접근.
+
+	public ReplicaLagMonitor(ReplicaRoutingPolicy policy,
+							 @Qualifier("primaryDataSource") DataSource primaryDataSource,
+							 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+		this.policy = policy;
+		this.primary = new JdbcTemplate(primaryDataSource);
+		this.replica = new JdbcTemplate(replicaDataSource);
+		this.replica.setQueryTimeout(5);
+	}
+
+	@Scheduled(fixedDelayString = "${replica.heartbeatIntervalMs:250}")
+	public void heartbeat() {
+		if (!policy.isEnabled()) return;
+
+		// 1) 지난 주기에 쓴 값이 복제본에 도착했는지 (첫 주기는 비교 대상이 없어 쓰기만)
+		if (lastBeat >= 0) {
+			try {
+				long replicated = replica.queryForObject(READ_BEAT, Long.class);
+				policy.updateLag(lagOf(replicated, lastBeat, System.currentTimeMillis()));
+			} catch (RuntimeException e) {
+				policy.replicaFailed(e);
+			}
+		}
+
+		// 2) 다음 주기에 비교할 값 쓰기
+		long beat = System.currentTimeMillis();
+		try {
+			primary.update(WRITE_BEAT, beat);
+			lastBeat = beat;
+		} catch (RuntimeException e) {
+			// 주 DB 장애는 복제본 판단과 무관(쓰기 경로에서 드러남). 지난 값으로 다음 주기에 다시 비교.
+		}
+	}
+
+	// 복제본 값이 마지막으로 쓴 값까지 따라왔으면 0, 아니면 복제본 값 이후 경과 시간(상한 추정).
+	static long lagOf(long replicated, long lastBeat, long now) {
+		return replicated >= lastBeat ? 0 : now - replicated;
+	}
+}
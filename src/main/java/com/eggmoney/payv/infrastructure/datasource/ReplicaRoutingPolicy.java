@@ -0,0 +1,141 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본(replica) 사용 여부 판단.
+ * - replica.enabled=false(기본)면 모든 연결이 주 DB(primary).
+ * - 복제 지연: ReplicaLagMonitor 가 잰 지연이 replica.maxLagMs 를 넘거나, 복제본 연결/측정이 실패하면 주 DB 로 우회.
+ *   (측정값이 replica.maxLagMs 의 3배 + 측정 주기보다 오래되면 측정 실패로 봄)
+ *   replica.maxLagMs 는 replica.heartbeatIntervalMs 보다 커야 함.(아니면 시작 시 거부)
+ * - 자기 쓰기 읽기(read-your-writes): 쓰기 트랜잭션 커밋 후 replica.readYourWritesMs 동안은
+ *   같은 사용자(로그인 이름, 비로그인이면 스레드)의 읽기를 주 DB 로.
+ *   다른 사용자의 읽기는 지연된 값을 볼 수 있으므로, 공유 캐시는 복제본에서 읽은 값으로 채우지 않음.(ReadWriteRoutingDataSource)
+ * - 경로별 건수는 /admin/metrics 에서 조회.
+ * @author 정의탁
+ */
+@Slf4j
+@Component
+public class ReplicaRoutingPolicy {
+
+	// 자기 쓰기 기록 정리 주기(기록 수 기준)
+	private static final int PURGE_THRESHOLD = 10_000;
+
+	@Getter
+	private final boolean enabled;
+	@Getter
+	private final long maxLagMillis;
+	private final long readYourWritesMillis;
+	private final long staleAfterMillis;
+
+	private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();	// 사용자 키 → 마지막 쓰기 커밋 시각
+
+	private volatile long lagMillis = -1;			// 마지막 측정값(-1: 아직 측정 전 또는 실패)
+	private volatile long lagMeasuredAt;
+
+	private final LongAdder replicaReads = new LongAdder();
+	private final LongAdder lagFallbacks = new LongAdder();
+	private final LongAdder readYourWritesFallbacks = new LongAdder();
+
+	public ReplicaRoutingPolicy(@Value("${replica.enabled:false}") boolean enabled,
+								@Value("${replica.maxLagMs:1000}") long maxLagMillis,
+								@Value("${replica.readYourWritesMs:5000}") long readYourWritesMillis,
+								@Value("${replica.heartbeatIntervalMs:250}") long heartbeatIntervalMillis) {
+		// 지연은 측정 주기 단위로만 보이므로 허용 지연이 주기 이하면 복제본이 선택될 수 없음
+		if (enabled && maxLagMillis <= heartbeatIntervalMillis) {
+			throw new IllegalArgumentException("replica.maxLagMs (" + maxLagMillis
+					+ ") must be greater than replica.heartbeatIntervalMs (" + heartbeatIntervalMillis + ")");
+		}
+		this.enabled = enabled;
+		this.maxLagMillis = maxLagMillis;
+		this.readYourWritesMillis = readYourWritesMillis;
+		this.staleAfterMillis = maxLagMillis * 3 + heartbeatIntervalMillis;
+	}
+
+	// 읽기 전용 트랜잭션의 연결을 복제본에서 받을지.
+	public boolean useReplica() {
+		if (!enabled) return false;
+		if (!replicaFresh()) {
+			lagFallbacks.increment();
+			return false;
+		}
+		Long lastWrite = lastWrites.get(requesterKey());
+		if (lastWrite != null && System.currentTimeMillis() - lastWrite < readYourWritesMillis) {
+			readYourWritesFallbacks.increment();
+			return false;
+		}
+		replicaReads.increment();
+		return true;
+	}
+
+	private boolean replicaFresh() {
+		long lag = lagMillis;
+		return lag >= 0 && lag <= maxLagMillis && System.currentTimeMillis() - lagMeasuredAt <= staleAfterMillis;
+	}
+
+	// 쓰기 트랜잭션 커밋 직후 호출.
+	public void recordWrite() {
+		if (!enabled || readYourWritesMillis <= 0) return;
+		long now = System.currentTimeMillis();
+		lastWrites.put(requesterKey(), now);
+		if (lastWrites.size() > PURGE_THRESHOLD) {
+			for (Iterator<Long> it = lastWrites.values().iterator(); it.hasNext();) {
+				if (now - it.next() >= readYourWritesMillis) it.remove();
+			}
+		}
+	}
+
+	public void updateLag(long lagMillis) {
+		boolean wasFresh = replicaFresh();
+		this.lagMillis = Math.max(0, lagMillis);
+		this.lagMeasuredAt = System.currentTimeMillis();
+		if (wasFresh && lagMillis > maxLagMillis) {
+			log.warn("[replica] lag {}ms exceeds {}ms, routing reads to primary", lagMillis, maxLagMillis);
+		} else if (!wasFresh && lagMillis <= maxLagMillis) {
+			log.info("[replica] lag {}ms, routing read-only transactions to replica", lagMillis);
+		}
+	}
+
+	// 복제본 연결/측정 실패: 다음 측정 성공 전까지 주 DB 로.
+	public void replicaFailed(Exception e) {
+		if (lagMillis >= 0) log.warn("[replica] unavailable, routing reads to primary: {}", e.toString());
+		this.lagMillis = -1;
+	}
+
+	// 마지막 측정 지연(ms). 측정 전/실패면 -1.
+	public long lagMillis() {
+		return lagMillis;
+	}
+
+	public long replicaReads() {
+		return replicaReads.sum();
+	}
+
+	public long lagFallbacks() {
+		return lagFallbacks.sum();
+	}
+
+	public long readYourWritesFallbacks() {
+		return readYourWritesFallbacks.sum();
+	}
+
+	private static String requesterKey() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+			return "user:" + auth.getName();
+		}
+		return "thread:" + Thread.currentThread().getId();
+	}
+}
@@ -0,0 +1,82 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+
+import lombok.Getter;
+
+/**
+ * 작업 종류 하나의 벌크헤드 설정 + 입장 제한.
+ * - 동시에 들어올 수 있는 호출 = poolSize(커넥션 풀 크기) + queueLimit(커넥션 대기 허용 수).
+ *   넘치면 기다리지 않고 거절.(커넥션 대기 시간은 풀의 connectionTimeout 으로 따로 짧게 둠)
+ * - statementTimeoutSeconds: 이 작업 종류의 SQL 한 문장 최대 실행 시간(0 이면 제한 없음).
+ * - root-context.xml 에 작업 종류별 빈으로 정의(bulkhead.<종류>.*), BulkheadRegistry 가 모아서 사용.
+ * @author 정의탁
+ */
+public class WorkloadBulkhead {
+
+	@Getter
+	private final Workload workload;
+	@Getter
+	private final int poolSize;
+	@Getter
+	private final int queueLimit;
+	@Getter
+	private final int statementTimeoutSeconds;
+
+	private final Semaphore permits;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private final LongAdder admitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public WorkloadBulkhead(Workload workload, int poolSize, int queueLimit, int statementTimeoutSeconds) {
+		if (poolSize < 1 || queueLimit < 0 || statementTimeoutSeconds < 0) {
+			throw new IllegalArgumentException("invalid bulkhead settings for " + workload.key());
+		}
+		this.workload = workload;
+		this.poolSize = poolSize;
+		this.queueLimit = queueLimit;
+		this.statementTimeoutSeconds = statementTimeoutSeconds;
+		this.permits = new Semaphore(poolSize + queueLimit);
+	}
+
+	// 입장 시도. true 면 반드시 exit() 로 반납.
+	boolean tryEnter() {
+		if (!permits.tryAcquire()) {
+			rejected.increment();
+			return false;
+		}
+		admitted.increment();
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		return true;
+	}
+
+	void exit() {
+		inFlight.decrementAndGet();
+		permits.release();
+	}
+
+	public int limit() {
+		return poolSize + queueLimit;
+	}
+
+	public int inFlight() {
+		return inFlight.get();
+	}
+
+	public int maxInFlight() {
+		return maxInFlight.get();
+	}
+
+	public long admitted() {
+		return admitted.sum();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+}
@@ -0,0 +1,54 @@
+package com.eggmoney.payv.infrastructure.id;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eggmoney.payv.domain.shared.id.IdGenerator;
+import com.eggmoney.payv.domain.shared.id.TimeOrderedIdGenerator;
+import com.eggmoney.payv.domain.shared.util.EntityIdentifier;
+
+/**
+ * 식별자 생성기 선택
+ * - id.generator=uuidv7(기본): 시간 순서 UUID. 인덱스 오른쪽 끝 추가 + 생성 순서 정렬.
+ * - id.generator=random: 이전 방식(무작위 UUID v4).
+ * - 두 방식 모두 36자 UUID 문자열이므로 기존 데이터와 섞여도 됨.
+ * - 엔티티 팩터리가 쓰는 EntityIdentifier(정적)에 빈 초기화 시 설치하고, 컨텍스트 종료 시 기본값으로 되돌림.
+ *   (생성자 부수 효과로 설정하지 않음. 한 JVM 에서 여러 컨텍스트를 띄우는 테스트에 설정이 남지 않게)
+ * @author 정의탁
+ */
+@Component
+public class IdGeneratorConfigurer implements InitializingBean, DisposableBean {
+
+	private final IdGenerator generator;
+
+	public IdGeneratorConfigurer(@Value("${id.generator:uuidv7}") String type) {
+		this.generator = create(type);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		EntityIdentifier.use(generator);
+	}
+
+	@Override
+	public void destroy() {
+		EntityIdentifier.reset();
+	}
+
+	public IdGenerator getGenerator() {
+		return generator;
+	}
+
+	static IdGenerator create(String type) {
+		switch (type.trim().toLowerCase()) {
+			case "uuidv7":
+				return new TimeOrderedIdGenerator();
+			case "random":
+				return IdGenerator.RANDOM_UUID;
+			default:
+				throw new IllegalArgumentException("unknown id.generator: " + type);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.eggmoney.payv.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * 핸들러(컨트롤러 메서드)별 응답 시간 통계.
+ * - 키: "TransactionController.list" 같은 핸들러 이름. 핸들러를 못 찾은 요청(보안 필터 차단, 404)은 하나로 묶음.
+ * - 시간은 RequestMetricsFilter 가 필터 체인 전체(보안 필터 + MVC + 비동기 응답 완료까지)를 잼.
+ * - 오류: 5xx 응답 또는 처리 중 예외.
+ * - http.metrics.enabled=false 로 끌 수 있음.
+ * @author 정의탁
+ */
+@Component
+public class EndpointMetrics {
+
+	private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+	@Getter
+	private final boolean enabled;
+
+	public EndpointMetrics(@Value("${http.metrics.enabled:true}") boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public void record(String handler, long elapsedNanos, boolean failed) {
+		if (!enabled) return;
+		endpoints.computeIfAbsent(handler, EndpointStats::new).add(elapsedNanos, failed);
+	}
+
+	// 총 처리 시간 큰 순.
+	public List<EndpointStats> endpoints() {
+		List<EndpointStats> list = new ArrayList<>(endpoints.values());
+		list.sort(Comparator.comparingLong(EndpointStats::totalMicros).reversed());
+		return list;
+	}
+
+	public void reset() {
+		endpoints.clear();
+	}
+
+	// 핸들러 하나의 누적 통계.
+	public static final class EndpointStats {
+		@Getter
+		private final String handler;
+		@Getter
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final LongAdder errors = new LongAdder();
+
+		EndpointStats(String handler) {
+			this.handler = handler;
+		}
+
+		void add(long elapsedNanos, boolean failed) {
+			latency.recordNanos(elapsedNanos);
+			if (failed) errors.increment();
+		}
+
+		public long count() {
+			return latency.count();
+		}
+
+		public long errors() {
+			return errors.sum();
+		}
+
+		public long totalMicros() {
+			return latency.sumMicros();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.eggmoney.payv.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 히스토그램(마이크로초, 잠금 없음).
+ * - 로그-선형 버킷: 2의 거듭제곱 구간마다 8칸 → 상대 오차 최대 12.5%, 버킷 512개(고정 메모리 4KB).
+ * - 기록은 버킷 카운터 증가 한 번. 백분위는 해당 버킷의 상한값(보수적으로 큰 쪽)으로 계산.
+ * - 스냅샷은 기록과 동시에 읽으므로 백분위/건수가 한두 건 어긋날 수 있음.(모니터링 용도로 충분)
+ * @author 정의탁
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sumMicros = new LongAdder();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	public void recordNanos(long nanos) {
+		record(Math.max(0, nanos / 1_000));
+	}
+
+	public void record(long micros) {
+		buckets.incrementAndGet(indexOf(micros));
+		count.increment();
+		sumMicros.add(micros);
+		maxMicros.accumulateAndGet(micros, Math::max);
+	}
+
+	public long count() {
+		return count.sum();
+	}
+
+	public long sumMicros() {
+		return sumMicros.sum();
+	}
+
+	public long maxMicros() {
+		return maxMicros.get();
+	}
+
+	// 백분위(0~100) 근사값(마이크로초). 기록이 없으면 0.
+	public long percentile(double p) {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		if (total == 0) return 0;
+
+		long rank = Math.max(1, (long) Math.ceil(p / 100d * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) return Math.min(upperBoundOf(i), maxMicros());
+		}
+		return maxMicros();
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+		count.reset();
+		sumMicros.reset();
+		maxMicros.set(0);
+	}
+
+	// 0~7 은 값 그대로, 그 이상은 (최상위 비트 위치, 그 아래 3비트)로 버킷 결정.
+	static int indexOf(long micros) {
+		if (micros < SUB_BUCKETS) return (int) Math.max(0, micros);
+		int msb = 63 - Long.numberOfLeadingZeros(micros);
+		int sub = (int) (micros >>> (msb - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return Math.min(BUCKETS - 1, (msb - SUB_BITS + 1) * SUB_BUCKETS + sub);
+	}
+
+	static long upperBoundOf(int index) {
+		if (index < SUB_BUCKETS) return index;
+		int shift = index / SUB_BUCKETS - 1;
+		int sub = index % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,172 @@
+package com.eggmoney.payv.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.eggmoney.payv.infrastructure.datasource.BulkheadRegistry;
+import com.eggmoney.payv.infrastructure.datasource.ReplicaRoutingPolicy;
+import com.eggmoney.payv.infrastructure.datasource.WorkloadBulkhead;
+import com.eggmoney.payv.infrastructure.metrics.EndpointMetrics.EndpointStats;
+import com.eggmoney.payv.infrastructure.metrics.RuntimeMetrics.GcSnapshot;
+import com.eggmoney.payv.infrastructure.metrics.RuntimeMetrics.JvmSnapshot;
+import com.eggmoney.payv.infrastructure.metrics.RuntimeMetrics.PoolSnapshot;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.NPlusOneDetector;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics.StatementStats;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지표를 Prometheus 텍스트 형식(0.0.4)으로 출력.
+ * - 응답 시간은 summary(quantile 0.5/0.95/0.99 + _sum/_count, 단위 초). 히스토그램 버킷(512칸)은 그대로 내보내지 않음.
+ * - 값은 누적(프로세스 시작 또는 reset 이후). 증가율은 수집 쪽에서 rate() 로 계산.
+ * @author 정의탁
+ */
+@Component
+@RequiredArgsConstructor
+public class PrometheusTextWriter {
+
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private static final double[] QUANTILES = { 50, 95, 99 };
+
+	private final EndpointMetrics endpointMetrics;
+	private final StatementMetrics statementMetrics;
+	private final NPlusOneDetector nPlusOneDetector;
+	private final RuntimeMetrics runtimeMetrics;
+	private final ReplicaRoutingPolicy replicaRoutingPolicy;
+	private final BulkheadRegistry bulkheadRegistry;
+
+	public String write() {
+		StringBuilder sb = new StringBuilder(8 * 1024);
+		writeEndpoints(sb);
+		writeStatements(sb);
+		writePools(sb);
+		writeBulkheads(sb);
+		writeJvm(sb);
+		return sb.toString();
+	}
+
+	private void writeEndpoints(StringBuilder sb) {
+		header(sb, "payv_http_request_seconds", "summary", "Request latency per handler method");
+		for (EndpointStats e : endpointMetrics.endpoints()) {
+			summary(sb, "payv_http_request_seconds", "handler", e.getHandler(), e.getLatency());
+		}
+		header(sb, "payv_http_request_errors_total", "counter", "Requests per handler that failed with 5xx or an exception");
+		for (EndpointStats e : endpointMetrics.endpoints()) {
+			sample(sb, "payv_http_request_errors_total", "handler", e.getHandler(), e.errors());
+		}
+	}
+
+	private void writeStatements(StringBuilder sb) {
+		header(sb, "payv_sql_statement_seconds", "summary", "Execution time per MyBatis mapped statement");
+		for (StatementStats s : statementMetrics.statements()) {
+			summary(sb, "payv_sql_statement_seconds", "statement", s.getId(), s.getLatency());
+		}
+		header(sb, "payv_sql_statement_errors_total", "counter", "Failed executions per mapped statement");
+		for (StatementStats s : statementMetrics.statements()) {
+			sample(sb, "payv_sql_statement_errors_total", "statement", s.getId(), s.errors());
+		}
+		header(sb, "payv_sql_nplusone_total", "counter", "Requests that repeated one statement above the N+1 threshold");
+		for (NPlusOneDetector.Detection d : nPlusOneDetector.detections()) {
+			sb.append("payv_sql_nplusone_total{request=\"").append(escape(d.getRequest()))
+			  .append("\",statement=\"").append(escape(d.getStatementId())).append("\"} ")
+			  .append(d.count()).append('\n');
+		}
+	}
+
+	private void writePools(StringBuilder sb) {
+		List<PoolSnapshot> pools = runtimeMetrics.pools();
+		gauge(sb, "payv_pool_connections_active", "Connections in use", pools, PoolSnapshot::getActive);
+		gauge(sb, "payv_pool_connections_idle", "Idle connections", pools, PoolSnapshot::getIdle);
+		gauge(sb, "payv_pool_connections_pending", "Threads waiting for a connection", pools, PoolSnapshot::getPending);
+		gauge(sb, "payv_pool_connections_max", "Maximum pool size", pools, PoolSnapshot::getMax);
+
+		header(sb, "payv_readonly_connections_total", "counter", "Read-only transaction connections by target and reason");
+		sample(sb, "payv_readonly_connections_total", "route", "replica", replicaRoutingPolicy.replicaReads());
+		sample(sb, "payv_readonly_connections_total", "route", "primary_lag", replicaRoutingPolicy.lagFallbacks());
+		sample(sb, "payv_readonly_connections_total", "route", "primary_read_your_writes",
+				replicaRoutingPolicy.readYourWritesFallbacks());
+		header(sb, "payv_replica_lag_seconds", "gauge", "Last measured replica lag (-1 if unknown or unavailable)");
+		long lag = replicaRoutingPolicy.lagMillis();
+		sb.append("payv_replica_lag_seconds ").append(lag < 0 ? "-1" : seconds(lag * 1_000)).append('\n');
+	}
+
+	private void writeBulkheads(StringBuilder sb) {
+		header(sb, "payv_bulkhead_inflight", "gauge", "Service calls currently admitted per workload");
+		for (WorkloadBulkhead b : bulkheadRegistry.all()) {
+			sample(sb, "payv_bulkhead_inflight", "workload", b.getWorkload().key(), b.inFlight());
+		}
+		header(sb, "payv_bulkhead_limit", "gauge", "Admission limit per workload (pool size + queue)");
+		for (WorkloadBulkhead b : bulkheadRegistry.all()) {
+			sample(sb, "payv_bulkhead_limit", "workload", b.getWorkload().key(), b.limit());
+		}
+		header(sb, "payv_bulkhead_rejected_total", "counter", "Service calls rejected because the workload was full");
+		for (WorkloadBulkhead b : bulkheadRegistry.all()) {
+			sample(sb, "payv_bulkhead_rejected_total", "workload", b.getWorkload().key(), b.rejected());
+		}
+	}
+
+	private static void gauge(StringBuilder sb, String name, String help, List<PoolSnapshot> pools,
+							  ToIntFunction<PoolSnapshot> value) {
+		header(sb, name, "gauge", help);
+		for (PoolSnapshot p : pools) sample(sb, name, "pool", p.getName(), value.applyAsInt(p));
+	}
+
+	private void writeJvm(StringBuilder sb) {
+		JvmSnapshot jvm = runtimeMetrics.jvm();
+		header(sb, "jvm_memory_bytes_used", "gauge", "Used memory by area");
+		sample(sb, "jvm_memory_bytes_used", "area", "heap", jvm.getHeapUsed());
+		sample(sb, "jvm_memory_bytes_used", "area", "nonheap", jvm.getNonHeapUsed());
+		header(sb, "jvm_memory_bytes_committed", "gauge", "Committed heap memory");
+		sample(sb, "jvm_memory_bytes_committed", "area", "heap", jvm.getHeapCommitted());
+		header(sb, "jvm_memory_bytes_max", "gauge", "Maximum heap memory (-1 if unbounded)");
+		sample(sb, "jvm_memory_bytes_max", "area", "heap", jvm.getHeapMax());
+
+		header(sb, "jvm_gc_collection_seconds", "summary", "Time spent in each garbage collector");
+		for (GcSnapshot gc : jvm.getGcs()) {
+			String label = "{gc=\"" + escape(gc.getName()) + "\"}";
+			sb.append("jvm_gc_collection_seconds_count").append(label).append(' ').append(gc.getCount()).append('\n');
+			sb.append("jvm_gc_collection_seconds_sum").append(label).append(' ')
+			  .append(seconds(gc.getTimeMillis() * 1_000)).append('\n');
+		}
+
+		header(sb, "jvm_threads_current", "gauge", "Live threads");
+		sb.append("jvm_threads_current ").append(jvm.getThreads()).append('\n');
+		header(sb, "process_uptime_seconds", "gauge", "JVM uptime");
+		sb.append("process_uptime_seconds ").append(seconds(jvm.getUptimeMillis() * 1_000)).append('\n');
+	}
+
+	private static void header(StringBuilder sb, String name, String type, String help) {
+		sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	private static void summary(StringBuilder sb, String name, String labelName, String labelValue, LatencyHistogram h) {
+		String label = labelName + "=\"" + escape(labelValue) + "\"";
+		for (double q : QUANTILES) {
+			sb.append(name).append('{').append(label).append(",quantile=\"")
+			  .append(String.format(Locale.ROOT, "%.2f", q / 100)).append("\"} ")
+			  .append(seconds(h.percentile(q))).append('\n');
+		}
+		sb.append(name).append("_sum{").append(label).append("} ").append(seconds(h.sumMicros())).append('\n');
+		sb.append(name).append("_count{").append(label).append("} ").append(h.count()).append('\n');
+	}
+
+	private static void sample(StringBuilder sb, String name, String labelName, String labelValue, long value) {
+		sb.append(name).append('{').append(labelName).append("=\"").append(escape(labelValue)).append("\"} ")
+		  .append(value).append('\n');
+	}
+
+	private static String seconds(long micros) {
+		return String.format(Locale.ROOT, "%.6f", micros / 1_000_000d);
+	}
+
+	// 레이블 값 이스케이프: \ " 줄바꿈
+	static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+}
@@ -0,0 +1,93 @@
+package com.eggmoney.payv.infrastructure.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커넥션 풀 / JVM 상태 스냅샷.(조회 시점 값, 따로 쌓아 두지 않음)
+ * - 풀: 컨텍스트의 HikariDataSource 빈 전부(빈 이름별). 아직 커넥션을 한 번도 안 연 풀은 0 으로 표시.
+ *   pending = 커넥션을 기다리는 스레드 수. 0 보다 큰 상태가 이어지면 풀 크기/쿼리 시간 점검.
+ * - JVM: 힙/비힙 사용량, GC 별 누적 횟수/시간, 스레드 수, 가동 시간.
+ * @author 정의탁
+ */
+@Component
+public class RuntimeMetrics {
+
+	private final Map<String, HikariDataSource> dataSources;
+
+	public RuntimeMetrics(Map<String, HikariDataSource> dataSources) {
+		this.dataSources = new TreeMap<>(dataSources);
+	}
+
+	public List<PoolSnapshot> pools() {
+		List<PoolSnapshot> list = new ArrayList<>();
+		for (Map.Entry<String, HikariDataSource> e : dataSources.entrySet()) {
+			HikariDataSource ds = e.getValue();
+			HikariPoolMXBean pool = ds.isClosed() ? null : ds.getHikariPoolMXBean();
+			if (pool == null) {
+				list.add(new PoolSnapshot(e.getKey(), 0, 0, 0, 0, ds.getMaximumPoolSize()));
+			} else {
+				list.add(new PoolSnapshot(e.getKey(), pool.getActiveConnections(), pool.getIdleConnections(),
+						pool.getThreadsAwaitingConnection(), pool.getTotalConnections(), ds.getMaximumPoolSize()));
+			}
+		}
+		return list;
+	}
+
+	public JvmSnapshot jvm() {
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+		List<GcSnapshot> gcs = new ArrayList<>();
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			gcs.add(new GcSnapshot(gc.getName(), Math.max(0, gc.getCollectionCount()), Math.max(0, gc.getCollectionTime())));
+		}
+		return new JvmSnapshot(heap.getUsed(), heap.getCommitted(), heap.getMax(), nonHeap.getUsed(),
+				ManagementFactory.getThreadMXBean().getThreadCount(),
+				ManagementFactory.getRuntimeMXBean().getUptime(), gcs);
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static final class PoolSnapshot {
+		private final String name;
+		private final int active;
+		private final int idle;
+		private final int pending;
+		private final int total;
+		private final int max;
+	}
+
+	// 메모리: 바이트, 시간: ms. heapMax 는 제한이 없으면 -1.
+	@Getter
+	@AllArgsConstructor
+	public static final class JvmSnapshot {
+		private final long heapUsed;
+		private final long heapCommitted;
+		private final long heapMax;
+		private final long nonHeapUsed;
+		private final int threads;
+		private final long uptimeMillis;
+		private final List<GcSnapshot> gcs;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static final class GcSnapshot {
+		private final String name;
+		private final long count;
+		private final long timeMillis;
+	}
+}
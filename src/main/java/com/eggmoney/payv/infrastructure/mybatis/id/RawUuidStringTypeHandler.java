@@ -0,0 +1,24 @@
+package com.eggmoney.payv.infrastructure.mybatis.id;
+
+import com.eggmoney.payv.infrastructure.mybatis.typehandler.AbstractRawStringIdTypeHandler;
+
+/**
+ * 레코드의 String 식별자 ↔ RAW(16) 컬럼.
+ * - String 전체에 등록되면 안 되므로 typeHandlersPackage 밖에 두고, 매퍼에서 명시적으로 지정.
+ * - TransactionMapper.xml 은 ${transactionIdTypeHandler} 로 지정하며, 값은 id.transactionStorage 설정으로 고름.
+ *   (varchar = StringTypeHandler, raw16 = 이 클래스. root-context.xml 의 sqlSessionFactory 참고)
+ * - RAW(16) 로 옮긴 테이블에만 사용.(db/oracle/id_raw16_migration.sql)
+ * @author 정의탁
+ */
+public class RawUuidStringTypeHandler extends AbstractRawStringIdTypeHandler<String> {
+
+	@Override
+	protected String unwrap(String value) {
+		return value;
+	}
+
+	@Override
+	protected String wrap(String raw) {
+		return raw;
+	}
+}
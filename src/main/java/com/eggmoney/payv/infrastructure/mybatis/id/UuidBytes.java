@@ -0,0 +1,29 @@
+package com.eggmoney.payv.infrastructure.mybatis.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID 문자열(36자) ↔ RAW(16) 바이트 변환.
+ * - 바이트 순서는 문자열 hex 순서 그대로(빅엔디안)이므로, RAW 정렬 = 문자열 정렬 = v7 생성 순서.
+ * - Oracle 의 HEXTORAW(REPLACE(id, '-', '')) 와 같은 값.
+ * @author 정의탁
+ */
+public final class UuidBytes {
+
+	private UuidBytes() {}
+
+	public static byte[] toBytes(String id) {
+		UUID uuid = UUID.fromString(id);
+		return ByteBuffer.allocate(16)
+				.putLong(uuid.getMostSignificantBits())
+				.putLong(uuid.getLeastSignificantBits())
+				.array();
+	}
+
+	public static String fromBytes(byte[] raw) {
+		if (raw.length != 16) throw new IllegalArgumentException("RAW(16) expected: " + raw.length + " bytes");
+		ByteBuffer buf = ByteBuffer.wrap(raw);
+		return new UUID(buf.getLong(), buf.getLong()).toString();
+	}
+}
@@ -13,13 +13,19 @@ public interface AccountMapper {
 
 	AccountRecord selectById(@Param("id") String id);
 	
+	// 다건 조회(ids 는 호출 측에서 IN 목록 제한 이하로 분할).
+	List<AccountRecord> selectByIds(@Param("ids") List<String> ids);
+	
 	// 한 가계부에 동일한 이름을 갖는 자산이 존재하는지 확인.
 	AccountRecord selectByLedgerAndName(@Param("ledgerId") String ledgerId, @Param("name") String name);
 	
 	List<AccountRecord> selectListByLedger(@Param("ledgerId") String ledgerId);
 	
     int insert(AccountRecord rec);   // 새로 생성된 자산
-    int update(AccountRecord rec);   // 기존 자산
+    int update(AccountRecord rec);   // 기존 자산 (잔액 제외)
+    
+    // 잔액 증감.(0 = 잠긴 자산이거나 음수 불가 유형의 잔액 부족)
+    int applyBalanceDelta(@Param("id") String id, @Param("delta") long delta);
     
     // 소프트 삭제.
     int delete(@Param("id") String id);
@@ -4,7 +4,9 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import com.eggmoney.payv.infrastructure.mybatis.record.BoardListRecord;
 import com.eggmoney.payv.infrastructure.mybatis.record.BoardRecord;
 
 /**
@@ -29,14 +31,20 @@ public interface BoardMapper {
 	// 전체 게시글 수 조회 
 	int count();
 
-	// 페이징 조회
-    List<BoardRecord> selectByPage(@Param("offset") int offset,
-                                   @Param("limit") int limit);
+	// 페이징 조회 (목록 화면, 내용 제외)
+    List<BoardListRecord> selectListPage(@Param("offset") int offset,
+                                         @Param("limit") int limit);
+
+    // ID 목록 조회 (검색 색인 결과 페이지, 내용 제외)
+    List<BoardListRecord> selectListByIds(@Param("boardIds") List<String> boardIds);
+
+    // 검색 색인 적재용 전체 스트리밍 조회 (트랜잭션 안에서만 사용)
+    Cursor<BoardRecord> cursorAllWithAuthor();
 
  // 검색된 게시글 목록 (제목, 내용, 작성자별 검색)
-    List<BoardRecord> selectByTitle(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
-    List<BoardRecord> selectByContent(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
-    List<BoardRecord> selectByAuthor(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
+    List<BoardListRecord> selectByTitle(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
+    List<BoardListRecord> selectByContent(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
+    List<BoardListRecord> selectByAuthor(@Param("keyword") String keyword, @Param("offset") int offset, @Param("limit") int limit);
     
  // 제목으로 검색된 게시글 수
     int countByTitle(@Param("keyword") String keyword);
@@ -53,6 +61,9 @@ public interface BoardMapper {
 	//게시글 수정
 	int update(BoardRecord record);
 	
+	// 조회수 증가분 반영
+	int addViewCount(@Param("boardId") String boardId, @Param("delta") long delta);
+
 	// 게시글 삭제
 	int deleteById(@Param("boardId") String boardId);
 	
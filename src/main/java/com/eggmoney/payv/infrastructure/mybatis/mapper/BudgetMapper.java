@@ -18,6 +18,16 @@ public interface BudgetMapper {
     // 가계부에 설정된 예산 목록 조회.
     List<BudgetRecord> selectByLedger(@Param("ledgerId") String ledgerId);
     
+    // 여러 달(월)의 예산 목록 조회.
+    List<BudgetRecord> selectByLedgerAndMonths(@Param("ledgerId") String ledgerId,
+                                               @Param("yearMonths") List<String> yearMonths);
+    
+    // 한 카테고리의 기간 [from, to] 월별 예산 조회.
+    List<BudgetRecord> selectSeries(@Param("ledgerId") String ledgerId,
+                                    @Param("categoryId") String categoryId,
+                                    @Param("fromYearMonth") String fromYearMonth,
+                                    @Param("toYearMonth") String toYearMonth);
+    
     // 해당 달(월)에 해당 카테고리로 예산이 설정되어 있는지 확인.
     int existsFor(@Param("ledgerId") String ledgerId,
                   @Param("categoryId") String categoryId,
@@ -34,6 +44,9 @@ public interface BudgetMapper {
                                                   @Param("yearMonth") String yearMonth);
 
     int insert(BudgetRecord record);
-    int update(BudgetRecord record);
+    int update(BudgetRecord record);	// 소진액 제외
+    
+    // 소진액 증감.(0 = 소진액이 음수가 되는 경우)
+    int applySpentDelta(@Param("id") String id, @Param("delta") long delta);
     int changeCategory(@Param("id") String id, @Param("toCategoryId") String toCategoryId);
 }
@@ -13,6 +13,9 @@ public interface CategoryMapper {
 
 	CategoryRecord selectById(@Param("id") String id);
 	
+	// 다건 조회.
+	List<CategoryRecord> selectByIds(@Param("ids") List<String> ids);
+	
 	// 한 가계부에 동일한 이름을 갖는 카테고리가 존재하는지 확인.
     CategoryRecord selectByLedgerAndName(@Param("ledgerId") String ledgerId, @Param("name") String name);
     
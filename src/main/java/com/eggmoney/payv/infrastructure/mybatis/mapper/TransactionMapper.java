@@ -1,13 +1,16 @@
 package com.eggmoney.payv.infrastructure.mybatis.mapper;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import com.eggmoney.payv.domain.model.entity.Transaction;
 import com.eggmoney.payv.infrastructure.mybatis.record.TransactionRecord;
+import com.eggmoney.payv.infrastructure.mybatis.record.TransactionTotalRecord;
 import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
 
 @Mapper
@@ -19,6 +22,12 @@ public interface TransactionMapper {
     int update(TransactionRecord rec);
     int delete(@Param("transactionId") String transactionId);
 
+    // 다건 조회/게시 상태 일괄 변경(ids 는 호출 측에서 IN 목록 제한 이하로 분할).
+    List<TransactionRecord> selectByIds(@Param("ids") List<String> ids);
+    int updatePostedByIds(@Param("ids") List<String> ids,
+                          @Param("posted") boolean posted,
+                          @Param("postedAt") LocalDateTime postedAt);
+
     List<TransactionRecord> selectByLedgerAndDateRange(
             @Param("ledgerId") String ledgerId,
             @Param("from") LocalDate from,
@@ -27,11 +36,31 @@ public interface TransactionMapper {
             @Param("limit") int limit
     );
     
+    // 일자별 상위 perDay 건(ROW_NUMBER() OVER (PARTITION BY 일자)). 기간 [from, to).
+    List<TransactionRecord> selectTopNPerDay(@Param("ledgerId") String ledgerId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             @Param("perDay") int perDay);
+    
+    // 스트리밍 조회(내보내기): 트랜잭션(SqlSession)이 열려 있는 동안만 사용 가능.
+    Cursor<TransactionRecord> cursorByLedgerAndDateRange(@Param("ledgerId") String ledgerId,
+                                                         @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
+    
     long countByCond(@Param("ledgerId") String ledgerId, @Param("cond") TransactionSearchCondition cond);
     
+    // withCount = true 면 각 행의 totalCount 에 조건 전체 건수(COUNT(*) OVER ()).
     List<TransactionRecord> listByCond(@Param("ledgerId") String ledgerId,
                         @Param("cond") TransactionSearchCondition cond,
                         @Param("offset") int offset,
+                        @Param("limit") int limit,
+                        @Param("withCount") boolean withCount);
+
+    // 커서(keyset) 페이지: (afterDate, afterId) 이후 행부터 limit 건. afterDate == null 이면 첫 페이지.
+    List<TransactionRecord> listByCondAfter(@Param("ledgerId") String ledgerId,
+                        @Param("cond") TransactionSearchCondition cond,
+                        @Param("afterDate") LocalDate afterDate,
+                        @Param("afterId") String afterId,
                         @Param("limit") int limit);
 
     // 자산별 거래 내역 조회.
@@ -45,4 +74,22 @@ public interface TransactionMapper {
                                                          @Param("categoryIds") List<String> categoryIds,
                                                          @Param("limit") int limit,
                                                          @Param("offset") int offset);
+
+    // ---- 집계(SUM/COUNT): 기간 [from, to), postedOnly = true 면 게시 거래만 ----
+    List<TransactionTotalRecord> sumByDay(@Param("ledgerId") String ledgerId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("postedOnly") boolean postedOnly);
+
+    // 필터링 조건(목록 화면과 동일) 기준 유형별 합계.
+    List<TransactionTotalRecord> sumByTypeAndCond(@Param("ledgerId") String ledgerId,
+                                                  @Param("cond") TransactionSearchCondition cond);
+
+    // 카테고리 집합 × 유형 합계(예산 소진액 계산용).
+    long sumAmountByCategoryIds(@Param("ledgerId") String ledgerId,
+                                @Param("categoryIds") List<String> categoryIds,
+                                @Param("type") String type,
+                                @Param("from") LocalDate from,
+                                @Param("to") LocalDate to,
+                                @Param("postedOnly") boolean postedOnly);
 }
@@ -0,0 +1,29 @@
+package com.eggmoney.payv.infrastructure.mybatis.mapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.eggmoney.payv.infrastructure.mybatis.record.TransactionRollupRecord;
+
+@Mapper
+public interface TransactionRollupMapper {
+
+	// 증분 반영(MERGE): totalAmount/txCount 는 delta 로 사용.
+	int merge(TransactionRollupRecord delta);
+
+	List<TransactionRollupRecord> selectByLedgerAndMonthRange(@Param("ledgerId") String ledgerId,
+															  @Param("fromMonth") String fromMonth,
+															  @Param("toMonth") String toMonth);
+
+	// 재계산: 가계부의 기간 삭제 후 TRANSACTION 집계로 다시 적재.
+	int deleteByMonthRange(@Param("ledgerId") String ledgerId,
+						   @Param("fromMonth") String fromMonth,
+						   @Param("toMonth") String toMonth);
+
+	int insertFromTransactions(@Param("ledgerId") String ledgerId,
+							   @Param("from") LocalDate from,
+							   @Param("to") LocalDate to);
+}
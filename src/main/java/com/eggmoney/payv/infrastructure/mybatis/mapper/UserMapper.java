@@ -1,5 +1,7 @@
 package com.eggmoney.payv.infrastructure.mybatis.mapper;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -13,6 +15,7 @@ import com.eggmoney.payv.infrastructure.mybatis.record.UserRecord;
 public interface UserMapper {
 
 	UserRecord selectById(@Param("userId") String userId);
+	List<UserRecord> selectByIds(@Param("ids") List<String> ids);
     UserRecord selectByEmail(@Param("email") String email);
     int insert(UserRecord rec);
     int update(UserRecord rec);
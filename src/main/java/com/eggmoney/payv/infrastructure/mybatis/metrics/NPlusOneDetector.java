@@ -0,0 +1,126 @@
+package com.eggmoney.payv.infrastructure.mybatis.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 단위 N+1 쿼리 감지.
+ * - 한 요청 안에서 같은 문장(MappedStatement id)이 threshold 회를 넘게 실행되면 감지.
+ *   (반복 횟수 집계는 StatementMetrics 의 요청 범위에서, 판정/보고는 여기서)
+ * - sql.nplusone.mode
+ *   - log    : 개발용. 감지 시 호출 위치(서비스/컨트롤러 스택)를 잡아 두었다가 요청 종료 시 WARN + 지표.
+ *   - metric : 운영용(기본값). 스택을 잡지 않고 지표만. (/admin/metrics/sql 의 nplusOne)
+ *   - off    : 감지 안 함.
+ * - sql.nplusone.threshold: 허용 반복 횟수(기본 10). 월 12개 루프처럼 고정 횟수 반복도 잡히도록 낮게 유지.
+ * @author 정의탁
+ */
+@Slf4j
+@Component
+public class NPlusOneDetector {
+
+	private static final String APP_PACKAGE = "com.eggmoney.payv.";
+	private static final String INFRA_PACKAGE = "com.eggmoney.payv.infrastructure.";
+	private static final int CALL_SITE_FRAMES = 3;
+
+	public enum Mode { OFF, METRIC, LOG }
+
+	@Getter
+	private final Mode mode;
+	@Getter
+	private final int threshold;
+
+	private final Map<String, Detection> detections = new ConcurrentHashMap<>();
+
+	public NPlusOneDetector(@Value("${sql.nplusone.mode:metric}") String mode,
+							@Value("${sql.nplusone.threshold:10}") int threshold) {
+		this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+		if (threshold < 1) throw new IllegalArgumentException("sql.nplusone.threshold must be positive");
+		this.threshold = threshold;
+	}
+
+	public boolean isEnabled() {
+		return mode != Mode.OFF;
+	}
+
+	// 이번 실행으로 처음 기준을 넘었는지.(요청당 문장별 한 번만 true)
+	boolean crossed(int executions) {
+		return isEnabled() && executions == threshold + 1;
+	}
+
+	// log 모드에서만 스택 수집: 인프라 계층(리포지토리/매퍼/플러그인)을 건너뛴 첫 애플리케이션 프레임들.
+	String captureCallSite() {
+		if (mode != Mode.LOG) return null;
+		StringBuilder sb = new StringBuilder();
+		int frames = 0;
+		for (StackTraceElement e : new Throwable().getStackTrace()) {
+			String cls = e.getClassName();
+			if (!cls.startsWith(APP_PACKAGE) || cls.startsWith(INFRA_PACKAGE) || cls.contains("$$")) continue;
+			if (sb.length() > 0) sb.append(" <- ");
+			sb.append(cls.substring(APP_PACKAGE.length())).append('.').append(e.getMethodName())
+			  .append(':').append(e.getLineNumber());
+			if (++frames == CALL_SITE_FRAMES) break;
+		}
+		return sb.length() == 0 ? "(unknown)" : sb.toString();
+	}
+
+	// 요청 종료 시 감지 건 보고.
+	void report(String requestKey, String statementId, int executions, String callSite) {
+		detections.computeIfAbsent(requestKey + "|" + statementId, k -> new Detection(requestKey, statementId))
+				.add(executions);
+		if (mode == Mode.LOG) {
+			log.warn("[n+1] {} ran {} times in one request ({}), threshold {}, at {}",
+					statementId, executions, requestKey, threshold, callSite);
+		}
+	}
+
+	// 감지 횟수 많은 순.
+	public List<Detection> detections() {
+		List<Detection> list = new ArrayList<>(detections.values());
+		list.sort(Comparator.comparingLong(Detection::count).reversed());
+		return list;
+	}
+
+	public void reset() {
+		detections.clear();
+	}
+
+	// 요청 종류 × 문장 하나의 감지 누적.
+	public static final class Detection {
+		@Getter
+		private final String request;
+		@Getter
+		private final String statementId;
+		private final LongAdder count = new LongAdder();
+		private final AtomicLong maxExecutions = new AtomicLong();
+
+		Detection(String request, String statementId) {
+			this.request = request;
+			this.statementId = statementId;
+		}
+
+		void add(int executions) {
+			count.increment();
+			maxExecutions.accumulateAndGet(executions, Math::max);
+		}
+
+		public long count() {
+			return count.sum();
+		}
+
+		public long maxExecutions() {
+			return maxExecutions.get();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package com.eggmoney.payv.infrastructure.mybatis.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eggmoney.payv.infrastructure.metrics.LatencyHistogram;
+
+import lombok.Getter;
+
+/**
+ * SQL 실행 통계 저장소.
+ * - 매핑된 문장(MappedStatement id)별: 실행 횟수, 응답 시간 히스토그램, 반환/변경 행 수, 오류 수.
+ * - 요청별: 요청 하나에서 실행된 문장 수/SQL 시간. (요청 키 = "GET /ledgers/{ledgerId}/transactions" 같은 매핑 패턴)
+ *   요청 범위는 SqlRequestMetricsInterceptor(MVC)가 begin/end 로 지정. 요청 밖(배치/부팅)의 실행은 문장 통계에만 반영.
+ * - 요청 안에서는 문장별 실행 횟수도 세어 NPlusOneDetector 로 N+1 판정.
+ * - 값은 들어가지 않음.(문장 id/패턴만 키로 사용)
+ * - sql.metrics.enabled=false 로 끌 수 있음. 느린 문장 기준은 sql.metrics.slowThresholdMs.
+ * @author 정의탁
+ */
+@Component
+public class StatementMetrics {
+
+	private final ThreadLocal<RequestScope> currentRequest = new ThreadLocal<>();
+	private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+	private final Map<String, RequestStats> requests = new ConcurrentHashMap<>();
+
+	@Getter
+	private final boolean enabled;
+	@Getter
+	private final long slowThresholdMillis;
+	private final NPlusOneDetector nPlusOneDetector;
+
+	public StatementMetrics(@Value("${sql.metrics.enabled:true}") boolean enabled,
+							@Value("${sql.metrics.slowThresholdMs:200}") long slowThresholdMillis,
+							NPlusOneDetector nPlusOneDetector) {
+		this.enabled = enabled;
+		this.slowThresholdMillis = slowThresholdMillis;
+		this.nPlusOneDetector = nPlusOneDetector;
+	}
+
+	public void record(String statementId, long elapsedNanos, long rows, boolean failed) {
+		if (!enabled) return;
+		statements.computeIfAbsent(statementId, StatementStats::new).add(elapsedNanos, rows, failed);
+
+		RequestScope scope = currentRequest.get();
+		if (scope != null) {
+			scope.statements++;
+			scope.sqlNanos += elapsedNanos;
+			if (nPlusOneDetector.isEnabled()) {
+				int executions = scope.executions.merge(statementId, 1, Integer::sum);
+				if (nPlusOneDetector.crossed(executions)) {
+					scope.flagged.put(statementId, nPlusOneDetector.captureCallSite());
+				}
+			}
+		}
+	}
+
+	public boolean isSlow(long elapsedNanos) {
+		return elapsedNanos >= slowThresholdMillis * 1_000_000L;
+	}
+
+	// 요청 시작.(같은 스레드에서 실행되는 SQL 을 이 요청에 집계)
+	public void beginRequest() {
+		if (enabled) currentRequest.set(new RequestScope());
+	}
+
+	// 요청 종료. key 는 요청 종류(메서드 + 매핑 패턴).
+	public void endRequest(String key) {
+		RequestScope scope = currentRequest.get();
+		if (scope == null) return;
+		currentRequest.remove();
+		requests.computeIfAbsent(key, RequestStats::new).add(scope.statements, scope.sqlNanos);
+		for (Map.Entry<String, String> e : scope.flagged.entrySet()) {
+			nPlusOneDetector.report(key, e.getKey(), scope.executions.get(e.getKey()), e.getValue());
+		}
+	}
+
+	// 총 SQL 시간 큰 순.
+	public List<StatementStats> statements() {
+		List<StatementStats> list = new ArrayList<>(statements.values());
+		list.sort(Comparator.comparingLong(StatementStats::totalMicros).reversed());
+		return list;
+	}
+
+	// 요청당 평균 문장 수 큰 순.(N+1 후보가 위로)
+	public List<RequestStats> requests() {
+		List<RequestStats> list = new ArrayList<>(requests.values());
+		list.sort(Comparator.comparingDouble(RequestStats::avgStatements).reversed());
+		return list;
+	}
+
+	public void reset() {
+		statements.clear();
+		requests.clear();
+		nPlusOneDetector.reset();
+	}
+
+	// 요청 하나의 집계.(요청 스레드 전용이므로 동기화 없음)
+	private static final class RequestScope {
+		long statements;
+		long sqlNanos;
+		final Map<String, Integer> executions = new HashMap<>();		// 문장 id → 실행 횟수
+		final Map<String, String> flagged = new LinkedHashMap<>();	// N+1 감지 문장 id → 호출 위치(log 모드)
+	}
+
+	// 문장 하나의 누적 통계.
+	public static final class StatementStats {
+		@Getter
+		private final String id;
+		@Getter
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final LongAdder rows = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+
+		StatementStats(String id) {
+			this.id = id;
+		}
+
+		void add(long elapsedNanos, long rowCount, boolean failed) {
+			latency.recordNanos(elapsedNanos);
+			if (rowCount > 0) rows.add(rowCount);
+			if (failed) errors.increment();
+		}
+
+		public long count() {
+			return latency.count();
+		}
+
+		public long rows() {
+			return rows.sum();
+		}
+
+		public long errors() {
+			return errors.sum();
+		}
+
+		public long totalMicros() {
+			return latency.sumMicros();
+		}
+	}
+
+	// 요청 종류 하나의 누적 통계.
+	public static final class RequestStats {
+		@Getter
+		private final String key;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder statements = new LongAdder();
+		private final LongAdder sqlMicros = new LongAdder();
+		private final AtomicLong maxStatements = new AtomicLong();
+
+		RequestStats(String key) {
+			this.key = key;
+		}
+
+		void add(long statementCount, long sqlNanos) {
+			count.increment();
+			statements.add(statementCount);
+			sqlMicros.add(sqlNanos / 1_000);
+			maxStatements.accumulateAndGet(statementCount, Math::max);
+		}
+
+		public long count() {
+			return count.sum();
+		}
+
+		public long maxStatements() {
+			return maxStatements.get();
+		}
+
+		public double avgStatements() {
+			long n = count();
+			return n == 0 ? 0 : (double) statements.sum() / n;
+		}
+
+		public double avgSqlMillis() {
+			long n = count();
+			return n == 0 ? 0 : sqlMicros.sum() / 1_000d / n;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.eggmoney.payv.infrastructure.mybatis.metrics;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL 실행 시간/행 수 측정 + 느린 문장 로그 (MyBatis 플러그인)
+ * - 문장(MappedStatement id)별로 StatementMetrics 에 기록. 조회는 반환 행 수, 변경은 영향 행 수.
+ *   (ResultHandler/커서 조회는 행 수를 모르므로 시간만. 커서는 여는 시간만 잼)
+ * - BATCH 실행기: update() 는 쌓기만 하므로 기록하지 않고, flushStatements() 시간을 문장별 건수 비율로 나눠 기록.
+ * - sql.metrics.slowThresholdMs 이상 걸린 문장만 WARN 으로 남김. SQL 문과 파라미터 이름/타입만, 값은 남기지 않음.
+ * - root-context.xml 의 plugins 에서 UnitOfWorkFlushInterceptor 보다 앞(안쪽)에 등록 → 자동 flush 시간은 포함 안 됨.
+ * @author 정의탁
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+	@Signature(type = Executor.class, method = "update",
+			args = { MappedStatement.class, Object.class }),
+	@Signature(type = Executor.class, method = "query",
+			args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+	@Signature(type = Executor.class, method = "query",
+			args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+	@Signature(type = Executor.class, method = "queryCursor",
+			args = { MappedStatement.class, Object.class, RowBounds.class }),
+	@Signature(type = Executor.class, method = "flushStatements", args = {})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	// IN (?, ?, ?, ...) 같은 긴 자리표시자 목록 축약
+	private static final Pattern PLACEHOLDER_RUN = Pattern.compile("\\?(?:\\s*,\\s*\\?){3,}");
+	// foreach 가 만든 파라미터 이름(__frch_id_12)의 순번 제거
+	private static final Pattern FOREACH_INDEX = Pattern.compile("_\\d+$");
+
+	private final StatementMetrics metrics;
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		if (!metrics.isEnabled()) return invocation.proceed();
+		// 인자 없는 메서드(flushStatements)는 프록시가 args 를 null 로 넘김
+		Object[] args = invocation.getArgs();
+		if (args == null || args.length == 0) return flushStatements(invocation);
+
+		MappedStatement ms = (MappedStatement) args[0];
+		long start = System.nanoTime();
+		Object result = null;
+		boolean failed = true;
+		try {
+			result = invocation.proceed();
+			failed = false;
+			return result;
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			if (!(result instanceof Integer && (Integer) result == BatchExecutor.BATCH_UPDATE_RETURN_VALUE)) {
+				long rows = rowsOf(result);
+				metrics.record(ms.getId(), elapsed, rows, failed);
+				if (metrics.isSlow(elapsed)) logSlow(ms, invocation.getArgs(), elapsed, rows);
+			}
+		}
+	}
+
+	// 배치 반영: 전체 시간을 문장별 실행 건수 비율로 배분.
+	private Object flushStatements(Invocation invocation) throws Throwable {
+		long start = System.nanoTime();
+		Object result = invocation.proceed();
+		long elapsed = System.nanoTime() - start;
+
+		@SuppressWarnings("unchecked")
+		List<BatchResult> results = (List<BatchResult>) result;
+		long total = 0;
+		for (BatchResult r : results) total += r.getUpdateCounts().length;
+		for (BatchResult r : results) {
+			int executed = r.getUpdateCounts().length;
+			long rows = 0;
+			for (int c : r.getUpdateCounts()) if (c > 0) rows += c;
+			long share = total == 0 ? 0 : elapsed * executed / total;
+			metrics.record(r.getMappedStatement().getId(), share, rows, false);
+			if (metrics.isSlow(share)) {
+				log.warn("[sql-slow] {} {}ms batch={} rows={}", r.getMappedStatement().getId(),
+						share / 1_000_000, executed, rows);
+			}
+		}
+		return result;
+	}
+
+	private static long rowsOf(Object result) {
+		if (result instanceof List) return ((List<?>) result).size();
+		if (result instanceof Integer) return (Integer) result;
+		return -1;
+	}
+
+	private static void logSlow(MappedStatement ms, Object[] args, long elapsedNanos, long rows) {
+		BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+		log.warn("[sql-slow] {} {}ms rows={} params=[{}] sql={}", ms.getId(), elapsedNanos / 1_000_000,
+				rows < 0 ? "?" : rows, parameterShape(boundSql.getParameterMappings()), compactSql(boundSql.getSql()));
+	}
+
+	// 파라미터 모양: 이름:타입, 같은 이름(foreach)이 이어지면 "x건수".
+	static String parameterShape(List<ParameterMapping> mappings) {
+		StringBuilder sb = new StringBuilder();
+		String prev = null;
+		int repeat = 0;
+		for (ParameterMapping pm : mappings) {
+			String type = pm.getJavaType() == null ? "?" : pm.getJavaType().getSimpleName();
+			String shape = FOREACH_INDEX.matcher(pm.getProperty()).replaceFirst("") + ":" + type;
+			if (shape.equals(prev)) {
+				repeat++;
+				continue;
+			}
+			appendShape(sb, prev, repeat);
+			prev = shape;
+			repeat = 1;
+		}
+		appendShape(sb, prev, repeat);
+		return sb.toString();
+	}
+
+	private static void appendShape(StringBuilder sb, String shape, int repeat) {
+		if (shape == null) return;
+		if (sb.length() > 0) sb.append(", ");
+		sb.append(shape);
+		if (repeat > 1) sb.append(" x").append(repeat);
+	}
+
+	static String compactSql(String sql) {
+		String oneLine = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+		return PLACEHOLDER_RUN.matcher(oneLine).replaceAll("?, ...");
+	}
+}
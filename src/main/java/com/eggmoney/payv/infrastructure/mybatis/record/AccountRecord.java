@@ -1,22 +1,26 @@
 package com.eggmoney.payv.infrastructure.mybatis.record;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AccountRecord {
 
     private String accountId;
     private String ledgerId;
     private String type;				// enum: CASH/BANK/CARD/ETC
     private String name;
-    private BigDecimal currentBalance;
+    private Long currentBalance;		// 원(scale=0)
     private String archived;			// 자산 잠금: 'Y'/'N'
     private String isDeleted;			// 'Y' / 'N'
     private LocalDateTime createdAt;
+    private Long version;				// 낙관적 잠금
     
 }
@@ -0,0 +1,23 @@
+package com.eggmoney.payv.infrastructure.mybatis.record;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Record: BoardListRecord
+ * - 게시글 목록/검색 화면용 조회 결과 행. 내용(CLOB)은 읽지 않음.
+ * - 작성자 email, 댓글 수를 함께 받음.
+ * @author 정의탁
+ */
+@Data
+@NoArgsConstructor
+public class BoardListRecord {
+	private String boardId;
+	private String title;
+	private String email;
+	private long viewCount;
+	private int commentCount;
+	private LocalDateTime createdAt;
+}
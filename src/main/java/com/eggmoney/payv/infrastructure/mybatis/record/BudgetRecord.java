@@ -2,11 +2,15 @@ package com.eggmoney.payv.infrastructure.mybatis.record;
 
 import java.sql.Timestamp;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class BudgetRecord {
 
 	private String budgetId;
@@ -16,4 +20,5 @@ public class BudgetRecord {
     private Long limitAmount;
     private Long spentAmount;
     private Timestamp createdAt;
+    private Long version;				// 낙관적 잠금
 }
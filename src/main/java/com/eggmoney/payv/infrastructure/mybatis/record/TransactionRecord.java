@@ -1,14 +1,17 @@
 package com.eggmoney.payv.infrastructure.mybatis.record;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class TransactionRecord {
 
 	private String transactionId;
@@ -16,11 +19,14 @@ public class TransactionRecord {
 	private String accountId;
 	private LocalDate date;			// 거래 일자.
 	private String type;			// INCOME / EXPENSE
-	private BigDecimal amount;
+	private Long amount;			// 원(scale=0)
 	private String categoryId;
 	private String memo;
 
 	private String posted;          // 'Y'/'N'
     private LocalDateTime postedAt;
     private LocalDateTime createdAt;
+    private Long version;			// 낙관적 잠금
+
+    private Long totalCount;		// 검색 페이지 조회 시 COUNT(*) OVER () (그 외 조회에서는 null)
 }
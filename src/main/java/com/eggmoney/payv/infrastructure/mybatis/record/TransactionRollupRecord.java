@@ -0,0 +1,20 @@
+package com.eggmoney.payv.infrastructure.mybatis.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionRollupRecord {
+
+	private String ledgerId;
+	private String yearMonth;		// 'YYYY-MM'
+	private String categoryId;
+	private String type;			// INCOME / EXPENSE
+	private long totalAmount;		// 합계(또는 delta)
+	private long txCount;			// 건수(또는 delta)
+}
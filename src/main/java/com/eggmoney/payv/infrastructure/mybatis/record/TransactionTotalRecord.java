@@ -0,0 +1,19 @@
+package com.eggmoney.payv.infrastructure.mybatis.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 집계 쿼리 결과 행(SUM/COUNT). 원시 타입으로만 받아 행 단위 도메인 객체 생성을 피함.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionTotalRecord {
+
+	private String groupKey;		// 카테고리 ID / 'YYYY-MM-DD' / 'YYYY-MM' / null
+	private String type;			// INCOME / EXPENSE
+	private long totalAmount;
+	private long txCount;
+}
@@ -0,0 +1,28 @@
+package com.eggmoney.payv.infrastructure.mybatis.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * IN (...) 목록 분할 유틸
+ * - Oracle 은 IN 목록 1000개 제한(ORA-01795)이 있으므로, 다건 조회/변경 시 일정 크기로 잘라서 실행.
+ * @author 정의탁
+ */
+final class InClauseChunks {
+
+	static final int MAX_SIZE = 500;
+
+	private InClauseChunks() {}
+
+	static <T> List<List<T>> of(List<T> values) {
+		if (values.isEmpty()) return Collections.emptyList();
+		if (values.size() <= MAX_SIZE) return Collections.singletonList(values);
+
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < values.size(); from += MAX_SIZE) {
+			chunks.add(values.subList(from, Math.min(from + MAX_SIZE, values.size())));
+		}
+		return chunks;
+	}
+}
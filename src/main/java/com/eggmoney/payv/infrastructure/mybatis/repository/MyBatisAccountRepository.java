@@ -1,7 +1,12 @@
 package com.eggmoney.payv.infrastructure.mybatis.repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -15,9 +20,12 @@ import com.eggmoney.payv.domain.model.vo.AccountId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.shared.error.ConcurrencyConflictException;
 import com.eggmoney.payv.infrastructure.mybatis.mapper.AccountMapper;
 import com.eggmoney.payv.infrastructure.mybatis.record.AccountRecord;
 import com.eggmoney.payv.infrastructure.mybatis.record.CategoryRecord;
+import com.eggmoney.payv.infrastructure.mybatis.uow.EntityMapping;
+import com.eggmoney.payv.infrastructure.mybatis.uow.UnitOfWork;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,11 +34,35 @@ import lombok.RequiredArgsConstructor;
 public class MyBatisAccountRepository implements AccountRepository {
 
 	private final AccountMapper mapper;
+	private final UnitOfWork unitOfWork;
 	
 	@Override
     public Optional<Account> findById(AccountId id) {
+		// 같은 트랜잭션에서 이미 읽은 자산이면 SQL 없이 같은 인스턴스.
+		Account managed = unitOfWork.find(uowMapping, id.value());
+		if (managed != null) return Optional.of(managed);
+		
         AccountRecord r = mapper.selectById(id.value());
-        return Optional.ofNullable(r).map(this::toDomain);
+        return Optional.ofNullable(r).map(rec -> unitOfWork.manage(uowMapping, toDomain(rec)));
+    }
+	
+	@Override
+    public Map<AccountId, Account> findAllByIds(Collection<AccountId> ids) {
+		List<String> values = ids.stream().map(AccountId::value).distinct().collect(Collectors.toList());
+		Map<AccountId, Account> found = new LinkedHashMap<>(values.size() * 2);
+		List<String> missing = new ArrayList<>(values.size());
+		for (String id : values) {
+			Account managed = unitOfWork.find(uowMapping, id);
+			if (managed != null) found.put(managed.getId(), managed);
+			else missing.add(id);
+		}
+		for (List<String> chunk : InClauseChunks.of(missing)) {
+			for (AccountRecord r : mapper.selectByIds(chunk)) {
+				Account account = unitOfWork.manage(uowMapping, toDomain(r));
+				found.put(account.getId(), account);
+			}
+		}
+		return found;
     }
 	
 	@Override
@@ -49,44 +81,80 @@ public class MyBatisAccountRepository implements AccountRepository {
 
     @Override
     public void save(Account account) {
-        AccountRecord rec = toRecord(account);
-        AccountRecord existing = mapper.selectById(account.getId().value());
-        if (existing == null) {
-            mapper.insert(rec);
+    	// 트랜잭션 안: 작업 단위에 기록만 하고 커밋 직전에 일괄 반영.
+    	if (unitOfWork.register(uowMapping, account)) return;
+    	
+    	// 트랜잭션 밖(또는 이전에 읽어 둔 사본): 존재 확인 없이 버전으로 INSERT/UPDATE 판단.
+        if (account.isNew()) {
+            mapper.insert(toRecord(account));
+            account.syncVersion(0L);
+        } else if (mapper.update(toRecord(account)) == 0) {
+            // 읽은 뒤 다른 요청이 먼저 변경(VERSION 불일치).
+            throw new ConcurrencyConflictException("account was modified concurrently: " + account.getId());
         } else {
-            mapper.update(rec);
+            account.syncVersion(account.getVersion() + 1);
         }
     }
     
+    @Override
+    public boolean applyBalanceDelta(AccountId id, Money delta) {
+        boolean applied = mapper.applyBalanceDelta(id.value(), delta.toLong()) > 0;
+        // DB 잔액이 바뀌었으므로 다음 조회는 DB 에서.
+        unitOfWork.evict(uowMapping, id.value());
+        return applied;
+    }
+    
     @Override
     public void delete(AccountId id) {
         mapper.delete(id.value());
+        unitOfWork.evict(uowMapping, id.value());
     }
 
+    // ---------- 작업 단위 매핑 ----------
+    // 변경 감지는 UPDATE 문이 쓰는 컬럼만.(잔액은 applyBalanceDelta 로만 반영)
+    private final EntityMapping<Account, AccountMapper> uowMapping = new EntityMapping<Account, AccountMapper>() {
+    	@Override public int flushOrder() { return 1; }
+    	@Override public Class<AccountMapper> mapperType() { return AccountMapper.class; }
+    	@Override public String idOf(Account a) { return a.getId().value(); }
+    	@Override public boolean isNew(Account a) { return a.isNew(); }
+    	@Override public long versionOf(Account a) { return a.getVersion(); }
+    	@Override public void syncVersion(Account a, long version) { a.syncVersion(version); }
+    	@Override public Object toRecord(Account a) { return MyBatisAccountRepository.this.toRecord(a); }
+    	@Override public void insert(AccountMapper m, Object record) { m.insert((AccountRecord) record); }
+    	@Override public void update(AccountMapper m, Object record) { m.update((AccountRecord) record); }
+    	
+    	@Override 
+    	public Object dirtyState(Account a) {
+    		return Arrays.asList(a.getLedgerId(), a.getType(), a.getName(), a.isDeleted(), a.isArchived());
+    	}
+    };
+
     // ---------- 변환부 ----------
-    private Account toDomain(AccountRecord record) {
+    Account toDomain(AccountRecord record) {
         return Account.reconstruct(
                 AccountId.of(record.getAccountId()),
                 LedgerId.of(record.getLedgerId()),
                 AccountType.valueOf(record.getType()),
                 record.getName(),
-                Money.of(record.getCurrentBalance()),	// KRW scale=0
+                Money.won(record.getCurrentBalance()),	// KRW scale=0
                 "Y".equals(record.getArchived()),
                 "Y".equals(record.getIsDeleted()),
-                record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now()
+                record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now(),
+                record.getVersion() == null ? 0L : record.getVersion()
         );
     }
 
-    private AccountRecord toRecord(Account account) {        
+    AccountRecord toRecord(Account account) {        
         return AccountRecord.builder()
         		.accountId(account.getId().value())
         		.ledgerId(account.getLedgerId().value())
         		.type(account.getType().name())
         		.name(account.getName())
-        		.currentBalance(account.getCurrentBalance().toBigDecimal())
+        		.currentBalance(account.getCurrentBalance().toLong())
         		.archived(account.isArchived() ? "Y" : "N")
         		.isDeleted(account.isDeleted() ? "Y" : "N")
         		.createdAt(account.getCreatedAt())
+        		.version(account.getVersion())
         		.build();
     }
 }
@@ -1,9 +1,19 @@
 package com.eggmoney.payv.infrastructure.mybatis.repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.stereotype.Repository;
 
 import com.eggmoney.payv.domain.model.entity.Board;
@@ -13,8 +23,9 @@ import com.eggmoney.payv.domain.model.repository.BoardRepository;
 import com.eggmoney.payv.domain.model.vo.BoardId;
 import com.eggmoney.payv.domain.model.vo.UserId;
 import com.eggmoney.payv.infrastructure.mybatis.mapper.BoardMapper;
+import com.eggmoney.payv.infrastructure.mybatis.record.BoardListRecord;
 import com.eggmoney.payv.infrastructure.mybatis.record.BoardRecord;
-import com.eggmoney.payv.presentation.dto.BoardItemDto;
+import com.eggmoney.payv.presentation.dto.BoardListItemDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +36,7 @@ import lombok.RequiredArgsConstructor;
  * - BoardRepository의 MyBatis 기반 구현체
  * - Mapper를 이용해 DB와 실제 통신
  * - BoardRecord ↔ Board(Entity) ↔ DTO 간 변환 로직 포함
+ * - 목록/검색은 내용(CLOB) 없는 BoardListRecord → BoardListItemDto
  * 
  * Layer: Infrastructure
  * 
@@ -34,6 +46,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MyBatisBoardRepository implements BoardRepository {
 	private final BoardMapper mapper;
+	private final SqlSessionFactory sqlSessionFactory;
 
 	@Override
 	public Optional<Board> findById(BoardId id) {
@@ -67,26 +80,49 @@ public class MyBatisBoardRepository implements BoardRepository {
 
 	// 페이징
 	@Override
-	public List<Board> findByPage(int offset, int limit) {
-		return mapper.selectByPage(offset, limit).stream().map(this::toDomain).collect(Collectors.toList());
+	public List<BoardListItemDto> findListPage(int offset, int limit) {
+		return mapper.selectListPage(offset, limit).stream().map(this::toListItem).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<BoardListItemDto> findListItemsByIds(List<BoardId> ids) {
+		if (ids.isEmpty()) return new ArrayList<>();
+		Map<String, BoardListRecord> byId = mapper.selectListByIds(ids.stream().map(BoardId::value).collect(Collectors.toList()))
+				.stream().collect(Collectors.toMap(BoardListRecord::getBoardId, Function.identity()));
+		return ids.stream()
+				.map(id -> byId.get(id.value()))
+				.filter(r -> r != null)
+				.map(this::toListItem)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public void forEachWithAuthor(BiConsumer<Board, String> action) {
+		try (Cursor<BoardRecord> cursor = mapper.cursorAllWithAuthor()) {
+			for (BoardRecord record : cursor) {
+				action.accept(toDomain(record), record.getEmail());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	// 검색 처리: 제목, 내용, 작성자 검색  //검색은 DTO 직접 반환
 	@Override
-    public List<BoardItemDto> findBySearch(String keyword, String searchType, int offset, int limit) {
+    public List<BoardListItemDto> findBySearch(String keyword, String searchType, int offset, int limit) {
         switch (searchType) {
             case "content":
                 return mapper.selectByContent(keyword, offset, limit).stream()
-                        .map(this::toDtoWithEmail)
+                        .map(this::toListItem)
                         .collect(Collectors.toList());
             case "author":
                 return mapper.selectByAuthor(keyword, offset, limit).stream()
-                        .map(this::toDtoWithEmail)
+                        .map(this::toListItem)
                         .collect(Collectors.toList());
             case "title":
             default:
                 return mapper.selectByTitle(keyword, offset, limit).stream()
-                        .map(this::toDtoWithEmail)
+                        .map(this::toListItem)
                         .collect(Collectors.toList());
         }
     }
@@ -110,6 +146,18 @@ public class MyBatisBoardRepository implements BoardRepository {
 	    mapper.deleteById(id.value());
 	}
 
+	@Override
+	public void addViewCounts(Map<BoardId, Long> deltas) {
+		if (deltas.isEmpty()) return;
+
+		// BATCH 실행기 세션, 커넥션/커밋은 바깥 스프링 트랜잭션 것을 사용.
+		try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+			BoardMapper batchMapper = batchSession.getMapper(BoardMapper.class);
+			deltas.forEach((id, delta) -> batchMapper.addViewCount(id.value(), delta));
+			batchSession.flushStatements();
+		}
+	}
+
 	/* ---------------- 변환 로직 ---------------- */
 	// toDomain, toRecord
 	private Board toDomain(BoardRecord record) {
@@ -136,17 +184,15 @@ public class MyBatisBoardRepository implements BoardRepository {
 				.build();
 	}
 	
-	/* 🔹 BoardRecord → DTO 변환 (email 포함) */
-    private BoardItemDto toDtoWithEmail(BoardRecord record) {
-        return new BoardItemDto(
+	/* 🔹 BoardListRecord → 목록 DTO 변환 (email, 댓글 수 포함) */
+    private BoardListItemDto toListItem(BoardListRecord record) {
+        return new BoardListItemDto(
                 record.getBoardId(),
-                record.getUserId(),
                 record.getTitle(),
-                record.getContent(),
                 record.getEmail(), // 작성자 email
                 record.getViewCount(),
-                record.getCreatedAt(),
-                record.getUpdatedAt()
+                record.getCommentCount(),
+                record.getCreatedAt()
         );
     }
 }
\ No newline at end of file
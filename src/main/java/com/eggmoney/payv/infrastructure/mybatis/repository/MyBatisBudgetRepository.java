@@ -2,6 +2,9 @@ package com.eggmoney.payv.infrastructure.mybatis.repository;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,9 +18,12 @@ import com.eggmoney.payv.domain.model.vo.BudgetId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.shared.error.ConcurrencyConflictException;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 import com.eggmoney.payv.infrastructure.mybatis.mapper.BudgetMapper;
 import com.eggmoney.payv.infrastructure.mybatis.record.BudgetRecord;
+import com.eggmoney.payv.infrastructure.mybatis.uow.EntityMapping;
+import com.eggmoney.payv.infrastructure.mybatis.uow.UnitOfWork;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,11 +32,16 @@ import lombok.RequiredArgsConstructor;
 public class MyBatisBudgetRepository implements BudgetRepository {
 
 	private final BudgetMapper mapper;
+	private final UnitOfWork unitOfWork;
 	
 	@Override
     public Optional<Budget> findById(BudgetId id) {
+		// 같은 트랜잭션에서 이미 읽은 예산이면 SQL 없이 같은 인스턴스.
+		Budget managed = unitOfWork.find(uowMapping, id.value());
+		if (managed != null) return Optional.of(managed);
+		
         BudgetRecord budgetRecord = mapper.selectById(id.value());
-        return Optional.ofNullable(budgetRecord).map(this::toDomain);
+        return Optional.ofNullable(budgetRecord).map(r -> unitOfWork.manage(uowMapping, toDomain(r)));
     }
 
     @Override
@@ -60,15 +71,53 @@ public class MyBatisBudgetRepository implements BudgetRepository {
 
     @Override
     public void save(Budget budget) {
+    	// 트랜잭션 안: 작업 단위에 기록만 하고 커밋 직전에 일괄 반영.(유니크 위반은 uowMapping.translate)
+    	if (unitOfWork.register(uowMapping, budget)) return;
+    	
+    	// 트랜잭션 밖(또는 이전에 읽어 둔 사본): 존재 확인 없이 버전으로 INSERT/UPDATE 판단.
         BudgetRecord record = toRecord(budget);
-        BudgetRecord existing = mapper.selectById(budget.getId().value());
+        int updated;
         try {
-            if (existing == null) mapper.insert(record);
-            else mapper.update(record);
+            if (budget.isNew()) {
+            	mapper.insert(record);
+            	budget.syncVersion(0L);
+            	return;
+            }
+            updated = mapper.update(record);
         } catch (DuplicateKeyException dup) {
-            // Unique(LEDGER_ID, CATEGORY_ID, YEAR_MONTH) 위반 등 → 도메인 예외로 변환.
-            throw new DomainException("budget already exists for this category and month", dup);
+            throw duplicated(dup);
+        }
+        if (updated == 0) {
+        	// 읽은 뒤 다른 요청이 먼저 변경(VERSION 불일치).
+        	throw new ConcurrencyConflictException("budget was modified concurrently: " + budget.getId());
         }
+        budget.syncVersion(budget.getVersion() + 1);
+    }
+
+    @Override
+    public boolean applySpentDelta(BudgetId id, Money delta) {
+        boolean applied = mapper.applySpentDelta(id.value(), delta.toLong()) > 0;
+        // DB 소진액이 바뀌었으므로 다음 조회는 DB 에서.
+        unitOfWork.evict(uowMapping, id.value());
+        return applied;
+    }
+
+    @Override
+    public List<Budget> findByLedgerAndMonths(LedgerId ledgerId, Collection<YearMonth> months) {
+        if (months.isEmpty()) return Collections.emptyList();
+        List<String> yearMonths = months.stream()
+        		.map(YearMonth::toString)	// 'YYYY-MM'
+        		.distinct()
+        		.collect(Collectors.toList());
+        
+        return mapper.selectByLedgerAndMonths(ledgerId.value(), yearMonths)
+        		.stream().map(this::toDomain).collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Budget> findSeries(LedgerId ledgerId, CategoryId categoryId, YearMonth from, YearMonth to) {
+        return mapper.selectSeries(ledgerId.value(), categoryId.value(), from.toString(), to.toString())
+        		.stream().map(this::toDomain).collect(Collectors.toList());
     }
 
     @Override
@@ -81,8 +130,37 @@ public class MyBatisBudgetRepository implements BudgetRepository {
         		.stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    // Unique(LEDGER_ID, CATEGORY_ID, YEAR_MONTH) 위반 등 → 도메인 예외로 변환.
+    private static DomainException duplicated(DuplicateKeyException dup) {
+    	return new DomainException("budget already exists for this category and month", dup);
+    }
+
+    // ---- 작업 단위 매핑 ----
+    // 변경 감지는 UPDATE 문이 쓰는 컬럼만.(소진액은 applySpentDelta 로만 반영)
+    private final EntityMapping<Budget, BudgetMapper> uowMapping = new EntityMapping<Budget, BudgetMapper>() {
+    	@Override public int flushOrder() { return 2; }
+    	@Override public Class<BudgetMapper> mapperType() { return BudgetMapper.class; }
+    	@Override public String idOf(Budget b) { return b.getId().value(); }
+    	@Override public boolean isNew(Budget b) { return b.isNew(); }
+    	@Override public long versionOf(Budget b) { return b.getVersion(); }
+    	@Override public void syncVersion(Budget b, long version) { b.syncVersion(version); }
+    	@Override public Object toRecord(Budget b) { return MyBatisBudgetRepository.this.toRecord(b); }
+    	@Override public void insert(BudgetMapper m, Object record) { m.insert((BudgetRecord) record); }
+    	@Override public void update(BudgetMapper m, Object record) { m.update((BudgetRecord) record); }
+    	
+    	@Override 
+    	public Object dirtyState(Budget b) {
+    		return Arrays.asList(b.getLedgerId(), b.getCategoryId(), b.getMonth(), b.getLimit());
+    	}
+    	
+    	@Override 
+    	public RuntimeException translate(RuntimeException e) {
+    		return e instanceof DuplicateKeyException ? duplicated((DuplicateKeyException) e) : e;
+    	}
+    };
+
     // ---- 변환 ----
-    private Budget toDomain(BudgetRecord record) {
+    Budget toDomain(BudgetRecord record) {
     	LocalDateTime created = (record.getCreatedAt() == null) ? null : record.getCreatedAt().toLocalDateTime();
         return Budget.reconstruct(
                 BudgetId.of(record.getBudgetId()),
@@ -91,11 +169,12 @@ public class MyBatisBudgetRepository implements BudgetRepository {
                 YearMonth.parse(record.getYearMonth()),		// 'YYYY-MM'
                 Money.won(record.getLimitAmount()),
                 Money.won(record.getSpentAmount()),
-                created
+                created,
+                record.getVersion() == null ? 0L : record.getVersion()
         );
     }
 
-    private BudgetRecord toRecord(Budget budget) {
+    BudgetRecord toRecord(Budget budget) {
         return BudgetRecord.builder()
         		.budgetId(budget.getId().value())
 				.ledgerId(budget.getLedgerId().value())
@@ -103,6 +182,7 @@ public class MyBatisBudgetRepository implements BudgetRepository {
 				.yearMonth(budget.getMonth().toString())	// 'YYYY-MM'
 				.limitAmount(budget.getLimit().toLong())
 				.spentAmount(budget.getSpent().toLong())
+				.version(budget.getVersion())
 				.build();
     }
 }
@@ -1,6 +1,10 @@
 package com.eggmoney.payv.infrastructure.mybatis.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -14,6 +18,7 @@ import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 import com.eggmoney.payv.infrastructure.mybatis.mapper.CategoryMapper;
 import com.eggmoney.payv.infrastructure.mybatis.record.CategoryRecord;
+import com.eggmoney.payv.infrastructure.mybatis.uow.UnitOfWork;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,11 +27,35 @@ import lombok.RequiredArgsConstructor;
 public class MyBatisCategoryRepository implements CategoryRepository {
 
 	private final CategoryMapper mapper;
+	private final UnitOfWork unitOfWork;
 	
 	@Override
     public Optional<Category> findById(CategoryId id) {
+		// 같은 트랜잭션에서 이미 읽은 카테고리면 SQL 없이 같은 인스턴스.(읽기 전용 등록: 식별자 맵만 사용, 저장은 즉시)
+		Category managed = unitOfWork.findReadOnly(Category.class, id.value());
+		if (managed != null) return Optional.of(managed);
+		
         CategoryRecord categoryRecord = mapper.selectById(id.value());
-        return Optional.ofNullable(categoryRecord).map(this::toDomain);
+        return Optional.ofNullable(categoryRecord).map(r -> unitOfWork.manageReadOnly(Category.class, r.getCategoryId(), toDomain(r)));
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllByIds(Collection<CategoryId> ids) {
+    	List<String> values = ids.stream().map(CategoryId::value).distinct().collect(Collectors.toList());
+    	Map<CategoryId, Category> found = new LinkedHashMap<>(values.size() * 2);
+    	List<String> missing = new ArrayList<>(values.size());
+    	for (String id : values) {
+    		Category managed = unitOfWork.findReadOnly(Category.class, id);
+    		if (managed != null) found.put(managed.getId(), managed);
+    		else missing.add(id);
+    	}
+    	for (List<String> chunk : InClauseChunks.of(missing)) {
+    		for (CategoryRecord r : mapper.selectByIds(chunk)) {
+    			Category category = unitOfWork.manageReadOnly(Category.class, r.getCategoryId(), toDomain(r));
+    			found.put(category.getId(), category);
+    		}
+    	}
+    	return found;
     }
 
     @Override
@@ -70,14 +99,18 @@ public class MyBatisCategoryRepository implements CategoryRepository {
             // UQ(LEDGER_ID, NAME) 위반 등 → 도메인 예외로 변환
             throw new DomainException("category name already exists in this ledger", dup);
         }
+        unitOfWork.evictReadOnly(Category.class, category.getId().value());
     }
 
     @Override
     public void delete(LedgerId ledgerId, CategoryId id) {
         mapper.delete(id.value());
         mapper.deleteChildren(ledgerId.value(), id.value());
+        unitOfWork.evictReadOnly(Category.class, id.value());
+        // 하위 카테고리도 SQL 로 함께 삭제됐으므로 읽어 둔 인스턴스를 버림.
+        unitOfWork.evictReadOnlyIf(Category.class, c -> id.equals(c.getParentId()));
     }
-    
+
     @Override
     public List<Category> findSystemTemplatesOrdered() {
     	return mapper.selectSystemTemplatesOrdered().stream()
@@ -86,7 +119,7 @@ public class MyBatisCategoryRepository implements CategoryRepository {
 	}
 
     // ---- 변환부 ----
-    private Category toDomain(CategoryRecord record) {
+    Category toDomain(CategoryRecord record) {
         return Category.reconstruct(
         		CategoryId.of(record.getCategoryId()),
                 LedgerId.of(record.getLedgerId()),
@@ -98,7 +131,7 @@ public class MyBatisCategoryRepository implements CategoryRepository {
         );
     }
 
-    private CategoryRecord toRecord(Category category) {
+    CategoryRecord toRecord(Category category) {
         return CategoryRecord.builder()
         		.categoryId(category.getId().value())
         		.ledgerId(category.getLedgerId().value())
@@ -1,12 +1,23 @@
 package com.eggmoney.payv.infrastructure.mybatis.repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.stereotype.Repository;
 
 import com.eggmoney.payv.domain.model.entity.Category;
@@ -18,10 +29,17 @@ import com.eggmoney.payv.domain.model.vo.CategoryId;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
 import com.eggmoney.payv.domain.model.vo.TransactionId;
+import com.eggmoney.payv.domain.model.vo.TransactionTotal;
+import com.eggmoney.payv.domain.shared.error.ConcurrencyConflictException;
+import com.eggmoney.payv.infrastructure.cache.TransactionCountCache;
+import com.eggmoney.payv.infrastructure.mybatis.uow.EntityMapping;
+import com.eggmoney.payv.infrastructure.mybatis.uow.UnitOfWork;
 import com.eggmoney.payv.infrastructure.mybatis.mapper.TransactionMapper;
 import com.eggmoney.payv.infrastructure.mybatis.record.TransactionRecord;
+import com.eggmoney.payv.infrastructure.mybatis.record.TransactionTotalRecord;
 import com.eggmoney.payv.presentation.dto.PageRequestDto;
 import com.eggmoney.payv.presentation.dto.PageResultDto;
+import com.eggmoney.payv.presentation.dto.TransactionCursor;
 import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
 
 import lombok.RequiredArgsConstructor;
@@ -31,27 +49,121 @@ import lombok.RequiredArgsConstructor;
 public class MyBatisTransactionRepository  implements TransactionRepository {
 
 	private final TransactionMapper mapper;
+	private final TransactionCountCache countCache;
+	private final SqlSessionFactory sqlSessionFactory;
+	private final UnitOfWork unitOfWork;
 	
 	@Override
     public Optional<Transaction> findById(TransactionId id) {
+		// 같은 트랜잭션에서 이미 읽은 거래면 SQL 없이 같은 인스턴스.
+		Transaction managed = unitOfWork.find(uowMapping, id.value());
+		if (managed != null) return Optional.of(managed);
+		
         TransactionRecord transactionRecord = mapper.selectById(id.value());
-        return Optional.ofNullable(transactionRecord).map(this::toDomain);
+        return Optional.ofNullable(transactionRecord).map(r -> unitOfWork.manage(uowMapping, toDomain(r)));
+    }
+
+    @Override
+    public Map<TransactionId, Transaction> findAllByIds(Collection<TransactionId> ids) {
+    	List<String> values = ids.stream().map(TransactionId::value).distinct().collect(Collectors.toList());
+    	Map<TransactionId, Transaction> found = new LinkedHashMap<>(values.size() * 2);
+    	List<String> missing = new ArrayList<>(values.size());
+    	for (String id : values) {
+    		Transaction managed = unitOfWork.find(uowMapping, id);
+    		if (managed != null) found.put(managed.getId(), managed);
+    		else missing.add(id);
+    	}
+    	for (List<String> chunk : InClauseChunks.of(missing)) {
+    		for (TransactionRecord r : mapper.selectByIds(chunk)) {
+    			Transaction transaction = unitOfWork.manage(uowMapping, toDomain(r));
+    			found.put(transaction.getId(), transaction);
+    		}
+    	}
+    	return found;
     }
 
     @Override
     public void save(Transaction Transaction) {
-        // upsert 스타일: 존재하면 update, 없으면 insert
-        TransactionRecord existing = mapper.selectById(Transaction.getId().value());
-        if (existing == null) {
+    	countCache.invalidate(Transaction.getLedgerId().value());
+    	// 트랜잭션 안: 작업 단위에 기록만 하고 커밋 직전에 일괄 반영.
+    	if (unitOfWork.register(uowMapping, Transaction)) return;
+    	
+    	// 트랜잭션 밖(또는 이전에 읽어 둔 사본): 존재 확인 없이 버전으로 INSERT/UPDATE 판단.
+        if (Transaction.isNew()) {
             mapper.insert(toRecord(Transaction));
+            Transaction.syncVersion(0L);
+        } else if (mapper.update(toRecord(Transaction)) == 0) {
+            // 읽은 뒤 다른 요청이 먼저 변경(VERSION 불일치).
+            throw new ConcurrencyConflictException("transaction was modified concurrently: " + Transaction.getId());
         } else {
-            mapper.update(toRecord(Transaction));
+            Transaction.syncVersion(Transaction.getVersion() + 1);
         }
     }
 
     @Override
-    public void delete(TransactionId id) {
+    public int insertAll(List<Transaction> transactions) {
+    	if (transactions.isEmpty()) return 0;
+
+    	// BATCH 실행기 세션을 따로 열되, 커넥션은 스프링 트랜잭션의 것을 그대로 사용(SpringManagedTransaction).
+    	// 커밋/롤백은 바깥 트랜잭션이 담당하므로 여기서는 flush 후 닫기만 함.
+    	try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+    		TransactionMapper batchMapper = batchSession.getMapper(TransactionMapper.class);
+    		for (Transaction transaction : transactions) {
+    			batchMapper.insert(toRecord(transaction));
+    		}
+    		batchSession.flushStatements();
+    	}
+    	transactions.forEach(t -> t.syncVersion(0L));
+
+    	transactions.stream().map(t -> t.getLedgerId().value()).distinct().forEach(countCache::invalidate);
+    	return transactions.size();
+    }
+
+    @Override
+    public int changePostedState(List<Transaction> transactions, Consumer<Transaction> change) {
+    	if (transactions.isEmpty()) return 0;
+
+    	// 게시 상태는 여기서 직접 반영하므로, 메모리상 변경 바로 다음에(사이에 SQL 없이) 작업 단위의 변경 감지 대상에서 제외.
+    	// (변경된 채로 남으면 아래 UPDATE 전의 어떤 조회든 자동 flush 로 건별 UPDATE 를 먼저 실행함)
+    	// 아직 INSERT 전인 신규 거래는 flush 때 현재 상태로 반영되므로 작업 단위에 맡김.
+    	List<Transaction> persisted = new ArrayList<>(transactions.size());
+    	for (Transaction t : transactions) {
+    		change.accept(t);
+    		if (unitOfWork.isPendingInsert(uowMapping, t)) continue;
+    		unitOfWork.markClean(uowMapping, t);
+    		persisted.add(t);
+    	}
+    	int pending = transactions.size() - persisted.size();
+
+    	// (게시 여부, 게시 시각) 이 같은 거래끼리 묶어서 IN 목록 UPDATE.
+    	// 같은 루프에서 게시된 거래는 게시 시각이 거의 같으므로 묶음 수는 몇 개 수준.
+    	Map<String, List<Transaction>> groups = persisted.stream()
+    			.collect(Collectors.groupingBy(t -> t.isPosted() + "|" + t.getPostedAt(),
+    					LinkedHashMap::new, Collectors.toList()));
+
+    	int updated = 0;
+    	for (List<Transaction> group : groups.values()) {
+    		Transaction head = group.get(0);
+    		List<String> ids = group.stream().map(t -> t.getId().value()).collect(Collectors.toList());
+    		for (List<String> chunk : InClauseChunks.of(ids)) {
+    			updated += mapper.updatePostedByIds(chunk, head.isPosted(), head.getPostedAt());
+    		}
+    	}
+
+    	// 반대 상태인 행만 갱신하므로, 모자라면 그 사이 다른 요청이 게시 상태를 바꾼 것.
+    	if (updated != persisted.size()) {
+    		throw new ConcurrencyConflictException("posted state was modified concurrently: expected "
+    				+ persisted.size() + " rows, updated " + updated);
+    	}
+    	persisted.forEach(t -> t.syncVersion(t.getVersion() + 1));
+    	return updated + pending;
+    }
+
+    @Override
+    public void delete(LedgerId ledgerId, TransactionId id) {
         mapper.delete(id.value());
+        unitOfWork.evict(uowMapping, id.value());
+        countCache.invalidate(ledgerId.value());	// 가계부는 호출자가 이미 읽은 거래에서 받음.(추가 조회 없음)
     }
 
     @Override
@@ -62,6 +174,24 @@ public class MyBatisTransactionRepository  implements TransactionRepository {
                 .stream().map(this::toDomain).collect(Collectors.toList());
     }
     
+    @Override
+    public List<Transaction> findTopByDay(LedgerId ledgerId, LocalDate from, LocalDate to, int perDay) {
+        return mapper.selectTopNPerDay(ledgerId.value(), from, to, perDay)
+                .stream().map(this::toDomain).collect(Collectors.toList());
+    }
+    
+	@Override
+	public void forEachByLedgerAndDateRange(LedgerId ledgerId, LocalDate from, LocalDate to,
+			Consumer<Transaction> action) {
+		try (Cursor<TransactionRecord> cursor = mapper.cursorByLedgerAndDateRange(ledgerId.value(), from, to)) {
+			for (TransactionRecord record : cursor) {
+				action.accept(toDomain(record));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	@Override
 	public List<Transaction> findByLedgerAndMonth(LedgerId ledgerId, YearMonth month, int limit, int offset) {
 		LocalDate from = month.atDay(1);
@@ -88,50 +218,137 @@ public class MyBatisTransactionRepository  implements TransactionRepository {
 											 TransactionSearchCondition cond, 
 											 PageRequestDto page) {		
 
+		// 커서 모드: count 없이 마지막 행 이후부터 탐색.
+		if (page.isCursorMode()) {
+			return searchAfter(ledgerId, cond, page);
+		}
+
 		// ---------- 3) 총건수/목록 조회 ----------
-		long total = mapper.countByCond(ledgerId.toString(), cond);
+		// 같은 조건의 건수가 캐시돼 있으면 목록만, 아니면 목록 + COUNT(*) OVER () 를 한 번에 조회.
+		String lId = ledgerId.toString();
+		long cacheGeneration = countCache.generation(lId);	// 조회 중 무효화되면 put 이 무시됨
+		Long cachedTotal = countCache.get(lId, cond);
+		List<TransactionRecord> records = mapper.listByCond(lId, cond, page.offset(), page.limit(), cachedTotal == null);
+
+		long total;
+		if (cachedTotal != null) {
+			total = cachedTotal;
+		} else if (!records.isEmpty()) {
+			total = records.get(0).getTotalCount();
+			countCache.put(lId, cacheGeneration, cond, total);
+		} else {
+			// 빈 페이지: 조건에 맞는 행이 없거나, 요청 페이지가 범위를 벗어난 경우만 별도 count.
+			total = page.offset() == 0 ? 0L : mapper.countByCond(lId, cond);
+			countCache.put(lId, cacheGeneration, cond, total);
+		}
 
 		// (요청 페이지가 범위를 벗어나면 마지막 페이지로 조정하는 로직이 필요하면 여기서 보정 가능)
-		List<Transaction> content = mapper.listByCond(ledgerId.toString(), cond, page.offset(), page.limit())
-				.stream().map(this::toDomain).collect(Collectors.toList());
+		List<Transaction> content = records.stream().map(this::toDomain).collect(Collectors.toList());
 
 		// ---------- 4) 페이지 결과 조립 ----------
 		return new PageResultDto<>(total, page.getPage(), page.getSize(), content);
 	}
-	
-	
-	
+
+	// 한 건 더 읽어서 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만듦.
+	private PageResultDto<Transaction> searchAfter(LedgerId ledgerId, TransactionSearchCondition cond, PageRequestDto page) {
+		TransactionCursor after = TransactionCursor.decode(page.getCursor());
+		int limit = page.limit();
+
+		List<TransactionRecord> records = mapper.listByCondAfter(ledgerId.toString(), cond,
+				after == null ? null : after.getDate(),
+				after == null ? null : after.getTransactionId(),
+				limit + 1);
+
+		String nextCursor = null;
+		if (records.size() > limit) {
+			records = records.subList(0, limit);
+			TransactionRecord last = records.get(limit - 1);
+			nextCursor = new TransactionCursor(last.getDate(), last.getTransactionId()).encode();
+		}
+
+		List<Transaction> content = records.stream().map(this::toDomain).collect(Collectors.toList());
+		return PageResultDto.ofCursor(limit, content, nextCursor);
+	}
+
+	// ---- 집계 ----
+	@Override
+	public List<TransactionTotal> sumByDay(LedgerId ledgerId, LocalDate from, LocalDate to, boolean postedOnly) {
+		return toTotals(mapper.sumByDay(ledgerId.value(), from, to, postedOnly));
+	}
+
+	@Override
+	public List<TransactionTotal> sumByType(LedgerId ledgerId, TransactionSearchCondition cond) {
+		return toTotals(mapper.sumByTypeAndCond(ledgerId.value(), cond));
+	}
+
+	@Override
+	public long sumAmount(LedgerId ledgerId, List<CategoryId> categoryIds, TransactionType type,
+			LocalDate from, LocalDate to, boolean postedOnly) {
+		List<String> ids = categoryIds.stream().map(CategoryId::value).collect(Collectors.toList());
+		return mapper.sumAmountByCategoryIds(ledgerId.value(), ids, type.name(), from, to, postedOnly);
+	}
 
     // ---- 변환부 ----
-    private Transaction toDomain(TransactionRecord record) {
+    private List<TransactionTotal> toTotals(List<TransactionTotalRecord> records) {
+    	List<TransactionTotal> totals = new ArrayList<>(records.size());
+    	for (TransactionTotalRecord r : records) {
+    		totals.add(new TransactionTotal(r.getGroupKey(), TransactionType.valueOf(r.getType()),
+    				r.getTotalAmount(), r.getTxCount()));
+    	}
+    	return totals;
+    }
+
+
+    // ---- 작업 단위 매핑 ----
+    private final EntityMapping<Transaction, TransactionMapper> uowMapping = new EntityMapping<Transaction, TransactionMapper>() {
+    	@Override public int flushOrder() { return 3; }	// 자산 다음
+    	@Override public Class<TransactionMapper> mapperType() { return TransactionMapper.class; }
+    	@Override public String idOf(Transaction t) { return t.getId().value(); }
+    	@Override public boolean isNew(Transaction t) { return t.isNew(); }
+    	@Override public long versionOf(Transaction t) { return t.getVersion(); }
+    	@Override public void syncVersion(Transaction t, long version) { t.syncVersion(version); }
+    	@Override public Object toRecord(Transaction t) { return MyBatisTransactionRepository.this.toRecord(t); }
+    	@Override public void insert(TransactionMapper m, Object record) { m.insert((TransactionRecord) record); }
+    	@Override public void update(TransactionMapper m, Object record) { m.update((TransactionRecord) record); }
+    	
+    	@Override 
+    	public Object dirtyState(Transaction t) {
+    		return Arrays.asList(t.getLedgerId(), t.getAccountId(), t.getDate(), t.getType(), t.getAmount(),
+    				t.getCategoryId(), t.getMemo(), t.isPosted(), t.getPostedAt());
+    	}
+    };
+
+    Transaction toDomain(TransactionRecord record) {
         return Transaction.reconstruct(
             TransactionId.of(record.getTransactionId()),
             LedgerId.of(record.getLedgerId()),
             AccountId.of(record.getAccountId()),
             TransactionType.valueOf(record.getType()),
             record.getDate(),
-            Money.of(record.getAmount()),                 // KRW scale=0
+            Money.won(record.getAmount()),                // KRW scale=0
             CategoryId.of(record.getCategoryId()),
             record.getMemo(),
             "Y".equals(record.getPosted()),
             record.getPostedAt(),
-            record.getCreatedAt()
+            record.getCreatedAt(),
+            record.getVersion() == null ? 0L : record.getVersion()
         );
     }
 
-	private TransactionRecord toRecord(Transaction transaction) {
+	TransactionRecord toRecord(Transaction transaction) {
 		return TransactionRecord.builder()
 				.transactionId(transaction.getId().value())
 				.ledgerId(transaction.getLedgerId().value())
 				.accountId(transaction.getAccountId().value())
 				.date(transaction.getDate())
 				.type(transaction.getType().name())
-				.amount(transaction.getAmount().toBigDecimal())
+				.amount(transaction.getAmount().toLong())
 				.categoryId(transaction.getCategoryId().value())
 				.memo(transaction.getMemo())
 				.posted(transaction.isPosted() ? "Y" : "N")
 				.postedAt(transaction.getPostedAt())
 				.createdAt(transaction.getCreatedAt())
+				.version(transaction.getVersion())
 				.build();
 	}
 }
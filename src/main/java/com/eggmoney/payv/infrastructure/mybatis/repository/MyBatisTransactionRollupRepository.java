@@ -0,0 +1,69 @@
+package com.eggmoney.payv.infrastructure.mybatis.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.repository.TransactionRollupRepository;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
+import com.eggmoney.payv.infrastructure.mybatis.mapper.TransactionRollupMapper;
+import com.eggmoney.payv.infrastructure.mybatis.record.TransactionRollupRecord;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class MyBatisTransactionRollupRepository implements TransactionRollupRepository {
+
+	private final TransactionRollupMapper mapper;
+
+	@Override
+	public void apply(LedgerId ledgerId, YearMonth month, CategoryId categoryId, TransactionType type,
+			long amountDelta, int countDelta) {
+		if (amountDelta == 0 && countDelta == 0) return;
+
+		TransactionRollupRecord delta = TransactionRollupRecord.builder()
+				.ledgerId(ledgerId.value())
+				.yearMonth(month.toString())		// 'YYYY-MM'
+				.categoryId(categoryId.value())
+				.type(type.name())
+				.totalAmount(amountDelta)
+				.txCount(countDelta)
+				.build();
+		try {
+			mapper.merge(delta);
+		} catch (DuplicateKeyException e) {
+			// 같은 키의 첫 MERGE 두 개가 동시에 NOT MATCHED 로 판단하면 늦은 쪽이 PK 위반.
+			// 그 사이 행이 커밋되었으므로 다시 실행하면 MATCHED(UPDATE)로 처리됨. (문장 단위 롤백이라 트랜잭션은 유지)
+			mapper.merge(delta);
+		}
+	}
+
+	@Override
+	public List<MonthlyCategoryTotal> findByLedgerAndMonthRange(LedgerId ledgerId, YearMonth from, YearMonth to) {
+		return mapper.selectByLedgerAndMonthRange(ledgerId.value(), from.toString(), to.toString())
+				.stream().map(this::toDomain).collect(Collectors.toList());
+	}
+
+	@Override
+	public int rebuild(LedgerId ledgerId, YearMonth from, YearMonth to) {
+		mapper.deleteByMonthRange(ledgerId.value(), from.toString(), to.toString());
+		return mapper.insertFromTransactions(ledgerId.value(), from.atDay(1), to.plusMonths(1).atDay(1));
+	}
+
+	// ---- 변환부 ----
+	private MonthlyCategoryTotal toDomain(TransactionRollupRecord record) {
+		return new MonthlyCategoryTotal(
+				YearMonth.parse(record.getYearMonth()),
+				CategoryId.of(record.getCategoryId()),
+				TransactionType.valueOf(record.getType()),
+				record.getTotalAmount(),
+				record.getTxCount());
+	}
+}
@@ -1,6 +1,11 @@
 package com.eggmoney.payv.infrastructure.mybatis.repository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
@@ -24,6 +29,19 @@ public class MyBatisUserRepository implements UserRepository {
         return Optional.ofNullable(userRecord).map(this::toDomain);
     }
 
+    @Override
+    public Map<UserId, User> findAllByIds(Collection<UserId> ids) {
+    	List<String> values = ids.stream().map(UserId::value).distinct().collect(Collectors.toList());
+    	Map<UserId, User> found = new LinkedHashMap<>(values.size() * 2);
+    	for (List<String> chunk : InClauseChunks.of(values)) {
+    		for (UserRecord r : mapper.selectByIds(chunk)) {
+    			User user = toDomain(r);
+    			found.put(user.getId(), user);
+    		}
+    	}
+    	return found;
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         UserRecord userRecord = mapper.selectByEmail(email);
@@ -0,0 +1,49 @@
+package com.eggmoney.payv.infrastructure.mybatis.typehandler;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import com.eggmoney.payv.infrastructure.mybatis.id.UuidBytes;
+
+/**
+ * AbstractStringIdTypeHandler 의 RAW(16) 저장판.
+ * - 값은 그대로 UUID 문자열, DB 에는 16바이트로 저장.(VARCHAR2(36) 대비 인덱스 절반 이하)
+ * - T 는 도메인 식별자(StringId) 또는 레코드의 String 식별자. 문자열 ↔ T 변환만 구현체가 담당.
+ * - RAW(16) 로 옮긴 컬럼에만 구현체를 둠. 구현체는 전역 등록을 피하려면 typeHandlersPackage 밖에 둠.
+ *   (현재 구현체: RawUuidStringTypeHandler → TransactionMapper.xml 의 TRANSACTION_ID)
+ */
+public abstract class AbstractRawStringIdTypeHandler<T> extends BaseTypeHandler<T> {
+
+	@Override
+    public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcType jdbcType) 
+    		throws SQLException {
+        ps.setBytes(i, UuidBytes.toBytes(unwrap(parameter)));
+    }
+	
+    @Override
+    public T getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        byte[] v = rs.getBytes(columnName);
+        return v == null ? null : wrap(UuidBytes.fromBytes(v));
+    }
+    
+    @Override
+    public T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        byte[] v = rs.getBytes(columnIndex);
+        return v == null ? null : wrap(UuidBytes.fromBytes(v));
+    }
+    
+    @Override
+    public T getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        byte[] v = cs.getBytes(columnIndex);
+        return v == null ? null : wrap(UuidBytes.fromBytes(v));
+    }
+    
+    protected abstract String unwrap(T value);
+
+    protected abstract T wrap(String raw);
+}
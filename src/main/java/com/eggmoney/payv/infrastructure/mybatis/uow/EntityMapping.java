@@ -0,0 +1,42 @@
+package com.eggmoney.payv.infrastructure.mybatis.uow;
+
+/**
+ * 작업 단위(UnitOfWork)가 엔티티 하나를 추적/반영하는 데 필요한 정보.
+ * - 각 MyBatis 리포지토리가 자기 엔티티용으로 하나씩 구현.
+ * - dirtyState 는 UPDATE 문이 실제로 쓰는 컬럼만 담아야 함.
+ *   (잔액/소진액처럼 SQL 증감으로만 바뀌는 값이 들어가면 불필요한 UPDATE 가 생김)
+ * @author 정의탁
+ *
+ * @param <T> 엔티티
+ * @param <M> 매퍼
+ */
+public interface EntityMapping<T, M> {
+
+	// 같은 flush 안에서의 INSERT 순서.(FK 참조 대상이 먼저)
+	int flushOrder();
+
+	Class<M> mapperType();
+
+	String idOf(T entity);
+
+	// 아직 저장 전인 엔티티인지.(create() 직후)
+	boolean isNew(T entity);
+
+	long versionOf(T entity);
+
+	void syncVersion(T entity, long version);
+
+	// 변경 감지용 상태값.(equals 로 비교)
+	Object dirtyState(T entity);
+
+	Object toRecord(T entity);
+
+	void insert(M mapper, Object record);
+
+	void update(M mapper, Object record);
+
+	// flush 중 발생한 예외 변환.(유니크 위반 → 도메인 예외 등)
+	default RuntimeException translate(RuntimeException e) {
+		return e;
+	}
+}
@@ -0,0 +1,330 @@
+package com.eggmoney.payv.infrastructure.mybatis.uow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchExecutorException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eggmoney.payv.domain.shared.error.ConcurrencyConflictException;
+
+/**
+ * 트랜잭션 범위 작업 단위(Unit of Work)
+ * - 식별자 맵: 같은 트랜잭션 안에서 같은 id 를 다시 찾으면 SQL 없이 같은 인스턴스 반환.
+ * - 신규/변경 추적: save() 는 기록만 하고(존재 확인 SELECT 없음),
+ *   커밋 직전(beforeCommit)에 모아서 BATCH 실행기로 INSERT → UPDATE 순서로 한 번에 반영.
+ * - 변경 감지는 읽을 때 떠 둔 상태값(EntityMapping.dirtyState)과 비교. 바뀐 것만 UPDATE.
+ * - 다른 SQL 이 실행되기 전에는 UnitOfWorkFlushInterceptor 가 먼저 flush 하므로,
+ *   같은 트랜잭션의 조회/증감 SQL 은 항상 앞선 저장 내용을 봄.
+ * - 읽기 전용 등록(findReadOnly/manageReadOnly): 식별자 맵만 쓰고 flush 대상이 아닌 엔티티.
+ *   (저장을 리포지토리가 바로 실행하는 엔티티. EntityMapping 없이 엔티티 타입 + id 로 관리)
+ * - 트랜잭션 밖(동기화 비활성)에서는 아무것도 하지 않고, 리포지토리가 바로 실행.
+ * @author 정의탁
+ */
+@Component
+public class UnitOfWork {
+
+	private static final Object RESOURCE_KEY = UnitOfWork.class.getName() + ".SESSION";
+
+	private final SqlSessionFactory sqlSessionFactory;
+	private final MyBatisExceptionTranslator exceptionTranslator;
+
+	public UnitOfWork(SqlSessionFactory sqlSessionFactory) {
+		this.sqlSessionFactory = sqlSessionFactory;
+		this.exceptionTranslator = new MyBatisExceptionTranslator(
+				sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(), true);
+	}
+
+	// 관리 중인 인스턴스. 없거나 트랜잭션 밖이면 null.
+	public <T> T find(EntityMapping<T, ?> mapping, String id) {
+		Session session = current(false);
+		if (session == null) return null;
+		Entry entry = session.entries.get(keyOf(mapping, id));
+		return entry == null ? null : cast(entry.entity);
+	}
+
+	// 조회한 엔티티를 관리 대상으로 등록. 이미 관리 중이면 기존 인스턴스를 돌려줌.
+	public <T> T manage(EntityMapping<T, ?> mapping, T loaded) {
+		Session session = current(true);
+		if (session == null) return loaded;
+		String key = keyOf(mapping, mapping.idOf(loaded));
+		Entry entry = session.entries.get(key);
+		if (entry != null) return cast(entry.entity);
+
+		session.entries.put(key, new Entry(mapping, loaded, mapping.dirtyState(loaded)));
+		return loaded;
+	}
+
+	// 읽기 전용으로 관리 중인 인스턴스. 없거나 트랜잭션 밖이면 null.
+	public <T> T findReadOnly(Class<T> type, String id) {
+		Session session = current(false);
+		return session == null ? null : type.cast(session.readOnly.get(keyOf(type, id)));
+	}
+
+	// 조회한 엔티티를 읽기 전용으로 등록.(변경 추적/flush 없음) 이미 관리 중이면 기존 인스턴스를 돌려줌.
+	public <T> T manageReadOnly(Class<T> type, String id, T loaded) {
+		Session session = current(true);
+		if (session == null) return loaded;
+		return type.cast(session.readOnly.computeIfAbsent(keyOf(type, id), k -> loaded));
+	}
+
+	// 읽기 전용 관리 대상에서 제외.(저장/삭제 후 → 다음 조회는 DB 에서)
+	public void evictReadOnly(Class<?> type, String id) {
+		Session session = current(false);
+		if (session != null) session.readOnly.remove(keyOf(type, id));
+	}
+
+	// 조건에 맞는 읽기 전용 관리 대상을 모두 제외.(SQL 로 여러 행을 함께 바꾼 뒤)
+	public <T> void evictReadOnlyIf(Class<T> type, Predicate<? super T> filter) {
+		Session session = current(false);
+		if (session == null) return;
+		String prefix = keyOf(type, "");
+		session.readOnly.entrySet().removeIf(e -> e.getKey().startsWith(prefix) && filter.test(type.cast(e.getValue())));
+	}
+
+	/**
+	 * save() 위임. true 면 flush 때 반영되므로 리포지토리는 더 할 일이 없음.
+	 * false 면 트랜잭션 밖이거나 관리 중인 인스턴스가 아니므로 리포지토리가 바로 실행.
+	 * (같은 id 의 다른 인스턴스 = 이전에 읽어 둔 사본 → 버전 충돌을 호출 시점에 드러냄)
+	 */
+	public <T> boolean register(EntityMapping<T, ?> mapping, T entity) {
+		Session session = current(true);
+		if (session == null) return false;
+		String key = keyOf(mapping, mapping.idOf(entity));
+		Entry entry = session.entries.get(key);
+
+		if (entry != null) {
+			if (entry.entity == entity) return true;	// 관리 중: 변경 감지로 처리
+			session.flushPending();
+			session.entries.remove(key);
+			return false;
+		}
+
+		// 관리 밖에서 읽은 기존 엔티티(목록 조회 결과 등)는 바로 UPDATE.
+		// (잔액처럼 SQL 증감으로 바뀐 값을 모르는 사본이 식별자 맵에 들어가지 않도록)
+		if (!mapping.isNew(entity)) return false;
+
+		// 신규: INSERT 내용은 지금 고정.(이후 변경은 flush 때 UPDATE 로)
+		entry = new Entry(mapping, entity, mapping.dirtyState(entity));
+		entry.pendingInsert = mapping.toRecord(entity);
+		session.entries.put(key, entry);
+		return true;
+	}
+
+	// 리포지토리가 직접 SQL 로 반영한 뒤, 현재 상태를 깨끗한 상태로 기록.
+	public <T> void markClean(EntityMapping<T, ?> mapping, T entity) {
+		Session session = current(false);
+		if (session == null) return;
+		Entry entry = session.entries.get(keyOf(mapping, mapping.idOf(entity)));
+		if (entry != null && entry.entity == entity && entry.pendingInsert == null) {
+			entry.cleanState = mapping.dirtyState(entity);
+		}
+	}
+
+	// 아직 INSERT 되지 않은 신규 엔티티인지.(flush 때 현재 상태로 반영됨)
+	public <T> boolean isPendingInsert(EntityMapping<T, ?> mapping, T entity) {
+		Session session = current(false);
+		if (session == null) return false;
+		Entry entry = session.entries.get(keyOf(mapping, mapping.idOf(entity)));
+		return entry != null && entry.entity == entity && entry.pendingInsert != null;
+	}
+
+	// 관리 대상에서 제외.(삭제, SQL 증감으로 DB 값이 달라진 경우 → 다음 조회는 DB 에서)
+	public void evict(EntityMapping<?, ?> mapping, String id) {
+		Session session = current(false);
+		if (session != null) session.entries.remove(keyOf(mapping, id));
+	}
+
+	// 지금까지 기록된 변경을 즉시 반영.
+	public void flush() {
+		Session session = current(false);
+		if (session != null) session.flushPending();
+	}
+
+	// UnitOfWorkFlushInterceptor 용: 다른 SQL 실행 직전 반영. 반영한 것이 있으면 true.
+	static boolean flushBeforeStatement() {
+		Object resource = TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+		return resource != null && ((Session) resource).flushPending();
+	}
+
+	private Session current(boolean create) {
+		Session session = (Session) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+		if (session != null || !create) return session;
+		if (!TransactionSynchronizationManager.isSynchronizationActive()
+				|| !TransactionSynchronizationManager.isActualTransactionActive()) {
+			return null;
+		}
+
+		session = new Session();
+		TransactionSynchronizationManager.bindResource(RESOURCE_KEY, session);
+		TransactionSynchronizationManager.registerSynchronization(session);
+		return session;
+	}
+
+	private static String keyOf(EntityMapping<?, ?> mapping, String id) {
+		return mapping.mapperType().getName() + "|" + id;
+	}
+
+	private static String keyOf(Class<?> type, String id) {
+		return type.getName() + "|" + id;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T cast(Object entity) {
+		return (T) entity;
+	}
+
+	// 관리 중인 엔티티 한 건.
+	private static final class Entry {
+		final EntityMapping<Object, Object> mapping;
+		final Object entity;
+		Object cleanState;		// 마지막으로 DB 와 일치했던 상태
+		Object pendingInsert;	// 아직 INSERT 안 된 신규 엔티티의 레코드
+
+		@SuppressWarnings("unchecked")
+		Entry(EntityMapping<?, ?> mapping, Object entity, Object cleanState) {
+			this.mapping = (EntityMapping<Object, Object>) mapping;
+			this.entity = entity;
+			this.cleanState = cleanState;
+		}
+
+		boolean dirty() {
+			return !Objects.equals(cleanState, mapping.dirtyState(entity));
+		}
+	}
+
+	// 트랜잭션 하나에 묶인 상태. 트랜잭션 동기화 콜백으로 flush/정리.
+	private final class Session implements TransactionSynchronization {
+
+		final Map<String, Entry> entries = new LinkedHashMap<>();
+		final Map<String, Object> readOnly = new HashMap<>();
+		boolean flushing;
+
+		boolean flushPending() {
+			if (flushing || entries.isEmpty()) return false;
+
+			List<Entry> inserts = new ArrayList<>();
+			List<Entry> updates = new ArrayList<>();
+			for (Entry entry : entries.values()) {
+				if (entry.pendingInsert != null) inserts.add(entry);
+				if (entry.dirty()) updates.add(entry);
+			}
+			if (inserts.isEmpty() && updates.isEmpty()) return false;
+			inserts.sort(Comparator.comparingInt(e -> e.mapping.flushOrder()));
+
+			flushing = true;
+			try (SqlSession batch = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+				// 레코드 객체 → 엔티티 (BatchResult 의 파라미터로 결과를 대응)
+				Map<Object, Entry> updated = new IdentityHashMap<>();
+				for (Entry entry : inserts) {
+					entry.mapping.insert(batch.getMapper(entry.mapping.mapperType()), entry.pendingInsert);
+				}
+				for (Entry entry : updates) {
+					if (entry.pendingInsert != null) entry.mapping.syncVersion(entry.entity, 0L);
+					Object record = entry.mapping.toRecord(entry.entity);
+					entry.mapping.update(batch.getMapper(entry.mapping.mapperType()), record);
+					updated.put(record, entry);
+				}
+
+				for (BatchResult result : batch.flushStatements()) {
+					int[] counts = result.getUpdateCounts();
+					List<Object> params = result.getParameterObjects();
+					for (int i = 0; i < counts.length; i++) {
+						Entry entry = updated.get(params.get(i));
+						// SUCCESS_NO_INFO(-2) 는 건수를 모르는 드라이버 → 성공으로 간주.
+						if (entry != null && counts[i] == 0) {
+							throw new ConcurrencyConflictException(nameOf(entry.mapping)
+									+ " was modified concurrently: " + entry.mapping.idOf(entry.entity));
+						}
+					}
+				}
+
+				Set<Entry> updatedEntries = new HashSet<>(updates);
+				for (Entry entry : inserts) {
+					entry.pendingInsert = null;
+					if (!updatedEntries.contains(entry)) entry.mapping.syncVersion(entry.entity, 0L);
+				}
+				for (Entry entry : updates) {
+					entry.mapping.syncVersion(entry.entity, entry.mapping.versionOf(entry.entity) + 1);
+				}
+				for (Entry entry : entries.values()) {
+					entry.cleanState = entry.mapping.dirtyState(entry.entity);
+				}
+				return true;
+			} catch (PersistenceException e) {
+				throw translate(e, inserts, updates);
+			} finally {
+				flushing = false;
+			}
+		}
+
+		// 배치 실패 → 스프링 DataAccessException → 엔티티별 변환(유니크 위반 → 도메인 예외 등).
+		private RuntimeException translate(PersistenceException e, List<Entry> inserts, List<Entry> updates) {
+			DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+			RuntimeException ex = translated != null ? translated : e;
+
+			Throwable cause = e.getCause();
+			if (cause instanceof BatchExecutorException) {
+				String statementId = ((BatchExecutorException) cause).getFailingStatementId();
+				List<Entry> all = new ArrayList<>(inserts);
+				all.addAll(updates);
+				for (Entry entry : all) {
+					if (statementId != null && statementId.startsWith(entry.mapping.mapperType().getName() + ".")) {
+						return entry.mapping.translate(ex);
+					}
+				}
+			}
+			return ex;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(RESOURCE_KEY);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(RESOURCE_KEY, this);
+		}
+
+		// TransactionStatus.flush() 로도 반영 가능.
+		@Override
+		public void flush() {
+			flushPending();
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			flushPending();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+			entries.clear();
+			readOnly.clear();
+		}
+	}
+
+	private static String nameOf(EntityMapping<?, ?> mapping) {
+		return mapping.mapperType().getSimpleName().replace("Mapper", "").toLowerCase();
+	}
+}
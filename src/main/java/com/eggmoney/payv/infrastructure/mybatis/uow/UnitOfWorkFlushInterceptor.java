@@ -0,0 +1,41 @@
+package com.eggmoney.payv.infrastructure.mybatis.uow;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * 작업 단위 자동 flush
+ * - 같은 트랜잭션에서 다른 SQL(조회/증감/삭제)이 실행되기 직전에, UnitOfWork 에 쌓인 INSERT/UPDATE 를 먼저 반영.
+ *   (목록 조회가 방금 저장한 거래를 못 보거나, 증감 UPDATE 가 아직 INSERT 안 된 행을 찾는 일을 막음)
+ * - flush 는 별도 BATCH 세션으로 실행되므로, 반영 후 현재 세션의 1차 캐시를 비움.
+ * - root-context.xml 의 sqlSessionFactory plugins 로 등록.
+ * @author 정의탁
+ */
+@Intercepts({
+	@Signature(type = Executor.class, method = "update",
+			args = { MappedStatement.class, Object.class }),
+	@Signature(type = Executor.class, method = "query",
+			args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+	@Signature(type = Executor.class, method = "query",
+			args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+	@Signature(type = Executor.class, method = "queryCursor",
+			args = { MappedStatement.class, Object.class, RowBounds.class })
+})
+public class UnitOfWorkFlushInterceptor implements Interceptor {
+
+	@Override
+	public Object intercept(Invocation invocation) throws Throwable {
+		if (UnitOfWork.flushBeforeStatement()) {
+			((Executor) invocation.getTarget()).clearLocalCache();
+		}
+		return invocation.proceed();
+	}
+}
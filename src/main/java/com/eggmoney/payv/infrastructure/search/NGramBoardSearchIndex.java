@@ -0,0 +1,339 @@
+package com.eggmoney.payv.infrastructure.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eggmoney.payv.domain.model.entity.Board;
+import com.eggmoney.payv.domain.model.repository.BoardRepository;
+import com.eggmoney.payv.domain.model.repository.BoardSearchIndex;
+import com.eggmoney.payv.domain.model.vo.BoardId;
+import com.eggmoney.payv.domain.model.vo.BoardSearchField;
+import com.eggmoney.payv.domain.model.vo.BoardSearchResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 n-gram 게시글 검색 색인 (BoardSearchIndex 기본 구현)
+ * - 항목(제목/내용/작성자 email)별 역색인: n-gram → (게시글 ID → 출현 횟수).
+ * - 분해: NFKC + 소문자 정규화 후 글자/숫자 단어 단위로 1-gram, 2-gram.(한글은 형태소 분석 없이 글자 n-gram)
+ *   검색어는 단어마다 2-gram(한 글자 단어는 1-gram), 모든 조각을 포함한 게시글만 결과.
+ *   LIKE 와 달리 단어 순서/띄어쓰기는 보지 않음.
+ * - 순위: 조각별 idf × (1 + ln 출현 횟수) 합 / √항목 길이, 같으면 최신 글 먼저. 전체 건수는 같은 계산에서 함께.
+ * - 적재: 첫 검색 때 DB 전체를 한 번 읽음(커밋된 데이터만, 별도 트랜잭션). 실패하면 잠시 DB 검색으로 대체 후 재시도.
+ *   적재 트랜잭션은 readOnly 로 두지 않음: 복제본으로 가면 복제 지연 동안 커밋된 글이 다음 적재까지 빠짐.
+ * - 갱신: 쓰기 시점 + 커밋 직후 두 번 반영. 롤백되면 색인 전체를 버리고 다음 검색 때 다시 적재.
+ * - 이 프로세스의 쓰기만 반영하므로 서버가 여러 대면 DB 텍스트 색인 구현으로 교체.
+ * - board.search.index=like 면 색인을 쓰지 않음(이전 LIKE 검색).
+ * @author 정의탁
+ */
+@Slf4j
+@Component
+public class NGramBoardSearchIndex implements BoardSearchIndex {
+
+	// 적재 실패 후 다시 시도하기까지 대기(그동안은 DB 검색)
+	private static final long RETRY_AFTER_MILLIS = 60_000;
+
+	private static final Comparator<Hit> RANKING = Comparator.comparingDouble((Hit h) -> h.score).reversed()
+			.thenComparing((Hit h) -> h.createdAt, Comparator.reverseOrder())
+			.thenComparing(h -> h.boardId);
+
+	private final BoardRepository boardRepository;
+	private final TransactionTemplate loadTx;
+	private final boolean enabled;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<BoardSearchField, Map<String, Map<String, Integer>>> postings = new EnumMap<>(BoardSearchField.class);
+	private final Map<String, Document> documents = new HashMap<>();
+	private volatile boolean loaded;
+	private volatile long retryAt;
+
+	public NGramBoardSearchIndex(BoardRepository boardRepository, PlatformTransactionManager transactionManager,
+								 @Value("${board.search.index:ngram}") String mode) {
+		this.boardRepository = boardRepository;
+		this.loadTx = new TransactionTemplate(transactionManager);
+		// readOnly 가 아니어야 주 DB 에서 읽음.(ReadWriteRoutingDataSource)
+		this.loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		switch (mode.trim().toLowerCase(Locale.ROOT)) {
+			case "ngram":
+				this.enabled = true;
+				break;
+			case "like":
+				this.enabled = false;
+				break;
+			default:
+				throw new IllegalArgumentException("unknown board.search.index: " + mode);
+		}
+		for (BoardSearchField f : BoardSearchField.values()) postings.put(f, new HashMap<>());
+	}
+
+	@Override
+	public void index(Board board, String authorEmail) {
+		if (!enabled) return;
+		String id = board.getId().value();
+		String title = board.getTitle();
+		String content = board.getContent();
+		LocalDateTime createdAt = board.getCreatedAt();
+		applyTwice(() -> put(id, title, content, authorEmail, createdAt));
+	}
+
+	@Override
+	public void remove(BoardId boardId) {
+		if (!enabled) return;
+		String id = boardId.value();
+		applyTwice(() -> removeInternal(id));
+	}
+
+	@Override
+	public Optional<BoardSearchResult> search(String keyword, BoardSearchField field, int offset, int limit) {
+		if (!enabled || !ensureLoaded()) return Optional.empty();
+
+		List<String> grams = queryGrams(keyword);
+		lock.readLock().lock();
+		try {
+			if (!loaded) return Optional.empty();
+			List<Hit> hits = grams.isEmpty() ? all() : match(field, grams);
+			hits.sort(RANKING);
+
+			int from = Math.min(Math.max(offset, 0), hits.size());
+			int to = Math.min(from + Math.max(limit, 0), hits.size());
+			List<BoardId> page = hits.subList(from, to).stream()
+					.map(h -> BoardId.of(h.boardId))
+					.collect(Collectors.toList());
+			return Optional.of(new BoardSearchResult(page, hits.size()));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/* ---------------- 검색 ---------------- */
+
+	// 모든 조각을 포함한 게시글. 가장 짧은 목록을 기준으로 나머지에서 확인.
+	private List<Hit> match(BoardSearchField field, List<String> grams) {
+		Map<String, Map<String, Integer>> index = postings.get(field);
+		List<Map<String, Integer>> lists = new ArrayList<>(grams.size());
+		for (String g : grams) {
+			Map<String, Integer> p = index.get(g);
+			if (p == null) return new ArrayList<>();
+			lists.add(p);
+		}
+		lists.sort(Comparator.comparingInt(Map::size));
+
+		int n = documents.size();
+		List<Hit> hits = new ArrayList<>();
+		candidates:
+		for (Map.Entry<String, Integer> e : lists.get(0).entrySet()) {
+			double score = 0;
+			for (Map<String, Integer> p : lists) {
+				Integer tf = p.get(e.getKey());
+				if (tf == null) continue candidates;
+				score += Math.log(1 + (double) n / p.size()) * (1 + Math.log(tf));
+			}
+			Document d = documents.get(e.getKey());
+			hits.add(new Hit(e.getKey(), score / Math.sqrt(d.length(field)), d.createdAt));
+		}
+		return hits;
+	}
+
+	// 빈 검색어: 전체(최신 순).
+	private List<Hit> all() {
+		List<Hit> hits = new ArrayList<>(documents.size());
+		documents.forEach((id, d) -> hits.add(new Hit(id, 0, d.createdAt)));
+		return hits;
+	}
+
+	/* ---------------- 적재/갱신 ---------------- */
+
+	private boolean ensureLoaded() {
+		if (loaded) return true;
+		if (System.currentTimeMillis() < retryAt) return false;
+
+		lock.writeLock().lock();
+		try {
+			if (loaded) return true;
+			long started = System.nanoTime();
+			try {
+				loadTx.executeWithoutResult(status ->
+						boardRepository.forEachWithAuthor((board, email) -> put(board.getId().value(),
+								board.getTitle(), board.getContent(), email, board.getCreatedAt())));
+			} catch (RuntimeException e) {
+				clear();
+				retryAt = System.currentTimeMillis() + RETRY_AFTER_MILLIS;
+				log.warn("[board-search] index load failed, falling back to LIKE search for {}s: {}",
+						RETRY_AFTER_MILLIS / 1000, e.toString());
+				return false;
+			}
+			loaded = true;
+			log.info("[board-search] indexed {} boards in {}ms", documents.size(), (System.nanoTime() - started) / 1_000_000);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 지금 반영 + 커밋 직후 한 번 더.(적재 중에 커밋된 쓰기도 빠지지 않도록) 롤백이면 색인을 버림.
+	private void applyTwice(Runnable change) {
+		write(change);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				write(change);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) invalidate();
+			}
+		});
+	}
+
+	private void write(Runnable change) {
+		lock.writeLock().lock();
+		try {
+			if (loaded) change.run();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void invalidate() {
+		lock.writeLock().lock();
+		try {
+			loaded = false;
+			clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void put(String id, String title, String content, String email, LocalDateTime createdAt) {
+		removeInternal(id);
+		Document d = new Document(createdAt);
+		d.add(BoardSearchField.TITLE, documentGrams(title));
+		d.add(BoardSearchField.CONTENT, documentGrams(content));
+		d.add(BoardSearchField.AUTHOR, documentGrams(email));
+		d.grams.forEach((field, grams) -> {
+			Map<String, Map<String, Integer>> index = postings.get(field);
+			grams.forEach((g, tf) -> index.computeIfAbsent(g, k -> new HashMap<>()).put(id, tf));
+		});
+		documents.put(id, d);
+	}
+
+	private void removeInternal(String id) {
+		Document d = documents.remove(id);
+		if (d == null) return;
+		d.grams.forEach((field, grams) -> {
+			Map<String, Map<String, Integer>> index = postings.get(field);
+			for (String g : grams.keySet()) {
+				Map<String, Integer> p = index.get(g);
+				if (p == null) continue;
+				p.remove(id);
+				if (p.isEmpty()) index.remove(g);
+			}
+		});
+	}
+
+	private void clear() {
+		documents.clear();
+		postings.values().forEach(Map::clear);
+	}
+
+	/* ---------------- 분해 ---------------- */
+
+	// 색인용: 단어마다 1-gram, 2-gram 과 출현 횟수.
+	static Map<String, Integer> documentGrams(String text) {
+		Map<String, Integer> grams = new HashMap<>();
+		for (int[] word : words(text)) {
+			for (int n = 1; n <= 2; n++) {
+				for (int i = 0; i + n <= word.length; i++) grams.merge(new String(word, i, n), 1, Integer::sum);
+			}
+		}
+		return grams;
+	}
+
+	// 검색어용: 단어마다 2-gram(한 글자 단어는 1-gram), 중복 제거.
+	static List<String> queryGrams(String keyword) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (int[] word : words(keyword)) {
+			if (word.length == 1) {
+				grams.add(new String(word, 0, 1));
+			} else {
+				for (int i = 0; i + 2 <= word.length; i++) grams.add(new String(word, i, 2));
+			}
+		}
+		return new ArrayList<>(grams);
+	}
+
+	// NFKC + 소문자 정규화 후 글자/숫자가 이어진 구간(코드 포인트 배열).
+	private static List<int[]> words(String text) {
+		List<int[]> words = new ArrayList<>();
+		if (text == null || text.isEmpty()) return words;
+		int[] cps = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).codePoints().toArray();
+		int start = -1;
+		for (int i = 0; i <= cps.length; i++) {
+			boolean letter = i < cps.length && Character.isLetterOrDigit(cps[i]);
+			if (letter && start < 0) {
+				start = i;
+			} else if (!letter && start >= 0) {
+				int[] word = new int[i - start];
+				System.arraycopy(cps, start, word, 0, word.length);
+				words.add(word);
+				start = -1;
+			}
+		}
+		return words;
+	}
+
+	/* ---------------- 내부 구조 ---------------- */
+
+	private static final class Document {
+		private final LocalDateTime createdAt;
+		private final Map<BoardSearchField, Map<String, Integer>> grams = new EnumMap<>(BoardSearchField.class);
+		private final Map<BoardSearchField, Integer> lengths = new EnumMap<>(BoardSearchField.class);
+
+		private Document(LocalDateTime createdAt) {
+			this.createdAt = createdAt != null ? createdAt : LocalDateTime.MIN;
+		}
+
+		private void add(BoardSearchField field, Map<String, Integer> fieldGrams) {
+			grams.put(field, fieldGrams);
+			lengths.put(field, fieldGrams.values().stream().mapToInt(Integer::intValue).sum());
+		}
+
+		private int length(BoardSearchField field) {
+			return Math.max(1, lengths.get(field));
+		}
+	}
+
+	private static final class Hit {
+		private final String boardId;
+		private final double score;
+		private final LocalDateTime createdAt;
+
+		private Hit(String boardId, double score, LocalDateTime createdAt) {
+			this.boardId = boardId;
+			this.score = score;
+			this.createdAt = createdAt;
+		}
+	}
+}
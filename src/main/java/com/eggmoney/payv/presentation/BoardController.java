@@ -2,6 +2,7 @@ package com.eggmoney.payv.presentation;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.security.core.Authentication;
@@ -18,13 +19,17 @@ import com.eggmoney.payv.application.mapper.BoardDtoMapper;
 import com.eggmoney.payv.application.service.BoardAppService;
 import com.eggmoney.payv.application.service.CommentAppService;
 import com.eggmoney.payv.domain.model.entity.Board;
+import com.eggmoney.payv.domain.model.entity.Comment;
 import com.eggmoney.payv.domain.model.entity.User;
 import com.eggmoney.payv.domain.model.repository.UserRepository;
 import com.eggmoney.payv.domain.model.vo.BoardId;
+import com.eggmoney.payv.domain.model.vo.UserId;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 import com.eggmoney.payv.presentation.dto.BoardItemDto;
+import com.eggmoney.payv.presentation.dto.BoardListItemDto;
 import com.eggmoney.payv.presentation.dto.CommentItemDto;
 import com.eggmoney.payv.presentation.dto.PageInfo;
+import com.eggmoney.payv.presentation.dto.PageResultDto;
 import com.eggmoney.payv.security.CustomUser;
 
 import lombok.RequiredArgsConstructor;
@@ -64,12 +69,8 @@ public class BoardController {
         // 현재 페이지에 보여줄 시작 offset
         int offset = (page - 1) * pageSize;
 
-        List<BoardItemDto> boardDtoList = boardAppService.getBoardsByPage(offset, pageSize)
-                .stream().map(b -> {
-                    User user = userRepository.findById(b.getUserId())
-                            .orElseThrow(() -> new DomainException("작성자를 찾을 수 없습니다."));
-                    return BoardDtoMapper.toDto(b, user);
-                }).collect(Collectors.toList());
+        // 목록은 제목/작성자/조회수/댓글 수만 (내용은 상세 화면에서만 조회)
+        List<BoardListItemDto> boardDtoList = boardAppService.getBoardsByPage(offset, pageSize);
         
         int currentBlock = (int) Math.ceil((double) page / blockSize);
         int startPage = (currentBlock - 1) * blockSize + 1;
@@ -143,8 +144,8 @@ public class BoardController {
             }
             model.addAttribute("loginUserId", loginUserId);
 
-            // 2) 게시글 로드
-            Board board = boardAppService.getBoard(BoardId.of(boardId));
+            // 2) 게시글 로드 (조회수 1 증가)
+            Board board = boardAppService.viewBoard(BoardId.of(boardId));
             log.info("[detail] board loaded id={}, userId={}", board.getId(), board.getUserId());
 
             // 3) 작성자 로드
@@ -155,14 +156,16 @@ public class BoardController {
             // 4) DTO 변환
             BoardItemDto boardDto = BoardDtoMapper.toDto(board, owner);
 
-            // 5) 댓글 변환 (작성자 이메일 조회 포함)
+            // 5) 댓글 변환 (작성자는 댓글 전체에 대해 한 번에 조회)
             DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
-            List<CommentItemDto> comments = commentAppService.getComments(BoardId.of(boardId))
+            List<Comment> commentList = commentAppService.getComments(BoardId.of(boardId));
+            Map<UserId, User> writers = userRepository.findAllByIds(
+                    commentList.stream().map(Comment::getUserId).collect(Collectors.toSet()));
+            List<CommentItemDto> comments = commentList
                     .stream()
                     .map(c -> {
-                        String writerEmail = userRepository.findById(c.getUserId())
-                                .map(User::getEmail)
-                                .orElse("탈퇴회원");
+                        User writer = writers.get(c.getUserId());
+                        String writerEmail = writer != null ? writer.getEmail() : "탈퇴회원";
                         return new CommentItemDto(
                                 c.getId().toString(),
                                 c.getBoardId().toString(),
@@ -258,11 +261,13 @@ public class BoardController {
         int pageSize = 10;
         int blockSize = 5;
 
-        int totalCount = boardAppService.getBoardsCountBySearch(keyword, searchType);
-        int totalPage = (int) Math.ceil((double) totalCount / pageSize);
         int offset = (page - 1) * pageSize;
 
-        List<BoardItemDto> boardDtoList = boardAppService.getBoardsBySearch(keyword, searchType, offset, pageSize);
+        // 목록과 전체 건수를 한 번의 검색으로
+        PageResultDto<BoardListItemDto> result = boardAppService.searchBoards(keyword, searchType, offset, pageSize);
+        List<BoardListItemDto> boardDtoList = result.getContent();
+        int totalCount = (int) result.getTotal();
+        int totalPage = (int) Math.ceil((double) totalCount / pageSize);
 
         int currentBlock = (int) Math.ceil((double) page / blockSize);
         int startPage = (currentBlock - 1) * blockSize + 1;
@@ -2,7 +2,6 @@ package com.eggmoney.payv.presentation;
 
 import java.time.YearMonth;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,8 +61,7 @@ public class BudgetController {
 		List<Budget> budgets = budgetAppService.listByLedgerAndMonth(lId, ym);
 
 		// 카테고리 이름 매핑.
-		Map<String, String> categoryNameMap = categoryAppService.listByLedger(lId).stream().collect(
-				Collectors.toMap(c -> c.getId().toString(), Category::getName, (a, b) -> a, LinkedHashMap::new));
+		Map<String, String> categoryNameMap = categoryAppService.tree(lId).nameMap();
 
 		// DTO 매핑
 		List<BudgetListItemDto> items = budgets.stream().map(b -> {
@@ -151,7 +149,8 @@ public class BudgetController {
 
 			// 카테고리 이름 표기용
 			LedgerId lId = LedgerId.of(ledgerId);
-			String categoryName = categoryAppService.getDetails(b.getCategoryId()).getName();
+			String categoryName = categoryAppService.tree(lId).nameOf(b.getCategoryId());
+			if (categoryName == null) categoryName = categoryAppService.getDetails(b.getCategoryId()).getName();
 
 			model.addAttribute("ledgerId", ledgerId);
 			model.addAttribute("month", month);
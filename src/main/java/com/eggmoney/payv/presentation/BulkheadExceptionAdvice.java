@@ -0,0 +1,56 @@
+package com.eggmoney.payv.presentation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.eggmoney.payv.domain.shared.error.BulkheadFullException;
+
+/**
+ * 벌크헤드 한도 초과(BulkheadFullException) → 503 + Retry-After.
+ * - /api/** 와 거래 내역 내보내기는 JSON { ok: false, message }.
+ * - 그 외 화면은 error/503 화면에 메시지 표시.
+ * - 내보내기는 비동기 스트림 안에서 거절되므로, 아직 아무것도 쓰지 않았으면 앞서 정한 파일 헤더(첨부/CSV)를 지우고 응답.
+ * @author 정의탁
+ */
+@ControllerAdvice
+public class BulkheadExceptionAdvice {
+
+	static final int RETRY_AFTER_SECONDS = 5;
+
+	@ExceptionHandler(BulkheadFullException.class)
+	public Object handleBulkheadFull(BulkheadFullException e, HttpServletRequest request, HttpServletResponse response) {
+		if (!response.isCommitted()) response.reset();
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+
+		if (isJsonRequest(request)) {
+			Map<String, Object> body = new LinkedHashMap<>();
+			body.put("ok", false);
+			body.put("message", e.getMessage());
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+					.contentType(MediaType.APPLICATION_JSON)
+					.body(body);
+		}
+
+		ModelAndView mav = new ModelAndView("error/503");
+		mav.setStatus(HttpStatus.SERVICE_UNAVAILABLE);
+		mav.addObject("errorMessage", e.getMessage());
+		return mav;
+	}
+
+	// JSON 으로 응답할 요청인지.(API, 내보내기)
+	static boolean isJsonRequest(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return path.startsWith("/api/") || path.endsWith("/transaction/export");
+	}
+}
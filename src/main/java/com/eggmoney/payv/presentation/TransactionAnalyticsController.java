@@ -2,6 +2,7 @@ package com.eggmoney.payv.presentation;
 
 import java.time.Year;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -14,15 +15,17 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.eggmoney.payv.application.service.CategoryAppService;
-import com.eggmoney.payv.application.service.TransactionAppService;
-import com.eggmoney.payv.domain.model.entity.Category;
-import com.eggmoney.payv.domain.model.entity.Transaction;
-import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.application.service.TransactionRollupAppService;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -32,7 +35,7 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/ledgers/{ledgerId}/insights")
 public class TransactionAnalyticsController {
 
-	private final TransactionAppService transactionAppService;
+	private final TransactionRollupAppService transactionRollupAppService;
     private final CategoryAppService categoryAppService;
     private final ObjectMapper objectMapper = new ObjectMapper(); // Jackson 사용
     
@@ -50,38 +53,21 @@ public class TransactionAnalyticsController {
                 ? YearMonth.now()
                 : YearMonth.parse(monthParam.trim()); // YYYY-MM
 
-        List<Transaction> txns = transactionAppService.listByMonth(lId, ym, Integer.MAX_VALUE, 0);
-        List<Category> categories = categoryAppService.listByLedger(lId);
-
-        Map<String, Category> catById = categories.stream()
-                .collect(Collectors.toMap(c -> c.getId().toString(), c -> c));
-        Map<String, String> rootNameById = categories.stream()
-                .filter(c -> c.getParentId() == null)
-                .collect(Collectors.toMap(c -> c.getId().toString(), Category::getName));
-
-        Map<String, String> toRootId = new HashMap<>();
-        for (Category c : categories) {
-            String id = c.getId().toString();
-            if (c.getParentId() == null) {
-                toRootId.put(id, id);
-            } else {
-                String pid = c.getParentId().toString();
-                Category p = catById.get(pid);
-                while (p != null && p.getParentId() != null) {
-                    pid = p.getParentId().toString();
-                    p = catById.get(pid);
-                }
-                toRootId.put(id, (p != null ? p.getId().toString() : id));
-            }
-        }
+        // 연도 파라미터는 아래에서 쓰지만, 집계 조회를 한 번에 하기 위해 먼저 해석.
+        Year year = (yearParam == null || yearParam.trim().isEmpty())
+                ? Year.now()
+                : Year.parse(yearParam.trim());
 
-        Map<String, Long> expenseByRoot = new HashMap<>();
-        for (Transaction t : txns) {
-            if (t.getType() == TransactionType.INCOME) continue;
-            String catId = t.getCategoryId().toString();
-            String rootId = toRootId.getOrDefault(catId, catId);
-            expenseByRoot.merge(rootId, t.getAmount().toLong(), Long::sum);
-        }
+        // 월별 집계(rollup)만 조회: 선택 연도 1~12월 + (연도 밖이면) 선택 월.
+        List<MonthlyCategoryTotal> yearTotals = transactionRollupAppService.listMonthlyTotals(
+                lId, year.atMonth(1), year.atMonth(12));
+        List<MonthlyCategoryTotal> monthTotals = (ym.getYear() == year.getValue())
+                ? yearTotals.stream().filter(t -> t.getMonth().equals(ym)).collect(Collectors.toList())
+                : transactionRollupAppService.listMonthlyTotals(lId, ym, ym);
+
+        CategoryTree categories = categoryAppService.tree(lId);
+
+        Map<String, Long> expenseByRoot = sumExpenseByRoot(categories, monthTotals);
 
         List<List<Object>> catRows = new ArrayList<>();
         catRows.add(Arrays.asList("카테고리", "지출"));
@@ -89,7 +75,7 @@ public class TransactionAnalyticsController {
                 .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
                 .forEach(e -> {
                     String rootId = e.getKey();
-                    String name = rootNameById.getOrDefault(rootId, rootId);
+                    String name = categories.nameMap().getOrDefault(rootId, rootId);
                     catRows.add(Arrays.asList(name, e.getValue()));
                 });
 
@@ -97,21 +83,9 @@ public class TransactionAnalyticsController {
         long totalOut = expenseByRoot.values().stream().mapToLong(Long::longValue).sum();
 
         // ===== 월별 수입/지출 (year) =====
-        Year year = (yearParam == null || yearParam.trim().isEmpty())
-                ? Year.now()
-                : Year.parse(yearParam.trim());
-
-        long[] income = new long[12];
-        long[] expense = new long[12];
-        for (int m = 1; m <= 12; m++) {
-            YearMonth y = YearMonth.of(year.getValue(), m);
-            List<Transaction> monthTxns = transactionAppService.listByMonth(lId, y, Integer.MAX_VALUE, 0);
-            for (Transaction t : monthTxns) {
-                long won = t.getAmount().toLong();
-                if (t.getType() == TransactionType.INCOME) income[m - 1] += won;
-                else expense[m - 1] += won;
-            }
-        }
+        long[][] inOut = sumIncomeExpenseByMonth(yearTotals);
+        long[] income = inOut[0];
+        long[] expense = inOut[1];
 
         List<List<Object>> rows = new ArrayList<>();
         rows.add(Arrays.asList("월", "수입", "지출"));
@@ -144,7 +118,49 @@ public class TransactionAnalyticsController {
         return "insights/reports";
     }
 
+    // 월별 집계 재계산: 집계가 거래 내역과 어긋났을 때 사용. (from/to: YYYY-MM, 미입력 시 올해)
+    @PostMapping("/rollup/rebuild")
+    public String rebuildRollup(@PathVariable String ledgerId,
+                                @RequestParam(value = "from", required = false) String fromParam,
+                                @RequestParam(value = "to", required = false) String toParam,
+                                RedirectAttributes ra) {
+        Year now = Year.now();
+        try {
+            YearMonth from = (fromParam == null || fromParam.trim().isEmpty())
+                    ? now.atMonth(1) : YearMonth.parse(fromParam.trim());
+            YearMonth to = (toParam == null || toParam.trim().isEmpty())
+                    ? now.atMonth(12) : YearMonth.parse(toParam.trim());
+
+            int rows = transactionRollupAppService.rebuild(LedgerId.of(ledgerId), from, to);
+            ra.addFlashAttribute("message", "월별 집계를 다시 계산했습니다. (" + rows + "건)");
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            ra.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/ledgers/" + ledgerId + "/insights/reports";
+    }
 
+    // 루트 카테고리별 지출 합계.(하위 카테고리는 부모로 합산, key = 루트 카테고리 ID)
+    static Map<String, Long> sumExpenseByRoot(CategoryTree categories, List<MonthlyCategoryTotal> totals) {
+        Map<String, Long> expenseByRoot = new HashMap<>();
+        for (MonthlyCategoryTotal t : totals) {
+            if (t.isIncome()) continue;
+            String catId = t.getCategoryId().toString();
+            CategoryId root = categories.rootOf(t.getCategoryId());
+            String rootId = root != null ? root.value() : catId;
+            expenseByRoot.merge(rootId, t.getAmount(), Long::sum);
+        }
+        return expenseByRoot;
+    }
 
-
+    // 월(1~12)별 수입/지출 합계. [0] = 수입, [1] = 지출.
+    static long[][] sumIncomeExpenseByMonth(List<MonthlyCategoryTotal> totals) {
+        long[] income = new long[12];
+        long[] expense = new long[12];
+        for (MonthlyCategoryTotal t : totals) {
+            int idx = t.getMonth().getMonthValue() - 1;
+            if (t.isIncome()) income[idx] += t.getAmount();
+            else expense[idx] += t.getAmount();
+        }
+        return new long[][] { income, expense };
+    }
 }
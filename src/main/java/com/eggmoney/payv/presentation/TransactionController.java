@@ -1,5 +1,8 @@
 package com.eggmoney.payv.presentation;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -8,15 +11,15 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,21 +29,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.eggmoney.payv.application.service.AccountAppService;
 import com.eggmoney.payv.application.service.CategoryAppService;
 import com.eggmoney.payv.application.service.TransactionAppService;
+import com.eggmoney.payv.application.service.TransactionExportAppService;
+import com.eggmoney.payv.application.service.TransactionImportAppService;
 import com.eggmoney.payv.domain.model.entity.Account;
 import com.eggmoney.payv.domain.model.entity.Category;
 import com.eggmoney.payv.domain.model.entity.Transaction;
 import com.eggmoney.payv.domain.model.entity.TransactionType;
 import com.eggmoney.payv.domain.model.vo.AccountId;
 import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
 import com.eggmoney.payv.domain.model.vo.TransactionId;
+import com.eggmoney.payv.domain.model.vo.TransactionTotal;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 import com.eggmoney.payv.presentation.dto.CategoryOptionDto;
 import com.eggmoney.payv.presentation.dto.PageRequestDto;
@@ -48,6 +58,7 @@ import com.eggmoney.payv.presentation.dto.PageResultDto;
 import com.eggmoney.payv.presentation.dto.TransactionCalendarDayDto;
 import com.eggmoney.payv.presentation.dto.TransactionCalendarWeekDto;
 import com.eggmoney.payv.presentation.dto.TransactionCreateDto;
+import com.eggmoney.payv.presentation.dto.TransactionImportResultDto;
 import com.eggmoney.payv.presentation.dto.TransactionListItemDto;
 import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
 import com.eggmoney.payv.presentation.dto.TransactionUpdateDto;
@@ -66,6 +77,11 @@ public class TransactionController {
 	private final TransactionAppService transactionAppService;
 	private final AccountAppService accountAppService;
 	private final CategoryAppService categoryAppService;
+	private final TransactionExportAppService transactionExportAppService;
+	private final TransactionImportAppService transactionImportAppService;
+
+	// 달력 셀당 표시 건수.(넘치면 펼치기로 하루치 전체 조회)
+	private static final int CALENDAR_CELL_ROWS = 5;
 
 	// 폼에서 사용할 enum 목록.
 	@ModelAttribute("transactionTypes")
@@ -86,74 +102,37 @@ public class TransactionController {
 	    
 	    // 1) 기본값 보정 (이번 달)
 	    YearMonth ym = YearMonth.now();
-	    if (cond.getStart() == null) cond.setStart(ym.atDay(1));
-	    if (cond.getEnd()   == null) cond.setEnd(ym.atEndOfMonth());
-	    
-	    if (cond.getEnd().isBefore(cond.getStart())) {
-	        LocalDate tmp = cond.getStart();
-	        cond.setStart(cond.getEnd());
-	        cond.setEnd(tmp);
-	    }
+	    normalizeCondition(cond, ym);
 	    
 	    if (page.getSize() <= 0) page.setSize(20);
 	    if (page.getPage() <= 0) page.setPage(1);
+	    page.setCursor(null); // JSP 목록은 번호 페이지 모드.
 
 	    // 2) 필터 바 표시용 데이터
 	    List<Account> accounts = accountAppService.listByLedger(lId);
-	    List<Category> roots   = categoryAppService.rootCategoryListByLedger(lId);
+	    CategoryTree categories = categoryAppService.tree(lId);
+	    List<Category> roots   = categories.roots();
 
 	    // 3) 카테고리 해석(하위 포함 집합 구하기)
-	    if (cond.getCategoryId() != null && !cond.getCategoryId().trim().isEmpty()) {
-	        cond.setResolvedCategoryIds(Collections.singletonList(cond.getCategoryId().trim()));
-	    } else if (cond.getRootCategoryId() != null && !cond.getRootCategoryId().trim().isEmpty()) {
-	        CategoryId parentId = CategoryId.of(cond.getRootCategoryId().trim());
-	        List<Category> children = categoryAppService
-	                .subCategoryListByLedgerAndParentCategory(lId, parentId);
-	        List<String> ids = new ArrayList<>();
-	        ids.add(parentId.toString()); // 상위 포함
-	        for (Category c : children) {
-	        	ids.add(c.getId().toString());
-	        }
-	        cond.setResolvedCategoryIds(ids);
-	    } else {
-	        cond.setResolvedCategoryIds(null); // 전체
-	    }
+	    resolveCategories(categories, cond);
 
 	    // 4) 서비스 호출 (페이지 결과) : search() -> findListByCondition
 	    PageResultDto<Transaction> pr = transactionAppService.search(lId, cond, page);
 	    
-	    // 5) 표시용 이름 맵( {id : name} )
-	    Map<String, String> accountNameMap = accounts.stream()
-	            .collect(Collectors.toMap(a -> a.getId().toString(), Account::getName, (a,b)->a, LinkedHashMap::new));
-	    Map<String, String> categoryNameMap = categoryAppService.listByLedger(lId).stream()
-	            .collect(Collectors.toMap(c -> c.getId().toString(), Category::getName, (a,b)->a, LinkedHashMap::new));
-
-	    List<TransactionListItemDto> items = pr.getContent().stream().map(t -> {
-	        TransactionListItemDto d = new TransactionListItemDto();
-	        d.setId(t.getId().toString());
-	        d.setDate(t.getDate().toString());
-	        d.setAccountName(accountNameMap.getOrDefault(t.getAccountId().toString(), t.getAccountId().toString()));
-	        d.setCategoryName(categoryNameMap.getOrDefault(t.getCategoryId().toString(), t.getCategoryId().toString()));
-	        d.setType(t.getType().name());
-	        d.setAmount(String.valueOf(t.getAmount()));
-	        d.setMemo(t.getMemo());
-	        return d;
-	    }).collect(Collectors.toList());
+	    // 5) 표시용 DTO 변환( 자산/카테고리 이름 )
+	    List<TransactionListItemDto> items = toListItems(categories, accounts, pr.getContent());
 
 	    // 6) 모델
 	    model.addAttribute("ledgerId", ledgerId);
 	    model.addAttribute("accounts", accounts);
 	    model.addAttribute("rootCategories", roots);
 		
-		 // (jw)월 합계 계산
-	    long monthIncome = pr.getContent().stream()
-	            .filter(t -> t.getType().name().equals("INCOME"))
-	            .mapToLong(t -> t.getAmount().toLong())
-	            .sum();
-	    long monthExpense = pr.getContent().stream()
-	            .filter(t -> !t.getType().name().equals("INCOME"))
-	            .mapToLong(t -> t.getAmount().toLong())
-	            .sum();
+		 // (jw)월 합계 계산: 현재 페이지가 아닌 조건 전체 합계를 DB에서 집계.
+	    long monthIncome = 0L, monthExpense = 0L;
+	    for (TransactionTotal t : transactionAppService.summarizeBySearch(lId, cond)) {
+	    	if (t.isIncome()) monthIncome += t.getAmount();
+	    	else monthExpense += t.getAmount();
+	    }
 
 	    // 필터 값 바인딩(폼 name은 DTO 필드명과 동일하게)
 	    model.addAttribute("cond", cond);
@@ -180,6 +159,105 @@ public class TransactionController {
 	}
 
 	
+	// 거래 내역 무한 스크롤(JSON): 커서(keyset) 모드로 다음 묶음 조회. 
+	// - cursor 가 없으면 첫 묶음, 응답의 nextCursor 를 그대로 다음 요청에 전달.
+	@GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public Map<String, Object> scroll(@PathVariable String ledgerId,
+	                                  @ModelAttribute TransactionSearchCondition cond,
+	                                  @RequestParam(value = "cursor", required = false, defaultValue = "") String cursor,
+	                                  @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+		LedgerId lId = LedgerId.of(ledgerId);
+		Map<String, Object> res = new HashMap<>();
+		try {
+			normalizeCondition(cond, YearMonth.now());
+			CategoryTree categories = categoryAppService.tree(lId);
+			resolveCategories(categories, cond);
+
+			PageRequestDto page = new PageRequestDto();
+			page.setSize(size <= 0 || size > 100 ? 20 : size);
+			page.setCursor(cursor);
+
+			PageResultDto<Transaction> pr = transactionAppService.search(lId, cond, page);
+
+			res.put("ok", true);
+			res.put("items", toListItems(categories, accountAppService.listByLedger(lId), pr.getContent()));
+			res.put("nextCursor", pr.getNextCursor());
+			res.put("hasNext", pr.hasNext());
+		} catch (DomainException e) {
+			res.put("ok", false);
+			res.put("message", e.getMessage());
+		}
+		return res;
+	}
+	
+	// 거래 내역 내보내기(CSV/JSON): 응답 스트림에 한 행씩 바로 씀.
+	// - from/to: YYYY-MM-DD (포함), 미입력 시 전체 기간.
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> export(@PathVariable String ledgerId,
+	                                                    @RequestParam(value = "format", required = false, defaultValue = "csv") String format,
+	                                                    @RequestParam(value = "from", required = false) String from,
+	                                                    @RequestParam(value = "to", required = false) String to) {
+		LedgerId lId = LedgerId.of(ledgerId);
+		TransactionExportAppService.Format fmt = "json".equalsIgnoreCase(format)
+				? TransactionExportAppService.Format.JSON
+				: TransactionExportAppService.Format.CSV;
+
+		LocalDate fromDate, toDate;
+		try {
+			fromDate = isBlank(from) ? null : LocalDate.parse(from.trim());
+			toDate = isBlank(to) ? null : LocalDate.parse(to.trim()).plusDays(1); // 포함 → [from, to)
+		} catch (DateTimeParseException e) {
+			return ResponseEntity.badRequest().build();
+		}
+
+		String filename = "transactions_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+				+ (fmt == TransactionExportAppService.Format.JSON ? ".json" : ".csv");
+		MediaType contentType = (fmt == TransactionExportAppService.Format.JSON)
+				? MediaType.APPLICATION_JSON
+				: new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+		// 스트림 작성은 비동기 스레드에서 수행되며, 서비스 메서드가 트랜잭션/커서 수명을 관리.
+		StreamingResponseBody body = out -> transactionExportAppService.export(lId, fromDate, toDate, fmt, out);
+
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+				.contentType(contentType)
+				.body(body);
+	}
+	
+	// ===== 가져오기(CSV 일괄 등록) 폼 =====
+	@GetMapping("/import")
+	public String importForm(@PathVariable String ledgerId, Model model) {
+		model.addAttribute("ledgerId", ledgerId);
+		model.addAttribute("currentPage", "transaction");
+		return "transactions/import";
+	}
+
+	// ===== 가져오기 처리: 결과(성공/실패 건수, 실패 행)를 같은 화면에 표시 =====
+	@PostMapping("/import")
+	public String importCsv(@PathVariable String ledgerId,
+	                        @RequestPart(value = "file", required = false) MultipartFile file,
+	                        Model model) {
+		model.addAttribute("ledgerId", ledgerId);
+		model.addAttribute("currentPage", "transaction");
+
+		if (file == null || file.isEmpty()) {
+			model.addAttribute("error", "가져올 CSV 파일을 선택해주세요.");
+			return "transactions/import";
+		}
+
+		try (InputStream in = file.getInputStream()) {
+			TransactionImportResultDto result = transactionImportAppService.importCsv(LedgerId.of(ledgerId), in);
+			model.addAttribute("result", result);
+			model.addAttribute("message", result.getImportedRows() + "건을 등록했습니다."
+					+ (result.getFailedRows() > 0 ? " (실패 " + result.getFailedRows() + "건)" : ""));
+		} catch (IOException e) {
+			model.addAttribute("error", "파일을 읽을 수 없습니다: " + e.getMessage());
+		}
+		return "transactions/import";
+	}
+	
 	// 거래 내역 달력 조회.
 	@GetMapping("/calendar")
 	public String calendar(@PathVariable String ledgerId,
@@ -191,69 +269,30 @@ public class TransactionController {
 				: YearMonth.parse(month.trim()); // "YYYY-MM"
 		LedgerId lId = LedgerId.of(ledgerId);
 
-		// 2) 해당 월 거래 목록 조회.
-		List<Transaction> all = transactionAppService.listByMonth(lId, ym, Integer.MAX_VALUE, 0);
-
-		// 3) 카테고리 표시용 맵.
-		Map<String, String> categoryNameMap = categoryAppService.listByLedger(lId).stream()
-				.collect(Collectors.toMap(c -> c.getId().toString(),
-						Category::getName, (a, b) -> a, LinkedHashMap::new));
-
-		// 4) 날짜별 그룹.
-		Map<LocalDate, List<Transaction>> byDate = all.stream()
-				.collect(Collectors.groupingBy(Transaction::getDate, TreeMap::new, Collectors.toList()));
-
-		// 5) 달력 범위: 해당 월의 '일요일 시작 ~ 토요일 끝'
-		LocalDate first = ym.atDay(1);
-		LocalDate last = ym.atEndOfMonth();
-		LocalDate gridStart = first.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
-		LocalDate gridEnd = last.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-
-		// 6) 그리드(주 x 7) 구성.
-		List<TransactionCalendarWeekDto> weeks = new ArrayList<>();
-		LocalDate d = gridStart;
-		while (!d.isAfter(gridEnd)) {
-			List<TransactionCalendarDayDto> days = new ArrayList<>(7);
-			for (int i = 0; i < 7; i++) {
-				TransactionCalendarDayDto day = new TransactionCalendarDayDto();
-				day.setDate(d.toString());
-				day.setInMonth(!d.isBefore(first) && !d.isAfter(last));
-
-				List<com.eggmoney.payv.domain.model.entity.Transaction> list = byDate.getOrDefault(d, Collections.emptyList());
-
-				long incomeWon = 0L, expenseWon = 0L;
-				int showLimit = 5; // 셀당 최대 5개만 표시(넘치면 총액으로 확인 가능)
-				int cnt = 0;
-				for (Transaction t : list) {
-					long won = t.getAmount().toLong(); // Money -> long (네 도메인에 맞춰 사용)
-					if (t.getType().name().equals("INCOME"))
-						incomeWon += won;
-					else
-						expenseWon += won;
-
-					if (cnt < showLimit) {
-						String catName = categoryNameMap.getOrDefault(t.getCategoryId().toString(), "");
-						String amtStr = (t.getType().name().equals("INCOME") ? "+" : "-") + String.valueOf(won);
-						day.getTxns().add(new TransactionCalendarDayDto.TxnMiniDto(t.getId().toString(), catName,
-								amtStr, t.getType().name()));
-						cnt++;
-					}
-				}
-				
-				day.setIncome(incomeWon > 0 ? "+" + incomeWon : "");
-				day.setExpense(expenseWon > 0 ? "-" + expenseWon : "");
-
-				days.add(day);
-				d = d.plusDays(1);
+		// 2) 카테고리 표시용 맵.
+		Map<String, String> categoryNameMap = categoryAppService.tree(lId).nameMap();
+
+		// 3) 날짜별 상위 N건(셀 표시용, DB 에서 ROW_NUMBER 로 제한) + 날짜별 합계/건수(DB 집계).
+		Map<LocalDate, List<Transaction>> byDate = transactionAppService.listTopByDay(lId, ym, CALENDAR_CELL_ROWS)
+				.stream()
+				.collect(Collectors.groupingBy(Transaction::getDate, HashMap::new, Collectors.toList()));
+
+		Map<LocalDate, long[]> totalsByDate = new HashMap<>();	// [0] 수입, [1] 지출, [2] 건수
+		long monthIncome = 0L, monthExpense = 0L;
+		for (TransactionTotal t : transactionAppService.summarizeByDay(lId, ym)) {
+			long[] sums = totalsByDate.computeIfAbsent(t.keyAsDate(), k -> new long[3]);
+			if (t.isIncome()) {
+				sums[0] += t.getAmount();
+				monthIncome += t.getAmount();
+			} else {
+				sums[1] += t.getAmount();
+				monthExpense += t.getAmount();
 			}
-			weeks.add(new TransactionCalendarWeekDto(days));
+			sums[2] += t.getCount();
 		}
 
-		// 월 합계
-		long monthIncome = all.stream().filter(t -> t.getType().name().equals("INCOME"))
-				.mapToLong(t -> t.getAmount().toLong()).sum();
-		long monthExpense = all.stream().filter(t -> !t.getType().name().equals("INCOME"))
-				.mapToLong(t -> t.getAmount().toLong()).sum();
+		// 4) 그리드(주 x 7) 구성.
+		List<TransactionCalendarWeekDto> weeks = buildCalendarWeeks(ym, byDate, totalsByDate, categoryNameMap);
 
 		// 이전/다음 월
 		java.time.YearMonth prev = ym.minusMonths(1);
@@ -271,6 +310,33 @@ public class TransactionController {
 
 		return "transactions/calendar";
 	}
+
+	// 달력 셀 펼치기: 하루치 전체 목록 (AJAX, JSON)
+	@GetMapping(value = "/calendar/day", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public Map<String, Object> calendarDay(@PathVariable String ledgerId,
+										   @RequestParam("date") String date) {
+		Map<String, Object> res = new HashMap<>();
+		LocalDate day;
+		try {
+			day = LocalDate.parse(date.trim(), DateTimeFormatter.ISO_LOCAL_DATE);
+		} catch (DateTimeParseException e) {
+			res.put("ok", false);
+			res.put("message", "날짜 형식이 올바르지 않습니다.(YYYY-MM-DD)");
+			return res;
+		}
+
+		LedgerId lId = LedgerId.of(ledgerId);
+		Map<String, String> categoryNameMap = categoryAppService.tree(lId).nameMap();
+		List<TransactionCalendarDayDto.TxnMiniDto> txns = transactionAppService.listByDay(lId, day).stream()
+				.map(t -> toMiniDto(t, categoryNameMap))
+				.collect(Collectors.toList());
+
+		res.put("ok", true);
+		res.put("date", day.toString());
+		res.put("txns", txns);
+		return res;
+	}
 	
 	
 	
@@ -352,22 +418,13 @@ public class TransactionController {
 
 	    LedgerId lId = LedgerId.of(ledgerId);
 	    List<Account> accounts = accountAppService.listByLedger(lId);
-	    List<Category> allCategoryList  = categoryAppService.listByLedger(lId);
+	    CategoryTree categories = categoryAppService.tree(lId);
 
 	    // 1) 루트 카테고리 목록.
-	    Comparator<Category> cmp = Comparator
-	        .comparingInt(Category::getSortOrder)
-	        .thenComparing(Category::getName, String.CASE_INSENSITIVE_ORDER);
-
-	    List<Category> rootCategories = allCategoryList.stream()
-	        .filter(c -> c.getParentId() == null)
-	        .sorted(cmp)
-	        .collect(Collectors.toList());
+	    List<Category> rootCategories = categories.roots();
 
 	    // 2) 현재 거래의 카테고리로부터 (루트/하위) 결정.
-	    Category current = allCategoryList.stream()
-	        .filter(c -> c.getId().equals(t.getCategoryId()))
-	        .findFirst().orElse(null);
+	    Category current = categories.find(t.getCategoryId());
 
 	    String selectedRootId = "";
 	    String selectedChildId = "";
@@ -452,7 +509,138 @@ public class TransactionController {
 		return res;
 	}
 
+	// ===== 일괄 게시 / 게시 취소 (AJAX, JSON) =====
+	// ids=a&ids=b ... 형태. 하나라도 실패하면 전체 롤백되고 ok=false.
+	@PostMapping(value = "/post-all", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public Map<String, Object> postAll(@PathVariable String ledgerId,
+									   @RequestParam(value = "ids", required = false) List<String> ids) {
+		return changePostedAll(ledgerId, ids, true);
+	}
+
+	@PostMapping(value = "/unpost-all", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public Map<String, Object> unpostAll(@PathVariable String ledgerId,
+										 @RequestParam(value = "ids", required = false) List<String> ids) {
+		return changePostedAll(ledgerId, ids, false);
+	}
+
+	private Map<String, Object> changePostedAll(String ledgerId, List<String> ids, boolean post) {
+		Map<String, Object> res = new HashMap<>();
+		try {
+			List<TransactionId> txIds = (ids == null ? Collections.<String>emptyList() : ids).stream()
+					.filter(id -> !isBlank(id))
+					.map(id -> TransactionId.of(id.trim()))
+					.collect(Collectors.toList());
+
+			LedgerId lId = LedgerId.of(ledgerId);
+			int changed = post ? transactionAppService.postAll(lId, txIds)
+							   : transactionAppService.unpostAll(lId, txIds);
+			res.put("ok", true);
+			res.put("changed", changed);
+		} catch (DomainException e) {
+			res.put("ok", false);
+			res.put("message", e.getMessage());
+		}
+		return res;
+	}
+
 	// ===== helpers =====
+	// 달력 그리드: 해당 월의 '일요일 시작 ~ 토요일 끝' 을 주 x 7 로 구성.(totalsByDate 값: [0] 수입, [1] 지출, [2] 건수)
+	static List<TransactionCalendarWeekDto> buildCalendarWeeks(YearMonth ym,
+															   Map<LocalDate, List<Transaction>> byDate,
+															   Map<LocalDate, long[]> totalsByDate,
+															   Map<String, String> categoryNameMap) {
+		LocalDate first = ym.atDay(1);
+		LocalDate last = ym.atEndOfMonth();
+		LocalDate gridStart = first.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+		LocalDate gridEnd = last.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+		List<TransactionCalendarWeekDto> weeks = new ArrayList<>();
+		LocalDate d = gridStart;
+		while (!d.isAfter(gridEnd)) {
+			List<TransactionCalendarDayDto> days = new ArrayList<>(7);
+			for (int i = 0; i < 7; i++) {
+				TransactionCalendarDayDto day = new TransactionCalendarDayDto();
+				day.setDate(d.toString());
+				day.setInMonth(!d.isBefore(first) && !d.isAfter(last));
+
+				List<Transaction> list = byDate.getOrDefault(d, Collections.emptyList());
+
+				long[] sums = totalsByDate.getOrDefault(d, new long[3]);
+				long incomeWon = sums[0], expenseWon = sums[1];
+				for (Transaction t : list) {
+					day.getTxns().add(toMiniDto(t, categoryNameMap));
+				}
+				day.setCount(sums[2]);
+				day.setMoreCount(Math.max(0, sums[2] - list.size()));	// 나머지는 펼칠 때 /calendar/day 로 조회.
+				
+				day.setIncome(incomeWon > 0 ? "+" + incomeWon : "");
+				day.setExpense(expenseWon > 0 ? "-" + expenseWon : "");
+
+				days.add(day);
+				d = d.plusDays(1);
+			}
+			weeks.add(new TransactionCalendarWeekDto(days));
+		}
+		return weeks;
+	}
+
+	// 달력 셀 한 줄.
+	private static TransactionCalendarDayDto.TxnMiniDto toMiniDto(Transaction t, Map<String, String> categoryNameMap) {
+		String catName = categoryNameMap.getOrDefault(t.getCategoryId().toString(), "");
+		String amtStr = (t.getType() == TransactionType.INCOME ? "+" : "-") + t.getAmount().toLong();
+		return new TransactionCalendarDayDto.TxnMiniDto(t.getId().toString(), catName, amtStr, t.getType().name());
+	}
+
+	// 검색 기간 기본값(해당 월) 보정 및 역전 시 교환.
+	private void normalizeCondition(TransactionSearchCondition cond, YearMonth ym) {
+		if (cond.getStart() == null) cond.setStart(ym.atDay(1));
+		if (cond.getEnd()   == null) cond.setEnd(ym.atEndOfMonth());
+
+		if (cond.getEnd().isBefore(cond.getStart())) {
+			LocalDate tmp = cond.getStart();
+			cond.setStart(cond.getEnd());
+			cond.setEnd(tmp);
+		}
+	}
+
+	// 카테고리 해석: 하위 선택이면 본인만, 상위 선택이면 상위 + 하위 집합, 없으면 전체.
+	private void resolveCategories(CategoryTree categories, TransactionSearchCondition cond) {
+		if (cond.getCategoryId() != null && !cond.getCategoryId().trim().isEmpty()) {
+			cond.setResolvedCategoryIds(Collections.singletonList(cond.getCategoryId().trim()));
+		} else if (cond.getRootCategoryId() != null && !cond.getRootCategoryId().trim().isEmpty()) {
+			CategoryId parentId = CategoryId.of(cond.getRootCategoryId().trim());
+			List<String> ids = new ArrayList<>();
+			ids.add(parentId.toString()); // 상위 포함
+			for (Category c : categories.children(parentId)) {
+				ids.add(c.getId().toString());
+			}
+			cond.setResolvedCategoryIds(ids);
+		} else {
+			cond.setResolvedCategoryIds(null); // 전체
+		}
+	}
+
+	// 목록 표시용 DTO 변환: 자산/카테고리 ID → 이름.
+	private List<TransactionListItemDto> toListItems(CategoryTree categories, List<Account> accounts, List<Transaction> content) {
+		Map<String, String> accountNameMap = accounts.stream()
+				.collect(Collectors.toMap(a -> a.getId().toString(), Account::getName, (a,b)->a, LinkedHashMap::new));
+		Map<String, String> categoryNameMap = categories.nameMap();
+
+		return content.stream().map(t -> {
+			TransactionListItemDto d = new TransactionListItemDto();
+			d.setId(t.getId().toString());
+			d.setDate(t.getDate().toString());
+			d.setAccountName(accountNameMap.getOrDefault(t.getAccountId().toString(), t.getAccountId().toString()));
+			d.setCategoryName(categoryNameMap.getOrDefault(t.getCategoryId().toString(), t.getCategoryId().toString()));
+			d.setType(t.getType().name());
+			d.setAmount(String.valueOf(t.getAmount()));
+			d.setMemo(t.getMemo());
+			return d;
+		}).collect(Collectors.toList());
+	}
+
 	private TransactionCreateDto defaultCreateForm() {
 		TransactionCreateDto f = new TransactionCreateDto();
 		f.setDate(LocalDate.now().toString());
@@ -461,25 +649,13 @@ public class TransactionController {
 		return f;
 	}
 
-	private List<CategoryOptionDto> toCategoryOptions(List<Category> list) {
+	private List<CategoryOptionDto> toCategoryOptions(CategoryTree categories) {
 		// 루트/자식 트리를 평탄화해서 select 옵션 라벨 구성
-		Map<String, Category> map = new LinkedHashMap<>();
-		for (Category c : list)
-			map.put(c.getId().toString(), c);
-		List<CategoryOptionDto> opts = new ArrayList<>();
-
-		Comparator<Category> cmp = Comparator.comparingInt(Category::getSortOrder).thenComparing(Category::getName,
-				String.CASE_INSENSITIVE_ORDER);
-
-		// 루트
-		List<Category> roots = list.stream().filter(c -> c.getParentId() == null).sorted(cmp)
-				.collect(Collectors.toList());
-		for (Category r : roots) {
+		List<CategoryOptionDto> opts = new ArrayList<>(categories.size());
+		for (Category r : categories.roots()) {
 			opts.add(new CategoryOptionDto(r.getId().toString(), r.getName()));
 			// 자식
-			List<Category> children = list.stream().filter(c -> r.getId().equals(c.getParentId())).sorted(cmp)
-					.collect(Collectors.toList());
-			for (Category ch : children) {
+			for (Category ch : categories.children(r.getId())) {
 				opts.add(new CategoryOptionDto(ch.getId().toString(), "— " + ch.getName()));
 			}
 		}
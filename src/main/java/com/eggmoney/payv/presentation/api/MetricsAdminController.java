@@ -0,0 +1,109 @@
+package com.eggmoney.payv.presentation.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.eggmoney.payv.infrastructure.datasource.BulkheadRegistry;
+import com.eggmoney.payv.infrastructure.datasource.ReplicaRoutingPolicy;
+import com.eggmoney.payv.infrastructure.metrics.EndpointMetrics;
+import com.eggmoney.payv.infrastructure.metrics.LatencyHistogram;
+import com.eggmoney.payv.infrastructure.metrics.PrometheusTextWriter;
+import com.eggmoney.payv.infrastructure.metrics.RuntimeMetrics;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.NPlusOneDetector;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운영 지표 화면/수집 엔드포인트(관리자용).
+ * - GET  /admin/metrics            : 핸들러별 응답 시간, 느린 SQL 상위, N+1 감지, 커넥션 풀/벌크헤드/복제본 경로, JVM (admin/metrics.jsp)
+ * - GET  /admin/metrics/prometheus : Prometheus 텍스트 형식 (PrometheusTextWriter)
+ * - POST /admin/metrics/reset      : 응답 시간 + SQL 통계 초기화
+ * - 접근 제어는 security-context.xml 의 /admin/** 규칙.(security.adminEmails 계정의 ROLE_ADMIN, POST 는 CSRF 토큰 필요)
+ * @author 정의탁
+ */
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/admin/metrics")
+public class MetricsAdminController {
+
+	private static final int TOP_STATEMENTS = 20;
+
+	private final EndpointMetrics endpointMetrics;
+	private final StatementMetrics statementMetrics;
+	private final NPlusOneDetector nPlusOneDetector;
+	private final RuntimeMetrics runtimeMetrics;
+	private final ReplicaRoutingPolicy replicaRoutingPolicy;
+	private final BulkheadRegistry bulkheadRegistry;
+	private final PrometheusTextWriter prometheusTextWriter;
+
+	@GetMapping
+	public String page(Model model) {
+		List<EndpointDto> endpoints = endpointMetrics.endpoints().stream()
+				.map(MetricsAdminController::toDto)
+				.collect(Collectors.toList());
+		List<SqlMetricsApiController.StatementDto> statements = statementMetrics.statements().stream()
+				.limit(TOP_STATEMENTS)
+				.map(SqlMetricsApiController::toDto)
+				.collect(Collectors.toList());
+
+		model.addAttribute("endpoints", endpoints);
+		model.addAttribute("statements", statements);
+		model.addAttribute("nplusOne", nPlusOneDetector.detections());
+		model.addAttribute("nplusOneThreshold", nPlusOneDetector.getThreshold());
+		model.addAttribute("pools", runtimeMetrics.pools());
+		model.addAttribute("bulkheads", bulkheadRegistry.all());
+		model.addAttribute("replica", replicaRoutingPolicy);
+		model.addAttribute("jvm", runtimeMetrics.jvm());
+		return "admin/metrics";
+	}
+
+	@GetMapping("/prometheus")
+	public ResponseEntity<String> prometheus() {
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE)
+				.body(prometheusTextWriter.write());
+	}
+
+	@PostMapping("/reset")
+	public String reset() {
+		endpointMetrics.reset();
+		statementMetrics.reset();
+		return "redirect:/admin/metrics";
+	}
+
+	private static EndpointDto toDto(EndpointMetrics.EndpointStats e) {
+		LatencyHistogram h = e.getLatency();
+		long count = e.count();
+		return new EndpointDto(e.getHandler(), count, e.errors(),
+				count == 0 ? 0 : SqlMetricsApiController.round(e.totalMicros() / 1_000d / count),
+				SqlMetricsApiController.round(h.percentile(50) / 1_000d),
+				SqlMetricsApiController.round(h.percentile(95) / 1_000d),
+				SqlMetricsApiController.round(h.percentile(99) / 1_000d),
+				SqlMetricsApiController.round(h.maxMicros() / 1_000d));
+	}
+
+	// 시간 단위: ms
+	@Data
+	@AllArgsConstructor
+	public static class EndpointDto {
+		private String handler;
+		private long count;
+		private long errors;
+		private double meanMs;
+		private double p50Ms;
+		private double p95Ms;
+		private double p99Ms;
+		private double maxMs;
+	}
+}
@@ -0,0 +1,130 @@
+package com.eggmoney.payv.presentation.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import com.eggmoney.payv.infrastructure.metrics.LatencyHistogram;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.NPlusOneDetector;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SQL 실행 통계 조회(관리자용).
+ * - GET  /admin/metrics/sql?prefix=TransactionMapper&limit=30 : 문장별(총 시간 순) + 요청별(평균 문장 수 순) + N+1 감지
+ * - POST /admin/metrics/sql/reset : 통계 초기화
+ * - 접근 제어는 security-context.xml 의 /admin/** 규칙.(security.adminEmails 계정의 ROLE_ADMIN, POST 는 CSRF 토큰 필요)
+ * @author 정의탁
+ */
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/admin/metrics/sql")
+public class SqlMetricsApiController {
+
+	private final StatementMetrics statementMetrics;
+	private final NPlusOneDetector nPlusOneDetector;
+
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public SqlMetricsDto metrics(@RequestParam(required = false) String prefix,
+								 @RequestParam(defaultValue = "50") int limit) {
+		// 문장 id 는 매퍼 인터페이스 전체 이름이므로 "TransactionMapper" 처럼 단순 이름으로도 거를 수 있게 포함 검사
+		List<StatementDto> statements = statementMetrics.statements().stream()
+				.filter(s -> prefix == null || prefix.isEmpty() || s.getId().contains(prefix))
+				.limit(Math.max(1, limit))
+				.map(SqlMetricsApiController::toDto)
+				.collect(Collectors.toList());
+
+		List<RequestDto> requests = statementMetrics.requests().stream()
+				.limit(Math.max(1, limit))
+				.map(r -> new RequestDto(r.getKey(), r.count(), round(r.avgStatements()), r.maxStatements(),
+						round(r.avgSqlMillis())))
+				.collect(Collectors.toList());
+
+		List<NPlusOneDto> nPlusOne = nPlusOneDetector.detections().stream()
+				.limit(Math.max(1, limit))
+				.map(d -> new NPlusOneDto(d.getRequest(), d.getStatementId(), d.count(), d.maxExecutions()))
+				.collect(Collectors.toList());
+
+		return new SqlMetricsDto(statementMetrics.isEnabled(), statementMetrics.getSlowThresholdMillis(),
+				nPlusOneDetector.getThreshold(), statements, requests, nPlusOne);
+	}
+
+	@PostMapping(value = "/reset", produces = MediaType.APPLICATION_JSON_VALUE)
+	@ResponseBody
+	public String reset() {
+		statementMetrics.reset();
+		return "{\"reset\":true}";
+	}
+
+	static StatementDto toDto(StatementMetrics.StatementStats s) {
+		LatencyHistogram h = s.getLatency();
+		long count = s.count();
+		return new StatementDto(s.getId(), count, s.rows(), s.errors(),
+				round(s.totalMicros() / 1_000d),
+				count == 0 ? 0 : round(s.totalMicros() / 1_000d / count),
+				round(h.percentile(50) / 1_000d), round(h.percentile(95) / 1_000d),
+				round(h.percentile(99) / 1_000d), round(h.maxMicros() / 1_000d));
+	}
+
+	static double round(double v) {
+		return Math.round(v * 100) / 100d;
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class SqlMetricsDto {
+		private boolean enabled;
+		private long slowThresholdMs;
+		private int nplusOneThreshold;
+		private List<StatementDto> statements;
+		private List<RequestDto> requests;
+		private List<NPlusOneDto> nplusOne;
+	}
+
+	// 시간 단위: ms
+	@Data
+	@AllArgsConstructor
+	public static class StatementDto {
+		private String id;
+		private long count;
+		private long rows;
+		private long errors;
+		private double totalMs;
+		private double meanMs;
+		private double p50Ms;
+		private double p95Ms;
+		private double p99Ms;
+		private double maxMs;
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class RequestDto {
+		private String request;
+		private long count;
+		private double avgStatements;
+		private long maxStatements;
+		private double avgSqlMs;
+	}
+
+	// 같은 요청 종류에서 같은 문장이 기준 횟수를 넘은 건.
+	@Data
+	@AllArgsConstructor
+	public static class NPlusOneDto {
+		private String request;
+		private String statement;
+		private long detections;
+		private long maxExecutions;
+	}
+}
@@ -0,0 +1,24 @@
+package com.eggmoney.payv.presentation.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 목록/검색 화면 전용 간략 DTO (내용 없음)
+ * - 내용은 상세 화면(BoardItemDto)에서만 조회.
+ * @author 정의탁
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardListItemDto {
+	private String id;
+	private String title;
+	private String owner;	// 작성자 이메일
+	private long viewCount;
+	private int commentCount;
+	private LocalDateTime createdAt;
+}
@@ -11,6 +11,12 @@ public class PageRequestDto {
 
 	private int page = 1;   // 1-based
     private int size = 20;  // page size
+    private String cursor;  // 커서(keyset) 모드 토큰. null 이면 번호 페이지 모드, "" 이면 커서 모드 첫 페이지.
+
+    // 커서 모드 여부: 다음 페이지/무한 스크롤은 offset 없이 마지막 행 이후부터 탐색.
+    public boolean isCursorMode() {
+    	return cursor != null;
+    }
 
 	public int offset() {
 		return Math.max(0, (page <= 1 ? 0 : (page - 1) * size));
@@ -23,6 +29,7 @@ public class PageRequestDto {
 	@Override
 	public String toString() {
 		return "PageRequestDto [page=" + page + 
-				", size=" + size + "]";
+				", size=" + size + 
+				", cursor=" + cursor + "]";
 	}
 }
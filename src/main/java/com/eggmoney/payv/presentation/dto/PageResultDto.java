@@ -15,6 +15,20 @@ public class PageResultDto<T> {
     private int page;
     private int size;
     private List<T> content;
+    private String nextCursor;	// 커서 모드: 다음 페이지 토큰(없으면 null). 번호 페이지 모드에서는 항상 null.
+
+    public PageResultDto(long total, int page, int size, List<T> content) {
+    	this(total, page, size, content, null);
+    }
+
+    // 커서 모드 결과: 전체 건수는 계산하지 않음(total = -1).
+    public static <T> PageResultDto<T> ofCursor(int size, List<T> content, String nextCursor) {
+    	return new PageResultDto<>(-1L, 0, size, content, nextCursor);
+    }
+
+    public boolean hasNext() {
+    	return nextCursor != null;
+    }
 
     public int totalPages(){
         if (size <= 0) return 1;
@@ -13,6 +13,8 @@ public class TransactionCalendarDayDto {
     private boolean inMonth;    // 해당 달에 속하는 날인지 확인.
     private String income;      // 일자 수입 합계 (Money 문자열)
     private String expense;     // 일자 지출 합계 (Money 문자열)
+    private long count;         // 일자 전체 거래 건수
+    private long moreCount;     // 셀에 표시되지 않은 나머지 건수 (펼치기 대상)
     private List<TxnMiniDto> txns = new ArrayList<>(); // 셀에 보여줄 간단 목록(최대 N)
 
     @Data
@@ -0,0 +1,53 @@
+package com.eggmoney.payv.presentation.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.eggmoney.payv.domain.shared.error.DomainException;
+
+import lombok.Getter;
+
+/**
+ * 거래 내역 커서(keyset) 페이지 토큰
+ * - 정렬 키 (TRANSACTION_DATE DESC, TRANSACTION_ID DESC) 의 마지막 행 값을 담음.
+ * - 외부에는 base64url 문자열로만 노출(opaque).
+ * @author 정의탁
+ */
+@Getter
+public final class TransactionCursor {
+
+	private static final char SEPARATOR = '|';
+
+	private final LocalDate date;
+	private final String transactionId;
+
+	public TransactionCursor(LocalDate date, String transactionId) {
+		this.date = date;
+		this.transactionId = transactionId;
+	}
+
+	public String encode() {
+		String raw = date.toString() + SEPARATOR + transactionId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 빈 토큰은 첫 페이지(null).
+	public static TransactionCursor decode(String token) {
+		if (token == null || token.trim().isEmpty()) return null;
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+			int idx = raw.indexOf(SEPARATOR);
+			if (idx <= 0 || idx == raw.length() - 1) throw new IllegalArgumentException(raw);
+			return new TransactionCursor(LocalDate.parse(raw.substring(0, idx)), raw.substring(idx + 1));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new DomainException("잘못된 페이지 커서입니다.");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TransactionCursor [date=" + date + ", transactionId=" + transactionId + "]";
+	}
+}
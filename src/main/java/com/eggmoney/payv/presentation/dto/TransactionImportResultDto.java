@@ -0,0 +1,59 @@
+package com.eggmoney.payv.presentation.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 거래 내역 일괄 등록(가져오기) 결과 DTO
+ * - 실패한 행은 줄 번호와 사유를 남기고, 나머지 행은 계속 처리.
+ * - 청크 트랜잭션이 롤백되면 청크(줄 범위) 단위로 원인을 한 번만 남김.(그 행들도 failedRows 에 포함)
+ * @author 정의탁
+ */
+@Data
+public class TransactionImportResultDto {
+
+	// 화면/응답에 담을 오류 행 상한(전체 실패 건수는 failedRows 로 확인).
+	public static final int MAX_ERRORS = 200;
+
+	private long totalRows;
+	private long importedRows;
+	private long failedRows;
+	private long elapsedMillis;
+	private List<RowError> errors = new ArrayList<>();
+	private List<ChunkError> chunkErrors = new ArrayList<>();
+
+	public void addError(long lineNo, String message) {
+		failedRows++;
+		if (errors.size() < MAX_ERRORS) {
+			errors.add(new RowError(lineNo, message));
+		}
+	}
+
+	public void addChunkError(long fromLineNo, long toLineNo, int rows, String message) {
+		failedRows += rows;
+		chunkErrors.add(new ChunkError(fromLineNo, toLineNo, rows, message));
+	}
+
+	public long getRowsPerSecond() {
+		return elapsedMillis <= 0 ? importedRows : importedRows * 1000L / elapsedMillis;
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class RowError {
+		private long lineNo;
+		private String message;
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class ChunkError {
+		private long fromLineNo;
+		private long toLineNo;
+		private int rows;
+		private String message;
+	}
+}
@@ -22,6 +22,11 @@ public class TransactionSearchCondition {
     // 컨트롤러 or 서비스에서 계산해 넣어 주는 필드(하위 포함 집합)
     private List<String> resolvedCategoryIds; // null이면 전체
 
+    // 매퍼용 상한(exclusive). DATE + 1 같은 DB 별 날짜 연산 대신 여기서 계산.
+    public LocalDate getEndExclusive() {
+    	return end == null ? null : end.plusDays(1);
+    }
+
 	@Override
 	public String toString() {
 		return "TransactionSearchCondition [start=" + start + 
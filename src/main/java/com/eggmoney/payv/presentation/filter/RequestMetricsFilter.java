@@ -0,0 +1,96 @@
+package com.eggmoney.payv.presentation.filter;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.eggmoney.payv.infrastructure.metrics.EndpointMetrics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 응답 시간 측정 필터.
+ * - web.xml 에 DelegatingFilterProxy(requestMetricsFilter)로 가장 먼저 등록 → 보안 필터 시간까지 포함.
+ * - 핸들러 이름은 MVC 단계에서 EndpointMetricsInterceptor 가 요청 속성(HANDLER_ATTRIBUTE)에 남김.
+ *   MVC 까지 가지 못한 요청(로그인 리다이렉트, 접근 거부 등)은 UNMAPPED 로 묶음.
+ * - 비동기 응답(StreamingResponseBody)은 응답 완료 시점(AsyncListener.onComplete)까지 잼.
+ * - 요청 본문/파라미터는 읽지 않음.(인코딩 필터보다 앞에 있어도 무방)
+ * @author 정의탁
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+	public static final String HANDLER_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".handler";
+	public static final String UNMAPPED = "(unmapped)";
+
+	private final EndpointMetrics endpointMetrics;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		if (!endpointMetrics.isEnabled()) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			chain.doFilter(request, response);
+			failed = false;
+		} finally {
+			if (!failed && request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new CompletionListener(request, start));
+			} else {
+				record(request, response, start, failed);
+			}
+		}
+	}
+
+	private void record(HttpServletRequest request, HttpServletResponse response, long start, boolean failed) {
+		Object handler = request.getAttribute(HANDLER_ATTRIBUTE);
+		endpointMetrics.record(handler != null ? handler.toString() : UNMAPPED, System.nanoTime() - start,
+				failed || response.getStatus() >= 500);
+	}
+
+	// 비동기 응답 완료/실패 시 기록.(onComplete 는 timeout/error 뒤에도 호출되므로 한 번만 기록)
+	private final class CompletionListener implements AsyncListener {
+		private final HttpServletRequest request;
+		private final long start;
+		private boolean failed;
+
+		CompletionListener(HttpServletRequest request, long start) {
+			this.request = request;
+			this.start = start;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			record(request, (HttpServletResponse) event.getSuppliedResponse(), start, failed);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			failed = true;
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			failed = true;
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
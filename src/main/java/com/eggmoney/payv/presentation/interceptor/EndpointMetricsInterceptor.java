@@ -0,0 +1,38 @@
+package com.eggmoney.payv.presentation.interceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import com.eggmoney.payv.presentation.filter.RequestMetricsFilter;
+
+/**
+ * 응답 시간 집계용 핸들러 이름 지정.
+ * - "TransactionController.list" 처럼 컨트롤러 클래스 + 메서드 이름을 요청 속성에 남김. 측정/기록은 RequestMetricsFilter.
+ * - 정적 리소스(/resources/**)는 "static" 하나로 묶음.
+ * - servlet-context.xml 의 <interceptors> 에 등록.
+ * @author 정의탁
+ */
+@Component
+public class EndpointMetricsInterceptor implements HandlerInterceptor {
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		request.setAttribute(RequestMetricsFilter.HANDLER_ATTRIBUTE, nameOf(handler));
+		return true;
+	}
+
+	private static String nameOf(Object handler) {
+		if (handler instanceof HandlerMethod) {
+			HandlerMethod hm = (HandlerMethod) handler;
+			return ClassUtils.getUserClass(hm.getBeanType()).getSimpleName() + "." + hm.getMethod().getName();
+		}
+		if (handler instanceof ResourceHttpRequestHandler) return "static";
+		return ClassUtils.getUserClass(handler).getSimpleName();
+	}
+}
@@ -0,0 +1,48 @@
+package com.eggmoney.payv.presentation.interceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 단위 SQL 실행 수 집계 범위 지정.
+ * - 핸들러 실행 전 시작, 완료(또는 비동기 전환) 시 "메서드 + 매핑 패턴" 키로 StatementMetrics 에 기록.
+ * - 비동기 응답(StreamingResponseBody)은 요청 스레드에서 실행된 SQL 까지만 포함.
+ * - servlet-context.xml 의 <interceptors> 에 등록.
+ * @author 정의탁
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlRequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+	private final StatementMetrics statementMetrics;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		statementMetrics.beginRequest();
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		statementMetrics.endRequest(keyOf(request));
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		statementMetrics.endRequest(keyOf(request));
+	}
+
+	// 경로 변수 값이 아닌 매핑 패턴으로 묶음.(/ledgers/{ledgerId}/transactions)
+	private static String keyOf(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return request.getMethod() + " " + (pattern != null ? pattern : "(unmapped)");
+	}
+}
@@ -26,8 +26,11 @@ public class CustomUser extends User {
     }
 
     public CustomUser(com.eggmoney.payv.domain.model.entity.User user) {
-        super(user.getEmail(), user.getPassword(),
-              Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        this(user, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    public CustomUser(com.eggmoney.payv.domain.model.entity.User user, Collection<? extends GrantedAuthority> authorities) {
+        super(user.getEmail(), user.getPassword(), authorities);
         this.userId = user.getId();
         this.email = user.getEmail();
     }
@@ -1,5 +1,15 @@
 package com.eggmoney.payv.security;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -7,21 +17,31 @@ import org.springframework.stereotype.Service;
 
 import com.eggmoney.payv.domain.model.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Spring Security UserDetailsService 구현체 DB에 ROLE 컬럼이 없으므로 모든 사용자에게 ROLE_USER
  * 권한 부여
+ * - security.adminEmails(쉼표 구분)에 있는 계정에만 ROLE_ADMIN 추가.(/admin/** 운영 지표 접근용)
  * 
  * @author 강기범
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CustomUserDetailsService implements UserDetailsService {
 
 	private final UserRepository userRepository;
+	private final Set<String> adminEmails;
+
+	public CustomUserDetailsService(UserRepository userRepository,
+									@Value("${security.adminEmails:}") String adminEmails) {
+		this.userRepository = userRepository;
+		this.adminEmails = Arrays.stream(adminEmails.split(","))
+				.map(String::trim)
+				.filter(s -> !s.isEmpty())
+				.map(s -> s.toLowerCase(Locale.ROOT))
+				.collect(Collectors.toSet());
+	}
 
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -33,6 +53,15 @@ public class CustomUserDetailsService implements UserDetailsService {
 			return new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email);
 		});
 		
-		return new CustomUser(user);
+		return new CustomUser(user, authoritiesOf(user.getEmail()));
+	}
+
+	List<GrantedAuthority> authoritiesOf(String email) {
+		List<GrantedAuthority> authorities = new ArrayList<>();
+		authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+		if (email != null && adminEmails.contains(email.toLowerCase(Locale.ROOT))) {
+			authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+		}
+		return authorities;
 	}
 }
@@ -0,0 +1,146 @@
+-- =====================================================================
+-- 내장 DB(H2, Oracle 호환 모드) 스키마 — 'embedded' 프로필 전용
+-- - 매퍼가 쓰는 모든 테이블. 컬럼/제약은 운영(Oracle) 스키마와 동일하게 유지.
+--   (db/oracle/*.sql 의 VERSION 컬럼, 커서 인덱스, 월별 집계 테이블 반영)
+-- - 시스템 카테고리 템플릿은 부하 테스트에서만 적재(src/loadtest/resources/db/h2/category_templates.sql).
+-- - 운영 스키마가 바뀌면 이 파일도 함께 수정.
+-- =====================================================================
+
+CREATE TABLE USERS (
+	USER_ID			VARCHAR2(36)	NOT NULL,
+	EMAIL			VARCHAR2(50)	NOT NULL,
+	PASSWORD		VARCHAR2(100)	NOT NULL,
+	NAME			VARCHAR2(20)	NOT NULL,
+	CREATED_AT		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	CONSTRAINT PK_USERS PRIMARY KEY (USER_ID),
+	CONSTRAINT UQ_USERS_EMAIL UNIQUE (EMAIL)
+);
+
+CREATE TABLE LEDGER (
+	LEDGER_ID		VARCHAR2(36)	NOT NULL,
+	OWNER_ID		VARCHAR2(36)	NOT NULL,
+	NAME			VARCHAR2(50)	NOT NULL,
+	CREATED_AT		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	CONSTRAINT PK_LEDGER PRIMARY KEY (LEDGER_ID),
+	CONSTRAINT FK_LEDGER_OWNER FOREIGN KEY (OWNER_ID) REFERENCES USERS (USER_ID)
+);
+CREATE INDEX IX_LEDGER_OWNER ON LEDGER (OWNER_ID);
+
+CREATE TABLE ACCOUNT (
+	ACCOUNT_ID		VARCHAR2(36)	NOT NULL,
+	LEDGER_ID		VARCHAR2(36)	NOT NULL,
+	TYPE			VARCHAR2(10)	NOT NULL,		-- CASH / BANK / CARD / ETC
+	NAME			VARCHAR2(50)	NOT NULL,
+	CURRENT_BALANCE	NUMBER(19)		DEFAULT 0 NOT NULL,
+	ARCHIVED		CHAR(1)			DEFAULT 'N' NOT NULL,
+	IS_DELETED		CHAR(1)			DEFAULT 'N' NOT NULL,
+	CREATED_AT		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	VERSION			NUMBER(19)		DEFAULT 0 NOT NULL,
+	CONSTRAINT PK_ACCOUNT PRIMARY KEY (ACCOUNT_ID),
+	CONSTRAINT FK_ACCOUNT_LEDGER FOREIGN KEY (LEDGER_ID) REFERENCES LEDGER (LEDGER_ID)
+);
+CREATE INDEX IX_ACCOUNT_LEDGER ON ACCOUNT (LEDGER_ID);
+
+-- 시스템 템플릿(LEDGER_ID = 'SYSTEM')이 있으므로 LEDGER FK 없음.
+CREATE TABLE CATEGORY (
+	CATEGORY_ID			VARCHAR2(36)	NOT NULL,
+	LEDGER_ID			VARCHAR2(36)	NOT NULL,
+	NAME				VARCHAR2(50)	NOT NULL,
+	IS_SYSTEM_CATEGORY	CHAR(1)			DEFAULT 'N' NOT NULL,
+	PARENT_ID			VARCHAR2(36),
+	SORT_ORDER			NUMBER(10)		DEFAULT 0 NOT NULL,
+	IS_DELETED			CHAR(1)			DEFAULT 'N' NOT NULL,
+	-- 이름 유일성은 삭제되지 않은 카테고리끼리만(삭제 후 같은 이름 재생성 허용).
+	-- 삭제된 행은 두 열 모두 NULL → 중복 검사 대상 아님.(Oracle 모드는 일부만 NULL 인 키끼리도 중복으로 봄)
+	ACTIVE_LEDGER_ID	VARCHAR2(36)	GENERATED ALWAYS AS (CASE WHEN IS_DELETED = 'N' THEN LEDGER_ID END),
+	ACTIVE_NAME			VARCHAR2(50)	GENERATED ALWAYS AS (CASE WHEN IS_DELETED = 'N' THEN NAME END),
+	CONSTRAINT PK_CATEGORY PRIMARY KEY (CATEGORY_ID),
+	CONSTRAINT UQ_CATEGORY_LEDGER_NAME UNIQUE (ACTIVE_LEDGER_ID, ACTIVE_NAME)
+);
+CREATE INDEX IX_CATEGORY_PARENT ON CATEGORY (PARENT_ID);
+
+CREATE TABLE BUDGET (
+	BUDGET_ID		VARCHAR2(36)	NOT NULL,
+	LEDGER_ID		VARCHAR2(36)	NOT NULL,
+	CATEGORY_ID		VARCHAR2(36)	NOT NULL,
+	YEAR_MONTH		VARCHAR2(7)		NOT NULL,		-- 'YYYY-MM'
+	LIMIT_AMOUNT	NUMBER(19)		DEFAULT 0 NOT NULL,
+	SPENT_AMOUNT	NUMBER(19)		DEFAULT 0 NOT NULL,
+	CREATED_AT		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	VERSION			NUMBER(19)		DEFAULT 0 NOT NULL,
+	CONSTRAINT PK_BUDGET PRIMARY KEY (BUDGET_ID),
+	CONSTRAINT UQ_BUDGET_LEDGER_CATEGORY_MONTH UNIQUE (LEDGER_ID, CATEGORY_ID, YEAR_MONTH),
+	CONSTRAINT FK_BUDGET_LEDGER FOREIGN KEY (LEDGER_ID) REFERENCES LEDGER (LEDGER_ID),
+	CONSTRAINT FK_BUDGET_CATEGORY FOREIGN KEY (CATEGORY_ID) REFERENCES CATEGORY (CATEGORY_ID)
+);
+
+CREATE TABLE TRANSACTION (
+	TRANSACTION_ID		VARCHAR2(36)	NOT NULL,
+	LEDGER_ID			VARCHAR2(36)	NOT NULL,
+	ACCOUNT_ID			VARCHAR2(36)	NOT NULL,
+	TRANSACTION_DATE	DATE			NOT NULL,
+	TYPE				VARCHAR2(10)	NOT NULL,		-- INCOME / EXPENSE
+	AMOUNT				NUMBER(19)		NOT NULL,
+	CATEGORY_ID			VARCHAR2(36)	NOT NULL,
+	MEMO				VARCHAR2(200),
+	POSTED				CHAR(1)			DEFAULT 'N' NOT NULL,
+	POSTED_AT			TIMESTAMP,
+	CREATED_AT			TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	VERSION				NUMBER(19)		DEFAULT 0 NOT NULL,
+	CONSTRAINT PK_TRANSACTION PRIMARY KEY (TRANSACTION_ID),
+	CONSTRAINT FK_TRANSACTION_LEDGER FOREIGN KEY (LEDGER_ID) REFERENCES LEDGER (LEDGER_ID),
+	CONSTRAINT FK_TRANSACTION_ACCOUNT FOREIGN KEY (ACCOUNT_ID) REFERENCES ACCOUNT (ACCOUNT_ID),
+	CONSTRAINT FK_TRANSACTION_CATEGORY FOREIGN KEY (CATEGORY_ID) REFERENCES CATEGORY (CATEGORY_ID)
+);
+-- db/oracle/transaction_keyset_index.sql
+CREATE INDEX IX_TRANSACTION_LEDGER_DATE_ID
+	ON TRANSACTION (LEDGER_ID, TRANSACTION_DATE DESC, TRANSACTION_ID DESC);
+CREATE INDEX IX_TRANSACTION_ACCOUNT ON TRANSACTION (ACCOUNT_ID);
+
+-- db/oracle/transaction_monthly_rollup.sql
+CREATE TABLE TRANSACTION_MONTHLY_ROLLUP (
+	LEDGER_ID		VARCHAR2(36)	NOT NULL,
+	YEAR_MONTH		VARCHAR2(7)		NOT NULL,
+	CATEGORY_ID		VARCHAR2(36)	NOT NULL,
+	TYPE			VARCHAR2(10)	NOT NULL,
+	TOTAL_AMOUNT	NUMBER(19)		DEFAULT 0 NOT NULL,
+	TX_COUNT		NUMBER(10)		DEFAULT 0 NOT NULL,
+	UPDATED_AT		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	CONSTRAINT PK_TX_MONTHLY_ROLLUP PRIMARY KEY (LEDGER_ID, YEAR_MONTH, CATEGORY_ID, TYPE)
+);
+
+CREATE TABLE board (
+	board_id		VARCHAR2(36)	NOT NULL,
+	user_id			VARCHAR2(36)	NOT NULL,
+	type			VARCHAR2(20)	NOT NULL,
+	title			VARCHAR2(200)	NOT NULL,
+	content			CLOB,
+	visibility		VARCHAR2(20)	NOT NULL,
+	view_count		NUMBER(19)		DEFAULT 0 NOT NULL,
+	created_at		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	updated_at		TIMESTAMP,
+	CONSTRAINT PK_BOARD PRIMARY KEY (board_id),
+	CONSTRAINT FK_BOARD_USER FOREIGN KEY (user_id) REFERENCES USERS (USER_ID)
+);
+CREATE INDEX IX_BOARD_CREATED ON board (created_at DESC);
+
+CREATE TABLE comments (
+	comment_id		VARCHAR2(36)	NOT NULL,
+	board_id		VARCHAR2(36)	NOT NULL,
+	user_id			VARCHAR2(36)	NOT NULL,
+	content			VARCHAR2(1000)	NOT NULL,
+	visibility		VARCHAR2(20)	NOT NULL,
+	created_at		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	updated_at		TIMESTAMP,
+	CONSTRAINT PK_COMMENTS PRIMARY KEY (comment_id),
+	CONSTRAINT FK_COMMENTS_BOARD FOREIGN KEY (board_id) REFERENCES board (board_id) ON DELETE CASCADE
+);
+CREATE INDEX IX_COMMENTS_BOARD ON comments (board_id, created_at);
+
+-- 복제 지연 측정(ReplicaLagMonitor). 행 하나만 사용.
+CREATE TABLE REPLICA_HEARTBEAT (
+	ID				NUMBER(1)		NOT NULL,
+	BEAT_MILLIS		NUMBER(19)		DEFAULT 0 NOT NULL,
+	CONSTRAINT PK_REPLICA_HEARTBEAT PRIMARY KEY (ID)
+);
+INSERT INTO REPLICA_HEARTBEAT (ID, BEAT_MILLIS) VALUES (1, 0);
@@ -0,0 +1,9 @@
+-- =====================================================================
+-- 낙관적 잠금용 VERSION 컬럼 (ACCOUNT / BUDGET / TRANSACTION)
+-- - 전체 행 UPDATE 는 WHERE VERSION = (읽은 값) 조건으로 실행하고 VERSION + 1.
+-- - 잔액/소진액 증감(applyBalanceDelta / applySpentDelta)은 조건식으로 보호되므로 VERSION 을 쓰지 않음.
+-- =====================================================================
+
+ALTER TABLE ACCOUNT ADD (VERSION NUMBER(19) DEFAULT 0 NOT NULL);
+ALTER TABLE BUDGET ADD (VERSION NUMBER(19) DEFAULT 0 NOT NULL);
+ALTER TABLE TRANSACTION ADD (VERSION NUMBER(19) DEFAULT 0 NOT NULL);
@@ -0,0 +1,54 @@
+-- =====================================================================
+-- 식별자: 무작위 UUID(v4) 문자열 → 시간 순서 UUID(v7)
+--
+-- 1단계 (필수 아님, 스키마 변경 없음)
+-- - 새 식별자는 같은 36자 문자열(VARCHAR2(36))이므로 배포만 하면 신규 행부터 v7 로 들어감.
+-- - 기존 v4 행은 그대로 유효. 인덱스 오른쪽 끝 추가 효과는 신규 행부터 적용.
+-- - 되돌리려면 id.generator=random.
+--
+-- 2단계 (선택): 쓰기가 가장 많은 TRANSACTION.TRANSACTION_ID 를 RAW(16) 로 이전.
+-- - 키 크기 36바이트 → 16바이트. 값은 HEXTORAW(REPLACE(id, '-', '')) (UuidBytes 와 동일한 바이트 순서).
+-- - TRANSACTION_ID 를 참조하는 FK 는 없음. 다른 테이블로 확장할 때는 참조 컬럼도 같은 방식으로 함께 이전.
+-- - 이전 후 jdbc.properties 의 id.transactionStorage=raw16 으로 배포.
+--   (TransactionMapper.xml 의 TRANSACTION_ID 바인딩/결과 매핑이 RawUuidStringTypeHandler 로 전환됨)
+-- - raw16 배포 전에 옛 컬럼(TRANSACTION_ID_OLD)은 반드시 NULL 허용으로 바꾸거나(2-2 마지막 문장) 제거해야 함.
+--   전환된 매퍼는 이 컬럼을 쓰지 않으므로, NOT NULL 이 남아 있으면 모든 거래 INSERT 가 실패함(ORA-01400).
+-- - 되돌리려면 전환 후 추가된 행의 옛 컬럼을 채운 뒤(2-3 의 UPDATE) 옛 컬럼을 다시 TRANSACTION_ID 로 바꾸고
+--   id.transactionStorage=varchar. 옛 컬럼을 이미 제거했다면 RAW 값에서 같은 식으로 새 VARCHAR2(36) 컬럼을 만들어 교체.
+-- - 서비스 점검 시간에 실행.(컬럼 교체 중 쓰기 금지)
+-- =====================================================================
+
+-- 2-1) 새 컬럼 추가 + 기존 값 변환
+ALTER TABLE TRANSACTION ADD (TRANSACTION_ID_RAW RAW(16));
+
+UPDATE TRANSACTION
+   SET TRANSACTION_ID_RAW = HEXTORAW(REPLACE(TRANSACTION_ID, '-', ''));
+COMMIT;
+
+-- 변환 실패(36자 UUID 형식이 아닌 값) 확인: 0 이어야 함.
+SELECT COUNT(*) FROM TRANSACTION
+ WHERE TRANSACTION_ID_RAW IS NULL OR LENGTH(TRANSACTION_ID) <> 36;
+
+-- 2-2) 기본 키/인덱스 교체
+DROP INDEX IX_TRANSACTION_LEDGER_DATE_ID;
+ALTER TABLE TRANSACTION DROP PRIMARY KEY DROP INDEX;
+
+ALTER TABLE TRANSACTION RENAME COLUMN TRANSACTION_ID TO TRANSACTION_ID_OLD;
+ALTER TABLE TRANSACTION RENAME COLUMN TRANSACTION_ID_RAW TO TRANSACTION_ID;
+ALTER TABLE TRANSACTION MODIFY (TRANSACTION_ID NOT NULL);
+ALTER TABLE TRANSACTION ADD CONSTRAINT PK_TRANSACTION PRIMARY KEY (TRANSACTION_ID);
+
+CREATE INDEX IX_TRANSACTION_LEDGER_DATE_ID
+	ON TRANSACTION (LEDGER_ID, TRANSACTION_DATE DESC, TRANSACTION_ID DESC);
+
+-- 옛 컬럼 NULL 허용: raw16 배포 전 필수.(이미 NULL 허용이면 ORA-01451 → 무시)
+ALTER TABLE TRANSACTION MODIFY (TRANSACTION_ID_OLD NULL);
+
+-- 2-3) 되돌릴 때만: 전환 후 추가된 행의 옛 컬럼 채우기.(소문자 36자, UuidBytes 와 같은 형식)
+-- UPDATE TRANSACTION
+--    SET TRANSACTION_ID_OLD = LOWER(REGEXP_REPLACE(RAWTOHEX(TRANSACTION_ID),
+--                             '^(.{8})(.{4})(.{4})(.{4})(.{12})$', '\1-\2-\3-\4-\5'))
+--  WHERE TRANSACTION_ID_OLD IS NULL;
+
+-- 2-4) 애플리케이션 전환 확인 후 옛 컬럼 제거
+-- ALTER TABLE TRANSACTION DROP COLUMN TRANSACTION_ID_OLD;
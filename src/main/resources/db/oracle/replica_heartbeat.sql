@@ -0,0 +1,15 @@
+-- =====================================================================
+-- 복제 지연 측정(heartbeat) 테이블
+-- - ReplicaLagMonitor 가 주 DB 에 현재 시각(ms)을 쓰고 복제본에서 읽어 지연을 계산.
+-- - 행 하나(ID = 1)만 사용. 복제 대상에 포함되어야 함.
+-- - replica.enabled=true 일 때만 사용.
+-- =====================================================================
+CREATE TABLE REPLICA_HEARTBEAT (
+	ID				NUMBER(1)		NOT NULL,
+	BEAT_MILLIS		NUMBER(19)		DEFAULT 0 NOT NULL,
+	CONSTRAINT PK_REPLICA_HEARTBEAT PRIMARY KEY (ID)
+);
+
+INSERT INTO REPLICA_HEARTBEAT (ID, BEAT_MILLIS) VALUES (1, 0);
+
+COMMIT;
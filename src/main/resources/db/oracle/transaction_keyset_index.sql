@@ -0,0 +1,7 @@
+-- =====================================================================
+-- 거래 내역 커서(keyset) 페이지용 인덱스
+-- - 정렬 키 (TRANSACTION_DATE DESC, TRANSACTION_ID DESC) 와 동일한 순서로 가계부별 범위 스캔.
+-- - "다음 페이지" 조회가 offset 과 무관하게 limit 건만 읽도록 함.
+-- =====================================================================
+CREATE INDEX IX_TRANSACTION_LEDGER_DATE_ID
+	ON TRANSACTION (LEDGER_ID, TRANSACTION_DATE DESC, TRANSACTION_ID DESC);
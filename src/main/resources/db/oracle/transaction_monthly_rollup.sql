@@ -0,0 +1,27 @@
+-- =====================================================================
+-- 월별 거래 집계(rollup) 테이블
+-- - 가계부 × 월 × 카테고리 × 유형 단위의 거래 합계/건수.(목록/달력 합계와 같이 미게시 거래 포함)
+-- - TransactionAppService 의 생성/수정/삭제(원클릭 포함)와 같은 트랜잭션에서 증분 갱신. 게시/취소는 변화 없음.
+-- - 보고서(insights/reports)는 이 테이블만 읽는다.
+-- =====================================================================
+CREATE TABLE TRANSACTION_MONTHLY_ROLLUP (
+	LEDGER_ID		VARCHAR2(36)	NOT NULL,
+	YEAR_MONTH		VARCHAR2(7)		NOT NULL,		-- 'YYYY-MM'
+	CATEGORY_ID		VARCHAR2(36)	NOT NULL,
+	TYPE			VARCHAR2(10)	NOT NULL,		-- INCOME / EXPENSE
+	TOTAL_AMOUNT	NUMBER(19)		DEFAULT 0 NOT NULL,
+	TX_COUNT		NUMBER(10)		DEFAULT 0 NOT NULL,
+	UPDATED_AT		TIMESTAMP		DEFAULT SYSTIMESTAMP NOT NULL,
+	CONSTRAINT PK_TX_MONTHLY_ROLLUP PRIMARY KEY (LEDGER_ID, YEAR_MONTH, CATEGORY_ID, TYPE)
+);
+
+-- 최초 적재(전체 재계산). 운영 중 재계산은 TransactionRollupAppService.rebuild(...) 사용.
+INSERT INTO TRANSACTION_MONTHLY_ROLLUP (LEDGER_ID, YEAR_MONTH, CATEGORY_ID, TYPE, TOTAL_AMOUNT, TX_COUNT)
+SELECT 
+	LEDGER_ID, TO_CHAR(TRANSACTION_DATE, 'YYYY-MM'), CATEGORY_ID, TYPE, SUM(AMOUNT), COUNT(*)
+FROM 
+	TRANSACTION
+GROUP BY 
+	LEDGER_ID, TO_CHAR(TRANSACTION_DATE, 'YYYY-MM'), CATEGORY_ID, TYPE;
+
+COMMIT;
@@ -0,0 +1,175 @@
+<%@ page contentType="text/html; charset=UTF-8"%>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+<%@ taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
+
+<!DOCTYPE html>
+<html lang="ko">
+<head>
+  <meta charset="UTF-8">
+  <title>운영 지표</title>
+  <link rel="stylesheet" href="<c:url value='/resources/css/common.css'/>">
+  <style>
+    .metrics-container { padding: 24px; }
+    .metrics-container table { border-collapse: collapse; width: 100%; margin-bottom: 24px; font-size: 13px; }
+    .metrics-container th, .metrics-container td { border-bottom: 1px solid #e5e5e5; padding: 6px 8px; text-align: right; }
+    .metrics-container th:first-child, .metrics-container td:first-child { text-align: left; }
+    .metrics-container td.warn { color: #d9534f; font-weight: bold; }
+    .metrics-toolbar { display: flex; gap: 8px; margin-bottom: 16px; }
+  </style>
+</head>
+
+<body>
+  <main id="main">
+    <div class="container metrics-container">
+      <h2>운영 지표</h2>
+
+      <div class="metrics-toolbar">
+        <a class="btn btn-primary" href="<c:url value='/admin/metrics/prometheus'/>">Prometheus</a>
+        <a class="btn btn-primary" href="<c:url value='/admin/metrics/sql'/>">SQL 통계(JSON)</a>
+        <form method="post" action="<c:url value='/admin/metrics/reset'/>">
+          <input type="hidden" name="${_csrf.parameterName}" value="${_csrf.token}"/>
+          <button class="btn" type="submit" onclick="return confirm('응답 시간/SQL 통계를 초기화할까요?');">초기화</button>
+        </form>
+      </div>
+
+      <!-- 핸들러별 응답 시간 (ms, 총 처리 시간 큰 순) -->
+      <h3>핸들러별 응답 시간 (ms)</h3>
+      <table>
+        <thead>
+          <tr><th>핸들러</th><th>요청 수</th><th>오류</th><th>평균</th><th>p50</th><th>p95</th><th>p99</th><th>최대</th></tr>
+        </thead>
+        <tbody>
+          <c:forEach var="e" items="${endpoints}">
+            <tr>
+              <td>${e.handler}</td>
+              <td><fmt:formatNumber value="${e.count}" pattern="#,###"/></td>
+              <td class="${e.errors > 0 ? 'warn' : ''}">${e.errors}</td>
+              <td>${e.meanMs}</td><td>${e.p50Ms}</td><td>${e.p95Ms}</td><td>${e.p99Ms}</td><td>${e.maxMs}</td>
+            </tr>
+          </c:forEach>
+          <c:if test="${empty endpoints}"><tr><td colspan="8">기록 없음</td></tr></c:if>
+        </tbody>
+      </table>
+
+      <!-- SQL 문장 (총 시간 상위) -->
+      <h3>SQL 문장 - 총 시간 상위 (ms)</h3>
+      <table>
+        <thead>
+          <tr><th>문장</th><th>실행 수</th><th>행 수</th><th>오류</th><th>총 시간</th><th>평균</th><th>p95</th><th>p99</th><th>최대</th></tr>
+        </thead>
+        <tbody>
+          <c:forEach var="s" items="${statements}">
+            <tr>
+              <td>${s.id}</td>
+              <td><fmt:formatNumber value="${s.count}" pattern="#,###"/></td>
+              <td><fmt:formatNumber value="${s.rows}" pattern="#,###"/></td>
+              <td class="${s.errors > 0 ? 'warn' : ''}">${s.errors}</td>
+              <td>${s.totalMs}</td><td>${s.meanMs}</td><td>${s.p95Ms}</td><td>${s.p99Ms}</td><td>${s.maxMs}</td>
+            </tr>
+          </c:forEach>
+          <c:if test="${empty statements}"><tr><td colspan="9">기록 없음</td></tr></c:if>
+        </tbody>
+      </table>
+
+      <!-- N+1 감지 -->
+      <h3>N+1 감지 (요청당 같은 문장 ${nplusOneThreshold}회 초과)</h3>
+      <table>
+        <thead>
+          <tr><th>요청</th><th>문장</th><th>감지 수</th><th>최대 반복</th></tr>
+        </thead>
+        <tbody>
+          <c:forEach var="d" items="${nplusOne}">
+            <tr>
+              <td>${d.request}</td>
+              <td style="text-align:left;">${d.statementId}</td>
+              <td class="warn">${d.count()}</td>
+              <td>${d.maxExecutions()}</td>
+            </tr>
+          </c:forEach>
+          <c:if test="${empty nplusOne}"><tr><td colspan="4">감지 없음</td></tr></c:if>
+        </tbody>
+      </table>
+
+      <!-- 커넥션 풀 -->
+      <h3>커넥션 풀</h3>
+      <table>
+        <thead>
+          <tr><th>풀</th><th>사용 중</th><th>유휴</th><th>대기 스레드</th><th>전체</th><th>최대</th></tr>
+        </thead>
+        <tbody>
+          <c:forEach var="p" items="${pools}">
+            <tr>
+              <td>${p.name}</td>
+              <td>${p.active}</td>
+              <td>${p.idle}</td>
+              <td class="${p.pending > 0 ? 'warn' : ''}">${p.pending}</td>
+              <td>${p.total}</td>
+              <td>${p.max}</td>
+            </tr>
+          </c:forEach>
+        </tbody>
+      </table>
+
+      <!-- 작업 종류별 벌크헤드 (BulkheadRegistry) -->
+      <h3>벌크헤드</h3>
+      <table>
+        <thead>
+          <tr><th>작업 종류</th><th>풀 크기</th><th>대기 허용</th><th>처리 중</th><th>최대 동시</th><th>입장</th><th>거절</th><th>문장 제한 (초)</th></tr>
+        </thead>
+        <tbody>
+          <c:forEach var="b" items="${bulkheads}">
+            <tr>
+              <td>${b.workload.key()}</td>
+              <td>${b.poolSize}</td>
+              <td>${b.queueLimit}</td>
+              <td class="${b.inFlight() > b.poolSize ? 'warn' : ''}">${b.inFlight()}</td>
+              <td>${b.maxInFlight()}</td>
+              <td><fmt:formatNumber value="${b.admitted()}" pattern="#,##0"/></td>
+              <td class="${b.rejected() > 0 ? 'warn' : ''}"><fmt:formatNumber value="${b.rejected()}" pattern="#,##0"/></td>
+              <td>${b.statementTimeoutSeconds == 0 ? '없음' : b.statementTimeoutSeconds}</td>
+            </tr>
+          </c:forEach>
+        </tbody>
+      </table>
+
+      <!-- 읽기 전용 트랜잭션 경로 (ReplicaRoutingPolicy) -->
+      <h3>복제본 경로</h3>
+      <table>
+        <tbody>
+          <tr><td>사용</td><td>${replica.enabled ? '예' : '아니오 (모두 주 DB)'}</td></tr>
+          <tr><td>복제 지연 (ms, 허용 ${replica.maxLagMillis})</td>
+              <td class="${replica.lagMillis() < 0 || replica.lagMillis() > replica.maxLagMillis ? 'warn' : ''}">
+                ${replica.lagMillis() < 0 ? '측정 없음' : replica.lagMillis()}
+              </td></tr>
+          <tr><td>복제본 연결</td><td><fmt:formatNumber value="${replica.replicaReads()}" pattern="#,##0"/></td></tr>
+          <tr><td>주 DB 우회 - 지연/장애</td><td><fmt:formatNumber value="${replica.lagFallbacks()}" pattern="#,##0"/></td></tr>
+          <tr><td>주 DB 우회 - 자기 쓰기 읽기</td><td><fmt:formatNumber value="${replica.readYourWritesFallbacks()}" pattern="#,##0"/></td></tr>
+        </tbody>
+      </table>
+
+      <!-- JVM -->
+      <h3>JVM</h3>
+      <table>
+        <tbody>
+          <tr><td>힙 사용 / 확보 / 최대 (MB)</td>
+              <td>
+                <fmt:formatNumber value="${jvm.heapUsed / 1048576}" pattern="#,##0.0"/> /
+                <fmt:formatNumber value="${jvm.heapCommitted / 1048576}" pattern="#,##0.0"/> /
+                <c:choose>
+                  <c:when test="${jvm.heapMax < 0}">제한 없음</c:when>
+                  <c:otherwise><fmt:formatNumber value="${jvm.heapMax / 1048576}" pattern="#,##0.0"/></c:otherwise>
+                </c:choose>
+              </td></tr>
+          <tr><td>비힙 사용 (MB)</td><td><fmt:formatNumber value="${jvm.nonHeapUsed / 1048576}" pattern="#,##0.0"/></td></tr>
+          <tr><td>스레드</td><td>${jvm.threads}</td></tr>
+          <tr><td>가동 시간 (분)</td><td><fmt:formatNumber value="${jvm.uptimeMillis / 60000}" pattern="#,##0"/></td></tr>
+          <c:forEach var="gc" items="${jvm.gcs}">
+            <tr><td>GC ${gc.name} (횟수 / 누적 ms)</td>
+                <td><fmt:formatNumber value="${gc.count}" pattern="#,###"/> / <fmt:formatNumber value="${gc.timeMillis}" pattern="#,###"/></td></tr>
+          </c:forEach>
+        </tbody>
+      </table>
+    </div>
+  </main>
+</body>
+</html>
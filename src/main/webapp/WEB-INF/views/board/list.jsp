@@ -57,7 +57,8 @@
 		<tbody>
 			<c:forEach var="board" items="${boardList}">
 				<tr>
-					<td><a href="<c:url value='/boards/${board.id}'/>">${board.title}</a></td>
+					<td><a href="<c:url value='/boards/${board.id}'/>">${board.title}</a>
+						<c:if test="${board.commentCount > 0}"><span class="comment-count">[${board.commentCount}]</span></c:if></td>
 					<td>${board.owner}</td>
 					<td>${fn:replace(fn:substring(board.createdAt, 0, 10), "/", ".")}</td>
 					<td>${board.viewCount}</td>
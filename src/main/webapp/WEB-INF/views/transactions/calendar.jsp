@@ -57,6 +57,8 @@
 .cal .txns { margin-top: 6px; font-size: 12px; list-style: none; padding-left: 0; }
 .cal .txns li { display: flex; justify-content: space-between; gap: 6px; }
 
+.cal .more { font-size: 12px; color: #666; text-decoration: underline; cursor: pointer; }
+
 .cal .amt-in { color: #0a7; }
 .cal .amt-out { color: #c33; }
 </style>
@@ -132,6 +134,9 @@
                   </li>
                 </c:forEach>
               </ul>
+              <c:if test="${d.moreCount > 0}">
+                <div class="more" data-date="${d.date}">+${d.moreCount}건 더보기</div>
+              </c:if>
             </div>
           </c:forEach>
         </c:forEach>
@@ -142,7 +147,36 @@
   <script src="<c:url value='/resources/js/common.js'/>"></script>
   <script>
     var newBaseUrl = '<c:url value="/ledgers/${ledgerId}/transaction/new"/>';
+    var dayUrl = '<c:url value="/ledgers/${ledgerId}/transaction/calendar/day"/>';
+
+    // 셀 펼치기: 하루치 전체 목록을 받아서 셀 목록을 교체.
+    function expandDay(moreEl) {
+      var cell = moreEl.closest('.cell');
+      fetch(dayUrl + '?date=' + encodeURIComponent(moreEl.getAttribute('data-date')),
+            { headers: { 'Accept': 'application/json' } })
+        .then(function(r){ return r.json(); })
+        .then(function(res){
+          if (!res.ok) { alert(res.message || '목록을 불러오지 못했습니다.'); return; }
+          var ul = cell.querySelector('.txns');
+          ul.innerHTML = '';
+          res.txns.forEach(function(t){
+            var li = document.createElement('li');
+            var name = document.createElement('span');
+            name.textContent = t.categoryName;
+            var amt = document.createElement('span');
+            amt.className = (t.type === 'INCOME') ? 'amt-in' : 'amt-out';
+            amt.textContent = t.amount;
+            li.appendChild(name);
+            li.appendChild(amt);
+            ul.appendChild(li);
+          });
+          moreEl.remove();
+        });
+    }
+
     document.addEventListener('click', function(e){
+      var more = e.target.closest('.cal .more');
+      if (more) { expandDay(more); return; }
       var cell = e.target.closest('.cal .cell');
       if (!cell) return;
       var date = cell.getAttribute('data-date');
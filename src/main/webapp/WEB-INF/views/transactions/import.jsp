@@ -0,0 +1,83 @@
+<%@ page contentType="text/html; charset=UTF-8"%>
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core"%>
+
+<!DOCTYPE html>
+<html lang="ko">
+<head>
+<meta charset="UTF-8">
+<title>거래 내역 가져오기</title>
+<link rel="stylesheet" href="<c:url value='/resources/css/common.css'/>">
+</head>
+
+<body>
+  <jsp:include page="/WEB-INF/views/common/header.jsp" />
+  <jsp:include page="/WEB-INF/views/common/aside.jsp" />
+
+  <main id="main" data-ledger-id="${ledgerId}">
+    <div class="container" style="padding: 16px;">
+      <h2>거래 내역 가져오기 (CSV)</h2>
+
+      <c:if test="${not empty message}">
+        <div class="alert success">${message}</div>
+      </c:if>
+      <c:if test="${not empty error}">
+        <div class="alert error">${error}</div>
+      </c:if>
+
+      <form method="post" enctype="multipart/form-data"
+            action="<c:url value='/ledgers/${ledgerId}/transaction/import'/>"
+            class="card">
+
+        <div class="form-group">
+          <label for="file">CSV 파일</label>
+          <input type="file" id="file" name="file" accept=".csv,text/csv" required />
+          <p style="color: #666; font-size: 13px;">
+            형식: <code>date,type,account,category,amount,memo,posted</code> (내보내기 파일과 동일)<br/>
+            type: INCOME / EXPENSE (수입 / 지출), category: 이름 또는 "상위&gt;하위", posted: Y / N (생략 시 Y)
+          </p>
+        </div>
+
+        <div class="toolbar">
+          <button type="submit" class="btn btn-primary">가져오기</button>
+          <a class="btn" href="<c:url value='/ledgers/${ledgerId}/transaction/export?format=csv'/>">현재 내역 내보내기</a>
+          <a class="btn" href="<c:url value='/ledgers/${ledgerId}/transaction'/>">목록으로</a>
+        </div>
+      </form>
+
+      <c:if test="${not empty result}">
+        <div class="card" style="margin-top: 16px;">
+          <p>
+            전체 ${result.totalRows}건 / 등록 ${result.importedRows}건 / 실패 ${result.failedRows}건
+            (${result.elapsedMillis}ms, 초당 ${result.rowsPerSecond}건)
+          </p>
+          <c:if test="${not empty result.chunkErrors}">
+            <table class="table">
+              <thead>
+                <tr><th>줄 범위</th><th>건수</th><th>저장 실패 사유</th></tr>
+              </thead>
+              <tbody>
+                <c:forEach var="e" items="${result.chunkErrors}">
+                  <tr><td>${e.fromLineNo} ~ ${e.toLineNo}</td><td>${e.rows}</td><td><c:out value="${e.message}"/></td></tr>
+                </c:forEach>
+              </tbody>
+            </table>
+          </c:if>
+          <c:if test="${not empty result.errors}">
+            <table class="table">
+              <thead>
+                <tr><th>줄</th><th>사유</th></tr>
+              </thead>
+              <tbody>
+                <c:forEach var="e" items="${result.errors}">
+                  <tr><td>${e.lineNo}</td><td><c:out value="${e.message}"/></td></tr>
+                </c:forEach>
+              </tbody>
+            </table>
+          </c:if>
+        </div>
+      </c:if>
+    </div>
+  </main>
+  <script src="<c:url value='/resources/js/common.js'/>"></script>
+</body>
+</html>
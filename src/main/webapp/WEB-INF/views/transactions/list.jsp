@@ -28,6 +28,8 @@
 		<div class="toolbar" style="margin-bottom: 16px;">
 			<a class="btn-accent"
 				href="<c:url value='/ledgers/${ledgerId}/transaction/new'/>">거래 내역 추가</a>
+			<a class="btn" href="<c:url value='/ledgers/${ledgerId}/transaction/import'/>">가져오기</a>
+			<a class="btn" href="<c:url value='/ledgers/${ledgerId}/transaction/export?format=csv'/>">내보내기</a>
 			<a class="btn" href="<c:url value='/ledgers/${ledgerId}'/>">← 가계부 홈</a>
 		</div>
 
@@ -19,8 +19,11 @@ import com.eggmoney.payv.domain.model.entity.Account;
 import com.eggmoney.payv.domain.model.entity.AccountType;
 import com.eggmoney.payv.domain.model.entity.Ledger;
 import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.repository.AccountRepository;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.shared.error.ConcurrencyConflictException;
+import com.eggmoney.payv.infrastructure.mybatis.uow.UnitOfWork;
 
 import static org.junit.Assert.*;
 
@@ -36,6 +39,8 @@ public class AccountAppServiceTest {
 	@Resource UserAppService userAppService;
     @Resource LedgerAppService ledgerAppService;
     @Resource AccountAppService accountAppService;
+    @Resource AccountRepository accountRepository;
+    @Resource UnitOfWork unitOfWork;
 
     private LedgerId ledgerId;
 
@@ -53,7 +58,7 @@ public class AccountAppServiceTest {
 
     @Before
     public void setUp() {
-        User owner = userAppService.register(email(), "{noop}pw", "소유자");
+        User owner = userAppService.register(email(), "소유자", "password1234");
         Ledger ledger = ledgerAppService.createLedger(owner.getId(), ledgerName());
         ledgerId = ledger.getId();
     }
@@ -114,4 +119,61 @@ public class AccountAppServiceTest {
         assertTrue(list.stream().anyMatch(x -> x.getId().equals(a.getId())));
         assertTrue(list.stream().anyMatch(x -> x.getId().equals(b.getId())));
     }
+
+    // 잔액 증감(SQL): 음수 불가 유형은 조건에서 걸러져 반영되지 않음, 카드는 허용.
+    @Test
+    public void applyBalanceDelta_guardsNonNegativeTypes() {
+        Account cash = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.won(1_000));
+        Account card = accountAppService.createAccount(ledgerId, AccountType.CARD, accountName(), Money.won(1_000));
+
+        assertFalse(accountRepository.applyBalanceDelta(cash.getId(), Money.won(-2_000)));
+        assertTrue(accountRepository.applyBalanceDelta(card.getId(), Money.won(-2_000)));
+
+        assertEquals(1_000L, accountAppService.getDetails(cash.getId()).getCurrentBalance().toLong());
+        assertEquals(-1_000L, accountAppService.getDetails(card.getId()).getCurrentBalance().toLong());
+    }
+
+    // 이름 변경 등 일반 저장은 잔액을 덮어쓰지 않음.(읽은 뒤 반영된 증감 보존)
+    @Test
+    public void save_doesNotOverwriteConcurrentBalanceChange() {
+        Account acc = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.won(10_000));
+        Account stale = accountAppService.getDetails(acc.getId());
+
+        accountRepository.applyBalanceDelta(acc.getId(), Money.won(5_000));
+        stale.rename("지갑B");
+        accountRepository.save(stale);
+
+        assertEquals(15_000L, accountAppService.getDetails(acc.getId()).getCurrentBalance().toLong());
+    }
+
+    // 낙관적 잠금: 먼저 저장된 변경이 있으면 오래된 사본의 저장은 충돌.
+    // (같은 트랜잭션 안의 조회는 식별자 맵으로 같은 인스턴스이므로, 다른 요청이 읽어 둔 사본을 직접 구성)
+    @Test(expected = ConcurrencyConflictException.class)
+    public void save_staleVersion_conflicts() {
+        Account acc = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.zero());
+        unitOfWork.flush();		// INSERT 반영(version 0)
+        Account first = accountAppService.getDetails(acc.getId());
+        Account stale = Account.reconstruct(first.getId(), first.getLedgerId(), first.getType(), first.getName(),
+                first.getCurrentBalance(), first.isArchived(), first.isDeleted(), first.getCreatedAt(), first.getVersion());
+
+        first.rename("지갑A");
+        accountRepository.save(first);
+
+        stale.rename("지갑B");
+        accountRepository.save(stale);
+    }
+
+    // 작업 단위: 같은 트랜잭션의 재조회는 같은 인스턴스, 저장 내용은 이어지는 목록 조회에 반영.
+    @Test
+    public void findById_returnsSameInstance_andPendingSaveIsVisibleToQueries() {
+        Account acc = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.zero());
+        Account loaded = accountRepository.findById(acc.getId()).orElseThrow(AssertionError::new);
+        assertSame(loaded, accountRepository.findById(acc.getId()).orElseThrow(AssertionError::new));
+
+        String renamed = accountName();
+        loaded.rename(renamed);
+        accountRepository.save(loaded);
+
+        assertTrue(accountAppService.listByLedger(ledgerId).stream().anyMatch(a -> renamed.equals(a.getName())));
+    }
 }
@@ -0,0 +1,125 @@
+package com.eggmoney.payv.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eggmoney.payv.application.service.BoardAppService;
+import com.eggmoney.payv.application.service.CommentAppService;
+import com.eggmoney.payv.application.service.UserAppService;
+import com.eggmoney.payv.domain.model.entity.Board;
+import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.infrastructure.cache.BoardViewCounter;
+import com.eggmoney.payv.presentation.dto.BoardListItemDto;
+import com.eggmoney.payv.presentation.dto.PageResultDto;
+
+/**
+ * Board Application Service Test Class
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+@Transactional
+public class BoardAppServiceTest {
+
+	@Resource UserAppService userAppService;
+    @Resource BoardAppService boardAppService;
+    @Resource CommentAppService commentAppService;
+    @Resource BoardViewCounter boardViewCounter;
+
+    private User author;
+    private String tag;	// 다른 게시글과 겹치지 않는 검색어
+
+    @Before
+    public void setUp() {
+        author = userAppService.register("u_" + UUID.randomUUID().toString().substring(0, 8) + "@test.local", "작성자", "password1234");
+        tag = "t" + UUID.randomUUID().toString().substring(0, 8);
+
+        // 색인은 커밋된 게시글로 적재되므로, 이 트랜잭션의 게시글을 쓰기 전에 먼저 적재
+        boardAppService.searchBoards("", "title", 0, 1);
+    }
+
+    @Test
+    public void search_usesIndex_rankedWithTotal_andFollowsUpdateDelete() {
+        Board b1 = boardAppService.createBoard(author, "가계부 정리 잘하는 방법 모음 " + tag, "월말 정리");
+        Board b2 = boardAppService.createBoard(author, tag + " 가계부 가계부", "앱 추천");
+        Board b3 = boardAppService.createBoard(author, "점심 메뉴 " + tag, "오늘의 가계부");
+
+        // 제목 검색: 검색어 조각을 모두 포함한 글만, 많이 포함한 글이 먼저
+        PageResultDto<BoardListItemDto> byTitle = boardAppService.searchBoards(tag + " 가계부", "title", 0, 10);
+        assertEquals(2L, byTitle.getTotal());
+        assertEquals(b2.getId().value(), byTitle.getContent().get(0).getId());
+        assertEquals(b1.getId().value(), byTitle.getContent().get(1).getId());
+
+        // 페이지를 잘라도 전체 건수는 그대로
+        PageResultDto<BoardListItemDto> firstOnly = boardAppService.searchBoards(tag + " 가계부", "title", 0, 1);
+        assertEquals(2L, firstOnly.getTotal());
+        assertEquals(1, firstOnly.getContent().size());
+
+        // 이어지지 않은 글자는 일치하지 않음
+        assertEquals(0L, boardAppService.searchBoards(tag + " 부가", "title", 0, 10).getTotal());
+
+        // 작성자(email) 검색
+        String local = author.getEmail().substring(0, author.getEmail().indexOf('@'));
+        assertEquals(3L, boardAppService.searchBoards(local, "author", 0, 10).getTotal());
+
+        // 수정/삭제 반영
+        boardAppService.updateBoard(b2.getId(), "점심 " + tag, "앱 추천");
+        boardAppService.deleteBoard(b1.getId());
+        List<String> ids = boardAppService.searchBoards(tag, "title", 0, 10).getContent().stream()
+                .map(BoardListItemDto::getId).collect(Collectors.toList());
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains(b2.getId().value()) && ids.contains(b3.getId().value()));
+        assertEquals(0L, boardAppService.searchBoards(tag + " 가계부", "title", 0, 10).getTotal());
+    }
+
+    @Test
+    public void list_returnsProjectionWithAuthorAndCommentCount() {
+        Board board = boardAppService.createBoard(author, "목록 " + tag, "목록에는 나오지 않는 내용");
+        commentAppService.addComment(board.getId(), author.getId(), "첫 댓글");
+        commentAppService.addComment(board.getId(), author.getId(), "둘째 댓글");
+
+        BoardListItemDto item = boardAppService.getBoardsByPage(0, 10).stream()
+                .filter(b -> b.getId().equals(board.getId().value()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals("목록 " + tag, item.getTitle());
+        assertEquals(author.getEmail(), item.getOwner());
+        assertEquals(2, item.getCommentCount());
+
+        // 검색 결과도 같은 목록 행
+        BoardListItemDto found = boardAppService.searchBoards(tag, "title", 0, 10).getContent().get(0);
+        assertEquals(board.getId().value(), found.getId());
+        assertEquals(2, found.getCommentCount());
+    }
+
+    @Test
+    public void views_areCountedInMemory_andFlushedAsDelta() {
+        Board board = boardAppService.createBoard(author, "조회수 " + tag, "내용");
+
+        boardAppService.viewBoard(board.getId());
+        boardAppService.viewBoard(board.getId());
+        assertEquals(3L, boardAppService.viewBoard(board.getId()).getViewCount());
+        assertEquals(3L, boardViewCounter.pending(board.getId()));
+
+        // 반영 후에는 DB 값으로 보이고, 게시글 수정이 조회수를 덮어쓰지 않음
+        boardViewCounter.flush();
+        assertEquals(0L, boardViewCounter.pending(board.getId()));
+        boardAppService.updateBoard(board.getId(), "조회수 " + tag, "수정");
+        assertEquals(3L, boardAppService.getBoard(board.getId()).getViewCount());
+
+        boardAppService.viewBoard(board.getId());
+        assertEquals(4L, boardAppService.searchBoards(tag, "title", 0, 10).getContent().get(0).getViewCount());
+    }
+}
@@ -63,7 +63,7 @@ public class BudgetAppServiceTest {
 
     @Before
     public void setUp() {
-        User owner = userAppService.register(email(), "{noop}pw", "소유자");
+        User owner = userAppService.register(email(), "소유자", "password1234");
         Ledger ledger = ledgerAppService.createLedger(owner.getId(), ledgerName());
         ledgerId = ledger.getId();
         account = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.won(1_000_000));
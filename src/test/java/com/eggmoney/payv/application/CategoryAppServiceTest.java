@@ -21,6 +21,7 @@ import com.eggmoney.payv.domain.model.entity.Category;
 import com.eggmoney.payv.domain.model.entity.Ledger;
 import com.eggmoney.payv.domain.model.entity.User;
 import com.eggmoney.payv.domain.model.repository.CategoryRepository;
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
 import com.eggmoney.payv.domain.model.vo.UserId;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 
@@ -52,7 +53,7 @@ public class CategoryAppServiceTest {
 
     @Before
     public void setUp() {
-        owner = userAppService.register(email(), "{noop}pw", "소유자");
+        owner = userAppService.register(email(), "소유자", "password1234");
         UserId ownerId = owner.getId();
         ledger = ledgerAppService.createLedger(ownerId, uniqueLedgerName());
         otherLedger = ledgerAppService.createLedger(ownerId, uniqueLedgerName());
@@ -152,4 +153,47 @@ public class CategoryAppServiceTest {
         assertTrue(list.stream().anyMatch(x -> x.getId().equals(food2.getId())));
         assertFalse(list.stream().anyMatch(x -> x.getId().equals(food.getId())));
     }
+
+    // 트리 스냅샷: 쓰기마다 무효화되어 다음 조회에 반영됨.
+    @Test
+    public void tree_reflectsWritesAndResolvesRoots() {
+        Category root = categoryAppService.createRoot(ledger.getId(), "교통", false, 0);
+        CategoryTree before = categoryAppService.tree(ledger.getId());
+        assertSame(before, categoryAppService.tree(ledger.getId()));
+
+        Category child = categoryAppService.createChild(ledger.getId(), root.getId(), "버스", false, 0);
+        CategoryTree after = categoryAppService.tree(ledger.getId());
+
+        assertNotSame(before, after);
+        assertEquals(root.getId(), after.rootOf(child.getId()));
+        assertEquals(1, after.children(root.getId()).size());
+        assertEquals(2, after.selfAndChildren(root.getId()).size());
+
+        categoryAppService.rename(child.getId(), ledger.getId(), "지하철");
+        assertEquals("지하철", categoryAppService.tree(ledger.getId()).nameOf(child.getId()));
+    }
+
+    // 읽기 전용 등록: 같은 트랜잭션 안 재조회는 같은 인스턴스, 저장 후에는 DB 에서 다시 읽음.
+    @Test
+    public void findById_reusesInstanceWithinTransactionUntilSaved() {
+        Category c = categoryAppService.createRoot(ledger.getId(), "통신", false, 0);
+        Category first = categoryRepository.findById(c.getId()).orElseThrow(AssertionError::new);
+        assertSame(first, categoryRepository.findById(c.getId()).orElseThrow(AssertionError::new));
+
+        categoryAppService.rename(c.getId(), ledger.getId(), "휴대폰");
+        Category renamed = categoryRepository.findById(c.getId()).orElseThrow(AssertionError::new);
+        assertNotSame(first, renamed);
+        assertEquals("휴대폰", renamed.getName());
+    }
+
+    // 루트 삭제: SQL 로 함께 삭제된 하위 카테고리도 같은 트랜잭션 재조회에 반영.
+    @Test
+    public void deleteRoot_evictsChildrenReadWithinTransaction() {
+        Category root = categoryAppService.createRoot(ledger.getId(), "여가", false, 0);
+        Category child = categoryAppService.createChild(ledger.getId(), root.getId(), "영화", false, 0);
+        assertFalse(categoryRepository.findById(child.getId()).orElseThrow(AssertionError::new).isDeleted());
+
+        categoryAppService.delete(ledger.getId(), root.getId());
+        assertTrue(categoryRepository.findById(child.getId()).orElseThrow(AssertionError::new).isDeleted());
+    }
 }
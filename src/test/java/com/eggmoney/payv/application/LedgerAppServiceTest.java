@@ -52,7 +52,7 @@ public class LedgerAppServiceTest {
     
     @Before
     public void setUp() {
-        User owner = userAppService.register(email(), "{noop}pw", "소유자");
+        User owner = userAppService.register(email(), "소유자", "password1234");
         ownerId = owner.getId();
     }
 
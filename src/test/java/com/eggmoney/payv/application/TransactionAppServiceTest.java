@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -34,10 +35,15 @@ import com.eggmoney.payv.domain.model.entity.Ledger;
 import com.eggmoney.payv.domain.model.entity.Transaction;
 import com.eggmoney.payv.domain.model.entity.TransactionType;
 import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.repository.AccountRepository;
 import com.eggmoney.payv.domain.model.repository.TransactionRepository;
 import com.eggmoney.payv.domain.model.vo.LedgerId;
 import com.eggmoney.payv.domain.model.vo.Money;
 import com.eggmoney.payv.domain.model.vo.TransactionId;
+import com.eggmoney.payv.domain.model.vo.TransactionTotal;
+import com.eggmoney.payv.presentation.dto.PageRequestDto;
+import com.eggmoney.payv.presentation.dto.PageResultDto;
+import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 
 /**
@@ -56,6 +62,7 @@ public class TransactionAppServiceTest {
     @Resource TransactionAppService transactionAppService;
     
     @Resource TransactionRepository transactionRepository;
+    @Resource AccountRepository accountRepository;
 
     private LedgerId ledgerId;
     private Account account;
@@ -67,7 +74,7 @@ public class TransactionAppServiceTest {
 
     @Before
     public void setUp() {
-        User owner = userAppService.register(email(), "{noop}pw", "소유자");
+        User owner = userAppService.register(email(), "소유자", "password1234");
         Ledger ledger = ledgerAppService.createLedger(owner.getId(), ledgerName());
         ledgerId = ledger.getId();
         account = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.won(100_000));
@@ -253,4 +260,181 @@ public class TransactionAppServiceTest {
 		Set<TransactionId> allIds = allInRange.stream().map(Transaction::getId).collect(Collectors.toSet());
 		assertEquals(allIds, unionIds);
 	}
+
+	// 집계: 일별 합계는 DB에서 유형별로 묶여서 반환.
+	@Test
+	public void summarizeByDay_groupsByDateAndType() {
+		YearMonth ym = YearMonth.of(2025, 5);
+		transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+				ym.atDay(3), Money.won(1_000), categoryFood.getId(), "a");
+		transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+				ym.atDay(3), Money.won(2_000), categoryFood.getId(), "b");
+		transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.INCOME,
+				ym.atDay(3), Money.won(5_000), categoryFood.getId(), "c");
+		transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+				ym.atDay(4), Money.won(700), categoryFood.getId(), "d");
+
+		List<TransactionTotal> totals = transactionAppService.summarizeByDay(ledgerId, ym);
+
+		assertEquals(3, totals.size());
+		TransactionTotal day3Expense = totals.stream()
+				.filter(t -> t.keyAsDate().equals(ym.atDay(3)) && !t.isIncome())
+				.findFirst().orElseThrow(AssertionError::new);
+		assertEquals(3_000L, day3Expense.getAmount());
+		assertEquals(2L, day3Expense.getCount());
+	}
+
+	// 집계: 목록 합계는 현재 페이지가 아닌 조건 전체 기준.
+	@Test
+	public void summarizeBySearch_coversAllPages() {
+		YearMonth ym = YearMonth.of(2025, 6);
+		for (int i = 1; i <= 5; i++) {
+			transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+					ym.atDay(i), Money.won(1_000), categoryFood.getId(), "e" + i);
+		}
+		TransactionSearchCondition cond = new TransactionSearchCondition();
+		cond.setStart(ym.atDay(1));
+		cond.setEnd(ym.atEndOfMonth());
+
+		long expense = transactionAppService.summarizeBySearch(ledgerId, cond).stream()
+				.filter(t -> !t.isIncome()).mapToLong(TransactionTotal::getAmount).sum();
+
+		assertEquals(5_000L, expense);
+	}
+
+	// 커서(keyset) 모드: 다음 커서를 따라가면 번호 페이지 전체와 같은 순서/집합.
+	@Test
+	public void search_cursorMode_walksAllRowsInOrder() {
+		YearMonth ym = YearMonth.of(2025, 7);
+		for (int i = 1; i <= 5; i++) {
+			transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+					ym.atDay(i % 3 + 1), Money.won(100 * i), categoryFood.getId(), "k" + i);
+		}
+		TransactionSearchCondition cond = new TransactionSearchCondition();
+		cond.setStart(ym.atDay(1));
+		cond.setEnd(ym.atEndOfMonth());
+
+		PageRequestDto numbered = new PageRequestDto();
+		numbered.setSize(10);
+		List<TransactionId> expected = transactionAppService.search(ledgerId, cond, numbered).getContent()
+				.stream().map(Transaction::getId).collect(Collectors.toList());
+
+		List<TransactionId> walked = new java.util.ArrayList<>();
+		PageRequestDto cursorPage = new PageRequestDto();
+		cursorPage.setSize(2);
+		cursorPage.setCursor("");
+		int pages = 0;
+		while (true) {
+			PageResultDto<Transaction> pr = transactionAppService.search(ledgerId, cond, cursorPage);
+			pr.getContent().forEach(t -> walked.add(t.getId()));
+			pages++;
+			if (!pr.hasNext()) break;
+			cursorPage.setCursor(pr.getNextCursor());
+		}
+
+		assertEquals(5, expected.size());
+		assertEquals(expected, walked);
+		assertEquals(3, pages);
+	}
+
+	// 번호 페이지 모드: 총건수는 목록과 한 번에 조회되고, 쓰기 후에는 캐시가 무효화되어 다시 계산.
+	@Test
+	public void search_totalCount_refreshedAfterWrite() {
+		YearMonth ym = YearMonth.of(2025, 8);
+		for (int i = 1; i <= 3; i++) {
+			transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+					ym.atDay(i), Money.won(1_000), categoryFood.getId(), "c" + i);
+		}
+		TransactionSearchCondition cond = new TransactionSearchCondition();
+		cond.setStart(ym.atDay(1));
+		cond.setEnd(ym.atEndOfMonth());
+		PageRequestDto page = new PageRequestDto();
+		page.setSize(2);
+
+		assertEquals(3L, transactionAppService.search(ledgerId, cond, page).getTotal());
+
+		page.setPage(2);
+		PageResultDto<Transaction> second = transactionAppService.search(ledgerId, cond, page);
+		assertEquals(3L, second.getTotal());
+		assertEquals(1, second.getContent().size());
+
+		Transaction fourth = transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+				ym.atDay(10), Money.won(1_000), categoryFood.getId(), "c4");
+
+		assertEquals(4L, transactionAppService.search(ledgerId, cond, page).getTotal());
+
+		transactionAppService.delete(fourth.getId());
+		assertEquals(3L, transactionAppService.search(ledgerId, cond, page).getTotal());
+	}
+
+	// 일괄 게시: 자산 잔액은 합계만큼 한 번에 반영, 이미 게시된 거래는 건너뜀.
+	@Test
+	public void postAll_appliesAllAndSkipsAlreadyPosted() {
+		List<TransactionId> ids = new java.util.ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			ids.add(transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+					LocalDate.now(), Money.won(1_000 * i), categoryFood.getId(), "d" + i).getId());
+		}
+		transactionAppService.post(ids.get(0));
+
+		int changed = transactionAppService.postAll(ledgerId, ids);
+
+		assertEquals(2, changed);
+		assertEquals(94_000L, accountAppService.getDetails(account.getId()).getCurrentBalance().toLong());
+		assertTrue(ids.stream().allMatch(id -> transactionRepository.findById(id).orElseThrow(AssertionError::new).isPosted()));
+
+		assertEquals(3, transactionAppService.unpostAll(ledgerId, ids));
+		assertEquals(100_000L, accountAppService.getDetails(account.getId()).getCurrentBalance().toLong());
+	}
+
+	// 일괄 게시 상태 변경: 앞 거래를 메모리에서 게시한 뒤 UPDATE 전에 조회(작업 단위 자동 flush)가 끼어도
+	// 건별 UPDATE 가 먼저 나가지 않음.(나갔다면 반대 상태 행만 갱신하는 UPDATE 가 모자라 충돌 예외)
+	@Test
+	public void changePostedState_readBetweenChangeAndUpdate_doesNotFlushRowUpdates() {
+		List<TransactionId> ids = new java.util.ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			ids.add(transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+					LocalDate.now(), Money.won(1_000 * i), categoryFood.getId(), "d" + i).getId());
+		}
+		List<Transaction> targets = new java.util.ArrayList<>(transactionRepository.findAllByIds(ids).values());
+		Account wallet = accountRepository.findById(account.getId()).orElseThrow(AssertionError::new);
+
+		int updated = transactionRepository.changePostedState(targets, t -> {
+			transactionAppService.search(ledgerId, new TransactionSearchCondition(), new PageRequestDto());
+			t.post(wallet);
+		});
+
+		assertEquals(3, updated);
+		assertTrue(ids.stream().allMatch(id -> transactionRepository.findById(id).orElseThrow(AssertionError::new).isPosted()));
+	}
+
+	// 일괄 게시: 한 건이라도 실패하면(다른 가계부 거래) 도메인 예외.
+	@Test(expected = DomainException.class)
+	public void postAll_rejectsTransactionOfOtherLedger() {
+		Transaction draft = transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+				LocalDate.now(), Money.won(1_000), categoryFood.getId(), "x");
+
+		User other = userAppService.register(email(), "다른 사용자", "password1234");
+		Ledger otherLedger = ledgerAppService.createLedger(other.getId(), ledgerName());
+
+		transactionAppService.postAll(otherLedger.getId(), java.util.Collections.singletonList(draft.getId()));
+	}
+
+	// 달력: 일자별 상위 N건만 조회하고, 하루치 전체는 따로 조회.
+	@Test
+	public void listTopByDay_limitsRowsPerDay() {
+		YearMonth ym = YearMonth.of(2025, 9);
+		for (int i = 1; i <= 7; i++) {
+			transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+					ym.atDay(2), Money.won(100 * i), categoryFood.getId(), "t" + i);
+		}
+		transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+				ym.atDay(5), Money.won(100), categoryFood.getId(), "single");
+
+		List<Transaction> top = transactionAppService.listTopByDay(ledgerId, ym, 5);
+
+		assertEquals(5L, top.stream().filter(t -> t.getDate().equals(ym.atDay(2))).count());
+		assertEquals(1L, top.stream().filter(t -> t.getDate().equals(ym.atDay(5))).count());
+		assertEquals(7, transactionAppService.listByDay(ledgerId, ym.atDay(2)).size());
+	}
 }
@@ -0,0 +1,118 @@
+package com.eggmoney.payv.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import javax.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eggmoney.payv.application.service.AccountAppService;
+import com.eggmoney.payv.application.service.CategoryAppService;
+import com.eggmoney.payv.application.service.LedgerAppService;
+import com.eggmoney.payv.application.service.TransactionAppService;
+import com.eggmoney.payv.application.service.TransactionExportAppService;
+import com.eggmoney.payv.application.service.UserAppService;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.AccountType;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Ledger;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Transaction Export Application Service Test Class
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+@Transactional
+public class TransactionExportAppServiceTest {
+
+	@Resource UserAppService userAppService;
+    @Resource LedgerAppService ledgerAppService;
+    @Resource AccountAppService accountAppService;
+    @Resource CategoryAppService categoryAppService;
+    @Resource TransactionAppService transactionAppService;
+    @Resource TransactionExportAppService transactionExportAppService;
+
+    private LedgerId ledgerId;
+    private Account account;
+    private Category categoryFood;
+
+    private static String email(){ return "u_" + UUID.randomUUID().toString().substring(0,8) + "@test.local"; }
+    private static String ledgerName(){ return "ledger_" + UUID.randomUUID().toString().substring(0,8); }
+
+    @Before
+    public void setUp() {
+        User owner = userAppService.register(email(), "소유자", "password1234");
+        Ledger ledger = ledgerAppService.createLedger(owner.getId(), ledgerName());
+        ledgerId = ledger.getId();
+        account = accountAppService.createAccount(ledgerId, AccountType.CASH, "지갑", Money.won(100_000));
+        categoryFood = categoryAppService.createRoot(ledgerId, "식비", false, 0);
+
+        transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+                LocalDate.of(2025, 1, 2), Money.won(5_000), categoryFood.getId(), "점심, 김밥");
+        transactionAppService.create(ledgerId, account.getId(), TransactionType.INCOME,
+                LocalDate.of(2025, 1, 3), Money.won(20_000), categoryFood.getId(), "환급");
+    }
+
+    @Test
+    public void exportCsv_resolvesNames_andEscapesMemo() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = transactionExportAppService.export(ledgerId, null, null, TransactionExportAppService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).split("\r\n");
+        assertEquals(2L, rows);
+        assertEquals(3, lines.length); // 헤더 + 2행
+        assertEquals("2025-01-02,EXPENSE,지갑,식비,5000,\"점심, 김밥\",Y", lines[1]);
+        assertTrue(lines[2].startsWith("2025-01-03,INCOME,"));
+    }
+
+    @Test
+    public void exportCsv_neutralizesFormulaPrefixes() throws Exception {
+        Account formulaAccount = accountAppService.createAccount(ledgerId, AccountType.CASH, "+1+1", Money.won(0));
+        Category formulaCategory = categoryAppService.createRoot(ledgerId, "@SUM(A1)", false, 1);
+        transactionAppService.create(ledgerId, formulaAccount.getId(), TransactionType.EXPENSE,
+                LocalDate.of(2025, 2, 1), Money.won(1_000), formulaCategory.getId(), "=HYPERLINK(\"http://x\",\"y\")");
+        transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+                LocalDate.of(2025, 2, 2), Money.won(1_000), categoryFood.getId(), "-5");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportAppService.export(ledgerId, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 3),
+                TransactionExportAppService.Format.CSV, out);
+
+        // 수식으로 시작하는 값은 ' 를 붙여 문자열로, 따옴표로 감쌈
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("2025-02-01,EXPENSE,\"'+1+1\",\"'@SUM(A1)\",1000,\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",N", lines[1]);
+        assertEquals("2025-02-02,EXPENSE,지갑,식비,1000,\"'-5\",N", lines[2]);
+    }
+
+    @Test
+    public void exportJson_respectsDateRange() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = transactionExportAppService.export(ledgerId, LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 4),
+                TransactionExportAppService.Format.JSON, out);
+
+        JsonNode arr = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(1L, rows);
+        assertEquals(1, arr.size());
+        assertEquals(20_000L, arr.get(0).get("amount").asLong());
+        assertEquals(false, arr.get(0).get("posted").asBoolean());
+    }
+}
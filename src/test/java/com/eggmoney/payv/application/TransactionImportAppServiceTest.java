@@ -0,0 +1,173 @@
+package com.eggmoney.payv.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import javax.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eggmoney.payv.application.service.AccountAppService;
+import com.eggmoney.payv.application.service.BudgetAppService;
+import com.eggmoney.payv.application.service.CategoryAppService;
+import com.eggmoney.payv.application.service.LedgerAppService;
+import com.eggmoney.payv.application.service.TransactionAppService;
+import com.eggmoney.payv.application.service.TransactionExportAppService;
+import com.eggmoney.payv.application.service.TransactionImportAppService;
+import com.eggmoney.payv.application.service.TransactionRollupAppService;
+import com.eggmoney.payv.application.service.UserAppService;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.AccountType;
+import com.eggmoney.payv.domain.model.entity.Budget;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Ledger;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
+import com.eggmoney.payv.presentation.dto.TransactionImportResultDto;
+
+/**
+ * Transaction Import Application Service Test Class
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+@Transactional
+public class TransactionImportAppServiceTest {
+
+	@Resource UserAppService userAppService;
+    @Resource LedgerAppService ledgerAppService;
+    @Resource AccountAppService accountAppService;
+    @Resource CategoryAppService categoryAppService;
+    @Resource BudgetAppService budgetAppService;
+    @Resource TransactionRollupAppService transactionRollupAppService;
+    @Resource TransactionImportAppService transactionImportAppService;
+    @Resource TransactionAppService transactionAppService;
+    @Resource TransactionExportAppService transactionExportAppService;
+
+    private LedgerId ledgerId;
+    private Account account;
+    private Category categoryFood;
+    private Category childLunch;
+    private final YearMonth month = YearMonth.now();
+
+    private static String email(){ return "u_" + UUID.randomUUID().toString().substring(0,8) + "@test.local"; }
+    private static String ledgerName(){ return "ledger_" + UUID.randomUUID().toString().substring(0,8); }
+
+    @Before
+    public void setUp() {
+        User owner = userAppService.register(email(), "소유자", "password1234");
+        Ledger ledger = ledgerAppService.createLedger(owner.getId(), ledgerName());
+        ledgerId = ledger.getId();
+        account = accountAppService.createAccount(ledgerId, AccountType.CASH, "지갑", Money.won(100_000));
+        categoryFood = categoryAppService.createRoot(ledgerId, "식비", false, 0);
+        childLunch = categoryAppService.createChild(ledgerId, categoryFood.getId(), "점심", false, 0);
+    }
+
+    private TransactionImportResultDto importCsv(String csv) throws Exception {
+        return transactionImportAppService.importCsv(ledgerId,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void import_appliesBalanceBudgetAndRollup_onceAggregated() throws Exception {
+        Budget budget = budgetAppService.createBudget(ledgerId, categoryFood.getId(), month, Money.won(50_000));
+        LocalDate d = month.atDay(1);
+
+        TransactionImportResultDto result = importCsv(
+                "date,type,account,category,amount,memo,posted\n"
+              + d + ",EXPENSE,지갑,식비,5000,저녁,Y\n"
+              + d + ",지출,지갑,식비>점심,\"3,000\",\"김밥, 라면\",Y\n"
+              + d + ",INCOME,지갑,식비,10000,환급,N\n");
+
+        assertEquals(3L, result.getTotalRows());
+        assertEquals(3L, result.getImportedRows());
+        assertEquals(0L, result.getFailedRows());
+
+        // 게시된 지출 2건만 잔액/예산(루트 예산으로 합산)에 반영.
+        assertEquals(92_000L, accountAppService.getDetails(account.getId()).getCurrentBalance().toLong());
+        assertEquals(8_000L, budgetAppService.getDetails(budget.getId()).getSpent().toLong());
+
+        long rollupExpense = transactionRollupAppService.listMonthlyTotals(ledgerId, month, month).stream()
+                .filter(t -> !t.isIncome()).mapToLong(MonthlyCategoryTotal::getAmount).sum();
+        assertEquals(8_000L, rollupExpense);
+    }
+
+    @Test
+    public void import_reportsRowErrors_withoutAbortingOthers() throws Exception {
+        LocalDate d = month.atDay(1);
+
+        TransactionImportResultDto result = importCsv(
+                d + ",EXPENSE,지갑,식비,1000,ok\n"
+              + d + ",EXPENSE,없는자산,식비,1000,bad account\n"
+              + "2025-13-40,EXPENSE,지갑,식비,1000,bad date\n"
+              + d + ",EXPENSE,지갑,식비,-5,bad amount\n"
+              + d + ",EXPENSE,지갑,식비,500000,insufficient\n"
+              + d + ",INCOME,지갑,점심,2000,ok\n");
+
+        assertEquals(6L, result.getTotalRows());
+        assertEquals(2L, result.getImportedRows());
+        assertEquals(4L, result.getFailedRows());
+        assertEquals(2L, result.getErrors().get(0).getLineNo());
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.getLineNo() == 5));
+
+        assertEquals(101_000L, accountAppService.getDetails(account.getId()).getCurrentBalance().toLong());
+    }
+
+    @Test
+    public void import_roundTripsExportedCsv_withFormulaGuardAndMultilineMemo() throws Exception {
+        LocalDate d = month.atDay(1);
+        transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE, d, Money.won(1_000),
+                categoryFood.getId(), "=SUM(A1)");
+        transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE, d.plusDays(1), Money.won(2_000),
+                categoryFood.getId(), "'-원래 따옴표");
+        transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE, d.plusDays(2), Money.won(3_000),
+                categoryFood.getId(), "첫 줄\n둘째 줄, \"인용\"");
+        String exported = exportCsv(ledgerId);
+
+        // 같은 이름의 자산/카테고리를 가진 다른 가계부로 가져온 뒤 다시 내보내면 같은 본문
+        User other = userAppService.register(email(), "다른 사용자", "password1234");
+        LedgerId copyId = ledgerAppService.createLedger(other.getId(), ledgerName()).getId();
+        accountAppService.createAccount(copyId, AccountType.CASH, "지갑", Money.won(100_000));
+        categoryAppService.createRoot(copyId, "식비", false, 0);
+
+        TransactionImportResultDto result = transactionImportAppService.importCsv(copyId,
+                new ByteArrayInputStream(exported.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(3L, result.getImportedRows());
+        assertEquals(0L, result.getFailedRows());
+        assertEquals(exported, exportCsv(copyId));
+    }
+
+    @Test
+    public void import_reportsRecordStartLine_afterMultilineField() throws Exception {
+        LocalDate d = month.atDay(1);
+
+        TransactionImportResultDto result = importCsv(
+                d + ",EXPENSE,지갑,식비,1000,\"첫 줄\n둘째 줄\"\n"
+              + d + ",EXPENSE,없는자산,식비,1000,bad account\n");
+
+        assertEquals(2L, result.getTotalRows());
+        assertEquals(1L, result.getImportedRows());
+        assertEquals(3L, result.getErrors().get(0).getLineNo());
+    }
+
+    private String exportCsv(LedgerId id) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportAppService.export(id, null, null, TransactionExportAppService.Format.CSV, out);
+        return out.toString(StandardCharsets.UTF_8.name());
+    }
+}
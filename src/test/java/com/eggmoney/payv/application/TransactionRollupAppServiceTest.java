@@ -0,0 +1,142 @@
+package com.eggmoney.payv.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.Resource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eggmoney.payv.application.service.AccountAppService;
+import com.eggmoney.payv.application.service.CategoryAppService;
+import com.eggmoney.payv.application.service.LedgerAppService;
+import com.eggmoney.payv.application.service.TransactionAppService;
+import com.eggmoney.payv.application.service.TransactionRollupAppService;
+import com.eggmoney.payv.application.service.UserAppService;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.AccountType;
+import com.eggmoney.payv.domain.model.entity.Category;
+import com.eggmoney.payv.domain.model.entity.Ledger;
+import com.eggmoney.payv.domain.model.entity.Transaction;
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.domain.model.vo.MonthlyCategoryTotal;
+
+/**
+ * Transaction Rollup Application Service Test Class
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+@Transactional
+public class TransactionRollupAppServiceTest {
+
+	@Resource UserAppService userAppService;
+    @Resource LedgerAppService ledgerAppService;
+    @Resource AccountAppService accountAppService;
+    @Resource CategoryAppService categoryAppService;
+    @Resource TransactionAppService transactionAppService;
+    @Resource TransactionRollupAppService transactionRollupAppService;
+
+    private LedgerId ledgerId;
+    private Account account;
+    private Category categoryFood;
+    private final YearMonth month = YearMonth.of(2025, 3);
+
+    private static String email(){ return "u_" + UUID.randomUUID().toString().substring(0,8) + "@test.local"; }
+    private static String ledgerName(){ return "ledger_" + UUID.randomUUID().toString().substring(0,8); }
+    private static String accountName(){ return "지갑_" + UUID.randomUUID().toString().substring(0,6); }
+
+    @Before
+    public void setUp() {
+        User owner = userAppService.register(email(), "소유자", "password1234");
+        Ledger ledger = ledgerAppService.createLedger(owner.getId(), ledgerName());
+        ledgerId = ledger.getId();
+        account = accountAppService.createAccount(ledgerId, AccountType.CASH, accountName(), Money.won(100_000));
+        categoryFood = categoryAppService.createRoot(ledgerId, "식비", false, 0);
+    }
+
+    @Test
+    public void oneClickCreate_addsToRollup_andDeleteRemoves() {
+        Transaction t1 = transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+                month.atDay(3), Money.won(5_000), categoryFood.getId(), "점심");
+        transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+                month.atDay(10), Money.won(7_000), categoryFood.getId(), "저녁");
+
+        MonthlyCategoryTotal total = single(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month));
+        assertEquals(12_000L, total.getAmount());
+        assertEquals(2L, total.getCount());
+
+        transactionAppService.oneClickDelete(t1.getId());
+
+        total = single(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month));
+        assertEquals(7_000L, total.getAmount());
+        assertEquals(1L, total.getCount());
+    }
+
+    @Test
+    public void draft_isCounted_fromCreate_untilDelete() {
+        Transaction draft = transactionAppService.create(ledgerId, account.getId(), TransactionType.EXPENSE,
+                month.atDay(5), Money.won(3_000), categoryFood.getId(), "커피");
+        assertEquals(3_000L, single(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month)).getAmount());
+
+        // 게시/취소는 집계를 바꾸지 않음
+        transactionAppService.post(draft.getId());
+        transactionAppService.unpost(draft.getId());
+        assertEquals(3_000L, single(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month)).getAmount());
+
+        transactionAppService.updateDetails(draft.getId(), null, null, null, Money.won(4_500), null, null);
+        assertEquals(4_500L, single(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month)).getAmount());
+
+        transactionAppService.delete(draft.getId());
+        assertTrue(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month).isEmpty());
+    }
+
+    @Test
+    public void oneClickUpdate_movesAmountBetweenMonths() {
+        Transaction t = transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+                month.atDay(28), Money.won(4_000), categoryFood.getId(), "간식");
+
+        LocalDate nextMonthDay = month.plusMonths(1).atDay(2);
+        transactionAppService.oneClickUpdate(t.getId(), account.getId(), TransactionType.EXPENSE,
+                nextMonthDay, Money.won(6_000), categoryFood.getId(), "간식");
+
+        assertTrue(transactionRollupAppService.listMonthlyTotals(ledgerId, month, month).isEmpty());
+        MonthlyCategoryTotal moved = single(transactionRollupAppService.listMonthlyTotals(
+                ledgerId, month.plusMonths(1), month.plusMonths(1)));
+        assertEquals(6_000L, moved.getAmount());
+    }
+
+    @Test
+    public void rebuild_matchesIncrementalTotals() {
+        transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.EXPENSE,
+                month.atDay(3), Money.won(5_000), categoryFood.getId(), "점심");
+        transactionAppService.oneClickCreate(ledgerId, account.getId(), TransactionType.INCOME,
+                month.atDay(25), Money.won(50_000), categoryFood.getId(), "환급");
+
+        List<MonthlyCategoryTotal> before = transactionRollupAppService.listMonthlyTotals(ledgerId, month, month);
+        transactionRollupAppService.rebuild(ledgerId, month, month);
+        List<MonthlyCategoryTotal> after = transactionRollupAppService.listMonthlyTotals(ledgerId, month, month);
+
+        assertEquals(before.size(), after.size());
+        assertEquals(before.stream().mapToLong(MonthlyCategoryTotal::getAmount).sum(),
+                after.stream().mapToLong(MonthlyCategoryTotal::getAmount).sum());
+    }
+
+    private static MonthlyCategoryTotal single(List<MonthlyCategoryTotal> totals) {
+        assertEquals(1, totals.size());
+        return totals.get(0);
+    }
+}
@@ -1,9 +1,14 @@
 package com.eggmoney.payv.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.annotation.Resource;
@@ -16,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.eggmoney.payv.application.service.UserAppService;
 import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.repository.UserRepository;
+import com.eggmoney.payv.domain.model.vo.UserId;
 import com.eggmoney.payv.domain.shared.error.DomainException;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -25,6 +32,10 @@ public class UserAppServiceTest {
 
 	@Resource 
 	UserAppService userAppService;
+	
+	@Resource
+	UserRepository userRepository;
+
 
     private static String randomEmail() {
         return "test_" + UUID.randomUUID().toString().substring(0, 8) + "@test.local";
@@ -34,17 +45,34 @@ public class UserAppServiceTest {
     public void register_success_and_duplicateEmailFails() {
         String email = randomEmail();
 
-        User u1 = userAppService.register(email, "{noop}pw", "테스터");
+        User u1 = userAppService.register(email, "테스터", "password1234");
         assertNotNull(u1);
         assertNotNull(u1.getId());
         assertEquals(email, u1.getEmail());
 
         // 동일 이메일 재등록 → UNIQUE(EMAIL) 위반 = DomainException (또는 DuplicateKeyException)
         try {
-            userAppService.register(email, "{noop}pw2", "테스터2");
+            userAppService.register(email, "테스터2", "password1234");
             fail("Expected duplicate email failure");
         } catch (DomainException | org.springframework.dao.DuplicateKeyException expected) {
             // OK
         }
     }
+
+    @Test
+    public void findAllByIds_returnsExistingUsersOnly() {
+        User u1 = userAppService.register(randomEmail(), "테스터1", "password1234");
+        User u2 = userAppService.register(randomEmail(), "테스터2", "password1234");
+        UserId unknown = UserId.of(UUID.randomUUID().toString());
+
+        // 중복 id 는 한 번만, 없는 id 는 빠짐.
+        Map<UserId, User> found = userRepository.findAllByIds(
+        		Arrays.asList(u1.getId(), u2.getId(), u1.getId(), unknown));
+
+        assertEquals(2, found.size());
+        assertEquals(u1.getEmail(), found.get(u1.getId()).getEmail());
+        assertEquals(u2.getEmail(), found.get(u2.getId()).getEmail());
+        assertFalse(found.containsKey(unknown));
+        assertTrue(userRepository.findAllByIds(Collections.emptyList()).isEmpty());
+    }
 }
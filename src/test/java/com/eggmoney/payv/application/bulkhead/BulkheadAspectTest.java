@@ -0,0 +1,45 @@
+package com.eggmoney.payv.application.bulkhead;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import javax.annotation.Resource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.eggmoney.payv.application.service.TransactionRollupAppService;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.infrastructure.datasource.BulkheadRegistry;
+import com.eggmoney.payv.infrastructure.datasource.WorkloadBulkhead;
+
+/**
+ * BulkheadAspect Test Class
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+public class BulkheadAspectTest {
+
+	@Resource TransactionRollupAppService transactionRollupAppService;
+	@Resource BulkheadRegistry bulkheadRegistry;
+
+	@Test
+	public void reportingCall_entersReportingBulkheadAndReleases() {
+		// 집계 조회(@Bulkhead(REPORTING))는 reporting 벌크헤드로 입장하고, 끝나면 반납
+		WorkloadBulkhead reporting = bulkheadRegistry.get(Workload.REPORTING);
+		long admitted = reporting.admitted();
+		YearMonth month = YearMonth.now();
+
+		transactionRollupAppService.listMonthlyTotals(LedgerId.of(UUID.randomUUID().toString()), month, month);
+
+		assertEquals(admitted + 1, reporting.admitted());
+		assertEquals(0, reporting.inFlight());
+		assertEquals(Workload.OLTP, bulkheadRegistry.current());
+	}
+}
@@ -0,0 +1,46 @@
+package com.eggmoney.payv.domain.shared.id;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * TimeOrderedIdGenerator Test Class
+ * @author 정의탁
+ */
+public class TimeOrderedIdGeneratorTest {
+
+	private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+	@Test
+	public void nextId_isVersion7AndOrderedByCreation() {
+		String first = generator.nextId();
+		String second = generator.nextId();
+
+		// v7: 같은 일자의 동률이 생성 순서로 풀림.(문자열 비교 = 생성 순서)
+		assertEquals(7, UUID.fromString(first).version());
+		assertTrue(first.compareTo(second) < 0);
+	}
+
+	@Test
+	public void nextId_staysMonotonicWithinSameMillisecond() {
+		String prev = generator.nextId();
+		for (int i = 0; i < 10_000; i++) {
+			String next = generator.nextId();
+			assertTrue(prev.compareTo(next) < 0);
+			prev = next;
+		}
+	}
+
+	@Test
+	public void timestampOf_readsCreationMillis() {
+		long before = System.currentTimeMillis();
+		long stamp = TimeOrderedIdGenerator.timestampOf(generator.nextId());
+
+		assertTrue(stamp >= before);
+		assertEquals(-1, TimeOrderedIdGenerator.timestampOf(UUID.randomUUID().toString()));
+	}
+}
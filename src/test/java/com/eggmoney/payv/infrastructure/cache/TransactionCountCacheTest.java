@@ -0,0 +1,50 @@
+package com.eggmoney.payv.infrastructure.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
+
+/**
+ * TransactionCountCache Test Class
+ * @author 정의탁
+ */
+public class TransactionCountCacheTest {
+
+	private final TransactionCountCache cache = new TransactionCountCache(true, 64);
+	private final TransactionSearchCondition cond = new TransactionSearchCondition();
+
+	@Test
+	public void put_storesWhenGenerationUnchanged() {
+		long generation = cache.generation("L1");
+		cache.put("L1", generation, cond, 42L);
+
+		assertEquals(Long.valueOf(42L), cache.get("L1", cond));
+	}
+
+	@Test
+	public void put_discardsCountReadBeforeInvalidation() {
+		// 조회 시작 → (다른 요청의 쓰기로) 무효화 → 옛 건수 저장 시도
+		long generation = cache.generation("L1");
+		cache.invalidate("L1");
+		cache.put("L1", generation, cond, 42L);
+
+		assertNull(cache.get("L1", cond));
+
+		// 무효화 뒤 새로 받은 세대로는 저장됨
+		cache.put("L1", cache.generation("L1"), cond, 43L);
+		assertEquals(Long.valueOf(43L), cache.get("L1", cond));
+	}
+
+	@Test
+	public void invalidate_isPerLedger() {
+		cache.put("L1", cache.generation("L1"), cond, 1L);
+		cache.put("L2", cache.generation("L2"), cond, 2L);
+		cache.invalidate("L1");
+
+		assertNull(cache.get("L1", cond));
+		assertEquals(Long.valueOf(2L), cache.get("L2", cond));
+	}
+}
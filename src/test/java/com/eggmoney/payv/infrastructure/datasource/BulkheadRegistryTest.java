@@ -0,0 +1,64 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.domain.shared.error.BulkheadFullException;
+
+/**
+ * BulkheadRegistry Test Class
+ * @author 정의탁
+ */
+public class BulkheadRegistryTest {
+
+	private static BulkheadRegistry registry() {
+		return new BulkheadRegistry(Arrays.asList(
+				new WorkloadBulkhead(Workload.OLTP, 1, 0, 10),
+				new WorkloadBulkhead(Workload.REPORTING, 1, 0, 30),
+				new WorkloadBulkhead(Workload.BATCH, 1, 0, 300)));
+	}
+
+	@Test
+	public void rejectsWithoutWaiting_whenLimitReached() {
+		BulkheadRegistry registry = registry();
+
+		// 한도(poolSize 1 + queue 0)를 넘는 입장은 기다리지 않고 거절
+		registry.enter(Workload.REPORTING);
+		assertEquals(Workload.REPORTING, registry.current());
+		try {
+			registry.enter(Workload.REPORTING);
+			fail("한도를 넘는 입장은 거절되어야 합니다.");
+		} catch (BulkheadFullException expected) {
+			assertEquals(BulkheadFullException.CODE, expected.getCode());
+		}
+		registry.exit();
+
+		registry.enter(Workload.REPORTING);
+		registry.exit();
+		assertEquals(1L, registry.get(Workload.REPORTING).rejected());
+		assertEquals(2L, registry.get(Workload.REPORTING).admitted());
+		assertEquals(0, registry.get(Workload.REPORTING).inFlight());
+	}
+
+	@Test
+	public void exit_unbindsAndFallsBackToOltp() {
+		BulkheadRegistry registry = registry();
+
+		registry.enter(Workload.BATCH);
+		registry.exit();
+
+		assertFalse(registry.isBound());
+		assertEquals(Workload.OLTP, registry.current());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void requiresEveryWorkload() {
+		new BulkheadRegistry(Arrays.asList(new WorkloadBulkhead(Workload.OLTP, 1, 0, 10)));
+	}
+}
@@ -0,0 +1,156 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eggmoney.payv.domain.model.vo.CategoryTree;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.infrastructure.cache.CategoryTreeCache;
+import com.eggmoney.payv.infrastructure.cache.TransactionCountCache;
+import com.eggmoney.payv.presentation.dto.TransactionSearchCondition;
+
+/**
+ * ReadWriteRoutingDataSource Test Class (복제본 트랜잭션 표시와 캐시 채우기)
+ * @author 정의탁
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+	private String servedBy;			// 마지막으로 연결을 내준 풀
+	private boolean replicaDown;
+	private DataSource dataSource;
+	private TransactionTemplate readOnlyTx;
+	private TransactionTemplate writeTx;
+
+	private final TransactionCountCache countCache = new TransactionCountCache(true, 64);
+	private final CategoryTreeCache treeCache = new CategoryTreeCache(true, 16);
+	private final TransactionSearchCondition cond = new TransactionSearchCondition();
+
+	@Before
+	public void setUp() {
+		ReplicaRoutingPolicy policy = new ReplicaRoutingPolicy(true, 1000, 5000, 250);
+		policy.updateLag(0);
+		BulkheadRegistry registry = new BulkheadRegistry(Arrays.asList(
+				new WorkloadBulkhead(Workload.OLTP, 1, 0, 10),
+				new WorkloadBulkhead(Workload.REPORTING, 1, 0, 30),
+				new WorkloadBulkhead(Workload.BATCH, 1, 0, 300)));
+
+		DataSource primary = pool("primary");
+		Map<Object, Object> targets = new HashMap<>();
+		for (Workload w : Workload.values()) targets.put(w.key(), primary);
+		targets.put(ReadWriteRoutingDataSource.REPLICA, pool("replica"));
+
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(policy, registry);
+		routing.setTargetDataSources(targets);
+		routing.setDefaultTargetDataSource(primary);
+		routing.afterPropertiesSet();
+
+		LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy();
+		lazy.setTargetDataSource(routing);
+		lazy.setDefaultAutoCommit(true);
+		lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		lazy.afterPropertiesSet();
+		dataSource = lazy;
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+		writeTx = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	public void replicaTransaction_isMarked_andDoesNotFillCaches() {
+		AtomicInteger treeLoads = new AtomicInteger();
+
+		readOnlyTx.executeWithoutResult(status -> {
+			touchConnection();
+			assertEquals("replica", servedBy);
+			assertTrue(ReadWriteRoutingDataSource.isCurrentTransactionOnReplica());
+
+			countCache.put("L1", countCache.generation("L1"), cond, 42L);
+			treeCache.get("L1", () -> load(treeLoads));
+		});
+		assertFalse(ReadWriteRoutingDataSource.isCurrentTransactionOnReplica());
+		assertNull(countCache.get("L1", cond));
+
+		// 주 DB 에서 읽으면 채움(트리는 두 번째 조회부터 캐시에서)
+		writeTx.executeWithoutResult(status -> {
+			touchConnection();
+			assertEquals("primary", servedBy);
+			assertFalse(ReadWriteRoutingDataSource.isCurrentTransactionOnReplica());
+
+			countCache.put("L1", countCache.generation("L1"), cond, 43L);
+			treeCache.get("L1", () -> load(treeLoads));
+			treeCache.get("L1", () -> load(treeLoads));
+		});
+		assertEquals(Long.valueOf(43L), countCache.get("L1", cond));
+		assertEquals(2, treeLoads.get());
+	}
+
+	@Test
+	public void replicaFailure_fallsBackToPrimary_withoutMark() {
+		replicaDown = true;
+
+		readOnlyTx.executeWithoutResult(status -> {
+			touchConnection();
+			assertEquals("primary", servedBy);
+			assertFalse(ReadWriteRoutingDataSource.isCurrentTransactionOnReplica());
+		});
+	}
+
+	private static CategoryTree load(AtomicInteger loads) {
+		loads.incrementAndGet();
+		return CategoryTree.of(Collections.emptyList());
+	}
+
+	// 지연 연결이 실제 풀에서 연결을 받도록 한 번 사용.
+	private void touchConnection() {
+		try {
+			DataSourceUtils.getConnection(dataSource).createStatement();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private DataSource pool(String name) {
+		return new AbstractDataSource() {
+			@Override
+			public Connection getConnection() throws SQLException {
+				if (replicaDown && name.equals("replica")) throw new SQLException("replica down");
+				servedBy = name;
+				return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+						(proxy, method, args) -> {
+							Class<?> type = method.getReturnType();
+							if (type == boolean.class) return false;
+							if (type == int.class) return 0;
+							return null;
+						});
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) throws SQLException {
+				return getConnection();
+			}
+		};
+	}
+}
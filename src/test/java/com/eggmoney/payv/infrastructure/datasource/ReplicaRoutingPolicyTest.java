@@ -0,0 +1,65 @@
+package com.eggmoney.payv.infrastructure.datasource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+
+import org.junit.Test;
+
+/**
+ * ReplicaRoutingPolicy / ReplicaLagMonitor 지연 계산 Test Class
+ * @author 정의탁
+ */
+public class ReplicaRoutingPolicyTest {
+
+	@Test
+	public void fallsBackToPrimaryOnLagFailureAndOwnWrite() {
+		ReplicaRoutingPolicy policy = new ReplicaRoutingPolicy(true, 1000, 60_000, 250);
+
+		// 지연 측정 전에는 주 DB
+		assertFalse(policy.useReplica());
+
+		policy.updateLag(0);
+		assertTrue(policy.useReplica());
+
+		// 허용치 초과 → 주 DB
+		policy.updateLag(5_000);
+		assertFalse(policy.useReplica());
+
+		// 복제본 장애 → 다음 측정 성공 전까지 주 DB
+		policy.updateLag(0);
+		policy.replicaFailed(new SQLException("replica down"));
+		assertFalse(policy.useReplica());
+		assertEquals(-1, policy.lagMillis());
+		assertEquals(3, policy.lagFallbacks());
+
+		// 자기 쓰기 직후에는 같은 사용자(여기서는 같은 스레드) 읽기를 주 DB 로
+		policy.updateLag(0);
+		policy.recordWrite();
+		assertFalse(policy.useReplica());
+		assertEquals(1, policy.readYourWritesFallbacks());
+		assertEquals(1, policy.replicaReads());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMaxLagNotAboveHeartbeatInterval() {
+		new ReplicaRoutingPolicy(true, 1000, 5000, 1000);
+	}
+
+	@Test
+	public void disabledPolicy_ignoresLagSettings() {
+		assertFalse(new ReplicaRoutingPolicy(false, 1000, 5000, 1000).useReplica());
+	}
+
+	@Test
+	public void lag_isZeroOnceReplicaHasPreviousBeat() {
+		long lastBeat = 10_000;
+
+		// 지난 주기 값이 도착했으면 측정 주기와 무관하게 0
+		assertEquals(0, ReplicaLagMonitor.lagOf(lastBeat, lastBeat, lastBeat + 250));
+		// 도착 전이면 복제본 값 이후 경과 시간
+		assertEquals(1_250, ReplicaLagMonitor.lagOf(lastBeat - 1_000, lastBeat, lastBeat + 250));
+	}
+}
@@ -0,0 +1,44 @@
+package com.eggmoney.payv.infrastructure.id;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.eggmoney.payv.domain.shared.util.EntityIdentifier;
+
+/**
+ * IdGeneratorConfigurer Test Class
+ * @author 정의탁
+ */
+public class IdGeneratorConfigurerTest {
+
+	@After
+	public void tearDown() {
+		EntityIdentifier.reset();
+	}
+
+	private static int version(String id) {
+		return UUID.fromString(id).version();
+	}
+
+	@Test
+	public void installsOnInitAndRestoresDefaultOnDestroy() {
+		IdGeneratorConfigurer configurer = new IdGeneratorConfigurer("random");
+		// 생성만으로는 바뀌지 않음
+		assertEquals(7, version(EntityIdentifier.generateUuid()));
+
+		configurer.afterPropertiesSet();
+		assertEquals(4, version(EntityIdentifier.generateUuid()));
+
+		configurer.destroy();
+		assertEquals(7, version(EntityIdentifier.generateUuid()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownGenerator() {
+		new IdGeneratorConfigurer("snowflake");
+	}
+}
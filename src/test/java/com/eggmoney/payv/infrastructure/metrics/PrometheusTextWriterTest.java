@@ -0,0 +1,39 @@
+package com.eggmoney.payv.infrastructure.metrics;
+
+import static org.junit.Assert.assertTrue;
+
+import javax.annotation.Resource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.eggmoney.payv.infrastructure.mybatis.mapper.TransactionMapper;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics;
+
+/**
+ * PrometheusTextWriter Test Class
+ * - 커넥션 풀 지표가 실제 풀 빈에서 나오는지 보기 위해 컨텍스트를 띄움.(DB 조회는 하지 않음)
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+public class PrometheusTextWriterTest {
+
+	@Resource EndpointMetrics endpointMetrics;
+	@Resource StatementMetrics statementMetrics;
+	@Resource PrometheusTextWriter prometheusTextWriter;
+
+	@Test
+	public void write_exposesHandlerSqlPoolAndJvmMetrics() {
+		endpointMetrics.record("TransactionController.list", 12_000_000L, false);
+		statementMetrics.record(TransactionMapper.class.getName() + ".listByCond", 3_000_000L, 10, false);
+
+		String text = prometheusTextWriter.write();
+		assertTrue(text.contains("payv_http_request_seconds_count{handler=\"TransactionController.list\"}"));
+		assertTrue(text.contains("payv_sql_statement_seconds{statement=\"" + TransactionMapper.class.getName()));
+		assertTrue(text.contains("payv_pool_connections_active{pool=\"primaryDataSource\"}"));
+		assertTrue(text.contains("jvm_memory_bytes_used{area=\"heap\"}"));
+	}
+}
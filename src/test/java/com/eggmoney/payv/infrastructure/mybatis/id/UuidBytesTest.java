@@ -0,0 +1,59 @@
+package com.eggmoney.payv.infrastructure.mybatis.id;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.junit.Test;
+
+import com.eggmoney.payv.domain.shared.id.TimeOrderedIdGenerator;
+
+/**
+ * UuidBytes Test Class
+ * @author 정의탁
+ */
+public class UuidBytesTest {
+
+	@Test
+	public void roundTrip_keepsLowercaseUuidString() {
+		String id = "0190a5f2-7c3e-7a11-8b2c-0123456789ab";
+
+		assertEquals(id, UuidBytes.fromBytes(UuidBytes.toBytes(id)));
+	}
+
+	@Test
+	public void toBytes_followsHexOrderLikeHextoraw() {
+		String id = "0190a5f2-7c3e-7a11-8b2c-0123456789ab";
+
+		// Oracle HEXTORAW(REPLACE(id, '-', '')) 와 같은 바이트 (마이그레이션 스크립트 변환과 일치)
+		byte[] expected = DatatypeConverter.parseHexBinary(id.replace("-", ""));
+		assertArrayEquals(expected, UuidBytes.toBytes(id));
+	}
+
+	@Test
+	public void rawOrder_matchesCreationOrderOfV7() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		String prev = generator.nextId();
+		for (int i = 0; i < 1_000; i++) {
+			String next = generator.nextId();
+			// RAW 비교는 부호 없는 바이트 사전식 비교
+			assertTrue(compareUnsigned(UuidBytes.toBytes(prev), UuidBytes.toBytes(next)) < 0);
+			prev = next;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fromBytes_rejectsWrongLength() {
+		UuidBytes.fromBytes(new byte[15]);
+	}
+
+	private static int compareUnsigned(byte[] a, byte[] b) {
+		for (int i = 0; i < a.length; i++) {
+			int c = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+			if (c != 0) return c;
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,56 @@
+package com.eggmoney.payv.infrastructure.mybatis.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.eggmoney.payv.infrastructure.mybatis.metrics.NPlusOneDetector.Detection;
+
+/**
+ * NPlusOneDetector Test Class
+ * @author 정의탁
+ */
+public class NPlusOneDetectorTest {
+
+	private static final String SELECT_BY_ID = "com.eggmoney.payv.infrastructure.mybatis.mapper.UserMapper.selectById";
+
+	private static void runRequest(StatementMetrics metrics, String request, int executions) {
+		metrics.beginRequest();
+		for (int i = 0; i < executions; i++) {
+			metrics.record(SELECT_BY_ID, 1_000L, 1, false);
+		}
+		metrics.endRequest(request);
+	}
+
+	@Test
+	public void flagsRepeatedStatementInOneRequest() {
+		NPlusOneDetector detector = new NPlusOneDetector("metric", 10);
+		StatementMetrics metrics = new StatementMetrics(true, 200, detector);
+
+		// 한 요청에서 단건 조회를 기준 횟수보다 많이 반복 → 요청 종료 시 감지
+		runRequest(metrics, "GET /users", 11);
+
+		assertEquals(1, detector.detections().size());
+		Detection d = detector.detections().get(0);
+		assertEquals("GET /users", d.getRequest());
+		assertEquals(SELECT_BY_ID, d.getStatementId());
+		assertEquals(11, d.maxExecutions());
+	}
+
+	@Test
+	public void ignoresRepeatsUpToThreshold() {
+		NPlusOneDetector detector = new NPlusOneDetector("metric", 10);
+		runRequest(new StatementMetrics(true, 200, detector), "GET /users", 10);
+
+		assertTrue(detector.detections().isEmpty());
+	}
+
+	@Test
+	public void offMode_detectsNothing() {
+		NPlusOneDetector detector = new NPlusOneDetector("off", 10);
+		runRequest(new StatementMetrics(true, 200, detector), "GET /users", 50);
+
+		assertTrue(detector.detections().isEmpty());
+	}
+}
@@ -0,0 +1,90 @@
+package com.eggmoney.payv.infrastructure.mybatis.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import javax.annotation.Resource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eggmoney.payv.application.service.AccountAppService;
+import com.eggmoney.payv.application.service.LedgerAppService;
+import com.eggmoney.payv.application.service.TransactionAppService;
+import com.eggmoney.payv.application.service.UserAppService;
+import com.eggmoney.payv.domain.model.entity.Account;
+import com.eggmoney.payv.domain.model.entity.AccountType;
+import com.eggmoney.payv.domain.model.entity.Ledger;
+import com.eggmoney.payv.domain.model.entity.User;
+import com.eggmoney.payv.domain.model.repository.AccountRepository;
+import com.eggmoney.payv.domain.model.vo.Money;
+import com.eggmoney.payv.infrastructure.mybatis.mapper.AccountMapper;
+import com.eggmoney.payv.infrastructure.mybatis.mapper.TransactionMapper;
+import com.eggmoney.payv.infrastructure.mybatis.metrics.StatementMetrics.StatementStats;
+
+/**
+ * StatementMetricsInterceptor Test Class
+ * @author 정의탁
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = "classpath*:spring/root-context.xml")
+public class StatementMetricsInterceptorTest {
+
+	@Resource UserAppService userAppService;
+	@Resource LedgerAppService ledgerAppService;
+	@Resource AccountAppService accountAppService;
+	@Resource TransactionAppService transactionAppService;
+	@Resource AccountRepository accountRepository;
+	@Resource StatementMetrics statementMetrics;
+	@Resource PlatformTransactionManager transactionManager;
+
+	private static String unique() {
+		return UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	private Ledger createLedger() {
+		User owner = userAppService.register("u_" + unique() + "@test.local", "소유자", "password1234");
+		return ledgerAppService.createLedger(owner.getId(), "가계부_" + unique());
+	}
+
+	@Test
+	@Transactional
+	public void recordsMapperStatements() {
+		Ledger ledger = createLedger();
+		statementMetrics.reset();
+		transactionAppService.listByMonth(ledger.getId(), YearMonth.now(), 10, 0);
+
+		// 매퍼 문장 id 단위로 실행 횟수/시간이 쌓임.(값은 저장하지 않음)
+		assertTrue(statementMetrics.statements().stream()
+				.anyMatch(s -> s.getId().startsWith(TransactionMapper.class.getName() + ".") && s.count() >= 1));
+	}
+
+	// 작업 단위는 커밋 직전 BATCH 실행기의 flushStatements()(인자 없는 메서드)로 반영됨.
+	// 그 경로에서 예외 없이 커밋되고, 배치 문장도 문장별로 기록되는지. (실제 커밋이므로 무작위 이름의 행이 남음)
+	@Test
+	public void batchFlushOnCommit_isCommittedAndRecorded() {
+		statementMetrics.reset();
+
+		Account account = new TransactionTemplate(transactionManager).execute(status -> {
+			Ledger ledger = createLedger();
+			return accountAppService.createAccount(ledger.getId(), AccountType.CASH, "지갑_" + unique(), Money.won(10_000));
+		});
+
+		assertEquals(Money.won(10_000), accountRepository.findById(account.getId())
+				.orElseThrow(AssertionError::new).getCurrentBalance());
+
+		StatementStats insert = statementMetrics.statements().stream()
+				.filter(s -> s.getId().equals(AccountMapper.class.getName() + ".insert"))
+				.findFirst().orElseThrow(AssertionError::new);
+		assertEquals(1L, insert.count());
+		assertEquals(0L, insert.errors());
+	}
+}
@@ -0,0 +1,49 @@
+package com.eggmoney.payv.infrastructure.mybatis.repository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.eggmoney.payv.domain.model.entity.TransactionType;
+import com.eggmoney.payv.domain.model.vo.CategoryId;
+import com.eggmoney.payv.domain.model.vo.LedgerId;
+import com.eggmoney.payv.infrastructure.mybatis.mapper.TransactionRollupMapper;
+
+/**
+ * MyBatisTransactionRollupRepository MERGE 재시도 Test Class
+ * @author 정의탁
+ */
+public class MyBatisTransactionRollupRepositoryTest {
+
+	// merge 호출을 세고, 앞의 failures 번은 PK 위반으로 실패하는 매퍼
+	private static TransactionRollupMapper mergeFailing(AtomicInteger calls, int failures) {
+		return (TransactionRollupMapper) Proxy.newProxyInstance(TransactionRollupMapper.class.getClassLoader(),
+				new Class<?>[] { TransactionRollupMapper.class }, (proxy, method, args) -> {
+					if (!"merge".equals(method.getName())) throw new UnsupportedOperationException(method.getName());
+					if (calls.incrementAndGet() <= failures) throw new DuplicateKeyException("ORA-00001");
+					return 1;
+				});
+	}
+
+	private static void apply(MyBatisTransactionRollupRepository repository) {
+		repository.apply(LedgerId.of("ledger-1"), YearMonth.of(2025, 1), CategoryId.of("category-1"),
+				TransactionType.EXPENSE, 1_000, 1);
+	}
+
+	@Test
+	public void merge_retriedOnceOnConcurrentFirstInsert() {
+		AtomicInteger calls = new AtomicInteger();
+		apply(new MyBatisTransactionRollupRepository(mergeFailing(calls, 1)));
+		assertEquals(2, calls.get());
+	}
+
+	@Test(expected = DuplicateKeyException.class)
+	public void merge_notRetriedTwice() {
+		apply(new MyBatisTransactionRollupRepository(mergeFailing(new AtomicInteger(), 2)));
+	}
+}
@@ -0,0 +1,133 @@
+package com.eggmoney.payv.infrastructure.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eggmoney.payv.domain.model.entity.Board;
+import com.eggmoney.payv.domain.model.repository.BoardRepository;
+import com.eggmoney.payv.domain.model.vo.BoardSearchField;
+import com.eggmoney.payv.domain.model.vo.UserId;
+import com.eggmoney.payv.domain.shared.bulkhead.Workload;
+import com.eggmoney.payv.infrastructure.datasource.BulkheadRegistry;
+import com.eggmoney.payv.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.eggmoney.payv.infrastructure.datasource.ReplicaRoutingPolicy;
+import com.eggmoney.payv.infrastructure.datasource.WorkloadBulkhead;
+
+/**
+ * NGramBoardSearchIndex Test Class (복제본 라우팅 사용 시 적재 경로)
+ * @author 정의탁
+ */
+public class NGramBoardSearchIndexTest {
+
+	private final Board committed = Board.create(UserId.of("u1"), "가계부 정리", "내용");
+	private final Board lagging = Board.create(UserId.of("u1"), "점심 메뉴", "복제본에 아직 없는 글");
+
+	private String servedBy;	// 마지막으로 연결을 내준 풀
+	private DataSource dataSource;
+	private DataSourceTransactionManager transactionManager;
+
+	@Before
+	public void setUp() {
+		ReplicaRoutingPolicy policy = new ReplicaRoutingPolicy(true, 1000, 5000, 250);
+		policy.updateLag(0);
+		BulkheadRegistry registry = new BulkheadRegistry(Arrays.asList(
+				new WorkloadBulkhead(Workload.OLTP, 1, 0, 10),
+				new WorkloadBulkhead(Workload.REPORTING, 1, 0, 30),
+				new WorkloadBulkhead(Workload.BATCH, 1, 0, 300)));
+
+		DataSource primary = pool("primary");
+		Map<Object, Object> targets = new HashMap<>();
+		for (Workload w : Workload.values()) targets.put(w.key(), primary);
+		targets.put(ReadWriteRoutingDataSource.REPLICA, pool("replica"));
+
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(policy, registry);
+		routing.setTargetDataSources(targets);
+		routing.setDefaultTargetDataSource(primary);
+		routing.afterPropertiesSet();
+
+		LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy();
+		lazy.setTargetDataSource(routing);
+		lazy.setDefaultAutoCommit(true);
+		lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		lazy.afterPropertiesSet();
+		dataSource = lazy;
+		transactionManager = new DataSourceTransactionManager(dataSource);
+	}
+
+	@Test
+	public void load_readsPrimary_evenWhenReplicaRoutingIsOn() {
+		// 전제: 이 설정에서 readOnly 트랜잭션은 복제본으로 감
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readOnly.executeWithoutResult(status -> touchConnection());
+		assertEquals("replica", servedBy);
+
+		NGramBoardSearchIndex index = new NGramBoardSearchIndex(repository(), transactionManager, "ngram");
+
+		// 복제본에 아직 없는 글도 색인에 포함
+		assertEquals(1, index.search("점심", BoardSearchField.TITLE, 0, 10).get().getTotal());
+		assertEquals(1, index.search("가계부", BoardSearchField.TITLE, 0, 10).get().getTotal());
+		assertEquals("primary", servedBy);
+	}
+
+	// 주 DB 에는 두 글, 복제본에는 지연으로 한 글만.
+	private BoardRepository repository() {
+		return (BoardRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { BoardRepository.class },
+				(proxy, method, args) -> {
+					if (!method.getName().equals("forEachWithAuthor")) throw new UnsupportedOperationException(method.getName());
+					@SuppressWarnings("unchecked")
+					BiConsumer<Board, String> action = (BiConsumer<Board, String>) args[0];
+					touchConnection();
+					action.accept(committed, "a@test.local");
+					if ("primary".equals(servedBy)) action.accept(lagging, "a@test.local");
+					return null;
+				});
+	}
+
+	// 지연 연결이 실제 풀에서 연결을 받도록 한 번 사용.
+	private void touchConnection() {
+		try {
+			DataSourceUtils.getConnection(dataSource).createStatement();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private DataSource pool(String name) {
+		return new AbstractDataSource() {
+			@Override
+			public Connection getConnection() {
+				servedBy = name;
+				return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+						(proxy, method, args) -> {
+							Class<?> type = method.getReturnType();
+							if (type == boolean.class) return false;
+							if (type == int.class) return 0;
+							return null;
+						});
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) {
+				return getConnection();
+			}
+		};
+	}
+}
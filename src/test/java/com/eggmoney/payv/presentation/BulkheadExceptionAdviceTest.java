@@ -0,0 +1,68 @@
+package com.eggmoney.payv.presentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.eggmoney.payv.domain.shared.error.BulkheadFullException;
+
+/**
+ * BulkheadExceptionAdvice Test Class (503 + Retry-After, JSON / 화면 분기)
+ * @author 정의탁
+ */
+public class BulkheadExceptionAdviceTest {
+
+	private final BulkheadExceptionAdvice advice = new BulkheadExceptionAdvice();
+	private final BulkheadFullException full = new BulkheadFullException("요청이 많아 지금은 처리할 수 없습니다.");
+
+	@Test
+	public void export_getsJson503_withoutFileHeaders() {
+		MockHttpServletRequest request = request("/ledgers/L1/transaction/export");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\"");
+		response.setContentType("text/csv");
+
+		Object result = advice.handleBulkheadFull(full, request, response);
+
+		ResponseEntity<?> entity = (ResponseEntity<?>) result;
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, entity.getStatusCode());
+		assertEquals(Boolean.FALSE, ((Map<?, ?>) entity.getBody()).get("ok"));
+		assertEquals(full.getMessage(), ((Map<?, ?>) entity.getBody()).get("message"));
+		assertEquals("5", response.getHeader(HttpHeaders.RETRY_AFTER));
+		assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+	}
+
+	@Test
+	public void api_getsJson503() {
+		Object result = advice.handleBulkheadFull(full, request("/api/ledgers/L1/categories"), new MockHttpServletResponse());
+		assertTrue(result instanceof ResponseEntity);
+	}
+
+	@Test
+	public void page_getsErrorView503_withMessage() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		Object result = advice.handleBulkheadFull(full, request("/ledgers/L1/insights/reports"), response);
+
+		ModelAndView mav = (ModelAndView) result;
+		assertEquals("error/503", mav.getViewName());
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, mav.getStatus());
+		assertEquals(full.getMessage(), mav.getModel().get("errorMessage"));
+		assertEquals("5", response.getHeader(HttpHeaders.RETRY_AFTER));
+	}
+
+	private static MockHttpServletRequest request(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/payv" + path);
+		request.setContextPath("/payv");
+		return request;
+	}
+}
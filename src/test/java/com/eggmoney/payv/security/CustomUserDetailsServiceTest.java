@@ -0,0 +1,38 @@
+package com.eggmoney.payv.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * CustomUserDetailsService 권한 부여 Test Class
+ * @author 정의탁
+ */
+public class CustomUserDetailsServiceTest {
+
+	private static List<String> roles(CustomUserDetailsService service, String email) {
+		return service.authoritiesOf(email).stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
+	}
+
+	@Test
+	public void adminRole_onlyForConfiguredEmails() {
+		CustomUserDetailsService service = new CustomUserDetailsService(null, " ops@payv.local , Admin@Payv.local");
+
+		assertTrue(roles(service, "ops@payv.local").contains("ROLE_ADMIN"));
+		assertTrue(roles(service, "admin@payv.local").contains("ROLE_ADMIN"));
+		assertEquals(1, roles(service, "user@payv.local").size());
+	}
+
+	@Test
+	public void noAdmins_whenPropertyEmpty() {
+		CustomUserDetailsService service = new CustomUserDetailsService(null, "");
+
+		assertEquals(1, roles(service, "ops@payv.local").size());
+		assertEquals("ROLE_USER", roles(service, "ops@payv.local").get(0));
+	}
+}